@@ -78,9 +78,15 @@ public class VertxOptionsConverter {
     if (json.getValue("metricsOptions") instanceof JsonObject) {
       obj.setMetricsOptions(new io.vertx.core.metrics.MetricsOptions((JsonObject)json.getValue("metricsOptions")));
     }
+    if (json.getValue("preferNativeTransport") instanceof Boolean) {
+      obj.setPreferNativeTransport((Boolean)json.getValue("preferNativeTransport"));
+    }
     if (json.getValue("quorumSize") instanceof Number) {
       obj.setQuorumSize(((Number)json.getValue("quorumSize")).intValue());
     }
+    if (json.getValue("timerWheelEnabled") instanceof Boolean) {
+      obj.setTimerWheelEnabled((Boolean)json.getValue("timerWheelEnabled"));
+    }
     if (json.getValue("warningExceptionTime") instanceof Number) {
       obj.setWarningExceptionTime(((Number)json.getValue("warningExceptionTime")).longValue());
     }
@@ -119,7 +125,9 @@ public class VertxOptionsConverter {
     if (obj.getMetricsOptions() != null) {
       json.put("metricsOptions", obj.getMetricsOptions().toJson());
     }
+    json.put("preferNativeTransport", obj.isPreferNativeTransport());
     json.put("quorumSize", obj.getQuorumSize());
+    json.put("timerWheelEnabled", obj.isTimerWheelEnabled());
     json.put("warningExceptionTime", obj.getWarningExceptionTime());
     json.put("workerPoolSize", obj.getWorkerPoolSize());
   }
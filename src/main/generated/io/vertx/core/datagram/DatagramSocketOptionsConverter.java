@@ -42,6 +42,9 @@ public class DatagramSocketOptionsConverter {
     if (json.getValue("multicastTimeToLive") instanceof Number) {
       obj.setMulticastTimeToLive(((Number)json.getValue("multicastTimeToLive")).intValue());
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
   }
 
   public static void toJson(DatagramSocketOptions obj, JsonObject json) {
@@ -52,5 +55,6 @@ public class DatagramSocketOptionsConverter {
       json.put("multicastNetworkInterface", obj.getMulticastNetworkInterface());
     }
     json.put("multicastTimeToLive", obj.getMulticastTimeToLive());
+    json.put("reusePort", obj.isReusePort());
   }
 }
\ No newline at end of file
@@ -33,6 +33,9 @@ public class EventBusOptionsConverter {
     if (json.getValue("clientAuth") instanceof String) {
       obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)json.getValue("clientAuth")));
     }
+    if (json.getValue("clusterAddressTableSize") instanceof Number) {
+      obj.setClusterAddressTableSize(((Number)json.getValue("clusterAddressTableSize")).intValue());
+    }
     if (json.getValue("clusterPingInterval") instanceof Number) {
       obj.setClusterPingInterval(((Number)json.getValue("clusterPingInterval")).longValue());
     }
@@ -45,6 +48,9 @@ public class EventBusOptionsConverter {
     if (json.getValue("clusterPublicPort") instanceof Number) {
       obj.setClusterPublicPort(((Number)json.getValue("clusterPublicPort")).intValue());
     }
+    if (json.getValue("clusterSubscriptionCacheTimeout") instanceof Number) {
+      obj.setClusterSubscriptionCacheTimeout(((Number)json.getValue("clusterSubscriptionCacheTimeout")).longValue());
+    }
     if (json.getValue("clustered") instanceof Boolean) {
       obj.setClustered((Boolean)json.getValue("clustered"));
     }
@@ -111,6 +117,9 @@ public class EventBusOptionsConverter {
     if (json.getValue("reuseAddress") instanceof Boolean) {
       obj.setReuseAddress((Boolean)json.getValue("reuseAddress"));
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
     if (json.getValue("sendBufferSize") instanceof Number) {
       obj.setSendBufferSize(((Number)json.getValue("sendBufferSize")).intValue());
     }
@@ -123,12 +132,18 @@ public class EventBusOptionsConverter {
     if (json.getValue("sslEngine") instanceof String) {
       obj.setSslEngine(io.vertx.core.net.SSLEngine.valueOf((String)json.getValue("sslEngine")));
     }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
     if (json.getValue("tcpKeepAlive") instanceof Boolean) {
       obj.setTcpKeepAlive((Boolean)json.getValue("tcpKeepAlive"));
     }
     if (json.getValue("tcpNoDelay") instanceof Boolean) {
       obj.setTcpNoDelay((Boolean)json.getValue("tcpNoDelay"));
     }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
     if (json.getValue("trafficClass") instanceof Number) {
       obj.setTrafficClass(((Number)json.getValue("trafficClass")).intValue());
     }
@@ -144,6 +159,9 @@ public class EventBusOptionsConverter {
     if (json.getValue("usePooledBuffers") instanceof Boolean) {
       obj.setUsePooledBuffers((Boolean)json.getValue("usePooledBuffers"));
     }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
   }
 
   public static void toJson(EventBusOptions obj, JsonObject json) {
@@ -151,12 +169,14 @@ public class EventBusOptionsConverter {
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
+    json.put("clusterAddressTableSize", obj.getClusterAddressTableSize());
     json.put("clusterPingInterval", obj.getClusterPingInterval());
     json.put("clusterPingReplyInterval", obj.getClusterPingReplyInterval());
     if (obj.getClusterPublicHost() != null) {
       json.put("clusterPublicHost", obj.getClusterPublicHost());
     }
     json.put("clusterPublicPort", obj.getClusterPublicPort());
+    json.put("clusterSubscriptionCacheTimeout", obj.getClusterSubscriptionCacheTimeout());
     json.put("clustered", obj.isClustered());
     json.put("connectTimeout", obj.getConnectTimeout());
     if (obj.getCrlPaths() != null) {
@@ -196,17 +216,21 @@ public class EventBusOptionsConverter {
     json.put("reconnectAttempts", obj.getReconnectAttempts());
     json.put("reconnectInterval", obj.getReconnectInterval());
     json.put("reuseAddress", obj.isReuseAddress());
+    json.put("reusePort", obj.isReusePort());
     json.put("sendBufferSize", obj.getSendBufferSize());
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
     if (obj.getSslEngine() != null) {
       json.put("sslEngine", obj.getSslEngine().name());
     }
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
     json.put("tcpKeepAlive", obj.isTcpKeepAlive());
     json.put("tcpNoDelay", obj.isTcpNoDelay());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
     json.put("trafficClass", obj.getTrafficClass());
     json.put("trustAll", obj.isTrustAll());
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
   }
 }
\ No newline at end of file
@@ -44,6 +44,12 @@ public class HttpClientOptionsConverter {
     if (json.getValue("h2cUpgrade") instanceof Boolean) {
       obj.setH2cUpgrade((Boolean)json.getValue("h2cUpgrade"));
     }
+    if (json.getValue("http2AdaptiveWindowSize") instanceof Boolean) {
+      obj.setHttp2AdaptiveWindowSize((Boolean)json.getValue("http2AdaptiveWindowSize"));
+    }
+    if (json.getValue("http2MaxPoolSize") instanceof Number) {
+      obj.setHttp2MaxPoolSize(((Number)json.getValue("http2MaxPoolSize")).intValue());
+    }
     if (json.getValue("initialSettings") instanceof JsonObject) {
       obj.setInitialSettings(new io.vertx.core.http.Http2Settings((JsonObject)json.getValue("initialSettings")));
     }
@@ -53,6 +59,9 @@ public class HttpClientOptionsConverter {
     if (json.getValue("maxChunkSize") instanceof Number) {
       obj.setMaxChunkSize(((Number)json.getValue("maxChunkSize")).intValue());
     }
+    if (json.getValue("maxConnectionLifetime") instanceof Number) {
+      obj.setMaxConnectionLifetime(((Number)json.getValue("maxConnectionLifetime")).intValue());
+    }
     if (json.getValue("maxPoolSize") instanceof Number) {
       obj.setMaxPoolSize(((Number)json.getValue("maxPoolSize")).intValue());
     }
@@ -62,9 +71,21 @@ public class HttpClientOptionsConverter {
     if (json.getValue("maxWebsocketFrameSize") instanceof Number) {
       obj.setMaxWebsocketFrameSize(((Number)json.getValue("maxWebsocketFrameSize")).intValue());
     }
+    if (json.getValue("minPoolSize") instanceof Number) {
+      obj.setMinPoolSize(((Number)json.getValue("minPoolSize")).intValue());
+    }
     if (json.getValue("pipelining") instanceof Boolean) {
       obj.setPipelining((Boolean)json.getValue("pipelining"));
     }
+    if (json.getValue("poolCleanerPeriod") instanceof Number) {
+      obj.setPoolCleanerPeriod(((Number)json.getValue("poolCleanerPeriod")).longValue());
+    }
+    if (json.getValue("poolIdleTimeout") instanceof Number) {
+      obj.setPoolIdleTimeout(((Number)json.getValue("poolIdleTimeout")).intValue());
+    }
+    if (json.getValue("poolPerEventLoop") instanceof Boolean) {
+      obj.setPoolPerEventLoop((Boolean)json.getValue("poolPerEventLoop"));
+    }
     if (json.getValue("protocolVersion") instanceof String) {
       obj.setProtocolVersion(io.vertx.core.http.HttpVersion.valueOf((String)json.getValue("protocolVersion")));
     }
@@ -80,12 +101,42 @@ public class HttpClientOptionsConverter {
     if (json.getValue("proxyUsername") instanceof String) {
       obj.setProxyUsername((String)json.getValue("proxyUsername"));
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
     if (json.getValue("tryUseCompression") instanceof Boolean) {
       obj.setTryUseCompression((Boolean)json.getValue("tryUseCompression"));
     }
+    if (json.getValue("tryUsePerMessageWebsocketCompression") instanceof Boolean) {
+      obj.setTryUsePerMessageWebsocketCompression((Boolean)json.getValue("tryUsePerMessageWebsocketCompression"));
+    }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
     if (json.getValue("verifyHost") instanceof Boolean) {
       obj.setVerifyHost((Boolean)json.getValue("verifyHost"));
     }
+    if (json.getValue("websocketCompressionAllowNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionAllowNoContext((Boolean)json.getValue("websocketCompressionAllowNoContext"));
+    }
+    if (json.getValue("websocketCompressionLevel") instanceof Number) {
+      obj.setWebsocketCompressionLevel(((Number)json.getValue("websocketCompressionLevel")).intValue());
+    }
+    if (json.getValue("websocketCompressionRequestNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionRequestNoContext((Boolean)json.getValue("websocketCompressionRequestNoContext"));
+    }
+    if (json.getValue("websocketCompressionThreshold") instanceof Number) {
+      obj.setWebsocketCompressionThreshold(((Number)json.getValue("websocketCompressionThreshold")).intValue());
+    }
+    if (json.getValue("websocketCompressionWindowBits") instanceof Number) {
+      obj.setWebsocketCompressionWindowBits(((Number)json.getValue("websocketCompressionWindowBits")).intValue());
+    }
   }
 
   public static void toJson(HttpClientOptions obj, JsonObject json) {
@@ -101,15 +152,22 @@ public class HttpClientOptionsConverter {
     }
     json.put("defaultPort", obj.getDefaultPort());
     json.put("h2cUpgrade", obj.isH2cUpgrade());
+    json.put("http2AdaptiveWindowSize", obj.isHttp2AdaptiveWindowSize());
+    json.put("http2MaxPoolSize", obj.getHttp2MaxPoolSize());
     if (obj.getInitialSettings() != null) {
       json.put("initialSettings", obj.getInitialSettings().toJson());
     }
     json.put("keepAlive", obj.isKeepAlive());
     json.put("maxChunkSize", obj.getMaxChunkSize());
+    json.put("maxConnectionLifetime", obj.getMaxConnectionLifetime());
     json.put("maxPoolSize", obj.getMaxPoolSize());
     json.put("maxWaitQueueSize", obj.getMaxWaitQueueSize());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
+    json.put("minPoolSize", obj.getMinPoolSize());
     json.put("pipelining", obj.isPipelining());
+    json.put("poolCleanerPeriod", obj.getPoolCleanerPeriod());
+    json.put("poolIdleTimeout", obj.getPoolIdleTimeout());
+    json.put("poolPerEventLoop", obj.isPoolPerEventLoop());
     if (obj.getProtocolVersion() != null) {
       json.put("protocolVersion", obj.getProtocolVersion().name());
     }
@@ -123,7 +181,17 @@ public class HttpClientOptionsConverter {
     if (obj.getProxyUsername() != null) {
       json.put("proxyUsername", obj.getProxyUsername());
     }
+    json.put("reusePort", obj.isReusePort());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
     json.put("tryUseCompression", obj.isTryUseCompression());
+    json.put("tryUsePerMessageWebsocketCompression", obj.isTryUsePerMessageWebsocketCompression());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
     json.put("verifyHost", obj.isVerifyHost());
+    json.put("websocketCompressionAllowNoContext", obj.isWebsocketCompressionAllowNoContext());
+    json.put("websocketCompressionLevel", obj.getWebsocketCompressionLevel());
+    json.put("websocketCompressionRequestNoContext", obj.isWebsocketCompressionRequestNoContext());
+    json.put("websocketCompressionThreshold", obj.getWebsocketCompressionThreshold());
+    json.put("websocketCompressionWindowBits", obj.getWebsocketCompressionWindowBits());
   }
 }
\ No newline at end of file
@@ -27,6 +27,12 @@ import io.vertx.core.json.JsonArray;
 public class HttpServerOptionsConverter {
 
   public static void fromJson(JsonObject json, HttpServerOptions obj) {
+    if (json.getValue("acceptorPerEventLoop") instanceof Boolean) {
+      obj.setAcceptorPerEventLoop((Boolean)json.getValue("acceptorPerEventLoop"));
+    }
+    if (json.getValue("addDateHeader") instanceof Boolean) {
+      obj.setAddDateHeader((Boolean)json.getValue("addDateHeader"));
+    }
     if (json.getValue("alpnVersions") instanceof JsonArray) {
       java.util.ArrayList<io.vertx.core.http.HttpVersion> list = new java.util.ArrayList<>();
       json.getJsonArray("alpnVersions").forEach( item -> {
@@ -38,30 +44,80 @@ public class HttpServerOptionsConverter {
     if (json.getValue("compressionSupported") instanceof Boolean) {
       obj.setCompressionSupported((Boolean)json.getValue("compressionSupported"));
     }
+    if (json.getValue("fileCacheMaxMappedFileSize") instanceof Number) {
+      obj.setFileCacheMaxMappedFileSize(((Number)json.getValue("fileCacheMaxMappedFileSize")).intValue());
+    }
+    if (json.getValue("fileCacheSize") instanceof Number) {
+      obj.setFileCacheSize(((Number)json.getValue("fileCacheSize")).intValue());
+    }
+    if (json.getValue("fileCacheValidityPeriod") instanceof Number) {
+      obj.setFileCacheValidityPeriod(((Number)json.getValue("fileCacheValidityPeriod")).intValue());
+    }
     if (json.getValue("handle100ContinueAutomatically") instanceof Boolean) {
       obj.setHandle100ContinueAutomatically((Boolean)json.getValue("handle100ContinueAutomatically"));
     }
+    if (json.getValue("http2AdaptiveWindowSize") instanceof Boolean) {
+      obj.setHttp2AdaptiveWindowSize((Boolean)json.getValue("http2AdaptiveWindowSize"));
+    }
     if (json.getValue("initialSettings") instanceof JsonObject) {
       obj.setInitialSettings(new io.vertx.core.http.Http2Settings((JsonObject)json.getValue("initialSettings")));
     }
     if (json.getValue("maxChunkSize") instanceof Number) {
       obj.setMaxChunkSize(((Number)json.getValue("maxChunkSize")).intValue());
     }
+    if (json.getValue("maxEventLoopDelay") instanceof Number) {
+      obj.setMaxEventLoopDelay(((Number)json.getValue("maxEventLoopDelay")).longValue());
+    }
     if (json.getValue("maxHeaderSize") instanceof Number) {
       obj.setMaxHeaderSize(((Number)json.getValue("maxHeaderSize")).intValue());
     }
+    if (json.getValue("maxInflightRequests") instanceof Number) {
+      obj.setMaxInflightRequests(((Number)json.getValue("maxInflightRequests")).intValue());
+    }
     if (json.getValue("maxInitialLineLength") instanceof Number) {
       obj.setMaxInitialLineLength(((Number)json.getValue("maxInitialLineLength")).intValue());
     }
     if (json.getValue("maxWebsocketFrameSize") instanceof Number) {
       obj.setMaxWebsocketFrameSize(((Number)json.getValue("maxWebsocketFrameSize")).intValue());
     }
+    if (json.getValue("perMessageWebsocketCompressionSupported") instanceof Boolean) {
+      obj.setPerMessageWebsocketCompressionSupported((Boolean)json.getValue("perMessageWebsocketCompressionSupported"));
+    }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
+    if (json.getValue("websocketCompressionAllowNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionAllowNoContext((Boolean)json.getValue("websocketCompressionAllowNoContext"));
+    }
+    if (json.getValue("websocketCompressionLevel") instanceof Number) {
+      obj.setWebsocketCompressionLevel(((Number)json.getValue("websocketCompressionLevel")).intValue());
+    }
+    if (json.getValue("websocketCompressionRequestNoContext") instanceof Boolean) {
+      obj.setWebsocketCompressionRequestNoContext((Boolean)json.getValue("websocketCompressionRequestNoContext"));
+    }
+    if (json.getValue("websocketCompressionThreshold") instanceof Number) {
+      obj.setWebsocketCompressionThreshold(((Number)json.getValue("websocketCompressionThreshold")).intValue());
+    }
+    if (json.getValue("websocketCompressionWindowBits") instanceof Number) {
+      obj.setWebsocketCompressionWindowBits(((Number)json.getValue("websocketCompressionWindowBits")).intValue());
+    }
     if (json.getValue("websocketSubProtocols") instanceof String) {
       obj.setWebsocketSubProtocols((String)json.getValue("websocketSubProtocols"));
     }
   }
 
   public static void toJson(HttpServerOptions obj, JsonObject json) {
+    json.put("acceptorPerEventLoop", obj.isAcceptorPerEventLoop());
+    json.put("addDateHeader", obj.isAddDateHeader());
     if (obj.getAlpnVersions() != null) {
       json.put("alpnVersions", new JsonArray(
           obj.getAlpnVersions().
@@ -70,14 +126,30 @@ public class HttpServerOptionsConverter {
               collect(java.util.stream.Collectors.toList())));
     }
     json.put("compressionSupported", obj.isCompressionSupported());
+    json.put("fileCacheMaxMappedFileSize", obj.getFileCacheMaxMappedFileSize());
+    json.put("fileCacheSize", obj.getFileCacheSize());
+    json.put("fileCacheValidityPeriod", obj.getFileCacheValidityPeriod());
     json.put("handle100ContinueAutomatically", obj.isHandle100ContinueAutomatically());
+    json.put("http2AdaptiveWindowSize", obj.isHttp2AdaptiveWindowSize());
     if (obj.getInitialSettings() != null) {
       json.put("initialSettings", obj.getInitialSettings().toJson());
     }
     json.put("maxChunkSize", obj.getMaxChunkSize());
+    json.put("maxEventLoopDelay", obj.getMaxEventLoopDelay());
     json.put("maxHeaderSize", obj.getMaxHeaderSize());
+    json.put("maxInflightRequests", obj.getMaxInflightRequests());
     json.put("maxInitialLineLength", obj.getMaxInitialLineLength());
     json.put("maxWebsocketFrameSize", obj.getMaxWebsocketFrameSize());
+    json.put("perMessageWebsocketCompressionSupported", obj.isPerMessageWebsocketCompressionSupported());
+    json.put("reusePort", obj.isReusePort());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
+    json.put("websocketCompressionAllowNoContext", obj.isWebsocketCompressionAllowNoContext());
+    json.put("websocketCompressionLevel", obj.getWebsocketCompressionLevel());
+    json.put("websocketCompressionRequestNoContext", obj.isWebsocketCompressionRequestNoContext());
+    json.put("websocketCompressionThreshold", obj.getWebsocketCompressionThreshold());
+    json.put("websocketCompressionWindowBits", obj.getWebsocketCompressionWindowBits());
     if (obj.getWebsocketSubProtocols() != null) {
       json.put("websocketSubProtocols", obj.getWebsocketSubProtocols());
     }
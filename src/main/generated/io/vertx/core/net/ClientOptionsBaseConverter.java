@@ -33,9 +33,21 @@ public class ClientOptionsBaseConverter {
     if (json.getValue("metricsName") instanceof String) {
       obj.setMetricsName((String)json.getValue("metricsName"));
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
     if (json.getValue("trustAll") instanceof Boolean) {
       obj.setTrustAll((Boolean)json.getValue("trustAll"));
     }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
   }
 
   public static void toJson(ClientOptionsBase obj, JsonObject json) {
@@ -43,6 +55,10 @@ public class ClientOptionsBaseConverter {
     if (obj.getMetricsName() != null) {
       json.put("metricsName", obj.getMetricsName());
     }
+    json.put("reusePort", obj.isReusePort());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
     json.put("trustAll", obj.isTrustAll());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
   }
 }
\ No newline at end of file
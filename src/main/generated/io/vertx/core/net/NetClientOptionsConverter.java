@@ -36,6 +36,18 @@ public class NetClientOptionsConverter {
     if (json.getValue("reconnectInterval") instanceof Number) {
       obj.setReconnectInterval(((Number)json.getValue("reconnectInterval")).longValue());
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
   }
 
   public static void toJson(NetClientOptions obj, JsonObject json) {
@@ -44,5 +56,9 @@ public class NetClientOptionsConverter {
     }
     json.put("reconnectAttempts", obj.getReconnectAttempts());
     json.put("reconnectInterval", obj.getReconnectInterval());
+    json.put("reusePort", obj.isReusePort());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
   }
 }
\ No newline at end of file
@@ -30,6 +30,9 @@ public class NetServerOptionsConverter {
     if (json.getValue("acceptBacklog") instanceof Number) {
       obj.setAcceptBacklog(((Number)json.getValue("acceptBacklog")).intValue());
     }
+    if (json.getValue("acceptorPerEventLoop") instanceof Boolean) {
+      obj.setAcceptorPerEventLoop((Boolean)json.getValue("acceptorPerEventLoop"));
+    }
     if (json.getValue("clientAuth") instanceof String) {
       obj.setClientAuth(io.vertx.core.http.ClientAuth.valueOf((String)json.getValue("clientAuth")));
     }
@@ -42,10 +45,23 @@ public class NetServerOptionsConverter {
     if (json.getValue("port") instanceof Number) {
       obj.setPort(((Number)json.getValue("port")).intValue());
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
   }
 
   public static void toJson(NetServerOptions obj, JsonObject json) {
     json.put("acceptBacklog", obj.getAcceptBacklog());
+    json.put("acceptorPerEventLoop", obj.isAcceptorPerEventLoop());
     if (obj.getClientAuth() != null) {
       json.put("clientAuth", obj.getClientAuth().name());
     }
@@ -54,5 +70,9 @@ public class NetServerOptionsConverter {
       json.put("host", obj.getHost());
     }
     json.put("port", obj.getPort());
+    json.put("reusePort", obj.isReusePort());
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
   }
 }
\ No newline at end of file
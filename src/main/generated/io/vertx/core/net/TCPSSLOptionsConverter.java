@@ -69,6 +69,9 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("pfxTrustOptions") instanceof JsonObject) {
       obj.setPfxTrustOptions(new io.vertx.core.net.PfxOptions((JsonObject)json.getValue("pfxTrustOptions")));
     }
+    if (json.getValue("reusePort") instanceof Boolean) {
+      obj.setReusePort((Boolean)json.getValue("reusePort"));
+    }
     if (json.getValue("soLinger") instanceof Number) {
       obj.setSoLinger(((Number)json.getValue("soLinger")).intValue());
     }
@@ -78,12 +81,18 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("sslEngine") instanceof String) {
       obj.setSslEngine(io.vertx.core.net.SSLEngine.valueOf((String)json.getValue("sslEngine")));
     }
+    if (json.getValue("tcpFastOpen") instanceof Boolean) {
+      obj.setTcpFastOpen((Boolean)json.getValue("tcpFastOpen"));
+    }
     if (json.getValue("tcpKeepAlive") instanceof Boolean) {
       obj.setTcpKeepAlive((Boolean)json.getValue("tcpKeepAlive"));
     }
     if (json.getValue("tcpNoDelay") instanceof Boolean) {
       obj.setTcpNoDelay((Boolean)json.getValue("tcpNoDelay"));
     }
+    if (json.getValue("tcpQuickAck") instanceof Boolean) {
+      obj.setTcpQuickAck((Boolean)json.getValue("tcpQuickAck"));
+    }
     if (json.getValue("trustStoreOptions") instanceof JsonObject) {
       obj.setTrustStoreOptions(new io.vertx.core.net.JksOptions((JsonObject)json.getValue("trustStoreOptions")));
     }
@@ -93,6 +102,9 @@ public class TCPSSLOptionsConverter {
     if (json.getValue("usePooledBuffers") instanceof Boolean) {
       obj.setUsePooledBuffers((Boolean)json.getValue("usePooledBuffers"));
     }
+    if (json.getValue("usePooledDirectBuffers") instanceof Boolean) {
+      obj.setUsePooledDirectBuffers((Boolean)json.getValue("usePooledDirectBuffers"));
+    }
   }
 
   public static void toJson(TCPSSLOptions obj, JsonObject json) {
@@ -125,14 +137,18 @@ public class TCPSSLOptionsConverter {
               collect(java.util.stream.Collectors.toList())));
     }
     json.put("idleTimeout", obj.getIdleTimeout());
+    json.put("reusePort", obj.isReusePort());
     json.put("soLinger", obj.getSoLinger());
     json.put("ssl", obj.isSsl());
     if (obj.getSslEngine() != null) {
       json.put("sslEngine", obj.getSslEngine().name());
     }
+    json.put("tcpFastOpen", obj.isTcpFastOpen());
     json.put("tcpKeepAlive", obj.isTcpKeepAlive());
     json.put("tcpNoDelay", obj.isTcpNoDelay());
+    json.put("tcpQuickAck", obj.isTcpQuickAck());
     json.put("useAlpn", obj.isUseAlpn());
     json.put("usePooledBuffers", obj.isUsePooledBuffers());
+    json.put("usePooledDirectBuffers", obj.isUsePooledDirectBuffers());
   }
 }
\ No newline at end of file
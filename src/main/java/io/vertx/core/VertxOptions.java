@@ -113,6 +113,16 @@ public class VertxOptions {
    */
   public static final boolean DEFAULT_HA_ENABLED = false;
 
+  /**
+   * The default value of timer wheel enabled = false
+   */
+  public static final boolean DEFAULT_TIMER_WHEEL_ENABLED = false;
+
+  /**
+   * The default value of prefer native transport = false
+   */
+  public static final boolean DEFAULT_PREFER_NATIVE_TRANSPORT = false;
+
   /**
    * The default value of warning exception time 5000000000 ns (5 seconds)
    * If a thread is blocked longer than this threshold, the warning log
@@ -136,6 +146,8 @@ public class VertxOptions {
   private long warningExceptionTime = DEFAULT_WARNING_EXCEPTION_TIME;
   private EventBusOptions eventBusOptions = new EventBusOptions();
   private HostnameResolverOptions hostnameResolverOptions = new HostnameResolverOptions();
+  private boolean timerWheelEnabled = DEFAULT_TIMER_WHEEL_ENABLED;
+  private boolean preferNativeTransport = DEFAULT_PREFER_NATIVE_TRANSPORT;
 
   /**
    * Default constructor
@@ -163,6 +175,8 @@ public class VertxOptions {
     this.warningExceptionTime = other.warningExceptionTime;
     this.eventBusOptions = new EventBusOptions(other.eventBusOptions);
     this.hostnameResolverOptions = other.hostnameResolverOptions != null ? new HostnameResolverOptions() : null;
+    this.timerWheelEnabled = other.timerWheelEnabled;
+    this.preferNativeTransport = other.preferNativeTransport;
   }
 
   /**
@@ -648,6 +662,49 @@ public class VertxOptions {
     return this;
   }
 
+  /**
+   * @return true if timers are scheduled on a timer wheel per event loop
+   */
+  public boolean isTimerWheelEnabled() {
+    return timerWheelEnabled;
+  }
+
+  /**
+   * Set whether timers are scheduled on a hashed timer wheel per event loop instead of the scheduled task queue of
+   * the event loop.
+   * <p>
+   * The wheel schedules and cancels timers in constant time which pays off when many short timers are created, such
+   * as request or reply timeouts that are usually cancelled before they fire. Timers have a resolution of 1 ms.
+   *
+   * @param timerWheelEnabled true to use timer wheels
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setTimerWheelEnabled(boolean timerWheelEnabled) {
+    this.timerWheelEnabled = timerWheelEnabled;
+    return this;
+  }
+
+  /**
+   * @return whether to prefer the native transport to the JDK transport
+   */
+  public boolean isPreferNativeTransport() {
+    return preferNativeTransport;
+  }
+
+  /**
+   * Set whether to prefer the native transport to the JDK transport.
+   * <p>
+   * The native transport is the Linux epoll transport, it needs the netty-transport-native-epoll jar on the classpath. When
+   * it is not available Vert.x falls back to the JDK transport.
+   *
+   * @param preferNativeTransport true to prefer the native transport
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxOptions setPreferNativeTransport(boolean preferNativeTransport) {
+    this.preferNativeTransport = preferNativeTransport;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -662,6 +719,8 @@ public class VertxOptions {
     if (maxEventLoopExecuteTime != that.maxEventLoopExecuteTime) return false;
     if (maxWorkerExecuteTime != that.maxWorkerExecuteTime) return false;
     if (haEnabled != that.haEnabled) return false;
+    if (timerWheelEnabled != that.timerWheelEnabled) return false;
+    if (preferNativeTransport != that.preferNativeTransport) return false;
     if (quorumSize != that.quorumSize) return false;
     if (warningExceptionTime != that.warningExceptionTime) return false;
     if (clusterManager != null ? !clusterManager.equals(that.clusterManager) : that.clusterManager != null)
@@ -691,6 +750,8 @@ public class VertxOptions {
     result = 31 * result + (eventBusOptions != null ? eventBusOptions.hashCode() : 0);
     result = 31 * result + (hostnameResolverOptions != null ? hostnameResolverOptions.hashCode() : 0);
     result = 31 * result + (int) (warningExceptionTime ^ (warningExceptionTime >>> 32));
+    result = 31 * result + (timerWheelEnabled ? 1 : 0);
+    result = 31 * result + (preferNativeTransport ? 1 : 0);
     return result;
   }
 
@@ -711,6 +772,8 @@ public class VertxOptions {
         ", hostnameResolver=" + hostnameResolverOptions.toJson() +
         ", eventbus=" + eventBusOptions.toJson() +
         ", warningExceptionTime=" + warningExceptionTime +
+        ", timerWheelEnabled=" + timerWheelEnabled +
+        ", preferNativeTransport=" + preferNativeTransport +
         '}';
   }
 }
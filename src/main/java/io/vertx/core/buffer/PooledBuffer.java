@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.buffer;
+
+/**
+ * A {@link Buffer} backed by pooled direct memory.
+ * <p>
+ * Connections configured with {@link io.vertx.core.net.TCPSSLOptions#setUsePooledDirectBuffers(boolean)} hand out the
+ * received data as pooled buffers instead of copying it to the heap. The buffer is reference counted and the receiver
+ * owns one reference: it must {@link #release()} the buffer once done with it, for instance with a try-with-resources
+ * statement, and must not use the buffer afterwards.
+ * <p>
+ * Writing the buffer to a socket, an HTTP message or a WebSocket retains it until written, so it can be released as
+ * soon as the write method returns. A copy of the buffer is a heap buffer, a slice shares the memory and the reference
+ * count of the buffer.
+ * <p>
+ * This interface is only meant for Java.
+ */
+public interface PooledBuffer extends Buffer, AutoCloseable {
+
+  /**
+   * Release {@code buffer} when it is a pooled buffer, do nothing otherwise.
+   *
+   * @param buffer the buffer
+   */
+  static void release(Buffer buffer) {
+    if (buffer instanceof PooledBuffer) {
+      ((PooledBuffer) buffer).release();
+    }
+  }
+
+  /**
+   * @return the reference count of the buffer
+   */
+  int refCnt();
+
+  /**
+   * Increase the reference count of the buffer by one.
+   *
+   * @return a reference to this
+   */
+  PooledBuffer retain();
+
+  /**
+   * Decrease the reference count of the buffer by one, the memory is returned to the pool when it reaches {@code 0}.
+   *
+   * @return true when the memory has been returned to the pool
+   */
+  boolean release();
+
+  /**
+   * Same as {@link #release()}.
+   */
+  @Override
+  void close();
+
+}
@@ -61,7 +61,11 @@ public class BufferImpl implements Buffer {
   }
 
   BufferImpl(ByteBuf buffer) {
-    this.buffer = Unpooled.unreleasableBuffer(buffer);
+    this(buffer, true);
+  }
+
+  BufferImpl(ByteBuf buffer, boolean unreleasable) {
+    this.buffer = unreleasable ? Unpooled.unreleasableBuffer(buffer) : buffer;
   }
 
   public String toString() {
@@ -505,7 +509,7 @@ public class BufferImpl implements Buffer {
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
+    if (!(o instanceof BufferImpl)) return false;
     BufferImpl buffer1 = (BufferImpl) o;
     return buffer != null ? buffer.equals(buffer1.buffer) : buffer1.buffer == null;
   }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
+
+/**
+ * A buffer owning a reference to a pooled {@code ByteBuf}, unlike {@link BufferImpl} the {@code ByteBuf} is not made
+ * unreleasable.
+ */
+public class PooledBufferImpl extends BufferImpl implements PooledBuffer {
+
+  /**
+   * @return the {@code ByteBuf} of {@code buffer} to hand over to a channel, a pooled buffer is retained so it remains
+   * valid until written even when its owner releases it meanwhile
+   */
+  public static ByteBuf byteBufForWrite(Buffer buffer) {
+    if (buffer instanceof PooledBufferImpl) {
+      return ((PooledBufferImpl) buffer).buf.duplicate().retain();
+    }
+    return buffer.getByteBuf();
+  }
+
+  private final ByteBuf buf;
+
+  /**
+   * Create a buffer taking ownership of one reference of {@code buf}, the data starts at index {@code 0} like the
+   * {@code ByteBuf} read from a channel.
+   */
+  public PooledBufferImpl(ByteBuf buf) {
+    super(buf, false);
+    this.buf = buf;
+  }
+
+  @Override
+  public int refCnt() {
+    return buf.refCnt();
+  }
+
+  @Override
+  public PooledBuffer retain() {
+    buf.retain();
+    return this;
+  }
+
+  @Override
+  public boolean release() {
+    return buf.release();
+  }
+
+  @Override
+  public void close() {
+    buf.release();
+  }
+
+  @Override
+  public Buffer copy() {
+    // Don't use ByteBuf#copy() that allocates from the pool
+    return new BufferImpl(Unpooled.buffer(length(), Integer.MAX_VALUE).writeBytes(buf, 0, length()));
+  }
+
+  @Override
+  public Buffer slice() {
+    return new PooledBufferImpl(buf.slice());
+  }
+
+  @Override
+  public Buffer slice(int start, int end) {
+    return new PooledBufferImpl(buf.slice(start, end - start));
+  }
+
+  @Override
+  public ByteBuf getByteBuf() {
+    // The reference count stays owned by this buffer
+    return Unpooled.unreleasableBuffer(buf.duplicate());
+  }
+}
@@ -36,6 +36,19 @@ public class EventBusOptions extends TCPSSLOptions {
   private int clusterPublicPort = VertxOptions.DEFAULT_CLUSTER_PUBLIC_PORT;
   private long clusterPingInterval = VertxOptions.DEFAULT_CLUSTER_PING_INTERVAL;
   private long clusterPingReplyInterval = VertxOptions.DEFAULT_CLUSTER_PING_REPLY_INTERVAL;
+  private int clusterAddressTableSize = DEFAULT_CLUSTER_ADDRESS_TABLE_SIZE;
+  private long clusterSubscriptionCacheTimeout = DEFAULT_CLUSTER_SUBSCRIPTION_CACHE_TIMEOUT;
+
+  /**
+   * The default size of the address table of cluster connections = 0 (meaning addresses are sent in full)
+   */
+  public static final int DEFAULT_CLUSTER_ADDRESS_TABLE_SIZE = 0;
+
+  /**
+   * The default timeout of the subscriptions cached by a node when the cluster manager does not notify
+   * subscription changes = 0 (meaning subscriptions are looked up for each message)
+   */
+  public static final long DEFAULT_CLUSTER_SUBSCRIPTION_CACHE_TIMEOUT = 0;
 
   // Attributes used to configure the server of the event bus when the event bus is clustered.
 
@@ -125,6 +138,8 @@ public class EventBusOptions extends TCPSSLOptions {
     this.clusterPublicPort = other.clusterPublicPort;
     this.clusterPingInterval = other.clusterPingInterval;
     this.clusterPingReplyInterval = other.clusterPingReplyInterval;
+    this.clusterAddressTableSize = other.clusterAddressTableSize;
+    this.clusterSubscriptionCacheTimeout = other.clusterSubscriptionCacheTimeout;
 
     this.port = other.port;
     this.host = other.host;
@@ -361,6 +376,18 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public EventBusOptions setTcpQuickAck(boolean tcpQuickAck) {
+    super.setTcpQuickAck(tcpQuickAck);
+    return this;
+  }
+
   @Override
   public EventBusOptions setTcpNoDelay(boolean tcpNoDelay) {
     super.setTcpNoDelay(tcpNoDelay);
@@ -379,6 +406,12 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    super.setUsePooledDirectBuffers(usePooledDirectBuffers);
+    return this;
+  }
+
   @Override
   public NetworkOptions setReceiveBufferSize(int receiveBufferSize) {
     super.setReceiveBufferSize(receiveBufferSize);
@@ -391,6 +424,12 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public EventBusOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public NetworkOptions setSendBufferSize(int sendBufferSize) {
     super.setSendBufferSize(sendBufferSize);
@@ -515,6 +554,57 @@ public class EventBusOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of addresses interned by each cluster connection
+   */
+  public int getClusterAddressTableSize() {
+    return clusterAddressTableSize;
+  }
+
+  /**
+   * Set the maximum number of addresses interned by each cluster connection.
+   * <p>
+   * When greater than 0, connections to other nodes negotiate an address table: the first time an address or
+   * the sender of this node is sent it gets an id, and subsequent messages only carry this id. Nodes that do not
+   * support it keep on receiving full addresses. The default value is 0 which disables the table.
+   *
+   * @param clusterAddressTableSize the maximum number of interned addresses per connection
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterAddressTableSize(int clusterAddressTableSize) {
+    if (clusterAddressTableSize < 0) {
+      throw new IllegalArgumentException("clusterAddressTableSize must be >= 0");
+    }
+    this.clusterAddressTableSize = clusterAddressTableSize;
+    return this;
+  }
+
+  /**
+   * @return the timeout of the subscriptions cached by a node, in ms
+   */
+  public long getClusterSubscriptionCacheTimeout() {
+    return clusterSubscriptionCacheTimeout;
+  }
+
+  /**
+   * Set the timeout of the subscriptions cached by a node, in ms.
+   * <p>
+   * When the cluster manager notifies subscription changes, each node caches the subscriptions of the addresses it
+   * sends to until they change. Otherwise they are cached for this timeout, during which a node may not see new
+   * or removed subscriptions of other nodes. The default value is 0 which disables the cache for such cluster
+   * managers.
+   *
+   * @param clusterSubscriptionCacheTimeout the timeout, in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public EventBusOptions setClusterSubscriptionCacheTimeout(long clusterSubscriptionCacheTimeout) {
+    if (clusterSubscriptionCacheTimeout < 0) {
+      throw new IllegalArgumentException("clusterSubscriptionCacheTimeout must be >= 0");
+    }
+    this.clusterSubscriptionCacheTimeout = clusterSubscriptionCacheTimeout;
+    return this;
+  }
+
   /**
    * Get the public facing port to be used when clustering.
    * <p>
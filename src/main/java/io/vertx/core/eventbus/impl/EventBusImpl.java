@@ -242,18 +242,25 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
     boolean newAddress = false;
 
-    HandlerHolder holder = new HandlerHolder<>(metrics, registration, replyHandler, localOnly, context);
-
-    Handlers handlers = handlerMap.get(address);
-    if (handlers == null) {
-      handlers = new Handlers();
-      Handlers prevHandlers = handlerMap.putIfAbsent(address, handlers);
-      if (prevHandlers != null) {
-        handlers = prevHandlers;
+    HandlerHolder<T> holder = new HandlerHolder<>(metrics, registration, replyHandler, localOnly, context);
+    registration.setHolder(holder);
+
+    while (true) {
+      Handlers handlers = handlerMap.get(address);
+      if (handlers == null) {
+        handlers = new Handlers();
+        Handlers prevHandlers = handlerMap.putIfAbsent(address, handlers);
+        if (prevHandlers != null) {
+          handlers = prevHandlers;
+        }
+        newAddress = true;
       }
-      newAddress = true;
+      if (handlers.add(holder)) {
+        break;
+      }
+      // The last handler of this address was removed concurrently, retry with a fresh one
+      handlerMap.remove(address, handlers);
     }
-    handlers.list.add(holder);
 
     if (hasContext) {
       HandlerEntry entry = new HandlerEntry<>(address, registration);
@@ -275,25 +282,17 @@ public class EventBusImpl implements EventBus, MetricsProvider {
 
   protected <T> HandlerHolder removeLocalRegistration(String address, HandlerRegistration<T> handler) {
     Handlers handlers = handlerMap.get(address);
+    HandlerHolder<T> holder = handler.getHolder();
     HandlerHolder lastHolder = null;
-    if (handlers != null) {
-      synchronized (handlers) {
-        int size = handlers.list.size();
-        // Requires a list traversal. This is tricky to optimise since we can't use a set since
-        // we need fast ordered traversal for the round robin
-        for (int i = 0; i < size; i++) {
-          HandlerHolder holder = handlers.list.get(i);
-          if (holder.getHandler() == handler) {
-            handlers.list.remove(i);
-            holder.setRemoved();
-            if (handlers.list.isEmpty()) {
-              handlerMap.remove(address);
-              lastHolder = holder;
-            }
-            holder.getContext().removeCloseHook(new HandlerEntry<>(address, holder.getHandler()));
-            break;
-          }
+    if (handlers != null && holder != null) {
+      int remaining = handlers.remove(holder);
+      if (remaining != -1) {
+        holder.setRemoved();
+        if (remaining == 0) {
+          handlerMap.remove(address, handlers);
+          lastHolder = holder;
         }
+        holder.getContext().removeCloseHook(new HandlerEntry<>(address, holder.getHandler()));
       }
     }
     return lastHolder;
@@ -368,8 +367,9 @@ public class EventBusImpl implements EventBus, MetricsProvider {
         }
       } else {
         // Publish
-        metrics.messageReceived(msg.address(), !msg.send(), isMessageLocal(msg), handlers.list.size());
-        for (HandlerHolder holder: handlers.list) {
+        HandlerHolder[] holders = handlers.holders();
+        metrics.messageReceived(msg.address(), !msg.send(), isMessageLocal(msg), holders.length);
+        for (HandlerHolder holder: holders) {
           deliverToHandler(msg, holder);
         }
       }
@@ -479,7 +479,7 @@ public class EventBusImpl implements EventBus, MetricsProvider {
   private void unregisterAll() {
     // Unregister all handlers explicitly - don't rely on context hooks
     for (Handlers handlers: handlerMap.values()) {
-      for (HandlerHolder holder: handlers.list) {
+      for (HandlerHolder holder: handlers.holders()) {
         holder.getHandler().unregister(true);
       }
     }
@@ -14,6 +14,8 @@ public class HandlerHolder<T> {
   private final boolean replyHandler;
   private final boolean localOnly;
   private boolean removed;
+  // Slot in the Handlers array, guarded by the Handlers monitor
+  int index = -1;
 
   public HandlerHolder(EventBusMetrics metrics, HandlerRegistration<T> handler, boolean replyHandler, boolean localOnly,
                        Context context) {
@@ -47,6 +47,7 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
   private final Queue<Message<T>> pending = new ArrayDeque<>(8);
   private boolean paused;
   private Object metric;
+  private volatile HandlerHolder<T> holder;
 
   public HandlerRegistration(Vertx vertx, EventBusMetrics metrics, EventBusImpl eventBus, String address,
                              String repliedAddress, boolean localOnly,
@@ -299,4 +300,12 @@ public class HandlerRegistration<T> implements MessageConsumer<T>, Handler<Messa
     return metric;
   }
 
+  HandlerHolder<T> getHolder() {
+    return holder;
+  }
+
+  void setHolder(HandlerHolder<T> holder) {
+    this.holder = holder;
+  }
+
 }
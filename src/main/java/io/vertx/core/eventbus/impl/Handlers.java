@@ -1,34 +1,89 @@
 package io.vertx.core.eventbus.impl;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * The handlers registered for an address.
+ * <p>
+ * Readers work on an immutable array snapshot published through a single volatile reference, so choosing a
+ * handler never locks nor fails. Registration changes copy the array under the {@code Handlers} monitor and each
+ * {@link HandlerHolder} remembers its slot so it can be removed without scanning.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
 public class Handlers {
 
+  private static final HandlerHolder[] EMPTY = new HandlerHolder[0];
+
   private final AtomicInteger pos = new AtomicInteger(0);
-  public final List<HandlerHolder> list = new CopyOnWriteArrayList<>();
+  private volatile HandlerHolder[] holders = EMPTY;
+  private boolean discarded;
 
   public HandlerHolder choose() {
-    while (true) {
-      int size = list.size();
-      if (size == 0) {
-        return null;
-      }
-      int p = pos.getAndIncrement();
-      if (p >= size - 1) {
-        pos.set(0);
-      }
-      try {
-        return list.get(p);
-      } catch (IndexOutOfBoundsException e) {
-        // Can happen
-        pos.set(0);
+    HandlerHolder[] snapshot = holders;
+    int size = snapshot.length;
+    if (size == 0) {
+      return null;
+    } else if (size == 1) {
+      return snapshot[0];
+    }
+    int p = pos.getAndIncrement() & Integer.MAX_VALUE;
+    return snapshot[p % size];
+  }
+
+  /**
+   * @return the current snapshot of the holders, it must not be modified
+   */
+  public HandlerHolder[] holders() {
+    return holders;
+  }
+
+  public int size() {
+    return holders.length;
+  }
+
+  /**
+   * Add a holder.
+   *
+   * @return false when the last holder has been removed meanwhile, the caller must then use a new {@code Handlers}
+   */
+  synchronized boolean add(HandlerHolder holder) {
+    if (discarded) {
+      return false;
+    }
+    HandlerHolder[] prev = holders;
+    HandlerHolder[] next = Arrays.copyOf(prev, prev.length + 1);
+    next[prev.length] = holder;
+    holder.index = prev.length;
+    holders = next;
+    return true;
+  }
+
+  /**
+   * Remove a holder, the following holders are shifted down to keep the registration order.
+   *
+   * @return the number of remaining holders or {@code -1} when the holder was not registered
+   */
+  synchronized int remove(HandlerHolder holder) {
+    HandlerHolder[] prev = holders;
+    int index = holder.index;
+    if (index < 0 || index >= prev.length || prev[index] != holder) {
+      return -1;
+    }
+    int last = prev.length - 1;
+    if (last == 0) {
+      holders = EMPTY;
+      discarded = true;
+    } else {
+      HandlerHolder[] next = Arrays.copyOf(prev, last);
+      System.arraycopy(prev, index + 1, next, index, last - index);
+      for (int i = index; i < last; i++) {
+        next[i].index = i;
       }
+      holders = next;
     }
+    holder.index = -1;
+    return last;
   }
 }
-
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.net.impl.ServerID;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The table of interned addresses and sender ids of a cluster connection, used by the version 2 of the wire
+ * protocol.
+ * <p>
+ * Each value is prefixed by a varint tag: {@link #NULL}, {@link #LITERAL} for a value sent once (e.g a reply
+ * address), {@link #DEFINE} for a value that gets the next id of the table or {@code id + REF_BASE} to reference a
+ * value already defined. Both ends of a connection build the same table since frames are encoded and decoded in
+ * order: on the sending side frames are encoded and queued while holding the table monitor, on the receiving side
+ * the table is only used by the socket handler.
+ * <p>
+ * The values defined while encoding a frame are pending until {@link #commit()} is called once the whole frame
+ * is encoded, when the encoding fails {@link #rollback()} forgets them since the peer never receives them.
+ */
+class AddressTable {
+
+  static final int NULL = 0;
+  static final int LITERAL = 1;
+  static final int DEFINE = 2;
+  static final int REF_BASE = 3;
+
+  private final int maxSize;
+  private final Map<Object, Integer> ids = new HashMap<>();
+  private final List<Object> values = new ArrayList<>();
+  private final List<Object> pending = new ArrayList<>();
+
+  /**
+   * @param maxSize the maximum number of values interned by the sending side
+   */
+  AddressTable(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  void writeAddress(ByteBuf buf, String address, boolean intern) {
+    if (address == null) {
+      writeVarInt(buf, NULL);
+    } else if (!writeRef(buf, address, intern)) {
+      writeString(buf, address);
+    }
+  }
+
+  void writeSender(ByteBuf buf, ServerID sender) {
+    if (!writeRef(buf, sender, true)) {
+      buf.writeInt(sender.port);
+      writeString(buf, sender.host);
+    }
+  }
+
+  String readAddress(ByteBuf buf) {
+    int tag = readVarInt(buf);
+    switch (tag) {
+      case NULL:
+        return null;
+      case LITERAL:
+        return readString(buf);
+      case DEFINE:
+        String address = readString(buf);
+        values.add(address);
+        return address;
+      default:
+        return (String) lookup(tag);
+    }
+  }
+
+  ServerID readSender(ByteBuf buf) {
+    int tag = readVarInt(buf);
+    switch (tag) {
+      case NULL:
+        return null;
+      case LITERAL:
+        return new ServerID(buf.readInt(), readString(buf));
+      case DEFINE:
+        ServerID sender = new ServerID(buf.readInt(), readString(buf));
+        values.add(sender);
+        return sender;
+      default:
+        return (ServerID) lookup(tag);
+    }
+  }
+
+  /**
+   * Write the reference to {@code value} or the tag of the literal that must follow.
+   *
+   * @return true when a reference was written
+   */
+  private boolean writeRef(ByteBuf buf, Object value, boolean intern) {
+    Integer id = ids.get(value);
+    if (id == null) {
+      int index = pending.indexOf(value);
+      if (index >= 0) {
+        id = ids.size() + index;
+      }
+    }
+    if (id != null) {
+      writeVarInt(buf, id + REF_BASE);
+      return true;
+    }
+    if (intern && ids.size() + pending.size() < maxSize) {
+      pending.add(value);
+      writeVarInt(buf, DEFINE);
+    } else {
+      writeVarInt(buf, LITERAL);
+    }
+    return false;
+  }
+
+  /**
+   * Make the values defined by the frame just encoded available to the next frames.
+   */
+  void commit() {
+    for (Object value : pending) {
+      ids.put(value, ids.size());
+    }
+    pending.clear();
+  }
+
+  /**
+   * Forget the values defined by a frame that failed to encode.
+   */
+  void rollback() {
+    pending.clear();
+  }
+
+  private Object lookup(int tag) {
+    int id = tag - REF_BASE;
+    if (id < 0 || id >= values.size()) {
+      throw new IllegalStateException("Invalid address table reference " + id);
+    }
+    return values.get(id);
+  }
+
+  private static void writeString(ByteBuf buf, String str) {
+    int lengthPos = buf.writerIndex();
+    buf.writeInt(0);
+    int length = ByteBufUtil.writeUtf8(buf, str);
+    buf.setInt(lengthPos, length);
+  }
+
+  private static String readString(ByteBuf buf) {
+    int length = buf.readInt();
+    String str = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+    buf.skipBytes(length);
+    return str;
+  }
+
+  static void writeVarInt(ByteBuf buf, int value) {
+    while ((value & ~0x7F) != 0) {
+      buf.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buf.writeByte(value);
+  }
+
+  static int readVarInt(ByteBuf buf) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buf.readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+}
@@ -16,6 +16,7 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.util.CharsetUtil;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
@@ -51,17 +52,25 @@ public class ClusteredEventBus extends EventBusImpl {
   public static final String CLUSTER_PUBLIC_PORT_PROP_NAME = "vertx.cluster.public.port";
 
   private static final Buffer PONG = Buffer.buffer(new byte[] { (byte)1 });
+  static final byte ADDRESS_TABLE_ACK = 2;
+  static final String ADDRESS_TABLE_HEADER = "__vertx.address_table";
+  private static final Buffer ADDRESS_TABLE_ACCEPTED = Buffer.buffer(new byte[] { ADDRESS_TABLE_ACK });
   private static final String SERVER_ID_HA_KEY = "server_id";
   private static final String SUBS_MAP_NAME = "__vertx.subs";
+  private static final int MAX_ENCODED_ADDRESSES = 1024;
 
   private final ClusterManager clusterManager;
   private final HAManager haManager;
   private final ConcurrentMap<ServerID, ConnectionHolder> connections = new ConcurrentHashMap<>();
   private final Context sendNoContext;
+  // UTF-8 forms of the addresses messages are sent to, bounded so one-off addresses cannot grow it forever
+  private final ConcurrentMap<String, byte[]> encodedAddresses = new ConcurrentHashMap<>();
 
   private EventBusOptions options;
   private AsyncMultiMap<String, ServerID> subs;
+  private SubsCache subsCache;
   private ServerID serverID;
+  private byte[] encodedServerID;
   private NetServer server;
 
   public ClusteredEventBus(VertxInternal vertx,
@@ -80,6 +89,8 @@ public class ClusteredEventBus extends EventBusImpl {
     NetServerOptions serverOptions = new NetServerOptions(this.options.toJson());
     setCertOptions(serverOptions, options.getKeyCertOptions());
     setTrustOptions(serverOptions, options.getTrustOptions());
+    // The frames are parsed from heap buffers
+    serverOptions.setUsePooledDirectBuffers(false);
 
     return serverOptions;
   }
@@ -116,6 +127,8 @@ public class ClusteredEventBus extends EventBusImpl {
     clusterManager.<String, ServerID>getAsyncMultiMap(SUBS_MAP_NAME, ar2 -> {
       if (ar2.succeeded()) {
         subs = ar2.result();
+        subsCache = new SubsCache(vertx, subs, sendNoContext, options.getClusterSubscriptionCacheTimeout(),
+          SubsCache.DEFAULT_MAX_SIZE);
         server = vertx.createNetServer(getServerOptions());
 
         server.connectHandler(getServerHandler());
@@ -124,6 +137,7 @@ public class ClusteredEventBus extends EventBusImpl {
             int serverPort = getClusterPublicPort(options, server.actualPort());
             String serverHost = getClusterPublicHost(options);
             serverID = new ServerID(serverPort, serverHost);
+            encodedServerID = ClusteredMessage.encodeSender(serverID);
             haManager.addDataToAHAInfo(SERVER_ID_HA_KEY, new JsonObject().put("host", serverID.host).put("port", serverID.port));
             if (resultHandler != null) {
               started = true;
@@ -150,6 +164,9 @@ public class ClusteredEventBus extends EventBusImpl {
   @Override
   public void close(Handler<AsyncResult<Void>> completionHandler) {
     super.close(ar1 -> {
+      if (subsCache != null) {
+        subsCache.close();
+      }
       if (server != null) {
         server.close(ar -> {
           if (ar.failed()) {
@@ -178,6 +195,7 @@ public class ClusteredEventBus extends EventBusImpl {
     MessageCodec codec = codecManager.lookupCodec(body, codecName);
     @SuppressWarnings("unchecked")
     ClusteredMessage msg = new ClusteredMessage(serverID, address, null, headers, body, codec, send, this);
+    msg.setEncodedSender(encodedServerID);
     return msg;
   }
 
@@ -187,7 +205,10 @@ public class ClusteredEventBus extends EventBusImpl {
                                      Handler<AsyncResult<Void>> completionHandler) {
     if (newAddress && subs != null && !replyHandler && !localOnly) {
       // Propagate the information
-      subs.add(address, serverID, completionHandler);
+      subs.add(address, serverID, ar -> {
+        subsCache.invalidate(address);
+        completionHandler.handle(ar);
+      });
     } else {
       completionHandler.handle(Future.succeededFuture());
     }
@@ -224,14 +245,7 @@ public class ClusteredEventBus extends EventBusImpl {
         log.error("Failed to send message", asyncResult.cause());
       }
     };
-    if (Vertx.currentContext() == null) {
-      // Guarantees the order when there is no current context
-      sendNoContext.runOnContext(v -> {
-        subs.get(address, resultHandler);
-      });
-    } else {
-      subs.get(address, resultHandler);
-    }
+    subsCache.get(address, resultHandler);
   }
 
   @Override
@@ -252,8 +266,7 @@ public class ClusteredEventBus extends EventBusImpl {
       if (jsid != null) {
         ServerID sid = new ServerID(jsid.getInteger("port"), jsid.getString("host"));
         if (subs != null) {
-          subs.removeAllForValue(sid, res -> {
-          });
+          subs.removeAllForValue(sid, res -> subsCache.invalidateAll());
         }
       }
     });
@@ -281,6 +294,8 @@ public class ClusteredEventBus extends EventBusImpl {
   private Handler<NetSocket> getServerHandler() {
     return socket -> {
       RecordParser parser = RecordParser.newFixed(4, null);
+      // Mirrors the table of the sending node, frames are decoded in order on this handler
+      AddressTable addressTable = new AddressTable(0);
       Handler<Buffer> handler = new Handler<Buffer>() {
         int size = -1;
         public void handle(Buffer buff) {
@@ -289,13 +304,17 @@ public class ClusteredEventBus extends EventBusImpl {
             parser.fixedSizeMode(size);
           } else {
             ClusteredMessage received = new ClusteredMessage();
-            received.readFromWire(buff, codecManager);
+            received.readFromWire(buff, codecManager, addressTable);
             metrics.messageRead(received.address(), buff.length());
             parser.fixedSizeMode(4);
             size = -1;
             if (received.codec() == CodecManager.PING_MESSAGE_CODEC) {
               // Just send back pong directly on connection
-              socket.write(PONG);
+              if (received.headers().contains(ADDRESS_TABLE_HEADER)) {
+                socket.write(ADDRESS_TABLE_ACCEPTED);
+              } else {
+                socket.write(PONG);
+              }
             } else {
               deliverMessageLocally(received);
             }
@@ -309,6 +328,7 @@ public class ClusteredEventBus extends EventBusImpl {
 
   private <T> void sendToSubs(ChoosableIterable<ServerID> subs, SendContextImpl<T> sendContext) {
     String address = sendContext.message.address();
+    ((ClusteredMessage) sendContext.message).setEncodedAddress(encodedAddress(address));
     if (sendContext.message.send()) {
       // Choose one
       ServerID sid = subs.choose();
@@ -372,8 +392,20 @@ public class ClusteredEventBus extends EventBusImpl {
     holder.writeMessage((ClusteredMessage)message);
   }
 
+  private byte[] encodedAddress(String address) {
+    byte[] encoded = encodedAddresses.get(address);
+    if (encoded == null) {
+      encoded = address.getBytes(CharsetUtil.UTF_8);
+      if (encodedAddresses.size() < MAX_ENCODED_ADDRESSES) {
+        encodedAddresses.putIfAbsent(address, encoded);
+      }
+    }
+    return encoded;
+  }
+
   private void removeSub(String subName, ServerID theServerID, Handler<AsyncResult<Void>> completionHandler) {
     subs.remove(subName, theServerID, ar -> {
+      subsCache.invalidate(subName);
       if (!ar.succeeded()) {
         log.error("Failed to remove sub", ar.cause());
       } else {
@@ -16,6 +16,9 @@
 
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -39,12 +42,18 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   private static final Logger log = LoggerFactory.getLogger(ClusteredMessage.class);
 
   private static final byte WIRE_PROTOCOL_VERSION = 1;
+  // Same as version 1 but addresses and sender are encoded with the connection AddressTable
+  private static final byte WIRE_PROTOCOL_VERSION_ADDRESS_TABLE = 2;
+  // Room reserved for the body when sizing the buffer, codecs grow it as needed
+  private static final int BODY_SIZE_HINT = 128;
 
   private ServerID sender;
   private Buffer wireBuffer;
   private int bodyPos;
   private int headersPos;
   private boolean fromWire;
+  private byte[] encodedAddress;
+  private byte[] encodedSender;
 
   public ClusteredMessage() {
   }
@@ -101,126 +110,211 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
   }
 
   public Buffer encodeToWire() {
-    int length = 1024; // TODO make this configurable
-    Buffer buffer = Buffer.buffer(length);
-    buffer.appendInt(0);
-    buffer.appendByte(WIRE_PROTOCOL_VERSION);
+    // Sized by encodeToWire(ByteBuf)
+    ByteBuf buf = Unpooled.buffer(0, Integer.MAX_VALUE);
+    encodeToWire(buf);
+    return Buffer.buffer(buf);
+  }
+
+  /**
+   * Append the length prefixed wire format of this message at the end of {@code buf}, so several messages
+   * can be encoded one after the other in the same (possibly pooled and direct) buffer.
+   */
+  public void encodeToWire(ByteBuf buf) {
+    encodeToWire(buf, null);
+  }
+
+  /**
+   * Like {@link #encodeToWire(ByteBuf)} but when an address table is negotiated on the connection the frame uses the
+   * version 2 of the protocol where the address and the sender are sent as table references.
+   */
+  void encodeToWire(ByteBuf buf, AddressTable table) {
+    buf.ensureWritable(wireSizeHint());
+    int start = buf.writerIndex();
+    buf.writeInt(0);
+    buf.writeByte(table != null ? WIRE_PROTOCOL_VERSION_ADDRESS_TABLE : WIRE_PROTOCOL_VERSION);
     byte systemCodecID = messageCodec.systemCodecID();
-    buffer.appendByte(systemCodecID);
+    buf.writeByte(systemCodecID);
     if (systemCodecID == -1) {
       // User codec
-      writeString(buffer, messageCodec.name());
+      writeString(buf, messageCodec.name());
     }
-    buffer.appendByte(send ? (byte)0 : (byte)1);
-    writeString(buffer, address);
-    if (replyAddress != null) {
-      writeString(buffer, replyAddress);
+    buf.writeByte(send ? (byte)0 : (byte)1);
+    if (table != null) {
+      // Only addresses with subscribers are interned, reply addresses are used once
+      table.writeAddress(buf, address, encodedAddress != null);
+      table.writeAddress(buf, replyAddress, false);
+      table.writeSender(buf, sender);
     } else {
-      buffer.appendInt(0);
+      if (encodedAddress != null) {
+        buf.writeInt(encodedAddress.length);
+        buf.writeBytes(encodedAddress);
+      } else {
+        writeString(buf, address);
+      }
+      if (replyAddress != null) {
+        writeString(buf, replyAddress);
+      } else {
+        buf.writeInt(0);
+      }
+      if (encodedSender != null) {
+        buf.writeBytes(encodedSender);
+      } else {
+        buf.writeBytes(encodeSender(sender));
+      }
+    }
+    encodeHeaders(buf);
+    writeBody(buf);
+    buf.setInt(start, buf.writerIndex() - start - 4);
+  }
+
+  /**
+   * @return the size of the encoded message without the body, exact when all strings are ASCII
+   */
+  int wireSizeHint() {
+    int size = 4 + 1 + 1 + 1 + 4 + 4 + 4 + BODY_SIZE_HINT;
+    if (messageCodec.systemCodecID() == -1) {
+      size += 4 + messageCodec.name().length();
+    }
+    size += encodedAddress != null ? encodedAddress.length : address.length();
+    if (replyAddress != null) {
+      size += replyAddress.length();
+    }
+    size += encodedSender != null ? encodedSender.length : 4 + 4 + sender.host.length();
+    if (headers != null) {
+      for (Map.Entry<String, String> entry: headers.entries()) {
+        size += 8 + entry.getKey().length() + entry.getValue().length();
+      }
     }
-    buffer.appendInt(sender.port);
-    writeString(buffer, sender.host);
-    encodeHeaders(buffer);
-    writeBody(buffer);
-    buffer.setInt(0, buffer.length() - 4);
-    return buffer;
+    return size;
+  }
+
+  /**
+   * Set the pre-encoded UTF-8 address, cached by the event bus for addresses with subscribers.
+   */
+  void setEncodedAddress(byte[] encodedAddress) {
+    this.encodedAddress = encodedAddress;
+  }
+
+  /**
+   * Set the pre-encoded sender, see {@link #encodeSender(ServerID)}.
+   */
+  void setEncodedSender(byte[] encodedSender) {
+    this.encodedSender = encodedSender;
+  }
+
+  /**
+   * @return the wire form of the sender: port followed by the length prefixed UTF-8 host
+   */
+  static byte[] encodeSender(ServerID sender) {
+    byte[] host = sender.host.getBytes(CharsetUtil.UTF_8);
+    ByteBuf buf = Unpooled.buffer(8 + host.length);
+    buf.writeInt(sender.port);
+    buf.writeInt(host.length);
+    buf.writeBytes(host);
+    return buf.array();
   }
 
   public void readFromWire(Buffer buffer, CodecManager codecManager) {
-    int pos = 0;
+    readFromWire(buffer, codecManager, null);
+  }
+
+  /**
+   * Decode a frame, {@code table} is the address table of the connection the frame was read from and is
+   * required to decode version 2 frames.
+   */
+  void readFromWire(Buffer buffer, CodecManager codecManager, AddressTable table) {
+    // Strings are decoded directly from the wire buffer, the duplicate has its own reader index
+    ByteBuf buf = buffer.getByteBuf();
     // Overall Length already read when passed in here
-    byte protocolVersion = buffer.getByte(pos);
-    if (protocolVersion > WIRE_PROTOCOL_VERSION) {
+    byte protocolVersion = buf.readByte();
+    if (protocolVersion > WIRE_PROTOCOL_VERSION_ADDRESS_TABLE) {
       throw new IllegalStateException("Invalid wire protocol version " + protocolVersion +
-                                      " should be <= " + WIRE_PROTOCOL_VERSION);
+                                      " should be <= " + WIRE_PROTOCOL_VERSION_ADDRESS_TABLE);
     }
-    pos++;
-    byte systemCodecCode = buffer.getByte(pos);
-    pos++;
+    if (protocolVersion == WIRE_PROTOCOL_VERSION_ADDRESS_TABLE && table == null) {
+      throw new IllegalStateException("No address table negotiated for wire protocol version " + protocolVersion);
+    }
+    byte systemCodecCode = buf.readByte();
     if (systemCodecCode == -1) {
       // User codec
-      int length = buffer.getInt(pos);
-      pos += 4;
-      byte[] bytes = buffer.getBytes(pos, pos + length);
-      String codecName = new String(bytes, CharsetUtil.UTF_8);
+      String codecName = readString(buf);
       messageCodec = codecManager.getCodec(codecName);
       if (messageCodec == null) {
         throw new IllegalStateException("No message codec registered with name " + codecName);
       }
-      pos += length;
     } else {
       messageCodec = codecManager.systemCodecs()[systemCodecCode];
     }
-    byte bsend = buffer.getByte(pos);
+    byte bsend = buf.readByte();
     send = bsend == 0;
-    pos++;
-    int length = buffer.getInt(pos);
-    pos += 4;
-    byte[] bytes = buffer.getBytes(pos, pos + length);
-    address = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
-    length = buffer.getInt(pos);
-    pos += 4;
-    if (length != 0) {
-      bytes = buffer.getBytes(pos, pos + length);
-      replyAddress = new String(bytes, CharsetUtil.UTF_8);
-      pos += length;
+    if (protocolVersion == WIRE_PROTOCOL_VERSION_ADDRESS_TABLE) {
+      address = table.readAddress(buf);
+      replyAddress = table.readAddress(buf);
+      sender = table.readSender(buf);
+    } else {
+      address = readString(buf);
+      int length = buf.readInt();
+      if (length != 0) {
+        replyAddress = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+        buf.skipBytes(length);
+      }
+      int senderPort = buf.readInt();
+      String senderHost = readString(buf);
+      sender = new ServerID(senderPort, senderHost);
     }
-    int senderPort = buffer.getInt(pos);
-    pos += 4;
-    length = buffer.getInt(pos);
-    pos += 4;
-    bytes = buffer.getBytes(pos, pos + length);
-    String senderHost = new String(bytes, CharsetUtil.UTF_8);
-    pos += length;
-    headersPos = pos;
-    int headersLength = buffer.getInt(pos);
-    pos += headersLength;
-    bodyPos = pos;
-    sender = new ServerID(senderPort, senderHost);
+    headersPos = buf.readerIndex();
+    int headersLength = buf.getInt(headersPos);
+    bodyPos = headersPos + headersLength;
     wireBuffer = buffer;
     fromWire = true;
   }
 
+  private static String readString(ByteBuf buf) {
+    int length = buf.readInt();
+    String str = buf.toString(buf.readerIndex(), length, CharsetUtil.UTF_8);
+    buf.skipBytes(length);
+    return str;
+  }
+
   private void decodeBody() {
     receivedBody = messageCodec.decodeFromWire(bodyPos, wireBuffer);
     bodyPos = 0;
   }
 
-  private void encodeHeaders(Buffer buffer) {
+  private void encodeHeaders(ByteBuf buf) {
     if (headers != null && !headers.isEmpty()) {
-      int headersLengthPos = buffer.length();
-      buffer.appendInt(0);
-      buffer.appendInt(headers.size());
+      int headersLengthPos = buf.writerIndex();
+      buf.writeInt(0);
+      buf.writeInt(headers.size());
       List<Map.Entry<String, String>> entries = headers.entries();
       for (Map.Entry<String, String> entry: entries) {
-        writeString(buffer, entry.getKey());
-        writeString(buffer, entry.getValue());
+        writeString(buf, entry.getKey());
+        writeString(buf, entry.getValue());
       }
-      int headersEndPos = buffer.length();
-      buffer.setInt(headersLengthPos, headersEndPos - headersLengthPos);
+      int headersEndPos = buf.writerIndex();
+      buf.setInt(headersLengthPos, headersEndPos - headersLengthPos);
     } else {
-      buffer.appendInt(4);
+      buf.writeInt(4);
     }
   }
 
   private void decodeHeaders() {
-    int length = wireBuffer.getInt(headersPos);
+    ByteBuf buf = wireBuffer.getByteBuf();
+    int length = buf.getInt(headersPos);
     if (length != 4) {
       headersPos += 4;
-      int numHeaders = wireBuffer.getInt(headersPos);
+      int numHeaders = buf.getInt(headersPos);
       headersPos += 4;
       headers = new CaseInsensitiveHeaders();
       for (int i = 0; i < numHeaders; i++) {
-        int keyLength = wireBuffer.getInt(headersPos);
+        int keyLength = buf.getInt(headersPos);
         headersPos += 4;
-        byte[] bytes = wireBuffer.getBytes(headersPos, headersPos + keyLength);
-        String key = new String(bytes, CharsetUtil.UTF_8);
+        String key = buf.toString(headersPos, keyLength, CharsetUtil.UTF_8);
         headersPos += keyLength;
-        int valLength = wireBuffer.getInt(headersPos);
+        int valLength = buf.getInt(headersPos);
         headersPos += 4;
-        bytes = wireBuffer.getBytes(headersPos, headersPos + valLength);
-        String val = new String(bytes, CharsetUtil.UTF_8);
+        String val = buf.toString(headersPos, valLength, CharsetUtil.UTF_8);
         headersPos += valLength;
         headers.add(key, val);
       }
@@ -228,14 +322,16 @@ public class ClusteredMessage<U, V> extends MessageImpl<U, V> {
     headersPos = 0;
   }
 
-  private void writeBody(Buffer buff) {
-    messageCodec.encodeToWire(buff, sentBody);
+  private void writeBody(ByteBuf buf) {
+    // The Buffer view shares the indexes of buf, so the codec appends straight into it
+    messageCodec.encodeToWire(Buffer.buffer(buf), sentBody);
   }
 
-  private void writeString(Buffer buff, String str) {
-    byte[] strBytes = str.getBytes(CharsetUtil.UTF_8);
-    buff.appendInt(strBytes.length);
-    buff.appendBytes(strBytes);
+  private void writeString(ByteBuf buf, String str) {
+    int lengthPos = buf.writerIndex();
+    buf.writeInt(0);
+    int length = ByteBufUtil.writeUtf8(buf, str);
+    buf.setInt(lengthPos, length);
   }
 
   ServerID getSender() {
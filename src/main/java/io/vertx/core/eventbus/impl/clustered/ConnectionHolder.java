@@ -1,21 +1,26 @@
 package io.vertx.core.eventbus.impl.clustered;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
-import io.vertx.core.VertxOptions;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.impl.codecs.PingMessageCodec;
+import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.impl.NetClientImpl;
+import io.vertx.core.net.impl.NetSocketImpl;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 import io.vertx.core.net.impl.ServerID;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 
-import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -32,9 +37,14 @@ class ConnectionHolder {
   private final Vertx vertx;
   private final EventBusMetrics metrics;
 
-  private Queue<ClusteredMessage> pending;
-  private NetSocket socket;
-  private boolean connected;
+  // Frames are encoded by the sending thread and written in batches on the connection event loop
+  private final Queue<ByteBuf> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private volatile NetSocketImpl socket;
+  private volatile boolean connected;
+  private volatile boolean closed;
+  // Set once the server acknowledged the address table, only used by the drain afterwards
+  private volatile AddressTable addressTable;
   private long timeoutID = -1;
   private long pingTimeoutID = -1;
 
@@ -46,6 +56,7 @@ class ConnectionHolder {
     NetClientOptions clientOptions = new NetClientOptions(options.toJson());
     ClusteredEventBus.setCertOptions(clientOptions, options.getKeyCertOptions());
     ClusteredEventBus.setTrustOptions(clientOptions, options.getTrustOptions());
+    clientOptions.setUsePooledDirectBuffers(false);
     client = new NetClientImpl(eventBus.vertx(), clientOptions, false);
   }
 
@@ -62,21 +73,58 @@ class ConnectionHolder {
     });
   }
 
-  // TODO optimise this (contention on monitor)
-  synchronized void writeMessage(ClusteredMessage message) {
-    if (connected) {
-      Buffer data = message.encodeToWire();
-      metrics.messageWritten(message.address(), data.length());
-      socket.write(data);
+  void writeMessage(ClusteredMessage message) {
+    // Encode now so that the body cannot be modified by the sender once sent
+    AddressTable table = addressTable;
+    int length;
+    if (table == null) {
+      length = enqueue(message, null);
     } else {
-      if (pending == null) {
-        pending = new ArrayDeque<>();
+      // Frames must be queued in the order they were encoded against the table
+      synchronized (table) {
+        length = enqueue(message, table);
       }
-      pending.add(message);
+    }
+    metrics.messageWritten(message.address(), length);
+    // The frame must be enqueued before checking connected so that connected() cannot miss it
+    if (connected) {
+      scheduleDrain();
+    } else if (closed) {
+      releasePending();
+    }
+  }
+
+  private int enqueue(ClusteredMessage message, AddressTable table) {
+    ByteBuf buf = PartialPooledByteBufAllocator.INSTANCE.ioBuffer(message.wireSizeHint());
+    try {
+      message.encodeToWire(buf, table);
+    } catch (Throwable t) {
+      buf.release();
+      if (table != null) {
+        table.rollback();
+      }
+      throw t;
+    }
+    if (table != null) {
+      table.commit();
+    }
+    int length = buf.readableBytes();
+    pending.add(buf);
+    return length;
+  }
+
+  private void releasePending() {
+    ByteBuf buf;
+    while ((buf = pending.poll()) != null) {
+      buf.release();
     }
   }
 
   void close() {
+    closed = true;
+    if (!connected) {
+      releasePending();
+    }
     if (timeoutID != -1) {
       vertx.cancelTimer(timeoutID);
     }
@@ -96,38 +144,66 @@ class ConnectionHolder {
 
   private void schedulePing() {
     EventBusOptions options = eventBus.options();
-    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> {
-      // If we don't get a pong back in time we close the connection
-      timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id2 -> {
-        // Didn't get pong in time - consider connection dead
-        log.warn("No pong from server " + serverID + " - will consider it dead");
-        close();
-      });
-      ClusteredMessage pingMessage =
-        new ClusteredMessage<>(serverID, PING_ADDRESS, null, null, null, new PingMessageCodec(), true, eventBus);
-      Buffer data = pingMessage.encodeToWire();
-      socket.write(data);
+    pingTimeoutID = vertx.setTimer(options.getClusterPingInterval(), id1 -> ping(null));
+  }
+
+  private void ping(MultiMap headers) {
+    EventBusOptions options = eventBus.options();
+    // If we don't get a pong back in time we close the connection
+    timeoutID = vertx.setTimer(options.getClusterPingReplyInterval(), id2 -> {
+      // Didn't get pong in time - consider connection dead
+      log.warn("No pong from server " + serverID + " - will consider it dead");
+      close();
     });
+    ClusteredMessage pingMessage =
+      new ClusteredMessage<>(serverID, PING_ADDRESS, null, headers, null, new PingMessageCodec(), true, eventBus);
+    // The ping goes through the batch queue like any other frame
+    enqueue(pingMessage, null);
+    scheduleDrain();
   }
 
   private synchronized void connected(NetSocket socket) {
-    this.socket = socket;
+    this.socket = (NetSocketImpl) socket;
     connected = true;
     socket.exceptionHandler(t -> close());
     socket.closeHandler(v -> close());
+    int addressTableSize = eventBus.options().getClusterAddressTableSize();
     socket.handler(data -> {
-      // Got a pong back
+      // Got a pong back, a server supporting address tables acknowledges the first ping instead
+      if (addressTableSize > 0 && addressTable == null &&
+        data.getByte(data.length() - 1) == ClusteredEventBus.ADDRESS_TABLE_ACK) {
+        addressTable = new AddressTable(addressTableSize);
+      }
       vertx.cancelTimer(timeoutID);
       schedulePing();
     });
-    // Start a pinger
-    schedulePing();
-    for (ClusteredMessage message : pending) {
-      Buffer data = message.encodeToWire();
-      metrics.messageWritten(message.address(), data.length());
-      socket.write(data);
+    if (addressTableSize > 0) {
+      // Ask for an address table with the first ping, older servers simply reply with a pong
+      ping(new CaseInsensitiveHeaders().add(ClusteredEventBus.ADDRESS_TABLE_HEADER, "true"));
+    } else {
+      // Start a pinger
+      schedulePing();
+    }
+    // Send the messages queued while connecting
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    if (drainScheduled.compareAndSet(false, true)) {
+      socket.nettyChannel().eventLoop().execute(this::drain);
+    }
+  }
+
+  // Runs on the connection event loop: write everything queued so far and flush once
+  private void drain() {
+    drainScheduled.set(false);
+    Channel channel = socket.nettyChannel();
+    ByteBuf buf;
+    while ((buf = pending.poll()) != null) {
+      socket.reportBytesWritten(buf.readableBytes());
+      channel.write(buf, channel.voidPromise());
     }
-    pending.clear();
+    channel.flush();
   }
 
 }
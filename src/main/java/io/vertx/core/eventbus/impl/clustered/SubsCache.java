@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.spi.cluster.AsyncMultiMap;
+import io.vertx.core.spi.cluster.ChoosableIterable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A node local cache of the subscriptions map.
+ * <p>
+ * Entries are dropped when the {@link AsyncMultiMap#keyChangeHandler} of the cluster manager notifies a change, or
+ * expire after a timeout when the cluster manager does not notify the changes. Expired entries are purged
+ * periodically and the number of entries is bounded, so the cache does not grow with every address ever looked up.
+ * While an address is being looked up, the following lookups of the same address wait for the result so messages
+ * sent to an address keep their order.
+ */
+class SubsCache {
+
+  static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final Vertx vertx;
+  private final AsyncMultiMap<String, ServerID> subs;
+  private final Context sendNoContext;
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final long timeout;
+  private final int maxSize;
+  private final long timerID;
+
+  /**
+   * @param timeout the expiration timeout in ms used when the map does not notify the changes, 0 disables the cache
+   * @param maxSize the maximum number of cached addresses
+   */
+  SubsCache(Vertx vertx, AsyncMultiMap<String, ServerID> subs, Context sendNoContext, long timeout, int maxSize) {
+    this.vertx = vertx;
+    this.subs = subs;
+    this.sendNoContext = sendNoContext;
+    boolean notified = subs.keyChangeHandler(address -> {
+      if (address != null) {
+        invalidate(address);
+      } else {
+        invalidateAll();
+      }
+    });
+    this.enabled = notified || timeout > 0;
+    this.timeout = notified ? -1 : TimeUnit.MILLISECONDS.toNanos(timeout);
+    this.maxSize = maxSize;
+    this.timerID = !notified && timeout > 0 ? vertx.setPeriodic(timeout, id -> expire()) : -1;
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  void get(String address, Handler<AsyncResult<ChoosableIterable<ServerID>>> resultHandler) {
+    if (!enabled) {
+      lookup(address, resultHandler);
+      return;
+    }
+    while (true) {
+      Entry entry = entries.get(address);
+      if (entry == null) {
+        entry = new Entry();
+        Entry prev = entries.putIfAbsent(address, entry);
+        if (prev == null) {
+          if (entries.size() > maxSize) {
+            evict(entry);
+          }
+          Entry resolving = entry;
+          synchronized (resolving) {
+            resolving.waiters.add(resultHandler);
+          }
+          lookup(address, ar -> resolved(address, resolving, ar));
+          return;
+        }
+        entry = prev;
+      }
+      ChoosableIterable<ServerID> serverIDs;
+      synchronized (entry) {
+        if (entry.removed) {
+          continue;
+        }
+        if (entry.waiters != null) {
+          entry.waiters.add(resultHandler);
+          return;
+        }
+        if (timeout != -1 && System.nanoTime() - entry.timestamp > timeout) {
+          entry.removed = true;
+          entries.remove(address, entry);
+          continue;
+        }
+        serverIDs = entry.serverIDs;
+      }
+      resultHandler.handle(Future.succeededFuture(serverIDs));
+      return;
+    }
+  }
+
+  void invalidate(String address) {
+    Entry entry = entries.remove(address);
+    if (entry != null) {
+      synchronized (entry) {
+        entry.removed = true;
+      }
+    }
+  }
+
+  void invalidateAll() {
+    for (String address : entries.keySet()) {
+      invalidate(address);
+    }
+  }
+
+  void close() {
+    if (timerID != -1) {
+      vertx.cancelTimer(timerID);
+    }
+    invalidateAll();
+  }
+
+  private void expire() {
+    long now = System.nanoTime();
+    entries.forEach((address, entry) -> {
+      synchronized (entry) {
+        if (entry.waiters != null || now - entry.timestamp <= timeout) {
+          return;
+        }
+        entry.removed = true;
+      }
+      entries.remove(address, entry);
+    });
+  }
+
+  private void evict(Entry added) {
+    if (timeout != -1) {
+      expire();
+    }
+    // Drop resolved entries until the bound is met, the entries being looked up are kept for their waiters
+    for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+      if (entries.size() <= maxSize) {
+        return;
+      }
+      Entry entry = mapEntry.getValue();
+      if (entry == added) {
+        continue;
+      }
+      synchronized (entry) {
+        if (entry.waiters != null || entry.removed) {
+          continue;
+        }
+        entry.removed = true;
+      }
+      entries.remove(mapEntry.getKey(), entry);
+    }
+  }
+
+  private void lookup(String address, Handler<AsyncResult<ChoosableIterable<ServerID>>> resultHandler) {
+    if (Vertx.currentContext() == null) {
+      // Guarantees the order when there is no current context
+      sendNoContext.runOnContext(v -> {
+        subs.get(address, resultHandler);
+      });
+    } else {
+      subs.get(address, resultHandler);
+    }
+  }
+
+  private void resolved(String address, Entry entry, AsyncResult<ChoosableIterable<ServerID>> ar) {
+    synchronized (entry) {
+      if (ar.succeeded() && !entry.removed) {
+        entry.serverIDs = ar.result();
+        entry.timestamp = System.nanoTime();
+      } else if (!entry.removed) {
+        entry.removed = true;
+        entries.remove(address, entry);
+      }
+    }
+    while (true) {
+      List<Handler<AsyncResult<ChoosableIterable<ServerID>>>> waiters;
+      synchronized (entry) {
+        waiters = entry.waiters;
+        if (waiters.isEmpty()) {
+          // The lookups queued while the waiters were handled have been handled too, the entry can now be used
+          // directly without overtaking them
+          entry.waiters = null;
+          return;
+        }
+        entry.waiters = new ArrayList<>();
+      }
+      for (Handler<AsyncResult<ChoosableIterable<ServerID>>> waiter : waiters) {
+        waiter.handle(ar);
+      }
+    }
+  }
+
+  private static class Entry {
+    // Not null while the address is being looked up
+    List<Handler<AsyncResult<ChoosableIterable<ServerID>>>> waiters = new ArrayList<>();
+    ChoosableIterable<ServerID> serverIDs;
+    long timestamp;
+    boolean removed;
+  }
+}
@@ -31,16 +31,14 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
     String strJson = jsonArray.encode();
     byte[] encoded = strJson.getBytes(CharsetUtil.UTF_8);
     buffer.appendInt(encoded.length);
-    Buffer buff = Buffer.buffer(encoded);
-    buffer.appendBuffer(buff);
+    buffer.appendBytes(encoded);
   }
 
   @Override
   public JsonArray decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     pos += 4;
-    byte[] encoded = buffer.getBytes(pos, pos + length);
-    String str = new String(encoded, CharsetUtil.UTF_8);
+    String str = buffer.getByteBuf().toString(pos, length, CharsetUtil.UTF_8);
     return new JsonArray(str);
   }
 
@@ -104,6 +104,71 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final boolean DEFAULT_H2C_UPGRADE = true;
 
+  /**
+   * Default adaptive HTTP/2 window size = false
+   */
+  public static final boolean DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE = false;
+
+  /**
+   * Default permessage-deflate WebSocket compression = false
+   */
+  public static final boolean DEFAULT_TRY_USE_PER_MESSAGE_WEBSOCKET_COMPRESSION = false;
+
+  /**
+   * Default WebSocket compression level = 6
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_LEVEL = 6;
+
+  /**
+   * Default WebSocket compression window bits requested to the peer = 15
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS = 15;
+
+  /**
+   * Default WebSocket compression allow no context takeover = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket compression request no context takeover = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT = false;
+
+  /**
+   * Default min size of a WebSocket message to be compressed = 0
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD = 0;
+
+  /**
+   * Default pool per event loop = false
+   */
+  public static final boolean DEFAULT_POOL_PER_EVENT_LOOP = false;
+
+  /**
+   * Default max number of HTTP/2 connections per target = 1
+   */
+  public static final int DEFAULT_HTTP2_MAX_POOL_SIZE = 1;
+
+  /**
+   * Default min number of warm connections per target = 0
+   */
+  public static final int DEFAULT_MIN_POOL_SIZE = 0;
+
+  /**
+   * Default max lifetime of a pooled connection in seconds = 0 (unlimited)
+   */
+  public static final int DEFAULT_MAX_CONNECTION_LIFETIME = 0;
+
+  /**
+   * Default time in seconds after which an unused pooled connection is evicted = 0 (never)
+   */
+  public static final int DEFAULT_POOL_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default period in ms of the pool cleaner = 1000
+   */
+  public static final long DEFAULT_POOL_CLEANER_PERIOD = 1000;
+
   private boolean verifyHost = true;
   private int maxPoolSize;
   private boolean keepAlive;
@@ -118,6 +183,19 @@ public class HttpClientOptions extends ClientOptionsBase {
   private Http2Settings initialSettings;
   private List<HttpVersion> alpnVersions;
   private boolean h2cUpgrade;
+  private boolean http2AdaptiveWindowSize;
+  private boolean tryUsePerMessageWebsocketCompression;
+  private int websocketCompressionLevel;
+  private int websocketCompressionWindowBits;
+  private boolean websocketCompressionAllowNoContext;
+  private boolean websocketCompressionRequestNoContext;
+  private int websocketCompressionThreshold;
+  private boolean poolPerEventLoop;
+  private int http2MaxPoolSize;
+  private int minPoolSize;
+  private int maxConnectionLifetime;
+  private int poolIdleTimeout;
+  private long poolCleanerPeriod;
 
   private String proxyHost;
   private int proxyPort;
@@ -153,6 +231,19 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.initialSettings = other.initialSettings != null ? new Http2Settings(other.initialSettings) : null;
     this.alpnVersions = other.alpnVersions != null ? new ArrayList<>(other.alpnVersions) : null;
     this.h2cUpgrade = other.h2cUpgrade;
+    this.http2AdaptiveWindowSize = other.http2AdaptiveWindowSize;
+    this.tryUsePerMessageWebsocketCompression = other.isTryUsePerMessageWebsocketCompression();
+    this.websocketCompressionLevel = other.getWebsocketCompressionLevel();
+    this.websocketCompressionWindowBits = other.getWebsocketCompressionWindowBits();
+    this.websocketCompressionAllowNoContext = other.isWebsocketCompressionAllowNoContext();
+    this.websocketCompressionRequestNoContext = other.isWebsocketCompressionRequestNoContext();
+    this.websocketCompressionThreshold = other.getWebsocketCompressionThreshold();
+    this.poolPerEventLoop = other.isPoolPerEventLoop();
+    this.http2MaxPoolSize = other.getHttp2MaxPoolSize();
+    this.minPoolSize = other.getMinPoolSize();
+    this.maxConnectionLifetime = other.getMaxConnectionLifetime();
+    this.poolIdleTimeout = other.getPoolIdleTimeout();
+    this.poolCleanerPeriod = other.getPoolCleanerPeriod();
     this.proxyHost = other.proxyHost;
     this.proxyPort = other.proxyPort;
     this.proxyUsername = other.proxyUsername;
@@ -185,6 +276,19 @@ public class HttpClientOptions extends ClientOptionsBase {
     initialSettings = new Http2Settings();
     alpnVersions = new ArrayList<>(DEFAULT_ALPN_VERSIONS);
     h2cUpgrade = DEFAULT_H2C_UPGRADE;
+    http2AdaptiveWindowSize = DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE;
+    tryUsePerMessageWebsocketCompression = DEFAULT_TRY_USE_PER_MESSAGE_WEBSOCKET_COMPRESSION;
+    websocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
+    websocketCompressionWindowBits = DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS;
+    websocketCompressionAllowNoContext = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT;
+    websocketCompressionRequestNoContext = DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT;
+    websocketCompressionThreshold = DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD;
+    poolPerEventLoop = DEFAULT_POOL_PER_EVENT_LOOP;
+    http2MaxPoolSize = DEFAULT_HTTP2_MAX_POOL_SIZE;
+    minPoolSize = DEFAULT_MIN_POOL_SIZE;
+    maxConnectionLifetime = DEFAULT_MAX_CONNECTION_LIFETIME;
+    poolIdleTimeout = DEFAULT_POOL_IDLE_TIMEOUT;
+    poolCleanerPeriod = DEFAULT_POOL_CLEANER_PERIOD;
     proxyHost = null;
     proxyPort = 0;
     proxyUsername = null;
@@ -209,6 +313,12 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -227,6 +337,18 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public HttpClientOptions setTcpQuickAck(boolean tcpQuickAck) {
+    super.setTcpQuickAck(tcpQuickAck);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setSoLinger(int soLinger) {
     super.setSoLinger(soLinger);
@@ -239,6 +361,12 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public HttpClientOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    super.setUsePooledDirectBuffers(usePooledDirectBuffers);
+    return this;
+  }
+
   @Override
   public HttpClientOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -610,6 +738,26 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/2 receive windows are sized from the bandwidth-delay product of the connection
+   */
+  public boolean isHttp2AdaptiveWindowSize() {
+    return http2AdaptiveWindowSize;
+  }
+
+  /**
+   * Set to {@code true} to grow the HTTP/2 connection and stream receive windows from the bandwidth-delay product
+   * estimated with {@code PING} round trips, up to 16MB. The data buffered for a paused stream is still bounded by
+   * the connection window.
+   *
+   * @param http2AdaptiveWindowSize true to enable the adaptive window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHttp2AdaptiveWindowSize(boolean http2AdaptiveWindowSize) {
+    this.http2AdaptiveWindowSize = http2AdaptiveWindowSize;
+    return this;
+  }
+
   public HttpClientOptions setMetricsName(String metricsName) {
     return (HttpClientOptions) super.setMetricsName(metricsName);
   }
@@ -694,6 +842,264 @@ public class HttpClientOptions extends ClientOptionsBase {
     return proxyPassword;
   }
 
+  /**
+   * @return whether the client offers the permessage-deflate WebSocket compression
+   */
+  public boolean isTryUsePerMessageWebsocketCompression() {
+    return tryUsePerMessageWebsocketCompression;
+  }
+
+  /**
+   * Set whether the client offers the permessage-deflate WebSocket compression (RFC 7692) when opening a WebSocket,
+   * the messages are compressed only when the server accepts it.
+   *
+   * @param tryUsePerMessageWebsocketCompression true to enable the permessage-deflate compression
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setTryUsePerMessageWebsocketCompression(boolean tryUsePerMessageWebsocketCompression) {
+    this.tryUsePerMessageWebsocketCompression = tryUsePerMessageWebsocketCompression;
+    return this;
+  }
+
+  /**
+   * @return the WebSocket compression level
+   */
+  public int getWebsocketCompressionLevel() {
+    return websocketCompressionLevel;
+  }
+
+  /**
+   * Set the deflate compression level of the WebSocket messages, from {@code 0} (no compression) to {@code 9}
+   * (best compression).
+   *
+   * @param websocketCompressionLevel the compression level
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionLevel(int websocketCompressionLevel) {
+    if (websocketCompressionLevel < 0 || websocketCompressionLevel > 9) {
+      throw new IllegalArgumentException("websocketCompressionLevel must be between 0 and 9");
+    }
+    this.websocketCompressionLevel = websocketCompressionLevel;
+    return this;
+  }
+
+  /**
+   * @return the max window bits requested to the peer compressor
+   */
+  public int getWebsocketCompressionWindowBits() {
+    return websocketCompressionWindowBits;
+  }
+
+  /**
+   * Set the max LZ77 window bits requested to the peer compressor, a smaller window reduces the memory used by the
+   * decompressor of each connection at the expense of the compression ratio. Messages sent by this side always use
+   * a {@code 15} bits window.
+   *
+   * @param websocketCompressionWindowBits the window bits, between {@code 8} and {@code 15}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionWindowBits(int websocketCompressionWindowBits) {
+    if (websocketCompressionWindowBits < 8 || websocketCompressionWindowBits > 15) {
+      throw new IllegalArgumentException("websocketCompressionWindowBits must be between 8 and 15");
+    }
+    this.websocketCompressionWindowBits = websocketCompressionWindowBits;
+    return this;
+  }
+
+  /**
+   * @return whether the peer can ask this side to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionAllowNoContext() {
+    return websocketCompressionAllowNoContext;
+  }
+
+  /**
+   * Set whether the peer can ask this side not to take over the compression context between messages. When
+   * {@code false} and the peer asks for it, the connection falls back to uncompressed messages.
+   *
+   * @param websocketCompressionAllowNoContext true to accept the no context takeover request of the peer
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionAllowNoContext(boolean websocketCompressionAllowNoContext) {
+    this.websocketCompressionAllowNoContext = websocketCompressionAllowNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the peer is asked to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionRequestNoContext() {
+    return websocketCompressionRequestNoContext;
+  }
+
+  /**
+   * Set whether the peer is asked not to take over the compression context between messages, this frees the
+   * decompressor memory between messages at the expense of the compression ratio.
+   *
+   * @param websocketCompressionRequestNoContext true to ask the peer for no context takeover
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionRequestNoContext(boolean websocketCompressionRequestNoContext) {
+    this.websocketCompressionRequestNoContext = websocketCompressionRequestNoContext;
+    return this;
+  }
+
+  /**
+   * @return the min size of a WebSocket message to be compressed
+   */
+  public int getWebsocketCompressionThreshold() {
+    return websocketCompressionThreshold;
+  }
+
+  /**
+   * Set the min size in bytes of a WebSocket message to be compressed, smaller messages are sent uncompressed since
+   * deflating them costs more CPU than it saves bandwidth. The size of a fragmented message is the size of its first
+   * frame.
+   *
+   * @param websocketCompressionThreshold the min size in bytes, {@code 0} compresses every message
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setWebsocketCompressionThreshold(int websocketCompressionThreshold) {
+    if (websocketCompressionThreshold < 0) {
+      throw new IllegalArgumentException("websocketCompressionThreshold must be >= 0");
+    }
+    this.websocketCompressionThreshold = websocketCompressionThreshold;
+    return this;
+  }
+
+  /**
+   * @return whether the connection pool is partitioned per event loop
+   */
+  public boolean isPoolPerEventLoop() {
+    return poolPerEventLoop;
+  }
+
+  /**
+   * Set whether the connection pool is partitioned per event loop. A request then only uses connections bound to the
+   * event loop of its context, so a client shared by verticles running on different event loops does not hand over
+   * connections between threads. The max pool size applies to each event loop.
+   *
+   * @param poolPerEventLoop true to partition the pool per event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolPerEventLoop(boolean poolPerEventLoop) {
+    this.poolPerEventLoop = poolPerEventLoop;
+    return this;
+  }
+
+  /**
+   * @return the max number of HTTP/2 connections per target
+   */
+  public int getHttp2MaxPoolSize() {
+    return http2MaxPoolSize;
+  }
+
+  /**
+   * Set the max number of HTTP/2 connections per target. A new stream is opened on the connection with the fewest
+   * active streams, another connection is created when all the connections reached the max concurrent streams
+   * advertised by the server.
+   *
+   * @param http2MaxPoolSize the max number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHttp2MaxPoolSize(int http2MaxPoolSize) {
+    if (http2MaxPoolSize < 1) {
+      throw new IllegalArgumentException("http2MaxPoolSize must be > 0");
+    }
+    this.http2MaxPoolSize = http2MaxPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the min number of warm connections per target
+   */
+  public int getMinPoolSize() {
+    return minPoolSize;
+  }
+
+  /**
+   * Set the min number of warm HTTP/1.x connections per target. When the first connection to a target is created,
+   * the pool opens the other warm connections in the background and the pool cleaner keeps them open afterwards.
+   * This value is capped by the max pool size.
+   *
+   * @param minPoolSize the min number of connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setMinPoolSize(int minPoolSize) {
+    if (minPoolSize < 0) {
+      throw new IllegalArgumentException("minPoolSize must be >= 0");
+    }
+    this.minPoolSize = minPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the max lifetime of a pooled connection in seconds
+   */
+  public int getMaxConnectionLifetime() {
+    return maxConnectionLifetime;
+  }
+
+  /**
+   * Set the max lifetime of a pooled HTTP/1.x connection in seconds, an expired connection is closed instead of
+   * being reused so that new connections can be balanced across the instances behind a load balancer. Zero means
+   * connections are never rotated.
+   *
+   * @param maxConnectionLifetime the max lifetime in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setMaxConnectionLifetime(int maxConnectionLifetime) {
+    if (maxConnectionLifetime < 0) {
+      throw new IllegalArgumentException("maxConnectionLifetime must be >= 0");
+    }
+    this.maxConnectionLifetime = maxConnectionLifetime;
+    return this;
+  }
+
+  /**
+   * @return the time in seconds after which an unused pooled connection is evicted
+   */
+  public int getPoolIdleTimeout() {
+    return poolIdleTimeout;
+  }
+
+  /**
+   * Set the time in seconds after which an unused pooled HTTP/1.x connection is closed by the pool cleaner, the
+   * pool never goes below the min pool size. Zero means connections are never evicted.
+   *
+   * @param poolIdleTimeout the idle timeout in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolIdleTimeout(int poolIdleTimeout) {
+    if (poolIdleTimeout < 0) {
+      throw new IllegalArgumentException("poolIdleTimeout must be >= 0");
+    }
+    this.poolIdleTimeout = poolIdleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the period in ms of the pool cleaner
+   */
+  public long getPoolCleanerPeriod() {
+    return poolCleanerPeriod;
+  }
+
+  /**
+   * Set the period in ms of the pool cleaner, a single periodic timer per client that evicts expired and idle
+   * connections and opens the missing warm connections. The cleaner only runs when one of these policies is set.
+   *
+   * @param poolCleanerPeriod the period in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPoolCleanerPeriod(long poolCleanerPeriod) {
+    if (poolCleanerPeriod < 1) {
+      throw new IllegalArgumentException("poolCleanerPeriod must be > 0");
+    }
+    this.poolCleanerPeriod = poolCleanerPeriod;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -716,6 +1122,19 @@ public class HttpClientOptions extends ClientOptionsBase {
     if (initialSettings == null ? that.initialSettings != null : !initialSettings.equals(that.initialSettings)) return false;
     if (alpnVersions == null ? that.alpnVersions != null : !alpnVersions.equals(that.alpnVersions)) return false;
     if (h2cUpgrade != that.h2cUpgrade) return false;
+    if (http2AdaptiveWindowSize != that.http2AdaptiveWindowSize) return false;
+    if (tryUsePerMessageWebsocketCompression != that.tryUsePerMessageWebsocketCompression) return false;
+    if (websocketCompressionLevel != that.websocketCompressionLevel) return false;
+    if (websocketCompressionWindowBits != that.websocketCompressionWindowBits) return false;
+    if (websocketCompressionAllowNoContext != that.websocketCompressionAllowNoContext) return false;
+    if (websocketCompressionRequestNoContext != that.websocketCompressionRequestNoContext) return false;
+    if (websocketCompressionThreshold != that.websocketCompressionThreshold) return false;
+    if (poolPerEventLoop != that.poolPerEventLoop) return false;
+    if (http2MaxPoolSize != that.http2MaxPoolSize) return false;
+    if (minPoolSize != that.minPoolSize) return false;
+    if (maxConnectionLifetime != that.maxConnectionLifetime) return false;
+    if (poolIdleTimeout != that.poolIdleTimeout) return false;
+    if (poolCleanerPeriod != that.poolCleanerPeriod) return false;
     if (proxyHost == null ? that.proxyHost != null : !proxyHost.equals(that.proxyHost)) return false;
     if (proxyPort != that.proxyPort) return false;
     if (proxyUsername == null ? that.proxyUsername != null : !proxyUsername.equals(that.proxyUsername)) return false;
@@ -741,6 +1160,19 @@ public class HttpClientOptions extends ClientOptionsBase {
     result = 31 * result + (initialSettings != null ? initialSettings.hashCode() : 0);
     result = 31 * result + (alpnVersions != null ? alpnVersions.hashCode() : 0);
     result = 31 * result + (h2cUpgrade ? 1 : 0);
+    result = 31 * result + (http2AdaptiveWindowSize ? 1 : 0);
+    result = 31 * result + (tryUsePerMessageWebsocketCompression ? 1 : 0);
+    result = 31 * result + websocketCompressionLevel;
+    result = 31 * result + websocketCompressionWindowBits;
+    result = 31 * result + (websocketCompressionAllowNoContext ? 1 : 0);
+    result = 31 * result + (websocketCompressionRequestNoContext ? 1 : 0);
+    result = 31 * result + websocketCompressionThreshold;
+    result = 31 * result + (poolPerEventLoop ? 1 : 0);
+    result = 31 * result + http2MaxPoolSize;
+    result = 31 * result + minPoolSize;
+    result = 31 * result + maxConnectionLifetime;
+    result = 31 * result + poolIdleTimeout;
+    result = 31 * result + (int) (poolCleanerPeriod ^ (poolCleanerPeriod >>> 32));
     result = 31 * result + (proxyHost != null ? proxyHost.hashCode() : 0);
     result = 31 * result + proxyPort;
     result = 31 * result + (proxyUsername != null ? proxyUsername.hashCode() : 0);
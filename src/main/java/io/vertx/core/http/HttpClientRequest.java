@@ -17,6 +17,7 @@
 package io.vertx.core.http;
 
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -268,6 +269,72 @@ public interface HttpClientRequest extends WriteStream<Buffer>, ReadStream<HttpC
    */
   void end();
 
+  /**
+   * Same as {@link #sendFile(String, long)} using offset @code{0} which means starting from the beginning of the file.
+   *
+   * @param filename  path to the file to upload
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default HttpClientRequest sendFile(String filename) {
+    return sendFile(filename, 0);
+  }
+
+  /**
+   * Same as {@link #sendFile(String, long, long)} using length @code{Long.MAX_VALUE} which means until the end of the
+   * file.
+   *
+   * @param filename  path to the file to upload
+   * @param offset offset to start uploading from
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default HttpClientRequest sendFile(String filename, long offset) {
+    return sendFile(filename, offset, Long.MAX_VALUE);
+  }
+
+  /**
+   * Send a file as the request body and end the request. The {@code Content-Length} header is set to the length
+   * of the uploaded range of the file.
+   * <p>
+   * With HTTP/1.x the file is streamed directly from disk to the connection, bypassing userspace when the
+   * connection is not encrypted. With HTTP/2 the file is read in chunks as the stream flow control allows it.
+   *
+   * @param filename  path to the file to upload
+   * @param offset offset to start uploading from
+   * @param length length to upload
+   * @return a reference to this, so the API can be used fluently
+   * @throws java.lang.IllegalStateException when no response handler is set or when data has already been written
+   */
+  @Fluent
+  HttpClientRequest sendFile(String filename, long offset, long length);
+
+  /**
+   * Like {@link #sendFile(String)} but providing a handler which will be notified once the file has been completely
+   * written to the wire.
+   *
+   * @param filename path to the file to upload
+   * @param resultHandler  handler that will be called on completion
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default HttpClientRequest sendFile(String filename, Handler<AsyncResult<Void>> resultHandler) {
+    return sendFile(filename, 0, Long.MAX_VALUE, resultHandler);
+  }
+
+  /**
+   * Like {@link #sendFile(String, long, long)} but providing a handler which will be notified once the file has been
+   * completely written to the wire.
+   *
+   * @param filename path to the file to upload
+   * @param offset the offset to upload from
+   * @param length the length to upload
+   * @param resultHandler  handler that will be called on completion
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  HttpClientRequest sendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler);
+
   /**
    * Set's the amount of time after which if the request does not return any data within the timeout period an
    * {@link java.util.concurrent.TimeoutException} will be passed to the exception handler (if provided) and
@@ -74,6 +74,71 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final List<HttpVersion> DEFAULT_ALPN_VERSIONS = Collections.unmodifiableList(Arrays.asList(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1));
 
+  /**
+   * Default max number of files kept by the send file cache = 0 (disabled)
+   */
+  public static final int DEFAULT_FILE_CACHE_SIZE = 0;
+
+  /**
+   * Default max size of the files memory mapped by the send file cache = 1048576
+   */
+  public static final int DEFAULT_FILE_CACHE_MAX_MAPPED_FILE_SIZE = 1024 * 1024;
+
+  /**
+   * Default period in ms during which the send file cache trusts the file attributes = 1000
+   */
+  public static final int DEFAULT_FILE_CACHE_VALIDITY_PERIOD = 1000;
+
+  /**
+   * Default value of whether a {@code Date} header is added to HTTP/1.x responses = false
+   */
+  public static final boolean DEFAULT_ADD_DATE_HEADER = false;
+
+  /**
+   * Default max number of in-flight requests per request handler = 0 (unbounded)
+   */
+  public static final int DEFAULT_MAX_INFLIGHT_REQUESTS = 0;
+
+  /**
+   * Default max delay in ms of the event loop before new requests are rejected = 0 (disabled)
+   */
+  public static final long DEFAULT_MAX_EVENT_LOOP_DELAY = 0;
+
+  /**
+   * Default adaptive HTTP/2 window size = false
+   */
+  public static final boolean DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE = false;
+
+  /**
+   * Default permessage-deflate WebSocket compression = false
+   */
+  public static final boolean DEFAULT_PER_MESSAGE_WEBSOCKET_COMPRESSION_SUPPORTED = false;
+
+  /**
+   * Default WebSocket compression level = 6
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_LEVEL = 6;
+
+  /**
+   * Default WebSocket compression window bits requested to the peer = 15
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS = 15;
+
+  /**
+   * Default WebSocket compression allow no context takeover = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT = false;
+
+  /**
+   * Default WebSocket compression request no context takeover = false
+   */
+  public static final boolean DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT = false;
+
+  /**
+   * Default min size of a WebSocket message to be compressed = 0
+   */
+  public static final int DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD = 0;
+
   private boolean compressionSupported;
   private int maxWebsocketFrameSize;
   private String websocketSubProtocols;
@@ -83,6 +148,19 @@ public class HttpServerOptions extends NetServerOptions {
   private int maxHeaderSize;
   private Http2Settings initialSettings;
   private List<HttpVersion> alpnVersions;
+  private int fileCacheSize;
+  private int fileCacheMaxMappedFileSize;
+  private int fileCacheValidityPeriod;
+  private boolean addDateHeader;
+  private int maxInflightRequests;
+  private long maxEventLoopDelay;
+  private boolean http2AdaptiveWindowSize;
+  private boolean perMessageWebsocketCompressionSupported;
+  private int websocketCompressionLevel;
+  private int websocketCompressionWindowBits;
+  private boolean websocketCompressionAllowNoContext;
+  private boolean websocketCompressionRequestNoContext;
+  private int websocketCompressionThreshold;
 
   /**
    * Default constructor
@@ -109,6 +187,19 @@ public class HttpServerOptions extends NetServerOptions {
     this.maxHeaderSize = other.getMaxHeaderSize();
     this.initialSettings = other.initialSettings != null ? new Http2Settings(other.initialSettings) : null;
     this.alpnVersions = other.alpnVersions != null ? new ArrayList<>(other.alpnVersions) : null;
+    this.fileCacheSize = other.getFileCacheSize();
+    this.fileCacheMaxMappedFileSize = other.getFileCacheMaxMappedFileSize();
+    this.fileCacheValidityPeriod = other.getFileCacheValidityPeriod();
+    this.addDateHeader = other.isAddDateHeader();
+    this.maxInflightRequests = other.getMaxInflightRequests();
+    this.maxEventLoopDelay = other.getMaxEventLoopDelay();
+    this.http2AdaptiveWindowSize = other.isHttp2AdaptiveWindowSize();
+    this.perMessageWebsocketCompressionSupported = other.isPerMessageWebsocketCompressionSupported();
+    this.websocketCompressionLevel = other.getWebsocketCompressionLevel();
+    this.websocketCompressionWindowBits = other.getWebsocketCompressionWindowBits();
+    this.websocketCompressionAllowNoContext = other.isWebsocketCompressionAllowNoContext();
+    this.websocketCompressionRequestNoContext = other.isWebsocketCompressionRequestNoContext();
+    this.websocketCompressionThreshold = other.getWebsocketCompressionThreshold();
   }
 
   /**
@@ -132,6 +223,19 @@ public class HttpServerOptions extends NetServerOptions {
     maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
     initialSettings = new Http2Settings();
     alpnVersions = new ArrayList<>(DEFAULT_ALPN_VERSIONS);
+    fileCacheSize = DEFAULT_FILE_CACHE_SIZE;
+    fileCacheMaxMappedFileSize = DEFAULT_FILE_CACHE_MAX_MAPPED_FILE_SIZE;
+    fileCacheValidityPeriod = DEFAULT_FILE_CACHE_VALIDITY_PERIOD;
+    addDateHeader = DEFAULT_ADD_DATE_HEADER;
+    maxInflightRequests = DEFAULT_MAX_INFLIGHT_REQUESTS;
+    maxEventLoopDelay = DEFAULT_MAX_EVENT_LOOP_DELAY;
+    http2AdaptiveWindowSize = DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE;
+    perMessageWebsocketCompressionSupported = DEFAULT_PER_MESSAGE_WEBSOCKET_COMPRESSION_SUPPORTED;
+    websocketCompressionLevel = DEFAULT_WEBSOCKET_COMPRESSION_LEVEL;
+    websocketCompressionWindowBits = DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS;
+    websocketCompressionAllowNoContext = DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT;
+    websocketCompressionRequestNoContext = DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT;
+    websocketCompressionThreshold = DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD;
   }
 
   @Override
@@ -152,6 +256,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -170,6 +280,18 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public HttpServerOptions setTcpQuickAck(boolean tcpQuickAck) {
+    super.setTcpQuickAck(tcpQuickAck);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setSoLinger(int soLinger) {
     super.setSoLinger(soLinger);
@@ -182,6 +304,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    super.setUsePooledDirectBuffers(usePooledDirectBuffers);
+    return this;
+  }
+
   @Override
   public HttpServerOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -260,6 +388,12 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  @Override
+  public HttpServerOptions setAcceptorPerEventLoop(boolean acceptorPerEventLoop) {
+    super.setAcceptorPerEventLoop(acceptorPerEventLoop);
+    return this;
+  }
+
   public HttpServerOptions setPort(int port) {
     super.setPort(port);
     return this;
@@ -452,6 +586,285 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return the max number of files kept by the send file cache, {@code 0} when the cache is disabled
+   */
+  public int getFileCacheSize() {
+    return fileCacheSize;
+  }
+
+  /**
+   * Set the max number of files kept by the send file cache, {@code 0} disables the cache.
+   * <p/>
+   * The cache keeps the files served by {@code sendFile} open or memory mapped along with their
+   * attributes and the {@code Content-Type}, {@code Content-Length}, {@code ETag} and {@code Last-Modified} headers.
+   * Conditional requests with {@code If-None-Match} or {@code If-Modified-Since} are answered with a {@code 304}
+   * status from the cached attributes.
+   *
+   * @param fileCacheSize the max number of cached files
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheSize(int fileCacheSize) {
+    if (fileCacheSize < 0) {
+      throw new IllegalArgumentException("fileCacheSize must be >= 0");
+    }
+    this.fileCacheSize = fileCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the max size of the files memory mapped by the send file cache
+   */
+  public int getFileCacheMaxMappedFileSize() {
+    return fileCacheMaxMappedFileSize;
+  }
+
+  /**
+   * Set the max size of the files memory mapped by the send file cache. Mapped files are written from memory, larger
+   * files are kept open and written with a file region.
+   *
+   * @param fileCacheMaxMappedFileSize the max size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheMaxMappedFileSize(int fileCacheMaxMappedFileSize) {
+    if (fileCacheMaxMappedFileSize < 0) {
+      throw new IllegalArgumentException("fileCacheMaxMappedFileSize must be >= 0");
+    }
+    this.fileCacheMaxMappedFileSize = fileCacheMaxMappedFileSize;
+    return this;
+  }
+
+  /**
+   * @return the period in ms during which the send file cache trusts the attributes of a cached file
+   */
+  public int getFileCacheValidityPeriod() {
+    return fileCacheValidityPeriod;
+  }
+
+  /**
+   * Set the period in ms during which the send file cache trusts the attributes of a cached file, after this period the
+   * file is checked again on the disk and reopened when it changed.
+   *
+   * @param fileCacheValidityPeriod the period in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setFileCacheValidityPeriod(int fileCacheValidityPeriod) {
+    if (fileCacheValidityPeriod < 0) {
+      throw new IllegalArgumentException("fileCacheValidityPeriod must be >= 0");
+    }
+    this.fileCacheValidityPeriod = fileCacheValidityPeriod;
+    return this;
+  }
+
+  /**
+   * @return whether a {@code Date} header is added to the HTTP/1.x responses that don't have one
+   */
+  public boolean isAddDateHeader() {
+    return addDateHeader;
+  }
+
+  /**
+   * Set whether a {@code Date} header is added to the HTTP/1.x responses that don't have one. The header value is
+   * formatted at most once per second by each event loop.
+   *
+   * @param addDateHeader true if the header is added
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setAddDateHeader(boolean addDateHeader) {
+    this.addDateHeader = addDateHeader;
+    return this;
+  }
+
+  /**
+   * @return the max number of requests a request handler has in flight before new requests are rejected
+   */
+  public int getMaxInflightRequests() {
+    return maxInflightRequests;
+  }
+
+  /**
+   * Set the max number of requests a request handler (i.e a verticle instance) has in flight, a request is in flight
+   * until its response is ended. When the limit is reached new requests are rejected with a {@code 503} status and new
+   * HTTP/2 streams are refused with {@code REFUSED_STREAM}.
+   *
+   * @param maxInflightRequests the max number of requests, {@code 0} means unbounded
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxInflightRequests(int maxInflightRequests) {
+    if (maxInflightRequests < 0) {
+      throw new IllegalArgumentException("maxInflightRequests must be >= 0");
+    }
+    this.maxInflightRequests = maxInflightRequests;
+    return this;
+  }
+
+  /**
+   * @return the max delay in ms of the event loop of a request handler before new requests are rejected
+   */
+  public long getMaxEventLoopDelay() {
+    return maxEventLoopDelay;
+  }
+
+  /**
+   * Set the max delay in ms of the event loop of a request handler, i.e how late a task scheduled on the event loop
+   * runs. While the event loop is more late than this, new requests are rejected with a {@code 503} status and new
+   * HTTP/2 streams are refused with {@code REFUSED_STREAM}.
+   *
+   * @param maxEventLoopDelay the max delay in ms, {@code 0} disables the check
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setMaxEventLoopDelay(long maxEventLoopDelay) {
+    if (maxEventLoopDelay < 0) {
+      throw new IllegalArgumentException("maxEventLoopDelay must be >= 0");
+    }
+    this.maxEventLoopDelay = maxEventLoopDelay;
+    return this;
+  }
+
+  /**
+   * @return whether the HTTP/2 receive windows are sized from the bandwidth-delay product of the connection
+   */
+  public boolean isHttp2AdaptiveWindowSize() {
+    return http2AdaptiveWindowSize;
+  }
+
+  /**
+   * Set to {@code true} to grow the HTTP/2 connection and stream receive windows from the bandwidth-delay product
+   * estimated with {@code PING} round trips, up to 16MB. The data buffered for a paused stream is still bounded by
+   * the connection window.
+   *
+   * @param http2AdaptiveWindowSize true to enable the adaptive window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setHttp2AdaptiveWindowSize(boolean http2AdaptiveWindowSize) {
+    this.http2AdaptiveWindowSize = http2AdaptiveWindowSize;
+    return this;
+  }
+
+  /**
+   * @return whether the server accepts the permessage-deflate WebSocket compression
+   */
+  public boolean isPerMessageWebsocketCompressionSupported() {
+    return perMessageWebsocketCompressionSupported;
+  }
+
+  /**
+   * Set whether the server accepts the permessage-deflate WebSocket compression (RFC 7692) offered by clients.
+   *
+   * @param perMessageWebsocketCompressionSupported true to enable the permessage-deflate compression
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setPerMessageWebsocketCompressionSupported(boolean perMessageWebsocketCompressionSupported) {
+    this.perMessageWebsocketCompressionSupported = perMessageWebsocketCompressionSupported;
+    return this;
+  }
+
+  /**
+   * @return the WebSocket compression level
+   */
+  public int getWebsocketCompressionLevel() {
+    return websocketCompressionLevel;
+  }
+
+  /**
+   * Set the deflate compression level of the WebSocket messages, from {@code 0} (no compression) to {@code 9}
+   * (best compression).
+   *
+   * @param websocketCompressionLevel the compression level
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionLevel(int websocketCompressionLevel) {
+    if (websocketCompressionLevel < 0 || websocketCompressionLevel > 9) {
+      throw new IllegalArgumentException("websocketCompressionLevel must be between 0 and 9");
+    }
+    this.websocketCompressionLevel = websocketCompressionLevel;
+    return this;
+  }
+
+  /**
+   * @return the max window bits requested to the peer compressor
+   */
+  public int getWebsocketCompressionWindowBits() {
+    return websocketCompressionWindowBits;
+  }
+
+  /**
+   * Set the max LZ77 window bits requested to the peer compressor, a smaller window reduces the memory used by the
+   * decompressor of each connection at the expense of the compression ratio. Messages sent by this side always use
+   * a {@code 15} bits window.
+   *
+   * @param websocketCompressionWindowBits the window bits, between {@code 8} and {@code 15}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionWindowBits(int websocketCompressionWindowBits) {
+    if (websocketCompressionWindowBits < 8 || websocketCompressionWindowBits > 15) {
+      throw new IllegalArgumentException("websocketCompressionWindowBits must be between 8 and 15");
+    }
+    this.websocketCompressionWindowBits = websocketCompressionWindowBits;
+    return this;
+  }
+
+  /**
+   * @return whether the peer can ask this side to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionAllowNoContext() {
+    return websocketCompressionAllowNoContext;
+  }
+
+  /**
+   * Set whether the peer can ask this side not to take over the compression context between messages. When
+   * {@code false} and the peer asks for it, the connection falls back to uncompressed messages.
+   *
+   * @param websocketCompressionAllowNoContext true to accept the no context takeover request of the peer
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionAllowNoContext(boolean websocketCompressionAllowNoContext) {
+    this.websocketCompressionAllowNoContext = websocketCompressionAllowNoContext;
+    return this;
+  }
+
+  /**
+   * @return whether the peer is asked to compress each message with a fresh context
+   */
+  public boolean isWebsocketCompressionRequestNoContext() {
+    return websocketCompressionRequestNoContext;
+  }
+
+  /**
+   * Set whether the peer is asked not to take over the compression context between messages, this frees the
+   * decompressor memory between messages at the expense of the compression ratio.
+   *
+   * @param websocketCompressionRequestNoContext true to ask the peer for no context takeover
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionRequestNoContext(boolean websocketCompressionRequestNoContext) {
+    this.websocketCompressionRequestNoContext = websocketCompressionRequestNoContext;
+    return this;
+  }
+
+  /**
+   * @return the min size of a WebSocket message to be compressed
+   */
+  public int getWebsocketCompressionThreshold() {
+    return websocketCompressionThreshold;
+  }
+
+  /**
+   * Set the min size in bytes of a WebSocket message to be compressed, smaller messages are sent uncompressed since
+   * deflating them costs more CPU than it saves bandwidth. The size of a fragmented message is the size of its first
+   * frame.
+   *
+   * @param websocketCompressionThreshold the min size in bytes, {@code 0} compresses every message
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setWebsocketCompressionThreshold(int websocketCompressionThreshold) {
+    if (websocketCompressionThreshold < 0) {
+      throw new IllegalArgumentException("websocketCompressionThreshold must be >= 0");
+    }
+    this.websocketCompressionThreshold = websocketCompressionThreshold;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -468,6 +881,19 @@ public class HttpServerOptions extends NetServerOptions {
     if (maxHeaderSize != that.maxHeaderSize) return false;
     if (initialSettings == null ? that.initialSettings != null : !initialSettings.equals(that.initialSettings)) return false;
     if (alpnVersions == null ? that.alpnVersions != null : !alpnVersions.equals(that.alpnVersions)) return false;
+    if (fileCacheSize != that.fileCacheSize) return false;
+    if (fileCacheMaxMappedFileSize != that.fileCacheMaxMappedFileSize) return false;
+    if (fileCacheValidityPeriod != that.fileCacheValidityPeriod) return false;
+    if (addDateHeader != that.addDateHeader) return false;
+    if (maxInflightRequests != that.maxInflightRequests) return false;
+    if (maxEventLoopDelay != that.maxEventLoopDelay) return false;
+    if (http2AdaptiveWindowSize != that.http2AdaptiveWindowSize) return false;
+    if (perMessageWebsocketCompressionSupported != that.perMessageWebsocketCompressionSupported) return false;
+    if (websocketCompressionLevel != that.websocketCompressionLevel) return false;
+    if (websocketCompressionWindowBits != that.websocketCompressionWindowBits) return false;
+    if (websocketCompressionAllowNoContext != that.websocketCompressionAllowNoContext) return false;
+    if (websocketCompressionRequestNoContext != that.websocketCompressionRequestNoContext) return false;
+    if (websocketCompressionThreshold != that.websocketCompressionThreshold) return false;
     return !(websocketSubProtocols != null ? !websocketSubProtocols.equals(that.websocketSubProtocols) : that.websocketSubProtocols != null);
   }
 
@@ -483,6 +909,19 @@ public class HttpServerOptions extends NetServerOptions {
     result = 31 * result + maxInitialLineLength;
     result = 31 * result + maxHeaderSize;
     result = 31 * result + (alpnVersions != null ? alpnVersions.hashCode() : 0);
+    result = 31 * result + fileCacheSize;
+    result = 31 * result + fileCacheMaxMappedFileSize;
+    result = 31 * result + fileCacheValidityPeriod;
+    result = 31 * result + (addDateHeader ? 1 : 0);
+    result = 31 * result + maxInflightRequests;
+    result = 31 * result + (int) (maxEventLoopDelay ^ (maxEventLoopDelay >>> 32));
+    result = 31 * result + (http2AdaptiveWindowSize ? 1 : 0);
+    result = 31 * result + (perMessageWebsocketCompressionSupported ? 1 : 0);
+    result = 31 * result + websocketCompressionLevel;
+    result = 31 * result + websocketCompressionWindowBits;
+    result = 31 * result + (websocketCompressionAllowNoContext ? 1 : 0);
+    result = 31 * result + (websocketCompressionRequestNoContext ? 1 : 0);
+    result = 31 * result + websocketCompressionThreshold;
     return result;
   }
 }
@@ -20,6 +20,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.GenIgnore;
@@ -194,7 +195,10 @@ public interface HttpServerRequest extends ReadStream<Buffer> {
   @Fluent
   default HttpServerRequest bodyHandler(@Nullable Handler<Buffer> bodyHandler) {
     Buffer body = Buffer.buffer();
-    handler(body::appendBuffer);
+    handler(buff -> {
+      body.appendBuffer(buff);
+      PooledBuffer.release(buff);
+    });
     endHandler(v -> bodyHandler.handle(body));
     return this;
   }
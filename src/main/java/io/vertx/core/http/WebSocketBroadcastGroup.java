@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.WebSocketBroadcastGroupImpl;
+
+/**
+ * A group of server WebSockets receiving the same messages.
+ * <p>
+ * A message is encoded once into a frame whose buffer is shared by all the sockets of the group, the sockets are
+ * then written by their own event loop with a single task per event loop. Sockets can be added and removed from any
+ * thread, closed sockets are removed at the next broadcast.
+ */
+@VertxGen
+public interface WebSocketBroadcastGroup {
+
+  /**
+   * Create a group writing the messages to the sockets whose write queue is full.
+   *
+   * @return the group
+   */
+  static WebSocketBroadcastGroup create() {
+    return create(WriteQueueFullPolicy.WRITE);
+  }
+
+  /**
+   * Create a group.
+   *
+   * @param policy  what to do with the sockets whose write queue is full
+   * @return the group
+   */
+  static WebSocketBroadcastGroup create(WriteQueueFullPolicy policy) {
+    return new WebSocketBroadcastGroupImpl(policy);
+  }
+
+  /**
+   * Add a socket to the group.
+   *
+   * @param ws  the socket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketBroadcastGroup add(ServerWebSocket ws);
+
+  /**
+   * Remove a socket from the group.
+   *
+   * @param ws  the socket
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketBroadcastGroup remove(ServerWebSocket ws);
+
+  /**
+   * @return the number of sockets of the group
+   */
+  int size();
+
+  /**
+   * Write a message as a single final binary frame to the sockets of the group.
+   *
+   * @param data  the data of the message
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketBroadcastGroup broadcast(Buffer data);
+
+  /**
+   * Write a message as a single final text frame to the sockets of the group.
+   *
+   * @param text  the text of the message
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketBroadcastGroup broadcastText(String text);
+
+  /**
+   * @return the number of frames written to the sockets of the group
+   */
+  long writtenFrames();
+
+  /**
+   * @return the number of frames not written to a socket because its write queue was full, see
+   * {@link WriteQueueFullPolicy#SKIP}
+   */
+  long skippedFrames();
+
+  /**
+   * @return the number of sockets closed because their write queue was full, see {@link WriteQueueFullPolicy#CLOSE}
+   */
+  long closedSockets();
+
+}
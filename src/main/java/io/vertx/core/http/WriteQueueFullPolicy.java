@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * What a {@link WebSocketBroadcastGroup} does with a socket whose write queue is full when a message is broadcast.
+ */
+@VertxGen
+public enum WriteQueueFullPolicy {
+
+  /**
+   * The message is written anyway and buffered until the socket can write it.
+   */
+  WRITE,
+
+  /**
+   * The message is not written to the socket, the socket receives the next messages once its queue drained.
+   */
+  SKIP,
+
+  /**
+   * The socket is closed and removed from the group.
+   */
+  CLOSE
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.http.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the requests accepted by the request handler of a verticle instance.
+ * <p/>
+ * A request is rejected when the handler already has the max number of requests in flight or when its event loop
+ * is late by more than the max delay. The delay is measured by a probe scheduled on the event loop, so an overloaded
+ * server sheds the new requests early and keeps serving the admitted ones.
+ */
+class AdmissionController {
+
+  // Interval of the event loop delay probe
+  private static final long PROBE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final EventLoop eventLoop;
+  private final int maxInflightRequests;
+  private final long maxEventLoopDelay;
+  private final AtomicInteger inflightRequests = new AtomicInteger();
+  private volatile long eventLoopDelay;
+  private ScheduledFuture<?> probe;
+  private boolean closed;
+
+  AdmissionController(EventLoop eventLoop, HttpServerOptions options) {
+    this.eventLoop = eventLoop;
+    this.maxInflightRequests = options.getMaxInflightRequests();
+    this.maxEventLoopDelay = TimeUnit.MILLISECONDS.toNanos(options.getMaxEventLoopDelay());
+    if (maxEventLoopDelay > 0) {
+      scheduleProbe();
+    }
+  }
+
+  /**
+   * @return whether a controller is needed for these options
+   */
+  static boolean isEnabled(HttpServerOptions options) {
+    return options.getMaxInflightRequests() > 0 || options.getMaxEventLoopDelay() > 0;
+  }
+
+  /**
+   * Admit a new request, an admitted request must be {@link #release() released} once done.
+   *
+   * @return whether the request is admitted
+   */
+  boolean admit() {
+    if (maxEventLoopDelay > 0 && eventLoopDelay > maxEventLoopDelay) {
+      return false;
+    }
+    if (maxInflightRequests > 0) {
+      if (inflightRequests.incrementAndGet() > maxInflightRequests) {
+        inflightRequests.decrementAndGet();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void release() {
+    if (maxInflightRequests > 0) {
+      inflightRequests.decrementAndGet();
+    }
+  }
+
+  synchronized void close() {
+    closed = true;
+    if (probe != null) {
+      probe.cancel(false);
+    }
+  }
+
+  private synchronized void scheduleProbe() {
+    if (closed) {
+      return;
+    }
+    long scheduled = System.nanoTime() + PROBE_INTERVAL;
+    probe = eventLoop.schedule(() -> {
+      eventLoopDelay = Math.max(0, System.nanoTime() - scheduled);
+      scheduleProbe();
+    }, PROBE_INTERVAL, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The satisfiable ranges of a {@code Range: bytes=...} request header applied to a file.
+ */
+class ByteRanges {
+
+  // Beyond this number of ranges the header is ignored and the whole file is sent
+  private static final int MAX_RANGES = 16;
+
+  /**
+   * Parse a {@code Range} request header.
+   *
+   * @param header the header value
+   * @param fileLength the length of the file
+   * @return the ranges or {@code null} when the header is not valid and must be ignored
+   */
+  static ByteRanges parse(String header, long fileLength) {
+    if (!header.startsWith("bytes=")) {
+      return null;
+    }
+    String[] specs = header.substring(6).split(",");
+    if (specs.length > MAX_RANGES) {
+      return null;
+    }
+    long[] offsets = new long[specs.length];
+    long[] lengths = new long[specs.length];
+    int size = 0;
+    for (String spec : specs) {
+      spec = spec.trim();
+      int idx = spec.indexOf('-');
+      if (idx == -1) {
+        return null;
+      }
+      long first;
+      long last;
+      try {
+        if (idx == 0) {
+          // A suffix range: the last bytes of the file
+          long suffixLength = Long.parseLong(spec.substring(1));
+          if (suffixLength < 0) {
+            return null;
+          }
+          first = Math.max(0, fileLength - suffixLength);
+          last = suffixLength > 0 ? fileLength - 1 : -1;
+        } else {
+          first = Long.parseLong(spec.substring(0, idx));
+          if (idx == spec.length() - 1) {
+            last = fileLength - 1;
+          } else {
+            last = Long.parseLong(spec.substring(idx + 1));
+            if (last < first) {
+              return null;
+            }
+            last = Math.min(last, fileLength - 1);
+          }
+        }
+      } catch (NumberFormatException e) {
+        return null;
+      }
+      if (first < 0) {
+        return null;
+      }
+      if (first < fileLength && first <= last) {
+        offsets[size] = first;
+        lengths[size] = last - first + 1;
+        size++;
+      }
+    }
+    return new ByteRanges(Arrays.copyOf(offsets, size), Arrays.copyOf(lengths, size), fileLength);
+  }
+
+  /**
+   * @return the {@code Content-Range} of a {@code 416} response
+   */
+  static String unsatisfiedContentRange(long fileLength) {
+    return "bytes */" + fileLength;
+  }
+
+  private final long[] offsets;
+  private final long[] lengths;
+  private final long fileLength;
+  private String boundary;
+
+  private ByteRanges(long[] offsets, long[] lengths, long fileLength) {
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.fileLength = fileLength;
+  }
+
+  /**
+   * @return the number of satisfiable ranges, when there are none a {@code 416} status must be sent
+   */
+  int size() {
+    return offsets.length;
+  }
+
+  long offset(int index) {
+    return offsets[index];
+  }
+
+  long length(int index) {
+    return lengths[index];
+  }
+
+  /**
+   * @return the {@code Content-Range} of a range
+   */
+  String contentRange(int index) {
+    return "bytes " + offsets[index] + "-" + (offsets[index] + lengths[index] - 1) + "/" + fileLength;
+  }
+
+  /**
+   * @return the {@code Content-Type} of a {@code multipart/byteranges} response
+   */
+  String multipartContentType() {
+    return "multipart/byteranges; boundary=" + boundary();
+  }
+
+  /**
+   * @return the headers preceding each range in a {@code multipart/byteranges} response
+   */
+  ByteBuf[] multipartHeaders(String contentType) {
+    ByteBuf[] headers = new ByteBuf[offsets.length];
+    for (int i = 0; i < offsets.length; i++) {
+      StringBuilder sb = new StringBuilder("\r\n--").append(boundary()).append("\r\n");
+      if (contentType != null) {
+        sb.append("Content-Type: ").append(contentType).append("\r\n");
+      }
+      sb.append("Content-Range: ").append(contentRange(i)).append("\r\n\r\n");
+      headers[i] = Unpooled.copiedBuffer(sb, CharsetUtil.US_ASCII);
+    }
+    return headers;
+  }
+
+  /**
+   * @return the delimiter ending a {@code multipart/byteranges} response
+   */
+  ByteBuf multipartEnd() {
+    return Unpooled.copiedBuffer("\r\n--" + boundary() + "--\r\n", CharsetUtil.US_ASCII);
+  }
+
+  /**
+   * @return the length of a {@code multipart/byteranges} response
+   */
+  long multipartLength(ByteBuf[] headers) {
+    long length = boundary().length() + 8;
+    for (int i = 0; i < offsets.length; i++) {
+      length += headers[i].readableBytes() + lengths[i];
+    }
+    return length;
+  }
+
+  private String boundary() {
+    if (boundary == null) {
+      boundary = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+    return boundary;
+  }
+}
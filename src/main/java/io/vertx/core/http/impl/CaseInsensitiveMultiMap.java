@@ -0,0 +1,500 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * The hash buckets and insertion ordered list shared by the case insensitive {@link MultiMap} implementations.
+ * <p/>
+ * Names and values are stored as {@code CharSequence}, unless the map is created to convert them to {@code String}
+ * when they are added.
+ */
+public abstract class CaseInsensitiveMultiMap implements MultiMap {
+
+  private static final int BUCKET_SIZE = 17;
+
+  private static int hash(CharSequence name) {
+    int h = 0;
+    for (int i = name.length() - 1; i >= 0; i --) {
+      char c = name.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        c += 32;
+      }
+      h = 31 * h + c;
+    }
+
+    if (h > 0) {
+      return h;
+    } else if (h == Integer.MIN_VALUE) {
+      return Integer.MAX_VALUE;
+    } else {
+      return -h;
+    }
+  }
+
+  private static boolean eq(CharSequence name1, CharSequence name2) {
+    if (name1 == name2) {
+      return true;
+    }
+    int nameLen = name1.length();
+    if (nameLen != name2.length()) {
+      return false;
+    }
+
+    for (int i = nameLen - 1; i >= 0; i --) {
+      char c1 = name1.charAt(i);
+      char c2 = name2.charAt(i);
+      if (c1 != c2) {
+        if (c1 >= 'A' && c1 <= 'Z') {
+          c1 += 32;
+        }
+        if (c2 >= 'A' && c2 <= 'Z') {
+          c2 += 32;
+        }
+        if (c1 != c2) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private static int index(int hash) {
+    return hash % BUCKET_SIZE;
+  }
+
+  /**
+   * @return the lower case {@code AsciiString} version of {@code name}
+   */
+  static AsciiString toLowerCase(CharSequence name) {
+    if (name instanceof AsciiString) {
+      return ((AsciiString) name).toLowerCase();
+    }
+    int len = name.length();
+    byte[] bytes = new byte[len];
+    for (int i = 0; i < len; i++) {
+      char c = name.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        c += 32;
+      }
+      bytes[i] = (byte) c;
+    }
+    return new AsciiString(bytes, false);
+  }
+
+  private final boolean toStrings;
+  private final MapEntry[] entries = new MapEntry[BUCKET_SIZE];
+  final MapEntry head = new MapEntry(-1, null, null);
+
+  /**
+   * @param toStrings whether names and values are converted to {@code String} when they are added
+   */
+  protected CaseInsensitiveMultiMap(boolean toStrings) {
+    this.toStrings = toStrings;
+    head.before = head.after = head;
+  }
+
+  /**
+   * Like {@link #get(CharSequence)} but the value is returned as it is stored.
+   */
+  public CharSequence getCharSequence(CharSequence name) {
+    Objects.requireNonNull(name, "name");
+
+    int h = hash(name);
+    int i = index(h);
+    MapEntry e = entries[i];
+    while (e != null) {
+      if (e.hash == h && eq(name, e.key)) {
+        return e.value;
+      }
+
+      e = e.next;
+    }
+    return null;
+  }
+
+  private MultiMap set0(Iterable<Map.Entry<String, String>> map) {
+    clear();
+    for (Map.Entry<String, String> entry: map) {
+      add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  @Override
+  public MultiMap setAll(MultiMap headers) {
+    return set0(headers);
+  }
+
+  @Override
+  public MultiMap setAll(Map<String, String> headers) {
+    return set0(headers.entrySet());
+  }
+
+  @Override
+  public int size() {
+    return names().size();
+  }
+
+  @Override
+  public MultiMap add(String name, String strVal) {
+    return add((CharSequence) name, strVal);
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, CharSequence value) {
+    int h = hash(name);
+    int i = index(h);
+    add0(h, i, name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap add(String name, Iterable<String> values) {
+    int h = hash(name);
+    int i = index(h);
+    for (String vstr: values) {
+      add0(h, i, name, vstr);
+    }
+    return this;
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, Iterable<CharSequence> values) {
+    int h = hash(name);
+    int i = index(h);
+    for (CharSequence seq: values) {
+      add0(h, i, name, seq);
+    }
+    return this;
+  }
+
+  @Override
+  public MultiMap addAll(MultiMap headers) {
+    if (headers instanceof CaseInsensitiveMultiMap) {
+      CaseInsensitiveMultiMap other = (CaseInsensitiveMultiMap) headers;
+      MapEntry e = other.head.after;
+      while (e != other.head) {
+        add0(e.hash, index(e.hash), e.key, e.value);
+        e = e.after;
+      }
+      return this;
+    }
+    for (Map.Entry<String, String> entry: headers.entries()) {
+      add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  @Override
+  public MultiMap addAll(Map<String, String> map) {
+    for (Map.Entry<String, String> entry: map.entrySet()) {
+      add(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  private void add0(int h, int i, CharSequence name, CharSequence value) {
+    if (toStrings) {
+      name = name.toString();
+      value = value.toString();
+    }
+
+    // Update the hash table.
+    MapEntry e = entries[i];
+    MapEntry newEntry;
+    entries[i] = newEntry = new MapEntry(h, name, value);
+    newEntry.next = e;
+
+    // Update the linked list.
+    newEntry.addBefore(head);
+  }
+
+  @Override
+  public MultiMap remove(String name) {
+    return remove((CharSequence) name);
+  }
+
+  @Override
+  public MultiMap remove(CharSequence name) {
+    Objects.requireNonNull(name, "name");
+    int h = hash(name);
+    int i = index(h);
+    remove0(h, i, name);
+    return this;
+  }
+
+  private void remove0(int h, int i, CharSequence name) {
+    MapEntry e = entries[i];
+    if (e == null) {
+      return;
+    }
+
+    for (;;) {
+      if (e.hash == h && eq(name, e.key)) {
+        e.remove();
+        MapEntry next = e.next;
+        if (next != null) {
+          entries[i] = next;
+          e = next;
+        } else {
+          entries[i] = null;
+          return;
+        }
+      } else {
+        break;
+      }
+    }
+
+    for (;;) {
+      MapEntry next = e.next;
+      if (next == null) {
+        break;
+      }
+      if (next.hash == h && eq(name, next.key)) {
+        e.next = next.next;
+        next.remove();
+      } else {
+        e = next;
+      }
+    }
+  }
+
+  @Override
+  public MultiMap set(String name, String strVal) {
+    return set((CharSequence) name, strVal);
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, CharSequence value) {
+    int h = hash(name);
+    int i = index(h);
+    remove0(h, i, name);
+    add0(h, i, name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap set(String name, Iterable<String> values) {
+    Objects.requireNonNull(values, "values");
+
+    int h = hash(name);
+    int i = index(h);
+
+    remove0(h, i, name);
+    for (String v: values) {
+      if (v == null) {
+        break;
+      }
+      add0(h, i, name, v);
+    }
+
+    return this;
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, Iterable<CharSequence> values) {
+    Objects.requireNonNull(values, "values");
+
+    int h = hash(name);
+    int i = index(h);
+
+    remove0(h, i, name);
+    for (CharSequence v: values) {
+      if (v == null) {
+        break;
+      }
+      add0(h, i, name, v);
+    }
+
+    return this;
+  }
+
+  @Override
+  public MultiMap clear() {
+    for (int i = 0; i < entries.length; i ++) {
+      entries[i] = null;
+    }
+    head.before = head.after = head;
+    return this;
+  }
+
+  @Override
+  public String get(String name) {
+    return get((CharSequence) name);
+  }
+
+  @Override
+  public String get(CharSequence name) {
+    CharSequence value = getCharSequence(name);
+    return value != null ? value.toString() : null;
+  }
+
+  @Override
+  public List<String> getAll(String name) {
+    return getAll((CharSequence) name);
+  }
+
+  @Override
+  public List<String> getAll(CharSequence name) {
+    Objects.requireNonNull(name, "name");
+
+    LinkedList<String> values = new LinkedList<>();
+
+    int h = hash(name);
+    int i = index(h);
+    MapEntry e = entries[i];
+    while (e != null) {
+      if (e.hash == h && eq(name, e.key)) {
+        values.addFirst(e.getValue());
+      }
+      e = e.next;
+    }
+    return values;
+  }
+
+  @Override
+  public void forEach(Consumer<? super Map.Entry<String, String>> action) {
+    MapEntry e = head.after;
+    while (e != head) {
+      action.accept(e);
+      e = e.after;
+    }
+  }
+
+  @Override
+  public List<Map.Entry<String, String>> entries() {
+    List<Map.Entry<String, String>> all =
+            new LinkedList<>();
+
+    MapEntry e = head.after;
+    while (e != head) {
+      all.add(e);
+      e = e.after;
+    }
+    return all;
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, String>> iterator() {
+    return entries().iterator();
+  }
+
+  @Override
+  public boolean contains(String name) {
+    return contains((CharSequence) name);
+  }
+
+  @Override
+  public boolean contains(CharSequence name) {
+    return getCharSequence(name) != null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return head == head.after;
+  }
+
+  @Override
+  public Set<String> names() {
+
+    Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    MapEntry e = head.after;
+    while (e != head) {
+      names.add(e.getKey());
+      e = e.after;
+    }
+    return names;
+  }
+
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (Map.Entry<String, String> entry: this) {
+      sb.append(entry).append('\n');
+    }
+    return sb.toString();
+  }
+
+  static final class MapEntry implements Map.Entry<String, String> {
+    final int hash;
+    final CharSequence key;
+    CharSequence value;
+    MapEntry next;
+    MapEntry before, after;
+    private AsciiString http2Name;
+
+    MapEntry(int hash, CharSequence key, CharSequence value) {
+      this.hash = hash;
+      this.key = key;
+      this.value = value;
+    }
+
+    void remove() {
+      before.after = after;
+      after.before = before;
+    }
+
+    void addBefore(MapEntry e) {
+      after  = e;
+      before = e.before;
+      before.after = this;
+      after.before = this;
+    }
+
+    AsciiString http2Name() {
+      if (http2Name == null) {
+        http2Name = toLowerCase(key);
+      }
+      return http2Name;
+    }
+
+    @Override
+    public String getKey() {
+      return key.toString();
+    }
+
+    @Override
+    public String getValue() {
+      return value.toString();
+    }
+
+    @Override
+    public String setValue(String value) {
+      Objects.requireNonNull(value, "value");
+      String oldValue = this.value.toString();
+      this.value = value;
+      return oldValue;
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + ": " + getValue();
+    }
+  }
+}
@@ -22,14 +22,19 @@ import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.websocketx.*;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
 import io.netty.util.ReferenceCountUtil;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.impl.ws.PerMessageDeflateClientHandshaker;
 import io.vertx.core.http.impl.ws.WebSocketFrameInternal;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.logging.Logger;
@@ -40,6 +45,8 @@ import io.vertx.core.net.impl.NetSocketImpl;
 import io.vertx.core.net.impl.VertxNetHandler;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.net.URI;
 import java.util.ArrayDeque;
 import java.util.HashMap;
@@ -78,6 +85,9 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
   private final Object metric;
   private final HttpClientMetrics metrics;
   private final HttpVersion version;
+  // Pool bookkeeping, the last recycle time is guarded by the pool queue
+  final long createdAt = System.currentTimeMillis();
+  long recycledAt;
 
   private WebSocketClientHandshaker handshaker;
   private HttpClientRequestImpl currentRequest;
@@ -111,6 +121,10 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
     return metrics;
   }
 
+  Http1xPool pool() {
+    return pool;
+  }
+
   synchronized HttpClientRequestImpl getCurrentRequest() {
     return currentRequest;
   }
@@ -139,10 +153,19 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
       } else {
         nettyHeaders = null;
       }
-      handshaker = WebSocketClientHandshakerFactory.newHandshaker(wsuri, version, subProtocols, false,
+      HttpClientOptions options = client.getOptions();
+      boolean compression = options.isTryUsePerMessageWebsocketCompression();
+      handshaker = WebSocketClientHandshakerFactory.newHandshaker(wsuri, version, subProtocols, compression,
                                                                   nettyHeaders, maxWebSocketFrameSize);
       ChannelPipeline p = channel.pipeline();
       p.addBefore("handler", "handshakeCompleter", new HandshakeInboundHandler(wsConnect, version != WebSocketVersion.V00));
+      if (compression) {
+        // Offers the extension with the handshake request and installs the codecs when the server accepts it
+        p.addBefore("handshakeCompleter", "websocketExtensionHandler", new WebSocketClientExtensionHandler(
+          new PerMessageDeflateClientHandshaker(options.getWebsocketCompressionLevel(),
+            options.getWebsocketCompressionWindowBits(), options.isWebsocketCompressionAllowNoContext(),
+            options.isWebsocketCompressionRequestNoContext(), options.getWebsocketCompressionThreshold())));
+      }
       handshaker.handshake(channel).addListener(future -> {
         if (!future.isSuccess() && exceptionHandler != null) {
           exceptionHandler.handle(future.cause());
@@ -327,10 +350,13 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
       } else {
         pausedChunk.appendBuffer(buff);
       }
+      PooledBuffer.release(buff);
     } else {
       if (pausedChunk != null) {
-        buff = pausedChunk.appendBuffer(buff);
+        Buffer received = buff;
+        buff = pausedChunk.appendBuffer(received);
         pausedChunk = null;
+        PooledBuffer.release(received);
       }
       currentResponse.handleChunk(buff);
     }
@@ -372,8 +398,11 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
   }
 
   synchronized void handleWsFrame(WebSocketFrameInternal frame) {
+    boolean pooled = client.getOptions().isUsePooledDirectBuffers();
     if (ws != null) {
-      ws.handleFrame(frame);
+      ws.handleFrame(frame, pooled);
+    } else if (pooled) {
+      ReferenceCountUtil.release(frame);
     }
   }
 
@@ -415,7 +444,9 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
 
   private HttpRequest createRequest(HttpVersion version, HttpMethod method, String rawMethod, String uri, MultiMap headers) {
     DefaultHttpRequest request = new DefaultHttpRequest(HttpUtils.toNettyHttpVersion(version), HttpUtils.toNettyHttpMethod(method, rawMethod), uri, false);
-    if (headers != null) {
+    if (headers instanceof VertxHttpHeaders) {
+      ((VertxHttpHeaders) headers).copyTo(request.headers());
+    } else if (headers != null) {
       for (Map.Entry<String, String> header : headers) {
         // Todo : multi valued headers
         request.headers().add(header.getKey(), header.getValue());
@@ -477,6 +508,34 @@ class ClientConnection extends ConnectionBase implements HttpClientConnection, H
     }
   }
 
+  @Override
+  public void writeFile(RandomAccessFile raf, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    ChannelFuture fut;
+    try {
+      // Zero-copy file region, or chunked file when the connection is encrypted
+      sendFile(raf, offset, length);
+      fut = writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT);
+    } catch (IOException e) {
+      try {
+        raf.close();
+      } catch (IOException ignore) {
+      }
+      resultHandler.handle(Future.failedFuture(e));
+      return;
+    }
+    if (fut != null) {
+      fut.addListener(f -> {
+        if (f.isSuccess()) {
+          resultHandler.handle(Future.succeededFuture());
+        } else {
+          resultHandler.handle(Future.failedFuture(f.cause()));
+        }
+      });
+    } else {
+      resultHandler.handle(Future.failedFuture(new VertxException("Connection was closed")));
+    }
+  }
+
   @Override
   public void writeFrame(int type, int flags, ByteBuf payload) {
     throw new IllegalStateException("Cannot write an HTTP/2 frame over an HTTP/1.x connection");
@@ -22,7 +22,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.http.impl.ws.WebSocketFrameInternal;
 import io.vertx.core.impl.ContextImpl;
@@ -37,8 +39,9 @@ class ClientHandler extends VertxHttpHandler<ClientConnection> {
   private boolean closeFrameSent;
   private ContextImpl context;
 
-  public ClientHandler(Channel ch, ContextImpl context, Map<Channel, ClientConnection> connectionMap) {
-    super(connectionMap, ch);
+  public ClientHandler(Channel ch, ContextImpl context, Map<Channel, ClientConnection> connectionMap,
+                       boolean pooledBuffers) {
+    super(connectionMap, ch, pooledBuffers);
     this.context = context;
   }
 
@@ -50,6 +53,9 @@ class ClientHandler extends VertxHttpHandler<ClientConnection> {
   @Override
   protected void doMessageReceived(ClientConnection conn, ChannelHandlerContext ctx, Object msg) {
     if (conn == null) {
+      if (pooledBuffers) {
+        ReferenceCountUtil.release(msg);
+      }
       return;
     }
     boolean valid = false;
@@ -61,8 +67,10 @@ class ClientHandler extends VertxHttpHandler<ClientConnection> {
     if (msg instanceof HttpContent) {
       HttpContent chunk = (HttpContent) msg;
       if (chunk.content().isReadable()) {
-        Buffer buff = Buffer.buffer(chunk.content().slice());
+        Buffer buff = pooledBuffers ? new PooledBufferImpl(chunk.content()) : Buffer.buffer(chunk.content().slice());
         conn.handleResponseChunk(buff);
+      } else if (pooledBuffers) {
+        chunk.release();
       }
       if (chunk instanceof LastHttpContent) {
         conn.handleResponseEnd((LastHttpContent) chunk);
@@ -22,9 +22,9 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.FixedRecvByteBufAllocator;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpClientCodec;
@@ -35,6 +35,7 @@ import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -74,6 +75,8 @@ public class ConnectionManager {
   private final boolean keepAlive;
   private final boolean pipelining;
   private final int maxWaitQueueSize;
+  private final boolean poolPerEventLoop;
+  private final long cleanerTimerID;
 
   ConnectionManager(HttpClientImpl client) {
     this.client = client;
@@ -83,6 +86,17 @@ public class ConnectionManager {
     this.keepAlive = client.getOptions().isKeepAlive();
     this.pipelining = client.getOptions().isPipelining();
     this.maxWaitQueueSize = client.getOptions().getMaxWaitQueueSize();
+    this.poolPerEventLoop = client.getOptions().isPoolPerEventLoop();
+    if (options.getMinPoolSize() > 0 || options.getMaxConnectionLifetime() > 0 || options.getPoolIdleTimeout() > 0) {
+      // A single timer per client instead of a timer per connection
+      this.cleanerTimerID = vertx.setPeriodic(options.getPoolCleanerPeriod(), id -> {
+        long now = System.currentTimeMillis();
+        wsQM.checkExpired(now);
+        requestQM.checkExpired(now);
+      });
+    } else {
+      this.cleanerTimerID = -1;
+    }
   }
 
   /**
@@ -108,6 +122,12 @@ public class ConnectionManager {
       return connQueue;
     }
 
+    void checkExpired(long now) {
+      for (ConnQueue queue: queueMap.values()) {
+        queue.checkExpired(now);
+      }
+    }
+
     public void close() {
       for (ConnQueue queue: queueMap.values()) {
         queue.closeAllConnections();
@@ -124,7 +144,7 @@ public class ConnectionManager {
 //      waiter.handleFailure(new IllegalStateException("Cannot have pipelining with no keep alive"));
 //    } else {
 //    }
-    TargetAddress address = new TargetAddress(host, port);
+    TargetAddress address = targetAddress(host, port, waiter);
     ConnQueue connQueue = wsQM.getConnQueue(address, HttpVersion.HTTP_1_1);
     connQueue.getConnection(waiter);
   }
@@ -133,13 +153,22 @@ public class ConnectionManager {
     if (!keepAlive && pipelining) {
       waiter.handleFailure(new IllegalStateException("Cannot have pipelining with no keep alive"));
     } else {
-      TargetAddress address = new TargetAddress(host, port);
+      TargetAddress address = targetAddress(host, port, waiter);
       ConnQueue connQueue = requestQM.getConnQueue(address, version);
       connQueue.getConnection(waiter);
     }
   }
 
+  private TargetAddress targetAddress(String host, int port, Waiter waiter) {
+    // Waiters without a context (embedded) share the queue without event loop
+    EventLoop eventLoop = poolPerEventLoop && waiter.context != null ? waiter.context.nettyEventLoop() : null;
+    return new TargetAddress(host, port, eventLoop);
+  }
+
   public void close() {
+    if (cleanerTimerID != -1) {
+      vertx.cancelTimer(cleanerTimerID);
+    }
     wsQM.close();
     requestQM.close();
   }
@@ -147,10 +176,13 @@ public class ConnectionManager {
   static class TargetAddress {
     final String host;
     final int port;
+    // The event loop of the connections when the pool is partitioned per event loop
+    final EventLoop eventLoop;
 
-    TargetAddress(String host, int port) {
+    TargetAddress(String host, int port, EventLoop eventLoop) {
       this.host = host;
       this.port = port;
+      this.eventLoop = eventLoop;
     }
 
     @Override
@@ -160,6 +192,7 @@ public class ConnectionManager {
       TargetAddress that = (TargetAddress) o;
       if (port != that.port) return false;
       if (host != null ? !host.equals(that.host) : that.host != null) return false;
+      if (eventLoop != that.eventLoop) return false;
       return true;
     }
 
@@ -167,6 +200,7 @@ public class ConnectionManager {
     public int hashCode() {
       int result = host != null ? host.hashCode() : 0;
       result = 31 * result + port;
+      result = 31 * result + (eventLoop != null ? eventLoop.hashCode() : 0);
       return result;
     }
   }
@@ -175,7 +209,7 @@ public class ConnectionManager {
    * The connection queue delegates to the connection pool, the pooling strategy.
    *
    * - HTTP/1.x pools several connections
-   * - HTTP/2 uses a single connection
+   * - HTTP/2 pools up to {@link HttpClientOptions#getHttp2MaxPoolSize()} connections
    *
    * After a queue is initialized with an HTTP/2 pool, this pool changed to an HTTP/1/1
    * pool if the server does not support HTTP/2 or after negotiation. In this situation
@@ -188,6 +222,8 @@ public class ConnectionManager {
     private final Queue<Waiter> waiters = new ArrayDeque<>();
     private Pool<? extends HttpClientConnection> pool;
     private int connCount;
+    private ContextImpl warmUpContext;
+    private volatile boolean closed;
 
     ConnQueue(HttpVersion version, QueueManager mgr, TargetAddress address) {
       this.address = address;
@@ -202,7 +238,7 @@ public class ConnectionManager {
     public synchronized void getConnection(Waiter waiter) {
       boolean served = pool.getConnection(waiter);
       if (!served) {
-        if (connCount == pool.maxSockets) {
+        if (connCount == pool.maxSockets || pool.waitForConnect(connCount, waiters.size())) {
           // Wait in queue
           if (maxWaitQueueSize < 0 || waiters.size() < maxWaitQueueSize) {
             waiters.add(waiter);
@@ -212,11 +248,30 @@ public class ConnectionManager {
         } else {
           // Create a new connection
           createNewConnection(waiter);
+          if (connCount == 1) {
+            warmUpContext = waiter.context;
+            warmUp();
+          }
         }
       }
     }
 
+    // Open the missing warm connections, they are released to the pool once connected
+    private void warmUp() {
+      while (!closed && connCount < pool.minSockets()) {
+        createNewConnection(new WarmUpWaiter(warmUpContext));
+      }
+    }
+
+    synchronized void checkExpired(long now) {
+      pool.closeExpired(now);
+      if (connCount > 0) {
+        warmUp();
+      }
+    }
+
     void closeAllConnections() {
+      closed = true;
       pool.closeAllConnections();
     }
 
@@ -261,7 +316,7 @@ public class ConnectionManager {
 
       Bootstrap bootstrap = new Bootstrap();
       bootstrap.group(context.nettyEventLoop());
-      bootstrap.channel(NioSocketChannel.class);
+      bootstrap.channel(vertx.transport().channelType());
       applyConnectionOptions(options, bootstrap);
 
       //
@@ -469,6 +524,7 @@ public class ConnectionManager {
       bootstrap.option(ChannelOption.ALLOCATOR, PartialPooledByteBufAllocator.INSTANCE);
       bootstrap.option(ChannelOption.SO_KEEPALIVE, options.isTcpKeepAlive());
       bootstrap.option(ChannelOption.SO_REUSEADDR, options.isReuseAddress());
+      vertx.transport().configure(options, bootstrap);
     }
 
     void applyH2ConnectionOptions(ChannelPipeline pipeline) {
@@ -482,10 +538,42 @@ public class ConnectionManager {
       if (options.isTryUseCompression()) {
         pipeline.addLast("inflater", new HttpContentDecompressor(true));
       }
+      if (options.isSsl()) {
+        // only add ChunkedWriteHandler when SSL is enabled otherwise it is not needed as FileRegion is used.
+        pipeline.addLast("chunkedWriter", new ChunkedWriteHandler());       // For file upload support
+      }
       if (options.getIdleTimeout() > 0) {
         pipeline.addLast("idle", new IdleStateHandler(0, 0, options.getIdleTimeout()));
       }
-      pipeline.addLast("handler", new ClientHandler(pipeline.channel(), context, (Map)mgr.connectionMap));
+      pipeline.addLast("handler", new ClientHandler(pipeline.channel(), context, (Map)mgr.connectionMap,
+        options.isUsePooledDirectBuffers()));
+    }
+  }
+
+  private class WarmUpWaiter extends Waiter {
+
+    WarmUpWaiter(ContextImpl context) {
+      super(null, context);
+    }
+
+    @Override
+    void handleFailure(Throwable failure) {
+      log.debug("Failed to open a warm connection", failure);
+    }
+
+    @Override
+    void handleConnection(HttpClientConnection conn) {
+    }
+
+    @Override
+    void handleStream(HttpClientStream stream) {
+      ClientConnection conn = (ClientConnection) stream;
+      conn.pool().release(conn);
+    }
+
+    @Override
+    boolean isCancelled() {
+      return false;
     }
   }
 
@@ -510,6 +598,33 @@ public class ConnectionManager {
 
     abstract HttpClientStream createStream(C conn) throws Exception;
 
+    /**
+     * Decide whether a waiter the pool could not serve waits for a connection being established instead of opening a
+     * new connection.
+     *
+     * @param connCount the number of connections, established or not
+     * @param queued the number of waiters already waiting
+     * @return true when the waiter should be queued
+     */
+    boolean waitForConnect(int connCount, int queued) {
+      return false;
+    }
+
+    /**
+     * @return the number of connections the queue keeps open once a connection has been created
+     */
+    int minSockets() {
+      return 0;
+    }
+
+    /**
+     * Close the pooled connections that reached their lifetime or that have been idle for too long.
+     *
+     * @param now the current time in ms
+     */
+    void closeExpired(long now) {
+    }
+
     /**
      * Handle the connection if the waiter is not cancelled, otherwise recycle the connection.
      *
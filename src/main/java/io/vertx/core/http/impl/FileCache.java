@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.util.ReferenceCounted;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.impl.VertxInternal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The files served by {@link HttpServerResponseImpl#sendFile}, shared by the event loops of a server.
+ * <p/>
+ * Small files are memory mapped, larger files keep their channel open and are written with a file region. The
+ * file attributes and the derived headers are computed once and trusted during the validity period.
+ */
+class FileCache {
+
+  private final VertxInternal vertx;
+  private final int maxSize;
+  private final int maxMappedFileSize;
+  private final long validityPeriod;
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  // Files found missing and when, so the lookup of absent precompressed variants does not stat the file each time
+  private final ConcurrentMap<String, Long> missing = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  FileCache(VertxInternal vertx, HttpServerOptions options) {
+    this.vertx = vertx;
+    this.maxSize = options.getFileCacheSize();
+    this.maxMappedFileSize = options.getFileCacheMaxMappedFileSize();
+    this.validityPeriod = TimeUnit.MILLISECONDS.toNanos(options.getFileCacheValidityPeriod());
+  }
+
+  /**
+   * Lookup a file, the returned entry is retained and must be released by the caller.
+   * <p/>
+   * The file is checked and opened without holding any lock, when two threads open the same file concurrently the
+   * entry cached first is used and the other one is released.
+   *
+   * @return the entry or {@code null} when the file does not exist
+   */
+  Entry get(String filename) throws IOException {
+    long now = System.nanoTime();
+    while (true) {
+      Entry entry = entries.get(filename);
+      if (entry != null) {
+        if (now - entry.checkedAt >= validityPeriod) {
+          File file = entry.file;
+          if (file.length() == entry.length && file.lastModified() == entry.lastModified && file.exists()) {
+            entry.checkedAt = now;
+          } else {
+            if (entries.remove(filename, entry)) {
+              entry.release();
+            }
+            continue;
+          }
+        }
+        if (entry.tryRetain()) {
+          entry.accessedAt = now;
+          return entry;
+        }
+        // Evicted meanwhile
+        continue;
+      }
+      Long missingAt = missing.get(filename);
+      if (missingAt != null) {
+        if (now - missingAt < validityPeriod) {
+          return null;
+        }
+        missing.remove(filename, missingAt);
+      }
+      File file = vertx.resolveFile(filename);
+      if (!file.exists()) {
+        if (!closed) {
+          missing.put(filename, now);
+          if (missing.size() > maxSize) {
+            Iterator<String> it = missing.keySet().iterator();
+            if (it.hasNext()) {
+              it.next();
+              it.remove();
+            }
+          }
+        }
+        return null;
+      }
+      entry = new Entry(file, maxMappedFileSize, now);
+      if (closed) {
+        // Not cached, the caller owns the only reference
+        return entry;
+      }
+      // The reference of the caller, taken before the entry can be evicted by another thread
+      entry.retain();
+      if (entries.putIfAbsent(filename, entry) != null) {
+        // Another thread cached the file first, close this mapping and use the cached one
+        entry.release(2);
+        continue;
+      }
+      if (closed && entries.remove(filename, entry)) {
+        // Closed meanwhile
+        entry.release();
+      }
+      evict();
+      return entry;
+    }
+  }
+
+  /**
+   * Evict the least recently used entries in excess, this only happens when a new file is cached.
+   */
+  private void evict() {
+    while (entries.size() > maxSize) {
+      String eldestName = null;
+      Entry eldest = null;
+      for (Map.Entry<String, Entry> e : entries.entrySet()) {
+        Entry entry = e.getValue();
+        if (eldest == null || entry.accessedAt - eldest.accessedAt < 0) {
+          eldestName = e.getKey();
+          eldest = entry;
+        }
+      }
+      if (eldest != null && entries.remove(eldestName, eldest)) {
+        eldest.release();
+      }
+    }
+  }
+
+  void close() {
+    closed = true;
+    for (Map.Entry<String, Entry> e : entries.entrySet()) {
+      if (entries.remove(e.getKey(), e.getValue())) {
+        e.getValue().release();
+      }
+    }
+    missing.clear();
+  }
+
+  /**
+   * A cached file, the channel of an unmapped file is closed when the last reference is released.
+   */
+  static class Entry extends AbstractReferenceCounted {
+
+    final File file;
+    final long length;
+    final long lastModified;
+    final String etag;
+    final String lastModifiedHeader;
+    private final ByteBuffer mapped;
+    private final FileChannel channel;
+    private volatile long checkedAt;
+    private volatile long accessedAt;
+
+    private Entry(File file, int maxMappedFileSize, long checkedAt) throws IOException {
+      RandomAccessFile raf = new RandomAccessFile(file, "r");
+      FileChannel channel = raf.getChannel();
+      this.file = file;
+      this.length = channel.size();
+      this.lastModified = file.lastModified();
+      this.etag = HttpUtils.fileEtag(length, lastModified);
+      this.lastModifiedHeader = HttpUtils.formatDate(lastModified);
+      this.checkedAt = checkedAt;
+      this.accessedAt = checkedAt;
+      if (length <= maxMappedFileSize) {
+        try {
+          // The mapping remains valid once the channel is closed
+          mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } finally {
+          raf.close();
+        }
+        this.channel = null;
+      } else {
+        this.mapped = null;
+        this.channel = channel;
+      }
+    }
+
+    /**
+     * @return whether the file is memory mapped
+     */
+    boolean isMapped() {
+      return mapped != null;
+    }
+
+    /**
+     * @return a buffer for a range of a memory mapped file
+     */
+    ByteBuf slice(long offset, long length) {
+      ByteBuffer slice = mapped.duplicate();
+      slice.position((int) offset);
+      slice.limit((int) (offset + length));
+      return Unpooled.wrappedBuffer(slice);
+    }
+
+    /**
+     * @return a region for a range of an unmapped file, the region owns the reference of the caller
+     */
+    FileRegion region(long offset, long length) {
+      return new DefaultFileRegion(channel, offset, length) {
+        @Override
+        protected void deallocate() {
+          // The channel is shared, give back the entry reference instead of closing it
+          Entry.this.release();
+        }
+      };
+    }
+
+    /**
+     * Retain the entry unless it has been released by an eviction.
+     *
+     * @return whether the entry was retained
+     */
+    boolean tryRetain() {
+      try {
+        retain();
+        return true;
+      } catch (IllegalReferenceCountException e) {
+        return false;
+      }
+    }
+
+    @Override
+    public Entry retain() {
+      super.retain();
+      return this;
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+      return this;
+    }
+
+    @Override
+    protected void deallocate() {
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+  }
+}
@@ -32,7 +32,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelConfig;
 import io.netty.channel.EventLoop;
-import io.netty.channel.nio.NioEventLoop;
+import io.netty.channel.SingleThreadEventLoop;
 import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.stream.ChunkedStream;
 import io.netty.handler.stream.ChunkedWriteHandler;
@@ -42,6 +42,7 @@ import io.vertx.core.Handler;
 
 import java.io.RandomAccessFile;
 import java.net.SocketAddress;
+import java.util.List;
 
 /**
  * A channel used for writing a file in an HTTP2 stream.
@@ -65,6 +66,26 @@ class FileStreamChannel extends AbstractChannel {
       VertxHttp2Stream stream,
       long offset,
       long length) {
+    this(resultHandler, stream, offset, length, null);
+  }
+
+  /**
+   * Create a channel writing a list of {@code ByteBuf} and {@code ChunkedInput}, e.g the parts of a multipart
+   * response, fired as a user event instead of a file.
+   */
+  FileStreamChannel(
+      Handler<AsyncResult<Long>> resultHandler,
+      VertxHttp2Stream stream,
+      List<Object> contents) {
+    this(resultHandler, stream, 0, 0, contents);
+  }
+
+  private FileStreamChannel(
+      Handler<AsyncResult<Long>> resultHandler,
+      VertxHttp2Stream stream,
+      long offset,
+      long length,
+      List<Object> contents) {
     super(null, Id.INSTANCE);
 
     pipeline().addLast(new ChannelInitializer<Channel>() {
@@ -75,8 +96,19 @@ class FileStreamChannel extends AbstractChannel {
         pipeline.addLast(new ChannelInboundHandlerAdapter() {
           @Override
           public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            ChannelFuture fut;
             if (evt instanceof RandomAccessFile) {
-              ChannelFuture fut = ctx.writeAndFlush(new ChunkedFile((RandomAccessFile) evt, offset, length, 8192 /* default chunk size */ ));
+              fut = ctx.writeAndFlush(new ChunkedFile((RandomAccessFile) evt, offset, length, 8192 /* default chunk size */ ));
+            } else if (evt == contents) {
+              // The chunked write handler writes the contents in order
+              for (int i = 0; i < contents.size() - 1; i++) {
+                ctx.write(contents.get(i));
+              }
+              fut = ctx.writeAndFlush(contents.get(contents.size() - 1));
+            } else {
+              fut = null;
+            }
+            if (fut != null) {
               fut.addListener(f -> {
                 if (resultHandler != null) {
                   if (f.isSuccess()) {
@@ -112,7 +144,7 @@ class FileStreamChannel extends AbstractChannel {
 
   @Override
   protected boolean isCompatible(EventLoop loop) {
-    return loop instanceof NioEventLoop;
+    return loop instanceof SingleThreadEventLoop;
   }
 
   @Override
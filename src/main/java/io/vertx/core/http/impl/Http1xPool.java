@@ -23,7 +23,10 @@ import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.ContextImpl;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -39,6 +42,9 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
   private final boolean keepAlive;
   private final boolean ssl;
   private final HttpVersion version;
+  private final int minPoolSize;
+  private final long maxLifetime;
+  private final long idleTimeout;
   private final Set<ClientConnection> allConnections = new HashSet<>();
   private final Queue<ClientConnection> availableConnections = new ArrayDeque<>();
 
@@ -50,6 +56,14 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
     this.keepAlive = options.isKeepAlive();
     this.ssl = options.isSsl();
     this.connectionMap = connectionMap;
+    this.minPoolSize = Math.min(options.getMinPoolSize(), maxSockets);
+    this.maxLifetime = options.getMaxConnectionLifetime() * 1000L;
+    this.idleTimeout = options.getPoolIdleTimeout() * 1000L;
+  }
+
+  @Override
+  int minSockets() {
+    return minPoolSize;
   }
 
   @Override
@@ -60,14 +74,23 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
 
   public boolean getConnection(Waiter waiter) {
     ClientConnection conn = availableConnections.poll();
+    if (maxLifetime > 0) {
+      long now = System.currentTimeMillis();
+      while (conn != null && isExpired(conn, now)) {
+        // Rotate the connection, the waiter may get a new one once it is closed
+        conn.close();
+        conn = availableConnections.poll();
+      }
+    }
     if (conn != null && conn.isValid()) {
       ContextImpl context = waiter.context;
       if (context == null) {
         context = conn.getContext();
-      } else if (context != conn.getContext()) {
+      } else if (context != conn.getContext() && context.nettyEventLoop() != conn.getContext().nettyEventLoop()) {
         ConnectionManager.log.warn("Reusing a connection with a different context: an HttpClient is probably shared between different Verticles");
       }
-      context.runOnContext(v -> deliverStream(conn, waiter));
+      ClientConnection available = conn;
+      context.runOnContext(v -> deliverStream(available, waiter));
       return true;
     } else {
       return false;
@@ -102,7 +125,19 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
     }
   }
 
+  // Called when a warm connection is created
+  void release(ClientConnection conn) {
+    synchronized (queue) {
+      doRecycle(conn);
+    }
+  }
+
   private void doRecycle(ClientConnection conn) {
+    if (maxLifetime > 0 && conn.getOutstandingRequestCount() == 0 && isExpired(conn, System.currentTimeMillis())) {
+      // The close handler gives the next waiter a new connection
+      conn.close();
+      return;
+    }
     Waiter waiter = queue.getNextWaiter();
     if (waiter != null) {
       Context context = waiter.context;
@@ -112,6 +147,7 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
       context.runOnContext(v -> deliverStream(conn, waiter));
     } else if (conn.getOutstandingRequestCount() == 0) {
       // Return to set of available from here to not return it several times
+      conn.recycledAt = System.currentTimeMillis();
       availableConnections.add(conn);
     }
   }
@@ -144,6 +180,30 @@ public class Http1xPool extends ConnectionManager.Pool<ClientConnection> {
     }
   }
 
+  private boolean isExpired(ClientConnection conn, long now) {
+    return maxLifetime > 0 && now - conn.createdAt >= maxLifetime;
+  }
+
+  @Override
+  void closeExpired(long now) {
+    List<ClientConnection> expired = new ArrayList<>();
+    synchronized (queue) {
+      int remaining = allConnections.size();
+      for (Iterator<ClientConnection> it = availableConnections.iterator(); it.hasNext();) {
+        ClientConnection conn = it.next();
+        if (isExpired(conn, now) || (idleTimeout > 0 && remaining > minPoolSize && now - conn.recycledAt >= idleTimeout)) {
+          it.remove();
+          expired.add(conn);
+          remaining--;
+        }
+      }
+    }
+    // Close outside sync block to avoid deadlock
+    for (ClientConnection conn : expired) {
+      conn.close();
+    }
+  }
+
   void closeAllConnections() {
     Set<ClientConnection> copy;
     synchronized (this) {
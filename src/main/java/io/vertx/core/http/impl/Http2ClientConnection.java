@@ -28,7 +28,10 @@ import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Stream;
+import io.netty.handler.stream.ChunkedFile;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.VertxException;
@@ -42,7 +45,10 @@ import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.spi.metrics.HttpClientMetrics;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.List;
 
 import static io.vertx.core.http.HttpHeaders.DEFLATE_GZIP;
 
@@ -145,6 +151,8 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
     private HttpClientResponseImpl response;
     private boolean requestEnded;
     private boolean responseEnded;
+    // Resumes the file being uploaded when the stream becomes writable
+    private Handler<Void> fileDrainHandler;
 
     public Http2ClientStream(Http2ClientConnection conn, Http2Stream stream) throws Http2Exception {
       this(conn, null, stream);
@@ -219,7 +227,11 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
 
     @Override
     void handleInterestedOpsChanged() {
-      if (request instanceof HttpClientRequestImpl && !isNotWritable()) {
+      if (fileDrainHandler != null) {
+        if (!isNotWritable()) {
+          fileDrainHandler.handle(null);
+        }
+      } else if (request instanceof HttpClientRequestImpl && !isNotWritable()) {
         if (!isNotWritable()) {
           ((HttpClientRequestImpl) request).handleDrained();
         }
@@ -298,10 +310,8 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
           h.authority(hostHeader);
         }
       }
-      if (headers != null && headers.size() > 0) {
-        for (Map.Entry<String, String> header : headers) {
-          h.add(Http2HeadersAdaptor.toLowerCase(header.getKey()), header.getValue());
-        }
+      if (headers != null && !headers.isEmpty()) {
+        HttpUtils.addHttp2Headers(headers, h);
       }
       if (conn.http2Pool.client.getOptions().isTryUseCompression() && h.get(HttpHeaderNames.ACCEPT_ENCODING) == null) {
         h.set(HttpHeaderNames.ACCEPT_ENCODING, DEFLATE_GZIP);
@@ -335,6 +345,40 @@ class Http2ClientConnection extends Http2ConnectionBase implements HttpClientCon
       super.writeFrame(type, flags, payload);
     }
 
+    @Override
+    public void writeFile(RandomAccessFile raf, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+      List<Object> contents;
+      try {
+        contents = Collections.singletonList(new ChunkedFile(raf, offset, length, 8192));
+      } catch (IOException e) {
+        try {
+          raf.close();
+        } catch (IOException ignore) {
+        }
+        resultHandler.handle(Future.failedFuture(e));
+        return;
+      }
+      // The file is read as the stream flow control window allows it
+      FileStreamChannel fileChannel = new FileStreamChannel(ar -> {
+        synchronized (conn) {
+          fileDrainHandler = null;
+          if (ar.succeeded()) {
+            writeBuffer(null, true);
+          } else {
+            writeReset(0x08 /* CANCEL */);
+          }
+        }
+        if (ar.succeeded()) {
+          resultHandler.handle(Future.succeededFuture());
+        } else {
+          resultHandler.handle(Future.failedFuture(ar.cause()));
+        }
+      }, this, contents);
+      fileDrainHandler = fileChannel.drainHandler;
+      handlerContext.channel().eventLoop().register(fileChannel);
+      fileChannel.pipeline().fireUserEventTriggered(contents);
+    }
+
     @Override
     public Context getContext() {
       return context;
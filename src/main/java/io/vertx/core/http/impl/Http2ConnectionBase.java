@@ -92,6 +92,7 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
   private Handler<Void> shutdownHandler;
   private Handler<Throwable> exceptionHandler;
   private Handler<Buffer> pingHandler;
+  private Http2WindowTuner windowTuner;
   private boolean closed;
 
   public Http2ConnectionBase(Channel channel, ContextImpl context, VertxHttp2ConnectionHandler handler, TCPMetrics metrics) {
@@ -109,6 +110,13 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
     return vertx;
   }
 
+  /**
+   * Grow the receive windows of the connection from its bandwidth-delay product.
+   */
+  synchronized void adaptiveWindowSize() {
+    windowTuner = new Http2WindowTuner(this);
+  }
+
   NetSocket toNetSocket(VertxHttp2Stream stream) {
     VertxHttp2NetSocket<Http2ConnectionBase> rempl = new VertxHttp2NetSocket<>(this, stream.stream);
     streams.put(stream.stream.id(), rempl);
@@ -236,6 +244,9 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public synchronized void onPingAckRead(ChannelHandlerContext ctx, ByteBuf data) {
+    if (windowTuner != null && windowTuner.onPingAckRead(data)) {
+      return;
+    }
     Handler<AsyncResult<Buffer>> handler = pongHandlers.poll();
     if (handler != null) {
       context.executeFromIO(() -> {
@@ -282,6 +293,9 @@ abstract class Http2ConnectionBase extends ConnectionBase implements Http2FrameL
 
   @Override
   public synchronized int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) {
+    if (windowTuner != null) {
+      windowTuner.onDataRead(data.readableBytes() + padding);
+    }
     int[] consumed = { padding };
     VertxHttp2Stream req = streams.get(streamId);
     if (req != null) {
@@ -23,6 +23,8 @@ import io.netty.handler.timeout.IdleStateHandler;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.impl.ContextImpl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -30,12 +32,12 @@ import java.util.Map;
  */
 class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
 
-  private Http2ClientConnection connection;
+  private final List<Http2ClientConnection> connections = new ArrayList<>();
   private final Map<Channel, ? super Http2ClientConnection> connectionMap;
   final HttpClientImpl client;
 
   public Http2Pool(ConnectionManager.ConnQueue queue, HttpClientImpl client, Map<Channel, ? super Http2ClientConnection> connectionMap) {
-    super(queue, 1);
+    super(queue, client.getOptions().getHttp2MaxPoolSize());
     this.client = client;
     this.connectionMap = connectionMap;
   }
@@ -47,13 +49,13 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
 
   // Under sync when called
   public boolean getConnection(Waiter waiter) {
-    Http2ClientConnection conn = this.connection;
-    if (conn != null && canReserveStream(conn)) {
+    Http2ClientConnection conn = leastLoaded();
+    if (conn != null) {
       conn.streamCount++;
       ContextImpl context = waiter.context;
       if (context == null) {
         context = conn.getContext();
-      } else if (context != conn.getContext()) {
+      } else if (context != conn.getContext() && context.nettyEventLoop() != conn.getContext().nettyEventLoop()) {
         ConnectionManager.log.warn("Reusing a connection with a different context: an HttpClient is probably shared between different Verticles");
       }
       context.runOnContext(v -> {
@@ -65,6 +67,40 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
     }
   }
 
+  // Under sync when called
+  @Override
+  boolean waitForConnect(int connCount, int queued) {
+    int connecting = connCount - connections.size();
+    if (connecting <= 0) {
+      return false;
+    }
+    if (connections.isEmpty()) {
+      // Until the server settings are known, the first connection is expected to carry all the streams
+      return true;
+    }
+    // The connections being established are expected to carry as many streams as the open ones, including the
+    // stream of the waiter that opened each of them
+    int maxConcurrentStreams = 0;
+    for (Http2ClientConnection conn : connections) {
+      maxConcurrentStreams = Math.max(maxConcurrentStreams, conn.handler.connection().local().maxActiveStreams());
+    }
+    return connecting + queued < (long) connecting * maxConcurrentStreams;
+  }
+
+  /**
+   * @return the connection with the fewest active streams that can reserve one more stream or {@code null} when all
+   * the connections reached the max concurrent streams of the server
+   */
+  private Http2ClientConnection leastLoaded() {
+    Http2ClientConnection leastLoaded = null;
+    for (Http2ClientConnection conn : connections) {
+      if (canReserveStream(conn) && (leastLoaded == null || conn.streamCount < leastLoaded.streamCount)) {
+        leastLoaded = conn;
+      }
+    }
+    return leastLoaded;
+  }
+
   void createConn(ContextImpl context, Channel ch, Waiter waiter, boolean upgrade) throws Http2Exception {
     ChannelPipeline p = ch.pipeline();
     synchronized (queue) {
@@ -72,6 +108,7 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
           .connectionMap(connectionMap)
           .server(false)
           .useCompression(client.getOptions().isTryUseCompression())
+          .adaptiveWindowSize(client.getOptions().isHttp2AdaptiveWindowSize())
           .initialSettings(client.getOptions().getInitialSettings())
           .connectionFactory(connHandler -> new Http2ClientConnection(Http2Pool.this, context, ch, connHandler, client.metrics))
           .build();
@@ -79,7 +116,7 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
         handler.onHttpClientUpgrade();
       }
       Http2ClientConnection conn = handler.connection;
-      connection = conn;
+      connections.add(conn);
       int idleTimeout = client.getOptions().getIdleTimeout();
       if (idleTimeout > 0) {
         p.addLast("idle", new IdleStateHandler(0, 0, idleTimeout));
@@ -109,8 +146,7 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
 
   void discard(Http2ClientConnection conn) {
     synchronized (queue) {
-      if (connection == conn) {
-        connection = null;
+      if (connections.remove(conn)) {
         queue.connectionClosed();
       }
     }
@@ -131,12 +167,12 @@ class Http2Pool extends ConnectionManager.Pool<Http2ClientConnection> {
 
   @Override
   void closeAllConnections() {
-    Http2ClientConnection conn;
+    List<Http2ClientConnection> copy;
     synchronized (queue) {
-      conn = this.connection;
+      copy = new ArrayList<>(connections);
     }
     // Close outside sync block to avoid deadlock
-    if (conn != null) {
+    for (Http2ClientConnection conn : copy) {
       conn.close();
     }
   }
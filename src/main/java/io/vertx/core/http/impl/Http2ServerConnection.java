@@ -51,6 +51,7 @@ public class Http2ServerConnection extends Http2ConnectionBase {
   private final HttpServerOptions options;
   private final String serverOrigin;
   private final Handler<HttpServerRequest> requestHandler;
+  private final AdmissionController admission;
   private final HttpServerMetrics metrics;
   private final Object metric;
 
@@ -65,12 +66,14 @@ public class Http2ServerConnection extends Http2ConnectionBase {
       VertxHttp2ConnectionHandler connHandler,
       HttpServerOptions options,
       Handler<HttpServerRequest> requestHandler,
+      AdmissionController admission,
       HttpServerMetrics metrics) {
     super(channel, context, connHandler, metrics);
 
     this.options = options;
     this.serverOrigin = serverOrigin;
     this.requestHandler = requestHandler;
+    this.admission = admission;
     this.metric = metrics.connected(remoteAddress(), remoteName());
     this.metrics = metrics;
   }
@@ -116,6 +119,10 @@ public class Http2ServerConnection extends Http2ConnectionBase {
         handler.writeReset(streamId, Http2Error.PROTOCOL_ERROR.code());
         return;
       }
+      if (admission != null && !admission.admit()) {
+        handler.writeReset(streamId, Http2Error.REFUSED_STREAM.code());
+        return;
+      }
       String contentEncoding = options.isCompressionSupported() ? HttpUtils.determineContentEncoding(headers) : null;
       Http2ServerRequestImpl req = new Http2ServerRequestImpl(this, handler.connection().stream(streamId), metrics, serverOrigin, headers, contentEncoding);
       stream = req;
@@ -137,6 +144,14 @@ public class Http2ServerConnection extends Http2ConnectionBase {
     }
   }
 
+  @Override
+  synchronized void onStreamClosed(Http2Stream stream) {
+    if (admission != null && streams.get(stream.id()) instanceof Http2ServerRequestImpl) {
+      admission.release();
+    }
+    super.onStreamClosed(stream);
+  }
+
   @Override
   public synchronized void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) {
     Long v = settings.maxConcurrentStreams();
@@ -159,7 +174,7 @@ public class Http2ServerConnection extends Http2ConnectionBase {
       headers_.authority(host);
     }
     if (headers != null) {
-      headers.forEach(header -> headers_.add(header.getKey(), header.getValue()));
+      HttpUtils.addHttp2Headers(headers, headers_);
     }
     handler.writePushPromise(streamId, headers_, new Handler<AsyncResult<Integer>>() {
       @Override
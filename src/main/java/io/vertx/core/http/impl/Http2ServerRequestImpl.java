@@ -69,6 +69,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   private String uri;
   private String path;
   private String query;
+  private UriIndex uriIndex;
   private MultiMap attributes;
 
   private Handler<Buffer> dataHandler;
@@ -78,6 +79,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
 
   private Handler<HttpServerFileUpload> uploadHandler;
   private HttpPostRequestDecoder postRequestDecoder;
+  private MultipartParser multipartParser;
 
   private Handler<Throwable> exceptionHandler;
   private Handler<HttpFrame> unknownFrameHandler;
@@ -97,7 +99,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
       host = serverOrigin.substring(idx + 3);
     }
     Object metric = metrics.isEnabled() ? metrics.requestBegin(conn.metric(), this) : null;
-    this.response = new Http2ServerResponseImpl(conn, this, metric, false, contentEncoding, host);
+    this.response = new Http2ServerResponseImpl(conn, this, metric, false, contentEncoding, host, headers);
   }
 
   @Override
@@ -139,6 +141,8 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
       } catch (Exception e) {
         handleException(e);
       }
+    } else if (multipartParser != null) {
+      multipartParser.handle(data);
     }
     if (dataHandler != null) {
       dataHandler.handle(data);
@@ -171,6 +175,15 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
         postRequestDecoder.destroy();
       }
     }
+    if (multipartParser != null) {
+      // A paused upload holds the end of the body, the end handler is called once it is parsed
+      multipartParser.end(v -> handleEndOfBody());
+    } else {
+      handleEndOfBody();
+    }
+  }
+
+  private void handleEndOfBody() {
     if (endHandler != null) {
       endHandler.handle(null);
     }
@@ -284,9 +297,9 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   public String path() {
     synchronized (conn) {
       if (path == null) {
-        CharSequence path = headers.path();
-        if (path != null) {
-          this.path = HttpUtils.parsePath(path.toString());
+        UriIndex index = uriIndex();
+        if (index != null) {
+          this.path = index.path();
         }
       }
       return path;
@@ -297,15 +310,25 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   public String query() {
     synchronized (conn) {
       if (query == null) {
-        CharSequence path = headers.path();
-        if (path != null) {
-          this.query = HttpUtils.parseQuery(path.toString());
+        UriIndex index = uriIndex();
+        if (index != null) {
+          this.query = index.query();
         }
       }
       return query;
     }
   }
 
+  private UriIndex uriIndex() {
+    if (uriIndex == null) {
+      String uri = uri();
+      if (uri != null) {
+        uriIndex = new UriIndex(uri);
+      }
+    }
+    return uriIndex;
+  }
+
   @Override
   public String scheme() {
     CharSequence scheme = headers.scheme();
@@ -355,7 +378,14 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
 
   @Override
   public String getParam(String paramName) {
-    return params().get(paramName);
+    synchronized (conn) {
+      UriIndex index = uriIndex();
+      if (params != null || index == null) {
+        return params().get(paramName);
+      }
+      // Only decode the looked up parameter
+      return index.param(paramName);
+    }
   }
 
   @Override
@@ -407,28 +437,36 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
     synchronized (conn) {
       checkEnded();
       if (expect) {
-        if (postRequestDecoder == null) {
+        if (postRequestDecoder == null && multipartParser == null) {
           CharSequence contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType != null) {
             io.netty.handler.codec.http.HttpMethod method = io.netty.handler.codec.http.HttpMethod.valueOf(headers.method().toString());
             String lowerCaseContentType = contentType.toString().toLowerCase();
             boolean isURLEncoded = lowerCaseContentType.startsWith(HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED.toString());
-            if ((lowerCaseContentType.startsWith(HttpHeaderValues.MULTIPART_FORM_DATA.toString()) || isURLEncoded) &&
+            boolean isMultipart = lowerCaseContentType.startsWith(HttpHeaderValues.MULTIPART_FORM_DATA.toString());
+            if ((isMultipart || isURLEncoded) &&
                 (method == io.netty.handler.codec.http.HttpMethod.POST ||
                     method == io.netty.handler.codec.http.HttpMethod.PUT ||
                     method == io.netty.handler.codec.http.HttpMethod.PATCH ||
                     method == io.netty.handler.codec.http.HttpMethod.DELETE)) {
-              HttpRequest req = new DefaultHttpRequest(
-                  io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
-                  method,
-                  headers.path().toString());
-              req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-              postRequestDecoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(vertx, this, () -> uploadHandler), req);
+              String boundary = isMultipart ? MultipartParser.boundary(contentType.toString()) : null;
+              if (boundary != null) {
+                multipartParser = new MultipartParser(vertx, this, conn, boundary, () -> uploadHandler,
+                  formAttributes(), this::handleException);
+              } else {
+                HttpRequest req = new DefaultHttpRequest(
+                    io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
+                    method,
+                    headers.path().toString());
+                req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
+                postRequestDecoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(vertx, this, () -> uploadHandler), req);
+              }
             }
           }
         }
       } else {
         postRequestDecoder = null;
+        multipartParser = null;
       }
     }
     return this;
@@ -437,7 +475,7 @@ public class Http2ServerRequestImpl extends VertxHttp2Stream<Http2ServerConnecti
   @Override
   public boolean isExpectMultipart() {
     synchronized (conn) {
-      return postRequestDecoder != null;
+      return postRequestDecoder != null || multipartParser != null;
     }
   }
 
@@ -20,9 +20,12 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.stream.ChunkedFile;
+import io.netty.util.ReferenceCountUtil;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
@@ -30,9 +33,11 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.StreamResetException;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -41,6 +46,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -55,10 +62,9 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   private final boolean push;
   private final Object metric;
   private final String host;
-  private Http2Headers headers = new DefaultHttp2Headers();
-  private Http2HeadersAdaptor headersMap;
-  private Http2Headers trailers;
-  private Http2HeadersAdaptor trailedMap;
+  private final Http2Headers requestHeaders;
+  private final VertxHttpHeaders headers = new VertxHttpHeaders();
+  private VertxHttpHeaders trailers;
   private boolean chunked;
   private boolean headWritten;
   private boolean ended;
@@ -71,7 +77,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   private Handler<Void> closeHandler;
   private long bytesWritten;
 
-  public Http2ServerResponseImpl(Http2ServerConnection conn, VertxHttp2Stream stream, Object metric, boolean push, String contentEncoding, String host) {
+  public Http2ServerResponseImpl(Http2ServerConnection conn, VertxHttp2Stream stream, Object metric, boolean push, String contentEncoding, String host, Http2Headers requestHeaders) {
 
     this.metric = metric;
     this.stream = stream;
@@ -79,6 +85,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     this.conn = conn;
     this.push = push;
     this.host = host;
+    this.requestHeaders = requestHeaders;
 
     if (contentEncoding != null) {
       putHeader(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
@@ -97,6 +104,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
     this.conn = conn;
     this.push = push;
     this.host = null;
+    this.requestHeaders = null;
 
     if (contentEncoding != null) {
       putHeader(HttpHeaderNames.CONTENT_ENCODING, contentEncoding);
@@ -197,10 +205,7 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   @Override
   public MultiMap headers() {
     synchronized (conn) {
-      if (headersMap == null) {
-        headersMap = new Http2HeadersAdaptor(headers);
-      }
-      return headersMap;
+      return headers;
     }
   }
 
@@ -243,10 +248,10 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
   @Override
   public MultiMap trailers() {
     synchronized (conn) {
-      if (trailedMap == null) {
-        trailedMap = new Http2HeadersAdaptor(trailers = new DefaultHttp2Headers());
+      if (trailers == null) {
+        trailers = new VertxHttpHeaders();
       }
-      return trailedMap;
+      return trailers;
     }
   }
 
@@ -307,8 +312,12 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
 
   @Override
   public HttpServerResponse write(Buffer chunk) {
-    ByteBuf buf = chunk.getByteBuf();
-    return write(buf);
+    synchronized (conn) {
+      // Checked before retaining a pooled buffer that would not be released otherwise
+      checkEnded();
+      ByteBuf buf = PooledBufferImpl.byteBufForWrite(chunk);
+      return write(buf);
+    }
   }
 
   @Override
@@ -338,7 +347,10 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
 
   @Override
   public void end(Buffer chunk) {
-    end(chunk.getByteBuf());
+    synchronized (conn) {
+      checkEnded();
+      end(PooledBufferImpl.byteBufForWrite(chunk));
+    }
   }
 
   @Override
@@ -367,8 +379,9 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         headersEndHandler.handle(null);
       }
       headWritten = true;
-      headers.status(Integer.toString(statusCode));
-      stream.writeHeaders(headers, end);
+      Http2Headers h = new DefaultHttp2Headers().status(HttpResponseStatus.valueOf(statusCode).codeAsText());
+      headers.copyTo(h);
+      stream.writeHeaders(h, end);
       if (end) {
         ctx.flush();
       }
@@ -395,7 +408,9 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         bytesWritten += len;
       }
       if (end && trailers != null) {
-        stream.writeHeaders(trailers, true);
+        Http2Headers h = new DefaultHttp2Headers();
+        trailers.copyTo(h);
+        stream.writeHeaders(h, true);
       }
       if (end && bodyEndHandler != null) {
         bodyEndHandler.handle(null);
@@ -476,6 +491,8 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
 
   @Override
   public HttpServerResponse sendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    Arguments.require(offset >= 0, "offset must be >= 0");
+    Arguments.require(length >= 0, "length must be >= 0");
     synchronized (conn) {
       checkEnded();
 
@@ -503,15 +520,98 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
         return this;
       }
 
-      long contentLength = Math.min(length, file.length() - offset);
-      if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
-        putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+      ByteRanges ranges = null;
+      if (offset == 0 && length == Long.MAX_VALUE && statusCode == 200) {
+        long lastModified = file.lastModified();
+        String etag = HttpUtils.fileEtag(file.length(), lastModified);
+        if (headers.get(HttpHeaderNames.ETAG) == null) {
+          putHeader(HttpHeaderNames.ETAG, etag);
+        }
+        if (headers.get(HttpHeaderNames.LAST_MODIFIED) == null) {
+          putHeader(HttpHeaderNames.LAST_MODIFIED, HttpUtils.formatDate(lastModified));
+        }
+        if (headers.get(HttpHeaderNames.ACCEPT_RANGES) == null) {
+          putHeader(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+        }
+        if (requestHeaders != null) {
+          if (HttpUtils.isNotModified(header(requestHeaders, HttpHeaderNames.IF_NONE_MATCH),
+            header(requestHeaders, HttpHeaderNames.IF_MODIFIED_SINCE), etag, lastModified)) {
+            statusCode = 304;
+          } else {
+            String range = header(requestHeaders, HttpHeaderNames.RANGE);
+            String ifRange = header(requestHeaders, HttpHeaderNames.IF_RANGE);
+            if (range != null && HttpMethod.GET.name().contentEquals(requestHeaders.method()) &&
+              (ifRange == null || HttpUtils.matchesIfRange(ifRange, etag, lastModified))) {
+              ranges = ByteRanges.parse(range, file.length());
+              if (ranges != null && ranges.size() == 0) {
+                statusCode = 416;
+                putHeader(HttpHeaderNames.CONTENT_RANGE, ByteRanges.unsatisfiedContentRange(file.length()));
+              }
+            }
+          }
+        }
+        if (statusCode != 200) {
+          // Only the head is sent
+          closeQuietly(raf);
+          end();
+          if (resultHandler != null) {
+            resultCtx.runOnContext(v -> resultHandler.handle(Future.succeededFuture()));
+          }
+          return this;
+        }
       }
-      if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null) {
-        String contentType = MimeMapping.getMimeTypeForFilename(filename);
-        if (contentType != null) {
+
+      String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE) != null ? headers.get(HttpHeaderNames.CONTENT_TYPE).toString() : MimeMapping.getMimeTypeForFilename(filename);
+      List<Object> contents = new ArrayList<>();
+      long contentLength;
+      try {
+        if (ranges == null) {
+          offset = Math.min(offset, file.length());
+          contentLength = Math.min(length, file.length() - offset);
+          contents.add(new ChunkedFile(raf, offset, contentLength, 8192));
+          if (headers.get(HttpHeaderNames.CONTENT_LENGTH) == null) {
+            putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+          }
+        } else if (ranges.size() == 1) {
+          contentLength = ranges.length(0);
+          contents.add(new ChunkedFile(raf, ranges.offset(0), contentLength, 8192));
+          statusCode = 206;
+          putHeader(HttpHeaderNames.CONTENT_RANGE, ranges.contentRange(0));
+          putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+        } else {
+          ByteBuf[] multipartHeaders = ranges.multipartHeaders(contentType);
+          contentLength = ranges.multipartLength(multipartHeaders);
+          // The ranges are read from their own file
+          for (int i = 0; i < ranges.size(); i++) {
+            contents.add(multipartHeaders[i]);
+            contents.add(new ChunkedFile(i == 0 ? raf : new RandomAccessFile(file, "r"), ranges.offset(i), ranges.length(i), 8192));
+          }
+          contents.add(ranges.multipartEnd());
+          statusCode = 206;
+          contentType = ranges.multipartContentType();
           putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
+          putHeader(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+        }
+      } catch (IOException e) {
+        closeQuietly(raf);
+        for (Object content : contents) {
+          ReferenceCountUtil.release(content);
+          if (content instanceof ChunkedFile) {
+            try {
+              ((ChunkedFile) content).close();
+            } catch (Exception ignore) {
+            }
+          }
+        }
+        if (resultHandler != null) {
+          resultCtx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
+        } else {
+          log.error("Failed to send file", e);
         }
+        return this;
+      }
+      if (headers.get(HttpHeaderNames.CONTENT_TYPE) == null && contentType != null) {
+        putHeader(HttpHeaderNames.CONTENT_TYPE, contentType);
       }
       checkSendHeaders(false);
 
@@ -525,14 +625,26 @@ public class Http2ServerResponseImpl implements HttpServerResponse {
             resultHandler.handle(Future.succeededFuture());
           });
         }
-      }, stream, offset, contentLength);
+      }, stream, contents);
       drainHandler(fileChannel.drainHandler);
       ctx.channel().eventLoop().register(fileChannel);
-      fileChannel.pipeline().fireUserEventTriggered(raf);
+      fileChannel.pipeline().fireUserEventTriggered(contents);
     }
     return this;
   }
 
+  private static String header(Http2Headers headers, CharSequence name) {
+    CharSequence value = headers.get(name);
+    return value != null ? value.toString() : null;
+  }
+
+  private static void closeQuietly(RandomAccessFile raf) {
+    try {
+      raf.close();
+    } catch (IOException ignore) {
+    }
+  }
+
   @Override
   public void close() {
     conn.close();
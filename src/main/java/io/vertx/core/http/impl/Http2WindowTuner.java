@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Settings;
+
+/**
+ * Grows the receive windows of an HTTP/2 connection from its bandwidth-delay product.
+ * <p/>
+ * A {@code PING} is sent with the first data frame received and the data received until it is acknowledged is a
+ * sample of the bandwidth-delay product. When a sample fills most of the window while the bandwidth still increases,
+ * the connection window and the initial stream window are grown to twice the sample.
+ * <p/>
+ * The data is consumed in the flow controller when it is delivered to a stream, so a paused stream does not reopen
+ * its window and the connection window bounds the data buffered for the connection.
+ * <p/>
+ * This must be used from the event loop of the connection.
+ */
+class Http2WindowTuner {
+
+  // Payload of the pings sent by the tuner, the acks of the other pings are handled by the connection
+  private static final long PING_PAYLOAD = 0x7665727478424450L;
+
+  static final int MAX_WINDOW_SIZE = 16 * 1024 * 1024;
+
+  private final Http2ConnectionBase conn;
+  private int connectionWindowSize = Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+  private int streamWindowSize;
+  private boolean pinging;
+  private long pingTime;
+  private long received;
+  private double maxBandwidth;
+
+  Http2WindowTuner(Http2ConnectionBase conn) {
+    this.conn = conn;
+    this.streamWindowSize = conn.handler.decoder().flowController().initialWindowSize();
+  }
+
+  /**
+   * Account {@code bytes} of flow controlled data received on the connection.
+   */
+  void onDataRead(int bytes) {
+    if (connectionWindowSize >= MAX_WINDOW_SIZE && streamWindowSize >= MAX_WINDOW_SIZE) {
+      return;
+    }
+    if (!pinging) {
+      pinging = true;
+      pingTime = System.nanoTime();
+      received = 0;
+      conn.handler.writePing(Unpooled.buffer(8).writeLong(PING_PAYLOAD));
+    }
+    received += bytes;
+  }
+
+  /**
+   * @return true when the ack is for a ping sent by the tuner
+   */
+  boolean onPingAckRead(ByteBuf data) {
+    if (!pinging || data.readableBytes() != 8 || data.getLong(data.readerIndex()) != PING_PAYLOAD) {
+      return false;
+    }
+    pinging = false;
+    long rtt = Math.max(1, System.nanoTime() - pingTime);
+    double bandwidth = (double) received / rtt;
+    // The initial settings are applied once acknowledged
+    streamWindowSize = Math.max(streamWindowSize, conn.handler.decoder().flowController().initialWindowSize());
+    int windowSize = Math.min(connectionWindowSize, streamWindowSize);
+    if (bandwidth > maxBandwidth) {
+      maxBandwidth = bandwidth;
+      if (received * 3 / 2 > windowSize) {
+        int target = (int) Math.min(MAX_WINDOW_SIZE, received * 2);
+        if (target > connectionWindowSize) {
+          conn.handler.incrementConnectionWindowSize(target - connectionWindowSize);
+          connectionWindowSize = target;
+        }
+        if (target > streamWindowSize) {
+          streamWindowSize = target;
+          conn.updateSettings(new Http2Settings().initialWindowSize(target), null);
+          // The peer may use the new window as soon as it reads the settings, before they are acknowledged
+          conn.handler.initialStreamWindowSize(target);
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -20,19 +20,26 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpFrame;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.NetSocket;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.List;
 import java.util.Objects;
 
@@ -70,7 +77,8 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
   private boolean connecting;
   private boolean writeHead;
   private long written;
-  private CaseInsensitiveHeaders headers;
+  private VertxHttpHeaders headers;
+  private PendingFile pendingFile;
 
   HttpClientRequestImpl(HttpClientImpl client, io.vertx.core.http.HttpMethod method, String host, int port,
                         boolean ssl, String relativeURI, VertxInternal vertx) {
@@ -178,7 +186,7 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
   public MultiMap headers() {
     synchronized (getLock()) {
       if (headers == null) {
-        headers = new CaseInsensitiveHeaders();
+        headers = new VertxHttpHeaders();
       }
       return headers;
     }
@@ -205,9 +213,12 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
   @Override
   public HttpClientRequestImpl write(Buffer chunk) {
     synchronized (getLock()) {
+      Objects.requireNonNull(chunk, "no null chunk accepted");
       checkComplete();
       checkResponseHandler();
-      ByteBuf buf = chunk.getByteBuf();
+      // Checked before retaining a pooled buffer that would not be released otherwise
+      checkContentLength();
+      ByteBuf buf = PooledBufferImpl.byteBufForWrite(chunk);
       write(buf, false);
       return this;
     }
@@ -322,7 +333,7 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
       if (!chunked && !contentLengthSet()) {
         headers().set(CONTENT_LENGTH, String.valueOf(chunk.length()));
       }
-      write(chunk.getByteBuf(), true);
+      write(PooledBufferImpl.byteBufForWrite(chunk), true);
     }
   }
 
@@ -335,6 +346,71 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
     }
   }
 
+  @Override
+  public HttpClientRequest sendFile(String filename, long offset, long length) {
+    return sendFile(filename, offset, length, null);
+  }
+
+  @Override
+  public HttpClientRequest sendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    Arguments.require(offset >= 0, "offset must be >= 0");
+    Arguments.require(length >= 0, "length must be >= 0");
+    synchronized (getLock()) {
+      checkComplete();
+      checkResponseHandler();
+      if (headWritten || written > 0) {
+        throw new IllegalStateException("Cannot send a file after data has been written on request");
+      }
+      ContextImpl resultCtx = vertx.getOrCreateContext();
+      File file = vertx.resolveFile(filename);
+      RandomAccessFile raf;
+      try {
+        raf = new RandomAccessFile(file, "r");
+      } catch (IOException e) {
+        sendFileFailed(resultCtx, e, resultHandler);
+        return this;
+      }
+      long fileLength = file.length();
+      long fileOffset = Math.min(offset, fileLength);
+      long contentLength = Math.min(length, fileLength - fileOffset);
+      // The body is sent with its length, a file region cannot be framed as chunks
+      chunked = false;
+      headers().set(CONTENT_LENGTH, String.valueOf(contentLength));
+      completed = true;
+      written = contentLength;
+      Handler<AsyncResult<Void>> handler = ar -> {
+        if (ar.failed()) {
+          sendFileFailed(resultCtx, ar.cause(), resultHandler);
+        } else if (resultHandler != null) {
+          resultCtx.runOnContext(v -> resultHandler.handle(ar));
+        }
+      };
+      PendingFile pending = new PendingFile(raf, fileOffset, contentLength, handler);
+      if (stream == null) {
+        pendingFile = pending;
+        connect(null);
+      } else {
+        writeFile(pending);
+      }
+      return this;
+    }
+  }
+
+  private void writeFile(PendingFile file) {
+    writeHead();
+    stream.writeFile(file.raf, file.offset, file.length, file.handler);
+    stream.connection().reportBytesWritten(written);
+    stream.endRequest();
+  }
+
+  private void sendFileFailed(ContextImpl resultCtx, Throwable cause, Handler<AsyncResult<Void>> resultHandler) {
+    if (resultHandler != null) {
+      resultCtx.runOnContext(v -> resultHandler.handle(Future.failedFuture(cause)));
+    } else {
+      resultCtx.runOnContext(v -> handleException(cause));
+    }
+  }
+
   @Override
   public HttpClientRequest putHeader(CharSequence name, CharSequence value) {
     synchronized (getLock()) {
@@ -583,6 +659,8 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
 
         @Override
         void handleFailure(Throwable failure) {
+          closePendingFile();
+          releasePendingChunks();
           handleException(failure);
         }
 
@@ -631,7 +709,11 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
         this.stream.doSetWriteQueueMaxSize(pendingMaxSize);
       }
 
-      if (pendingChunks != null) {
+      if (pendingFile != null) {
+        PendingFile file = pendingFile;
+        pendingFile = null;
+        writeFile(file);
+      } else if (pendingChunks != null) {
         ByteBuf pending = pendingChunks;
         pendingChunks = null;
 
@@ -710,9 +792,8 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
     if (end) {
       completed = true;
     }
-    if (!end && !chunked && !contentLengthSet()) {
-      throw new IllegalStateException("You must set the Content-Length header to be the total size of the message "
-              + "body BEFORE sending any data if you are not using HTTP chunked encoding.");
+    if (!end) {
+      checkContentLength();
     }
 
     if (buff != null) {
@@ -758,12 +839,54 @@ public class HttpClientRequestImpl extends HttpClientRequestBase implements Http
     }
   }
 
+  private void checkContentLength() {
+    if (!chunked && !contentLengthSet()) {
+      throw new IllegalStateException("You must set the Content-Length header to be the total size of the message "
+              + "body BEFORE sending any data if you are not using HTTP chunked encoding.");
+    }
+  }
+
   private void checkResponseHandler() {
     if (respHandler == null) {
       throw new IllegalStateException("You must set an handler for the HttpClientResponse before connecting");
     }
   }
 
+  private synchronized void closePendingFile() {
+    if (pendingFile != null) {
+      try {
+        pendingFile.raf.close();
+      } catch (IOException ignore) {
+      }
+      pendingFile = null;
+    }
+  }
+
+  private synchronized void releasePendingChunks() {
+    if (pendingChunks != null) {
+      pendingChunks.release();
+      pendingChunks = null;
+    }
+  }
+
+  /**
+   * A file sent with {@link #sendFile} before the request is connected.
+   */
+  private static class PendingFile {
+
+    final RandomAccessFile raf;
+    final long offset;
+    final long length;
+    final Handler<AsyncResult<Void>> handler;
+
+    PendingFile(RandomAccessFile raf, long offset, long length, Handler<AsyncResult<Void>> handler) {
+      this.raf = raf;
+      this.offset = offset;
+      this.length = length;
+      this.handler = handler;
+    }
+  }
+
   Handler<HttpClientRequest> pushHandler() {
     synchronized (getLock()) {
       return pushHandler;
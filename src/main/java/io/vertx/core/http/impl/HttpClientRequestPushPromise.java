@@ -19,6 +19,7 @@ package io.vertx.core.http.impl;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Stream;
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
@@ -154,6 +155,16 @@ class HttpClientRequestPushPromise extends HttpClientRequestBase {
     throw new IllegalStateException();
   }
 
+  @Override
+  public HttpClientRequest sendFile(String filename, long offset, long length) {
+    throw new IllegalStateException();
+  }
+
+  @Override
+  public HttpClientRequest sendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    throw new IllegalStateException();
+  }
+
   @Override
   public HttpClientRequest drainHandler(Handler<Void> handler) {
     throw new IllegalStateException();
@@ -20,6 +20,7 @@ import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpFrame;
 import io.vertx.core.http.HttpHeaders;
@@ -234,6 +235,8 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
         } catch (Throwable t) {
           handleException(t);
         }
+      } else {
+        PooledBuffer.release(data);
       }
     }
   }
@@ -286,6 +289,7 @@ public class HttpClientResponseImpl implements HttpClientResponse  {
     @Override
     public void handle(Buffer event) {
       body().appendBuffer(event);
+      PooledBuffer.release(event);
     }
 
     private Buffer body() {
@@ -17,12 +17,16 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.NetSocket;
 
+import java.io.RandomAccessFile;
+
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -46,6 +50,13 @@ interface HttpClientStream {
   void writeBuffer(ByteBuf buf, boolean end);
   void writeFrame(int type, int flags, ByteBuf payload);
 
+  /**
+   * Write a range of the file as the end of the body, the file is closed once written.
+   *
+   * @param resultHandler called on the connection event loop once the file has been written
+   */
+  void writeFile(RandomAccessFile raf, long offset, long length, Handler<AsyncResult<Void>> resultHandler);
+
   void doSetWriteQueueMaxSize(int size);
   boolean isNotWritable();
   void checkDrained();
@@ -49,6 +49,7 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
   private Handler<Void> endHandler;
   private AsyncFile file;
   private Handler<Throwable> exceptionHandler;
+  private Handler<Void> resumeHandler;
 
   private long size;
   private boolean paused;
@@ -116,8 +117,12 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
   }
 
   @Override
-  public synchronized HttpServerFileUpload resume() {
-    if (paused) {
+  public HttpServerFileUpload resume() {
+    Handler<Void> handler;
+    synchronized (this) {
+      if (!paused) {
+        return this;
+      }
       req.resume();
       paused = false;
       if (pauseBuff != null) {
@@ -127,6 +132,11 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
       if (complete) {
         handleComplete();
       }
+      handler = resumeHandler;
+    }
+    // Called outside of the lock, the handler delivers the data held while paused
+    if (handler != null) {
+      handler.handle(null);
     }
     return this;
   }
@@ -159,6 +169,17 @@ class HttpServerFileUploadImpl implements HttpServerFileUpload {
     return this;
   }
 
+  synchronized boolean isPaused() {
+    return paused;
+  }
+
+  /**
+   * Set a handler called when the upload is resumed, used by a parser that stops parsing while it is paused.
+   */
+  synchronized void resumeHandler(Handler<Void> handler) {
+    this.resumeHandler = handler;
+  }
+
   @Override
   public synchronized boolean isSizeAvailable() {
     return !lazyCalculateSize;
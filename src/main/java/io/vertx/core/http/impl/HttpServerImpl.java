@@ -23,7 +23,6 @@ import io.netty.channel.*;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.*;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
@@ -31,6 +30,7 @@ import io.netty.handler.codec.http.websocketx.WebSocketHandshakeException;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty.handler.codec.http.websocketx.WebSocketVersion;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
 import io.netty.handler.codec.http2.*;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
@@ -38,11 +38,13 @@ import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import io.vertx.core.*;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.impl.cgbystrom.FlashPolicyHandler;
+import io.vertx.core.http.impl.ws.PerMessageDeflateServerHandshaker;
 import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.http.impl.ws.WebSocketFrameInternal;
 import io.vertx.core.Closeable;
@@ -81,7 +83,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private static final boolean DISABLE_WEBSOCKETS = Boolean.getBoolean(DISABLE_WEBSOCKETS_PROP_NAME);
   private static final String DISABLE_H2C_PROP_NAME = "vertx.disableH2c";
   private final boolean DISABLE_HC2 = Boolean.getBoolean(DISABLE_H2C_PROP_NAME);
-  private static final String[] H2C_HANDLERS_TO_REMOVE = { "idle", "flashpolicy", "deflater", "chunkwriter" };
+  private static final String[] H2C_HANDLERS_TO_REMOVE = { "idle", "flashpolicy", "deflater", "chunkwriter", "websocketExtensionHandler" };
   private static final byte[] HTTP_2_PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes();
 
   private final HttpServerOptions options;
@@ -97,11 +99,14 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   private final HttpServerRequestStreamImpl requestStream = new HttpServerRequestStreamImpl();
   private Handler<HttpConnection> connectionHandler;
   private final String subProtocols;
+  private final FileCache fileCache;
+  private AdmissionController admissionController;
   private String serverOrigin;
 
   private ChannelGroup serverChannelGroup;
   private volatile boolean listening;
   private AsyncResolveBindConnectHelper bindFuture;
+  private EventLoopAcceptors acceptors;
   private ServerID id;
   private HttpServerImpl actualServer;
   private volatile int actualPort;
@@ -120,6 +125,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
     this.sslHelper = new SSLHelper(options, KeyStoreHelper.create(vertx, options.getKeyCertOptions()), KeyStoreHelper.create(vertx, options.getTrustOptions()));
     this.subProtocols = options.getWebsocketSubProtocols();
+    this.fileCache = options.getFileCacheSize() > 0 ? new FileCache(vertx, options) : null;
   }
 
   @Override
@@ -207,11 +213,15 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       this.actualPort = port; // Will be updated on bind for a wildcard port
       id = new ServerID(port, host);
       HttpServerImpl shared = vertx.sharedHttpServers().get(id);
+      AsyncResolveBindConnectHelper listenFuture;
       if (shared == null) {
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
-        bootstrap.channel(NioServerSocketChannel.class);
+        boolean acceptorPerEventLoop = options.isAcceptorPerEventLoop() && vertx.transport().isNative();
+        if (!acceptorPerEventLoop) {
+          bootstrap.group(vertx.getAcceptorEventLoopGroup(), availableWorkers);
+        }
+        bootstrap.channel(vertx.transport().serverChannelType());
         applyConnectionOptions(bootstrap);
         sslHelper.validate(vertx);
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -250,7 +260,13 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
 
         addHandlers(this, listenContext);
         try {
-          bindFuture = AsyncResolveBindConnectHelper.doBind(vertx, port, host, bootstrap);
+          if (acceptorPerEventLoop) {
+            // Each event loop binds its own socket when it gets handlers
+            acceptors = new EventLoopAcceptors(vertx, bootstrap, port, host, serverChannelGroup);
+            bindFuture = acceptors.addEventLoop(listenContext.nettyEventLoop());
+          } else {
+            bindFuture = AsyncResolveBindConnectHelper.doBind(vertx, port, host, bootstrap);
+          }
           bindFuture.addListener(res -> {
             if (res.failed()) {
               vertx.sharedHttpServers().remove(id);
@@ -274,14 +290,20 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         }
         vertx.sharedHttpServers().put(id, this);
         actualServer = this;
+        listenFuture = bindFuture;
       } else {
         // Server already exists with that host/port - we will use that
         actualServer = shared;
         this.actualPort = shared.actualPort;
         addHandlers(actualServer, listenContext);
         metrics = vertx.metricsSPI().createMetrics(this, new SocketAddressImpl(port, host), options);
+        if (actualServer.acceptors != null) {
+          listenFuture = actualServer.acceptors.addEventLoop(listenContext.nettyEventLoop());
+        } else {
+          listenFuture = actualServer.bindFuture;
+        }
       }
-      actualServer.bindFuture.addListener(future -> {
+      listenFuture.addListener(future -> {
         if (listenHandler != null) {
           final AsyncResult<HttpServer> res;
           if (future.succeeded()) {
@@ -306,8 +328,9 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         .connectionMap(connectionMap2)
         .server(true)
         .useCompression(options.isCompressionSupported())
+        .adaptiveWindowSize(options.isHttp2AdaptiveWindowSize())
         .initialSettings(options.getInitialSettings())
-        .connectionFactory(connHandler -> new Http2ServerConnection(ch, holder.context, serverOrigin, connHandler, options, holder.handler.requesthHandler, metrics))
+        .connectionFactory(connHandler -> new Http2ServerConnection(ch, holder.context, serverOrigin, connHandler, options, holder.handler.requesthHandler, holder.handler.admission, metrics))
         .build();
   }
 
@@ -317,7 +340,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     }
     pipeline.addLast("httpDecoder", new HttpRequestDecoder(options.getMaxInitialLineLength()
         , options.getMaxHeaderSize(), options.getMaxChunkSize(), false));
-    pipeline.addLast("httpEncoder", new VertxHttpResponseEncoder());
+    pipeline.addLast("httpEncoder", new VertxHttpResponseEncoder(options.isAddDateHeader()));
     if (options.isCompressionSupported()) {
       pipeline.addLast("deflater", new HttpChunkContentCompressor());
     }
@@ -328,6 +351,13 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     if (options.getIdleTimeout() > 0) {
       pipeline.addLast("idle", new IdleStateHandler(0, 0, options.getIdleTimeout()));
     }
+    if (options.isPerMessageWebsocketCompressionSupported()) {
+      // Negotiates the extension during the WebSocket handshake then removes itself
+      pipeline.addLast("websocketExtensionHandler", new WebSocketServerExtensionHandler(
+        new PerMessageDeflateServerHandshaker(options.getWebsocketCompressionLevel(),
+          options.getWebsocketCompressionWindowBits(), options.isWebsocketCompressionAllowNoContext(),
+          options.isWebsocketCompressionRequestNoContext(), options.getWebsocketCompressionThreshold())));
+    }
     pipeline.addLast("handler", new ServerHandler(pipeline.channel()));
   }
 
@@ -392,11 +422,17 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       if (actualServer != null) {
 
         if (requestStream.handler() != null) {
-          actualServer.reqHandlerManager.removeHandler(new HttpHandler(requestStream.handler(), connectionHandler), listenContext);
+          actualServer.reqHandlerManager.removeHandler(new HttpHandler(requestStream.handler(), connectionHandler, null), listenContext);
+          if (admissionController != null) {
+            admissionController.close();
+          }
         }
         if (wsStream.handler() != null) {
           actualServer.wsHandlerManager.removeHandler(wsStream.handler(), listenContext);
         }
+        if (actualServer.acceptors != null) {
+          actualServer.acceptors.removeEventLoop(listenContext.nettyEventLoop());
+        }
 
         if (actualServer.reqHandlerManager.hasHandlers() || actualServer.wsHandlerManager.hasHandlers()) {
           // The actual server still has handlers so we don't actually close it
@@ -458,12 +494,16 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     if (options.getAcceptBacklog() != -1) {
       bootstrap.option(ChannelOption.SO_BACKLOG, options.getAcceptBacklog());
     }
+    vertx.transport().configure(options, bootstrap);
   }
 
 
   private void addHandlers(HttpServerImpl server, ContextImpl context) {
     if (requestStream.handler() != null) {
-      server.reqHandlerManager.addHandler(new HttpHandler(requestStream.handler(), connectionHandler), context);
+      if (AdmissionController.isEnabled(options)) {
+        admissionController = new AdmissionController(context.nettyEventLoop(), options);
+      }
+      server.reqHandlerManager.addHandler(new HttpHandler(requestStream.handler(), connectionHandler, admissionController), context);
     }
     if (wsStream.handler() != null) {
       server.wsHandlerManager.addHandler(wsStream.handler(), context);
@@ -493,6 +533,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
       metrics.close();
     }
 
+    if (fileCache != null) {
+      fileCache.close();
+    }
+
     ChannelGroupFuture fut = serverChannelGroup.close();
     fut.addListener(cgf -> executeCloseDone(closeContext, done, fut.cause()));
   }
@@ -513,7 +557,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     private boolean closeFrameSent;
 
     public ServerHandler(Channel ch) {
-      super(HttpServerImpl.this.connectionMap, ch);
+      super(HttpServerImpl.this.connectionMap, ch, options.isUsePooledDirectBuffers());
     }
 
     FullHttpRequest wsRequest;
@@ -570,6 +614,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
             case TEXT:
               if (conn != null) {
                 conn.handleMessage(msg);
+              } else if (pooledBuffers) {
+                ReferenceCountUtil.release(wsFrame);
               }
               break;
             case PING:
@@ -596,12 +642,17 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
             if (msg instanceof LastHttpContent) {
               FullHttpRequest req = wsRequest;
               wsRequest = null;
+              if (pooledBuffers) {
+                ReferenceCountUtil.release(msg);
+              }
               handshake(req, ch, ctx);
               return;
             }
           }
           if (conn != null) {
             conn.handleMessage(msg);
+          } else if (pooledBuffers) {
+            ReferenceCountUtil.release(msg);
           }
         } else {
           throw new IllegalStateException("Invalid message " + msg);
@@ -690,6 +741,7 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
         // Put in the connection map before executeFromIO
         ServerConnection conn = new ServerConnection(vertx, HttpServerImpl.this, ch, reqHandler.context, serverOrigin, shake, metrics);
         conn.requestHandler(reqHandler.handler.requesthHandler);
+        conn.admission(reqHandler.handler.admission);
         this.conn = conn;
         connectionMap.put(ch, conn);
         reqHandler.context.executeFromIO(() -> {
@@ -775,8 +827,8 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     try {
 
       WebSocketServerHandshakerFactory factory =
-        new WebSocketServerHandshakerFactory(getWebSocketLocation(ch.pipeline(), request), subProtocols, false,
-          options.getMaxWebsocketFrameSize());
+        new WebSocketServerHandshakerFactory(getWebSocketLocation(ch.pipeline(), request), subProtocols,
+          options.isPerMessageWebsocketCompressionSupported(), options.getMaxWebsocketFrameSize());
       WebSocketServerHandshaker shake = factory.newHandshaker(request);
 
       if (shake == null) {
@@ -836,6 +888,10 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
     return options;
   }
 
+  FileCache fileCache() {
+    return fileCache;
+  }
+
   Map<Channel, ServerConnection> connectionMap() {
     return connectionMap;
   }
@@ -924,9 +980,12 @@ public class HttpServerImpl implements HttpServer, Closeable, MetricsProvider {
   class HttpHandler {
     final Handler<HttpServerRequest> requesthHandler;
     final Handler<HttpConnection> connectionHandler;
-    public HttpHandler(Handler<HttpServerRequest> requesthHandler, Handler<HttpConnection> connectionHandler) {
+    // Not part of the identity of the handler
+    final AdmissionController admission;
+    public HttpHandler(Handler<HttpServerRequest> requesthHandler, Handler<HttpConnection> connectionHandler, AdmissionController admission) {
       this.requesthHandler = requesthHandler;
       this.connectionHandler = connectionHandler;
+      this.admission = admission;
     }
 
     @Override
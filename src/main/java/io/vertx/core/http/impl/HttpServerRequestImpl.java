@@ -31,6 +31,7 @@ import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpServerFileUpload;
@@ -73,6 +74,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   private String uri;
   private String path;
   private String query;
+  private UriIndex uriIndex;
 
   private Handler<Buffer> dataHandler;
   private Handler<Throwable> exceptionHandler;
@@ -87,6 +89,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   private Handler<Void> endHandler;
   private MultiMap attributes;
   private HttpPostRequestDecoder decoder;
+  private MultipartParser multipartParser;
   private boolean ended;
 
 
@@ -146,7 +149,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   @Override
   public String path() {
     if (path == null) {
-      path = HttpUtils.parsePath(uri());
+      path = uriIndex().path();
     }
     return path;
   }
@@ -154,11 +157,18 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   @Override
   public String query() {
     if (query == null) {
-      query = HttpUtils.parseQuery(uri());
+      query = uriIndex().query();
     }
     return query;
   }
 
+  private UriIndex uriIndex() {
+    if (uriIndex == null) {
+      uriIndex = new UriIndex(uri());
+    }
+    return uriIndex;
+  }
+
   @Override
   public @Nullable String host() {
     return getHeader(HttpHeaderNames.HOST);
@@ -179,12 +189,12 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   @Override
   public String getHeader(String headerName) {
-    return headers().get(headerName);
+    return request.headers().get(headerName);
   }
 
   @Override
   public String getHeader(CharSequence headerName) {
-    return headers().get(headerName);
+    return request.headers().get(headerName);
   }
 
   @Override
@@ -197,7 +207,11 @@ public class HttpServerRequestImpl implements HttpServerRequest {
 
   @Override
   public String getParam(String paramName) {
-    return params().get(paramName);
+    if (params != null) {
+      return params.get(paramName);
+    }
+    // Only decode the looked up parameter
+    return uriIndex().param(paramName);
   }
 
   @Override
@@ -311,21 +325,29 @@ public class HttpServerRequestImpl implements HttpServerRequest {
     synchronized (conn) {
       checkEnded();
       if (expect) {
-        if (decoder == null) {
+        if (decoder == null && multipartParser == null) {
           String contentType = request.headers().get(HttpHeaders.Names.CONTENT_TYPE);
           if (contentType != null) {
             HttpMethod method = request.getMethod();
             String lowerCaseContentType = contentType.toLowerCase();
             boolean isURLEncoded = lowerCaseContentType.startsWith(HttpHeaders.Values.APPLICATION_X_WWW_FORM_URLENCODED);
-            if ((lowerCaseContentType.startsWith(HttpHeaders.Values.MULTIPART_FORM_DATA) || isURLEncoded) &&
+            boolean isMultipart = lowerCaseContentType.startsWith(HttpHeaders.Values.MULTIPART_FORM_DATA);
+            if ((isMultipart || isURLEncoded) &&
               (method.equals(HttpMethod.POST) || method.equals(HttpMethod.PUT) || method.equals(HttpMethod.PATCH)
                 || method.equals(HttpMethod.DELETE))) {
-              decoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(conn.vertx(), this, () -> uploadHandler), request);
+              String boundary = isMultipart ? MultipartParser.boundary(contentType) : null;
+              if (boundary != null) {
+                multipartParser = new MultipartParser(conn.vertx(), this, conn, boundary, () -> uploadHandler,
+                  attributes(), this::handleException);
+              } else {
+                decoder = new HttpPostRequestDecoder(new NettyFileUploadDataFactory(conn.vertx(), this, () -> uploadHandler), request);
+              }
             }
           }
         }
       } else {
         decoder = null;
+        multipartParser = null;
       }
       return this;
     }
@@ -334,7 +356,7 @@ public class HttpServerRequestImpl implements HttpServerRequest {
   @Override
   public boolean isExpectMultipart() {
     synchronized (conn) {
-      return decoder != null;
+      return decoder != null || multipartParser != null;
     }
   }
 
@@ -368,9 +390,13 @@ public class HttpServerRequestImpl implements HttpServerRequest {
         } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
           handleException(e);
         }
+      } else if (multipartParser != null) {
+        multipartParser.handle(data);
       }
       if (dataHandler != null) {
         dataHandler.handle(data);
+      } else {
+        PooledBuffer.release(data);
       }
     }
   }
@@ -401,13 +427,22 @@ public class HttpServerRequestImpl implements HttpServerRequest {
           decoder.destroy();
         }
       }
-      // If there have been uploads then we let the last one call the end handler once any fileuploads are complete
-      if (endHandler != null) {
-        endHandler.handle(null);
+      if (multipartParser != null) {
+        // A paused upload holds the end of the body, the end handler is called once it is parsed
+        multipartParser.end(v -> handleEndOfBody());
+      } else {
+        handleEndOfBody();
       }
     }
   }
 
+  private void handleEndOfBody() {
+    // If there have been uploads then we let the last one call the end handler once any fileuploads are complete
+    if (endHandler != null) {
+      endHandler.handle(null);
+    }
+  }
+
   void handleException(Throwable t) {
     synchronized (conn) {
       if (exceptionHandler != null) {
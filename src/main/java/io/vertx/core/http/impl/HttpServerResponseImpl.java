@@ -26,9 +26,11 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.*;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.logging.Logger;
@@ -38,6 +40,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.Objects;
 
 /**
  *
@@ -55,8 +58,14 @@ public class HttpServerResponseImpl implements HttpServerResponse {
 
   private static final Logger log = LoggerFactory.getLogger(HttpServerResponseImpl.class);
 
+  // The content codings of the precompressed siblings of a file and their suffix, by order of preference
+  private static final String[][] PRECOMPRESSED_VARIANTS = { { "br", ".br" }, { "gzip", ".gz" } };
+
+  private static final CharSequence ZERO_CONTENT_LENGTH = HttpHeaders.createOptimized("0");
+
   private final VertxInternal vertx;
   private final ServerConnection conn;
+  private final HttpRequest request;
   private final HttpResponse response;
   private final HttpVersion version;
   private final boolean keepAlive;
@@ -80,6 +89,7 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   HttpServerResponseImpl(final VertxInternal vertx, ServerConnection conn, HttpRequest request) {
   	this.vertx = vertx;
   	this.conn = conn;
+    this.request = request;
     this.version = request.getProtocolVersion();
     this.response = new DefaultHttpResponse(version, HttpResponseStatus.OK, false);
     this.keepAlive = (version == HttpVersion.HTTP_1_1 && !request.headers().contains(io.vertx.core.http.HttpHeaders.CONNECTION, HttpHeaders.CLOSE, true))
@@ -269,8 +279,13 @@ public class HttpServerResponseImpl implements HttpServerResponse {
 
   @Override
   public HttpServerResponseImpl write(Buffer chunk) {
-    ByteBuf buf = chunk.getByteBuf();
-    return write(buf);
+    synchronized (conn) {
+      Objects.requireNonNull(chunk, "no null chunk accepted");
+      // Checked before retaining a pooled buffer that would not be released otherwise
+      checkWrite();
+      ByteBuf buf = PooledBufferImpl.byteBufForWrite(chunk);
+      return write(buf);
+    }
   }
 
   @Override
@@ -302,10 +317,11 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   @Override
   public void end(Buffer chunk) {
     synchronized (conn) {
+      checkWritten();
       if (!chunked && !contentLengthSet()) {
         headers().set(HttpHeaders.CONTENT_LENGTH, String.valueOf(chunk.length()));
       }
-      ByteBuf buf = chunk.getByteBuf();
+      ByteBuf buf = PooledBufferImpl.byteBufForWrite(chunk);
       end0(buf);
     }
   }
@@ -403,6 +419,7 @@ public class HttpServerResponseImpl implements HttpServerResponse {
       channelFuture = conn.writeToChannel(resp);
     } else {
       if (!data.isReadable()) {
+        data.release();
         if (trailing == null) {
           channelFuture = conn.writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT);
         } else {
@@ -431,82 +448,260 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   }
 
   private void doSendFile(String filename, long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    Arguments.require(offset >= 0, "offset must be >= 0");
+    Arguments.require(length >= 0, "length must be >= 0");
     synchronized (conn) {
       if (headWritten) {
         throw new IllegalStateException("Head already written");
       }
       checkWritten();
-      File file = vertx.resolveFile(filename);
-
-      if (!file.exists()) {
-        if (resultHandler != null) {
-          ContextImpl ctx = vertx.getOrCreateContext();
-          ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(new FileNotFoundException())));
-        } else {
-          log.error("File not found: " + filename);
-        }
+      FileCache cache = conn.fileCache();
+      String contentType = MimeMapping.getMimeTypeForFilename(filename);
+      String name = filename;
+      if (offset == 0 && length == Long.MAX_VALUE && conn.isCompressionSupported() &&
+        !response.headers().contains(HttpHeaders.CONTENT_ENCODING)) {
+        name = precompressedVariant(cache, filename);
+      }
+      // An encoded response is not compressed again and can be sent with a file region
+      String contentEncoding = response.headers().get(HttpHeaders.CONTENT_ENCODING);
+      boolean encoded = contentEncoding != null && !HttpHeaders.IDENTITY.toString().equalsIgnoreCase(contentEncoding);
+      if (cache != null) {
+        doSendCachedFile(cache, name, contentType, encoded, offset, length, resultHandler);
         return;
       }
+      File file = vertx.resolveFile(name);
 
-      long contentLength = Math.min(length, file.length() - offset);
-      bytesWritten = contentLength;
-      if (!contentLengthSet()) {
-        putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
-      }
-      if (!contentTypeSet()) {
-        String contentType = MimeMapping.getMimeTypeForFilename(filename);
-        if (contentType != null) {
-          putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-        }
+      if (!file.exists()) {
+        sendFileFailed(new FileNotFoundException(), resultHandler, "File not found: " + name);
+        return;
       }
-      prepareHeaders();
 
-      RandomAccessFile raf = null;
+      RandomAccessFile raf;
       try {
         raf = new RandomAccessFile(file, "r");
-        conn.queueForWrite(response);
-        conn.sendFile(raf, Math.min(offset, file.length()), contentLength);
       } catch (IOException e) {
-        try {
-          if (raf != null) {
-            raf.close();
+        sendFileFailed(e, resultHandler, "Failed to send file");
+        return;
+      }
+
+      // The first range is sent with the file opened above, the other ranges open the file again
+      RandomAccessFile[] opened = { raf };
+      long lastModified = file.lastModified();
+      sendFile(file.length(), lastModified, HttpUtils.fileEtag(file.length(), lastModified),
+        HttpUtils.formatDate(lastModified), contentType, offset, length, (rangeOffset, rangeLength) -> {
+          RandomAccessFile rangeFile = opened[0] != null ? opened[0] : new RandomAccessFile(file, "r");
+          opened[0] = null;
+          try {
+            conn.sendResponseFile(rangeFile, rangeOffset, rangeLength, encoded);
+          } catch (IOException e) {
+            rangeFile.close();
+            throw e;
           }
+        }, resultHandler);
+      if (opened[0] != null) {
+        try {
+          opened[0].close();
         } catch (IOException ignore) {
         }
-        if (resultHandler != null) {
-          ContextImpl ctx = vertx.getOrCreateContext();
-          ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(e)));
-        } else {
-          log.error("Failed to send file", e);
+      }
+    }
+  }
+
+  /**
+   * Lookup the precompressed sibling of a file ({@code .br} or {@code .gz}) accepted by the client, when one
+   * exists the {@code Content-Encoding} header is set.
+   *
+   * @return the name of the file to send
+   */
+  private String precompressedVariant(FileCache cache, String filename) {
+    String acceptEncoding = request.headers().get(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return filename;
+    }
+    for (String[] variant : PRECOMPRESSED_VARIANTS) {
+      String name = filename + variant[1];
+      if (HttpUtils.isEncodingAccepted(acceptEncoding, variant[0]) && fileExists(cache, name)) {
+        putHeader(HttpHeaders.CONTENT_ENCODING, variant[0]);
+        if (!response.headers().contains(HttpHeaderNames.VARY)) {
+          putHeader(HttpHeaderNames.VARY, HttpHeaders.ACCEPT_ENCODING);
         }
-        return;
+        return name;
       }
+    }
+    return filename;
+  }
 
-      // write an empty last content to let the http encoder know the response is complete
-      channelFuture = conn.writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT);
-      written = true;
-
-      if (resultHandler != null) {
-        ContextImpl ctx = vertx.getOrCreateContext();
-        channelFuture.addListener(future -> {
-          AsyncResult<Void> res;
-          if (future.isSuccess()) {
-            res = Future.succeededFuture();
-          } else {
-            res = Future.failedFuture(future.cause());
-          }
-          ctx.runOnContext((v) -> resultHandler.handle(res));
-        });
+  private boolean fileExists(FileCache cache, String filename) {
+    if (cache == null) {
+      return vertx.resolveFile(filename).exists();
+    }
+    try {
+      FileCache.Entry entry = cache.get(filename);
+      if (entry != null) {
+        entry.release();
+        return true;
+      }
+    } catch (IOException ignore) {
+    }
+    return false;
+  }
+
+  private void doSendCachedFile(FileCache cache, String filename, String contentType, boolean encoded,
+                                long offset, long length, Handler<AsyncResult<Void>> resultHandler) {
+    FileCache.Entry entry;
+    try {
+      entry = cache.get(filename);
+    } catch (IOException e) {
+      sendFileFailed(e, resultHandler, "Failed to send file");
+      return;
+    }
+    if (entry == null) {
+      sendFileFailed(new FileNotFoundException(), resultHandler, "File not found: " + filename);
+      return;
+    }
+    try {
+      sendFile(entry.length, entry.lastModified, entry.etag, entry.lastModifiedHeader, contentType, offset, length,
+        (rangeOffset, rangeLength) -> conn.sendResponseFile(entry.retain(), rangeOffset, rangeLength, encoded), resultHandler);
+    } finally {
+      entry.release();
+    }
+  }
+
+  /**
+   * Send a file or the ranges of the file requested by the client when the whole file is sent.
+   */
+  private void sendFile(long fileLength, long lastModified, String etag, String lastModifiedHeader, String contentType,
+                        long offset, long length, FileRangeSender sender, Handler<AsyncResult<Void>> resultHandler) {
+    ByteRanges ranges = null;
+    if (offset == 0 && length == Long.MAX_VALUE && getStatusCode() == 200) {
+      if (!response.headers().contains(HttpHeaders.ETAG)) {
+        putHeader(HttpHeaders.ETAG, etag);
+      }
+      if (!response.headers().contains(HttpHeaders.LAST_MODIFIED)) {
+        putHeader(HttpHeaders.LAST_MODIFIED, lastModifiedHeader);
+      }
+      if (!response.headers().contains(HttpHeaders.ACCEPT_RANGES)) {
+        putHeader(HttpHeaders.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+      }
+      io.netty.handler.codec.http.HttpHeaders requestHeaders = request.headers();
+      if (HttpUtils.isNotModified(requestHeaders.get(HttpHeaders.IF_NONE_MATCH), requestHeaders.get(HttpHeaders.IF_MODIFIED_SINCE), etag, lastModified)) {
+        setStatusCode(304);
+        sendFileHead(resultHandler);
+        return;
+      }
+      String range = requestHeaders.get(HttpHeaderNames.RANGE);
+      if (range != null && request.getMethod() == io.netty.handler.codec.http.HttpMethod.GET) {
+        String ifRange = requestHeaders.get(HttpHeaderNames.IF_RANGE);
+        if (ifRange == null || HttpUtils.matchesIfRange(ifRange, etag, lastModified)) {
+          ranges = ByteRanges.parse(range, fileLength);
+        }
+      }
+      if (ranges != null && ranges.size() == 0) {
+        setStatusCode(416);
+        putHeader(HttpHeaders.CONTENT_RANGE, ByteRanges.unsatisfiedContentRange(fileLength));
+        sendFileHead(resultHandler);
+        return;
       }
+    }
 
-      if (!keepAlive) {
-        closeConnAfterWrite();
+    long contentLength;
+    ByteBuf[] multipartHeaders = null;
+    if (ranges == null) {
+      offset = Math.min(offset, fileLength);
+      contentLength = Math.min(length, fileLength - offset);
+      if (!contentLengthSet()) {
+        putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+      }
+      if (!contentTypeSet() && contentType != null) {
+        putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+      }
+    } else {
+      setStatusCode(206);
+      if (ranges.size() == 1) {
+        contentLength = ranges.length(0);
+        putHeader(HttpHeaders.CONTENT_RANGE, ranges.contentRange(0));
+        if (!contentTypeSet() && contentType != null) {
+          putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+      } else {
+        multipartHeaders = ranges.multipartHeaders(contentTypeSet() ? response.headers().get(HttpHeaders.CONTENT_TYPE) : contentType);
+        contentLength = ranges.multipartLength(multipartHeaders);
+        putHeader(HttpHeaders.CONTENT_TYPE, ranges.multipartContentType());
       }
-      conn.responseComplete();
+      putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+    }
+    bytesWritten = contentLength;
+    prepareHeaders();
 
-      if (bodyEndHandler != null) {
-        bodyEndHandler.handle(null);
+    try {
+      conn.queueForWrite(response);
+      if (ranges == null) {
+        sender.send(offset, contentLength);
+      } else if (multipartHeaders == null) {
+        sender.send(ranges.offset(0), ranges.length(0));
+      } else {
+        // Each range is sent with the file region zero-copy path, framed by the part headers
+        for (int i = 0; i < ranges.size(); i++) {
+          conn.writeToChannel(new DefaultHttpContent(multipartHeaders[i]));
+          sender.send(ranges.offset(i), ranges.length(i));
+        }
+        conn.writeToChannel(new DefaultHttpContent(ranges.multipartEnd()));
       }
+    } catch (IOException e) {
+      sendFileFailed(e, resultHandler, "Failed to send file");
+      return;
+    }
+
+    sendFileEnd(resultHandler);
+  }
+
+  /**
+   * Send the response head only, the result handler of a file sent this way succeeds.
+   */
+  private void sendFileHead(Handler<AsyncResult<Void>> resultHandler) {
+    end0(Unpooled.EMPTY_BUFFER);
+    if (resultHandler != null) {
+      ContextImpl ctx = vertx.getOrCreateContext();
+      ctx.runOnContext((v) -> resultHandler.handle(Future.succeededFuture()));
+    }
+  }
+
+  private void sendFileFailed(Throwable cause, Handler<AsyncResult<Void>> resultHandler, String message) {
+    if (resultHandler != null) {
+      ContextImpl ctx = vertx.getOrCreateContext();
+      ctx.runOnContext((v) -> resultHandler.handle(Future.failedFuture(cause)));
+    } else if (cause instanceof FileNotFoundException) {
+      log.error(message);
+    } else {
+      log.error(message, cause);
+    }
+  }
+
+  private void sendFileEnd(Handler<AsyncResult<Void>> resultHandler) {
+    // write an empty last content to let the http encoder know the response is complete
+    channelFuture = conn.writeToChannel(LastHttpContent.EMPTY_LAST_CONTENT);
+    written = true;
+
+    if (resultHandler != null) {
+      ContextImpl ctx = vertx.getOrCreateContext();
+      channelFuture.addListener(future -> {
+        AsyncResult<Void> res;
+        if (future.isSuccess()) {
+          res = Future.succeededFuture();
+        } else {
+          res = Future.failedFuture(future.cause());
+        }
+        ctx.runOnContext((v) -> resultHandler.handle(res));
+      });
+    }
+
+    if (!keepAlive) {
+      closeConnAfterWrite();
+    }
+    conn.responseComplete();
+
+    if (bodyEndHandler != null) {
+      bodyEndHandler.handle(null);
     }
   }
 
@@ -569,7 +764,7 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     if (chunked) {
       response.headers().set(HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CHUNKED);
     } else if (keepAlive && !contentLengthSet()) {
-      response.headers().set(HttpHeaders.CONTENT_LENGTH, "0");
+      response.headers().set(HttpHeaders.CONTENT_LENGTH, ZERO_CONTENT_LENGTH);
     }
     if (headersEndHandler != null) {
       headersEndHandler.handle(null);
@@ -577,13 +772,17 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     headWritten = true;
   }
 
+  private void checkWrite() {
+    checkWritten();
+    if (!headWritten && version != HttpVersion.HTTP_1_0 && !chunked && !contentLengthSet()) {
+      throw new IllegalStateException("You must set the Content-Length header to be the total size of the message "
+        + "body BEFORE sending any data if you are not using HTTP chunked encoding.");
+    }
+  }
+
   private HttpServerResponseImpl write(ByteBuf chunk) {
     synchronized (conn) {
-      checkWritten();
-      if (!headWritten && version != HttpVersion.HTTP_1_0 && !chunked && !contentLengthSet()) {
-        throw new IllegalStateException("You must set the Content-Length header to be the total size of the message "
-          + "body BEFORE sending any data if you are not using HTTP chunked encoding.");
-      }
+      checkWrite();
 
       bytesWritten += chunk.readableBytes();
       if (!headWritten) {
@@ -631,4 +830,12 @@ public class HttpServerResponseImpl implements HttpServerResponse {
   public HttpServerResponse writeFrame(int type, int flags, Buffer payload) {
     return this;
   }
+
+  /**
+   * Send a range of the file being sent.
+   */
+  @FunctionalInterface
+  private interface FileRangeSender {
+    void send(long offset, long length) throws IOException;
+  }
 }
@@ -31,8 +31,13 @@ import io.vertx.core.http.HttpServerRequest;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static io.vertx.core.http.Http2Settings.DEFAULT_ENABLE_PUSH;
@@ -49,6 +54,8 @@ import static io.vertx.core.http.Http2Settings.DEFAULT_MAX_HEADER_LIST_SIZE;
  */
 public final class HttpUtils {
 
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
   private HttpUtils() {
   }
 
@@ -227,6 +234,19 @@ public final class HttpUtils {
   }
   private static final CustomCompressor compressor = new CustomCompressor();
 
+  /**
+   * Add the {@code headers} to the HTTP/2 {@code to} headers with lower case names.
+   */
+  static void addHttp2Headers(MultiMap headers, Http2Headers to) {
+    if (headers instanceof VertxHttpHeaders) {
+      ((VertxHttpHeaders) headers).copyTo(to);
+    } else {
+      for (Map.Entry<String, String> header : headers) {
+        to.add(Http2HeadersAdaptor.toLowerCase(header.getKey()), header.getValue());
+      }
+    }
+  }
+
   static String determineContentEncoding(Http2Headers headers) {
     String acceptEncoding = headers.get(HttpHeaderNames.ACCEPT_ENCODING) != null ? headers.get(HttpHeaderNames.ACCEPT_ENCODING).toString() : null;
     if (acceptEncoding != null) {
@@ -298,4 +318,96 @@ public final class HttpUtils {
       return io.vertx.core.http.HttpMethod.OTHER;
     }
   }
+
+  /**
+   * @return the RFC 1123 HTTP date of {@code millis}
+   */
+  static String formatDate(long millis) {
+    return DATE_FORMAT.format(Instant.ofEpochMilli(millis));
+  }
+
+  /**
+   * @return the ms of an HTTP date or {@code -1} when the date is not valid
+   */
+  static long parseDate(String date) {
+    try {
+      return Instant.from(DATE_FORMAT.parse(date)).toEpochMilli();
+    } catch (DateTimeException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * @return the strong entity tag of a file derived from its length and modification time
+   */
+  static String fileEtag(long length, long lastModified) {
+    return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+  }
+
+  /**
+   * @return whether the {@code If-None-Match} or {@code If-Modified-Since} request header allow to reply with
+   *         a {@code 304} status for a file
+   */
+  static boolean isNotModified(String ifNoneMatch, String ifModifiedSince, String etag, long lastModified) {
+    if (ifNoneMatch != null) {
+      for (String tag : ifNoneMatch.split(",")) {
+        tag = tag.trim();
+        if (tag.startsWith("W/")) {
+          tag = tag.substring(2);
+        }
+        if (tag.equals("*") || tag.equals(etag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    if (ifModifiedSince != null) {
+      long since = parseDate(ifModifiedSince);
+      // HTTP dates have a one second precision
+      return since != -1 && lastModified / 1000 <= since / 1000;
+    }
+    return false;
+  }
+
+  /**
+   * @return whether the {@code If-Range} request header matches a file, i.e whether the ranges can be sent
+   */
+  static boolean matchesIfRange(String ifRange, String etag, long lastModified) {
+    if (ifRange.startsWith("\"")) {
+      return ifRange.equals(etag);
+    }
+    long date = parseDate(ifRange);
+    return date != -1 && date / 1000 == lastModified / 1000;
+  }
+
+  /**
+   * @return whether an {@code Accept-Encoding} request header accepts a content coding, either by name or with
+   *         the {@code *} wildcard, with a non zero quality value
+   */
+  static boolean isEncodingAccepted(String acceptEncoding, String encoding) {
+    boolean wildcard = false;
+    for (String value : acceptEncoding.split(",")) {
+      int idx = value.indexOf(';');
+      String name = (idx == -1 ? value : value.substring(0, idx)).trim();
+      float quality = 1.0f;
+      if (idx != -1) {
+        for (String param : value.substring(idx + 1).split(";")) {
+          param = param.trim();
+          if (param.startsWith("q=")) {
+            try {
+              quality = Float.parseFloat(param.substring(2));
+            } catch (NumberFormatException e) {
+              quality = 0;
+            }
+          }
+        }
+      }
+      if (name.equalsIgnoreCase(encoding)) {
+        return quality > 0;
+      } else if (name.equals("*")) {
+        wildcard = quality > 0;
+      }
+    }
+    return wildcard;
+  }
 }
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.util.CharsetUtil;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.http.HttpServerRequest;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.function.Supplier;
+
+/**
+ * A streaming {@code multipart/form-data} parser.
+ * <p/>
+ * The body of a file part is handed to its {@link HttpServerFileUploadImpl} as soon as it is parsed, nothing is
+ * staged in memory or on disk. The parsing stops while the upload is paused: since the upload also pauses the
+ * request, at most the data already read from the connection is kept until the upload is resumed. The other parts
+ * are added to the form attributes.
+ * <p/>
+ * The parser is called with the {@code lock} of the connection held, except when an upload is resumed.
+ */
+final class MultipartParser {
+
+  private static final int MAX_HEADERS_SIZE = 8192;
+  private static final byte[] CRLF = { '\r', '\n' };
+
+  private enum State { PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE }
+
+  private final Vertx vertx;
+  private final HttpServerRequest request;
+  private final Object lock;
+  private final Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler;
+  private final MultiMap attributes;
+  private final Handler<Throwable> exceptionHandler;
+  // The delimiter preceding each boundary, the body is prefixed with a CRLF so the first one is found the same way
+  private final byte[] delimiter;
+  private final ByteBuf buf = Unpooled.buffer();
+  private State state = State.PREAMBLE;
+  private MultiMap partHeaders;
+  private int headersSize;
+  private HttpServerFileUploadImpl upload;
+  private String attributeName;
+  private Charset attributeCharset;
+  private ByteBuf attributeValue;
+  private boolean ended;
+  // Set once the buffer is released, when the body is parsed or invalid
+  private boolean closed;
+  private Handler<Void> endHandler;
+
+  MultipartParser(Vertx vertx, HttpServerRequest request, Object lock, String boundary,
+                  Supplier<Handler<HttpServerFileUpload>> lazyUploadHandler, MultiMap attributes,
+                  Handler<Throwable> exceptionHandler) {
+    this.vertx = vertx;
+    this.request = request;
+    this.lock = lock;
+    this.lazyUploadHandler = lazyUploadHandler;
+    this.attributes = attributes;
+    this.exceptionHandler = exceptionHandler;
+    this.delimiter = ("\r\n--" + boundary).getBytes(CharsetUtil.US_ASCII);
+    buf.writeBytes(CRLF);
+  }
+
+  /**
+   * @return the boundary of a {@code multipart/form-data} content type or {@code null} when it has none
+   */
+  static String boundary(String contentType) {
+    return param(contentType, "boundary");
+  }
+
+  void handle(Buffer data) {
+    if (closed) {
+      return;
+    }
+    ByteBuf src = data.getByteBuf();
+    buf.writeBytes(src, src.readerIndex(), src.readableBytes());
+    parse();
+  }
+
+  /**
+   * Signal the end of the body, the handler is called once all the parts are parsed.
+   */
+  void end(Handler<Void> handler) {
+    ended = true;
+    endHandler = handler;
+    parse();
+  }
+
+  private void resume() {
+    synchronized (lock) {
+      parse();
+    }
+  }
+
+  private void parse() {
+    while (!closed && !isPaused() && parseNext()) {
+      // Loop
+    }
+    if (!closed) {
+      buf.discardSomeReadBytes();
+      if (!ended || isPaused()) {
+        return;
+      }
+      if (state == State.EPILOGUE) {
+        close();
+      } else {
+        fail("Unexpected end of multipart body");
+      }
+    }
+    if (ended && endHandler != null) {
+      Handler<Void> handler = endHandler;
+      endHandler = null;
+      handler.handle(null);
+    }
+  }
+
+  private boolean isPaused() {
+    return upload != null && upload.isPaused();
+  }
+
+  /**
+   * @return whether some data was consumed, otherwise more data is needed
+   */
+  private boolean parseNext() {
+    switch (state) {
+      case PREAMBLE: {
+        int index = indexOf(delimiter, buf.readerIndex());
+        if (index == -1) {
+          // Keep what can be the beginning of the delimiter
+          buf.readerIndex(Math.max(buf.readerIndex(), buf.writerIndex() - delimiter.length + 1));
+          return false;
+        }
+        buf.readerIndex(index + delimiter.length);
+        state = State.DELIMITER;
+        return true;
+      }
+      case DELIMITER: {
+        if (buf.readableBytes() < 2) {
+          return false;
+        }
+        int reader = buf.readerIndex();
+        if (buf.getByte(reader) == '-' && buf.getByte(reader + 1) == '-') {
+          // Close delimiter
+          buf.skipBytes(buf.readableBytes());
+          state = State.EPILOGUE;
+          return true;
+        }
+        int eol = indexOf(CRLF, reader);
+        if (eol == -1) {
+          if (buf.readableBytes() > MAX_HEADERS_SIZE) {
+            fail("Invalid multipart delimiter");
+          }
+          return false;
+        }
+        // Skip the transport padding
+        for (int i = reader; i < eol; i++) {
+          byte b = buf.getByte(i);
+          if (b != ' ' && b != '\t') {
+            fail("Invalid multipart delimiter");
+            return false;
+          }
+        }
+        buf.readerIndex(eol + CRLF.length);
+        partHeaders = new CaseInsensitiveHeaders();
+        headersSize = 0;
+        state = State.HEADERS;
+        return true;
+      }
+      case HEADERS: {
+        int reader = buf.readerIndex();
+        int eol = indexOf(CRLF, reader);
+        if (eol == -1) {
+          if (headersSize + buf.readableBytes() > MAX_HEADERS_SIZE) {
+            fail("Multipart headers are larger than " + MAX_HEADERS_SIZE + " bytes");
+          }
+          return false;
+        }
+        headersSize += eol - reader + CRLF.length;
+        if (headersSize > MAX_HEADERS_SIZE) {
+          fail("Multipart headers are larger than " + MAX_HEADERS_SIZE + " bytes");
+          return false;
+        }
+        String line = buf.toString(reader, eol - reader, CharsetUtil.UTF_8);
+        buf.readerIndex(eol + CRLF.length);
+        if (line.isEmpty()) {
+          startPart();
+        } else {
+          int colon = line.indexOf(':');
+          if (colon == -1) {
+            fail("Invalid multipart header " + line);
+            return false;
+          }
+          partHeaders.add(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+        }
+        return true;
+      }
+      case BODY: {
+        int reader = buf.readerIndex();
+        int index = indexOf(delimiter, reader);
+        if (index == -1) {
+          // Keep what can be the beginning of the delimiter
+          int length = buf.readableBytes() - delimiter.length + 1;
+          if (length > 0) {
+            partData(length);
+            return true;
+          }
+          return false;
+        }
+        partData(index - reader);
+        if (isPaused()) {
+          // The delimiter is consumed when the upload is resumed
+          return false;
+        }
+        buf.skipBytes(delimiter.length);
+        endPart();
+        state = State.DELIMITER;
+        return true;
+      }
+      case EPILOGUE:
+        buf.skipBytes(buf.readableBytes());
+        return false;
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private void startPart() {
+    String disposition = partHeaders.get(HttpHeaderNames.CONTENT_DISPOSITION);
+    String name = disposition != null ? param(disposition, "name") : null;
+    if (name == null) {
+      fail("Multipart part without name");
+      return;
+    }
+    String filename = param(disposition, "filename");
+    String contentType = partHeaders.get(HttpHeaderNames.CONTENT_TYPE);
+    Charset charset = CharsetUtil.UTF_8;
+    if (contentType != null) {
+      String charsetName = param(contentType, "charset");
+      if (charsetName != null) {
+        try {
+          charset = Charset.forName(charsetName);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+          fail("Invalid multipart charset " + charsetName);
+          return;
+        }
+      }
+      int idx = contentType.indexOf(';');
+      if (idx != -1) {
+        contentType = contentType.substring(0, idx).trim();
+      }
+    }
+    if (filename != null) {
+      String transferEncoding = partHeaders.get(HttpHeaderNames.CONTENT_TRANSFER_ENCODING);
+      upload = new HttpServerFileUploadImpl(vertx, request, name, filename,
+        contentType != null ? contentType : "application/octet-stream",
+        transferEncoding != null ? transferEncoding : "7bit", charset, 0);
+      upload.resumeHandler(v -> resume());
+      Handler<HttpServerFileUpload> uploadHandler = lazyUploadHandler.get();
+      if (uploadHandler != null) {
+        uploadHandler.handle(upload);
+      }
+    } else {
+      attributeName = name;
+      attributeCharset = charset;
+      attributeValue = Unpooled.buffer();
+    }
+    partHeaders = null;
+    state = State.BODY;
+  }
+
+  private void partData(int length) {
+    if (length == 0) {
+      return;
+    }
+    if (upload != null) {
+      upload.receiveData(Buffer.buffer(buf.readBytes(length)));
+    } else {
+      buf.readBytes(attributeValue, length);
+    }
+  }
+
+  private void endPart() {
+    if (upload != null) {
+      HttpServerFileUploadImpl completed = upload;
+      upload = null;
+      completed.complete();
+    } else {
+      attributes.add(attributeName, attributeValue.toString(attributeCharset));
+      attributeValue.release();
+      attributeName = null;
+      attributeValue = null;
+    }
+  }
+
+  private void close() {
+    closed = true;
+    buf.release();
+    if (attributeValue != null) {
+      attributeValue.release();
+      attributeValue = null;
+    }
+  }
+
+  private void fail(String message) {
+    close();
+    exceptionHandler.handle(new HttpPostRequestDecoder.ErrorDataDecoderException(message));
+  }
+
+  private int indexOf(byte[] needle, int from) {
+    int last = buf.writerIndex() - needle.length;
+    for (int i = from; i <= last; i++) {
+      i = buf.indexOf(i, last + 1, needle[0]);
+      if (i == -1) {
+        return -1;
+      }
+      int j = 1;
+      while (j < needle.length && buf.getByte(i + j) == needle[j]) {
+        j++;
+      }
+      if (j == needle.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the value of a parameter of a header value like {@code form-data; name="foo"}, unquoted
+   */
+  private static String param(String value, String name) {
+    int len = value.length();
+    int pos = value.indexOf(';');
+    while (pos != -1 && pos < len) {
+      pos++;
+      int eq = value.indexOf('=', pos);
+      if (eq == -1) {
+        return null;
+      }
+      String paramName = value.substring(pos, eq).trim();
+      int start = eq + 1;
+      while (start < len && value.charAt(start) == ' ') {
+        start++;
+      }
+      String paramValue;
+      int end;
+      if (start < len && value.charAt(start) == '"') {
+        StringBuilder sb = new StringBuilder();
+        end = start + 1;
+        while (end < len && value.charAt(end) != '"') {
+          char c = value.charAt(end++);
+          if (c == '\\' && end < len) {
+            c = value.charAt(end++);
+          }
+          sb.append(c);
+        }
+        paramValue = sb.toString();
+        end = value.indexOf(';', end);
+      } else {
+        end = value.indexOf(';', start);
+        paramValue = (end == -1 ? value.substring(start) : value.substring(start, end)).trim();
+      }
+      if (paramName.equalsIgnoreCase(name)) {
+        return paramValue;
+      }
+      pos = end;
+    }
+    return null;
+  }
+}
@@ -17,6 +17,7 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.*;
@@ -31,6 +32,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.VoidHandler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketFrame;
@@ -70,6 +72,8 @@ class ServerConnection extends ConnectionBase {
 
   private static final int CHANNEL_PAUSE_QUEUE_SIZE = 5;
 
+  private static final CharSequence ZERO_CONTENT_LENGTH = io.vertx.core.http.HttpHeaders.createOptimized("0");
+
   private final Queue<Object> pending = new ArrayDeque<>(8);
   private final String serverOrigin;
   private final HttpServerImpl server;
@@ -78,6 +82,11 @@ class ServerConnection extends ConnectionBase {
   private boolean requestFailed;
   private Object requestMetric;
   private Handler<HttpServerRequest> requestHandler;
+  private AdmissionController admission;
+  // Whether the pending response holds an admission
+  private boolean admitted;
+  // Whether the content of a rejected request is being discarded
+  private boolean rejecting;
   private Handler<ServerWebSocket> wsHandler;
   private HttpServerRequestImpl currentRequest;
   private HttpServerResponseImpl pendingResponse;
@@ -148,6 +157,7 @@ class ServerConnection extends ConnectionBase {
       }
     }
     pendingResponse = null;
+    releaseAdmission();
     checkNextTick();
   }
 
@@ -155,6 +165,17 @@ class ServerConnection extends ConnectionBase {
     this.requestHandler = handler;
   }
 
+  synchronized void admission(AdmissionController admission) {
+    this.admission = admission;
+  }
+
+  private void releaseAdmission() {
+    if (admitted) {
+      admitted = false;
+      admission.release();
+    }
+  }
+
   synchronized void wsHandler(Handler<ServerWebSocket> handler) {
     this.wsHandler = handler;
   }
@@ -331,8 +352,11 @@ class ServerConnection extends ConnectionBase {
   }
 
   synchronized private void handleWsFrame(WebSocketFrameInternal frame) {
+    boolean pooled = server.options().isUsePooledDirectBuffers();
     if (ws != null) {
-      ws.handleFrame(frame);
+      ws.handleFrame(frame, pooled);
+    } else if (pooled) {
+      ReferenceCountUtil.release(frame);
     }
   }
 
@@ -353,6 +377,7 @@ class ServerConnection extends ConnectionBase {
       }
       pendingResponse.handleClosed();
     }
+    releaseAdmission();
   }
 
   protected ContextImpl getContext() {
@@ -385,10 +410,50 @@ class ServerConnection extends ConnectionBase {
     return super.supportsFileRegion() && channel.pipeline().get(HttpChunkContentCompressor.class) == null;
   }
 
+  /**
+   * The compressor passes through the content of a response with a {@code Content-Encoding}, so an encoded
+   * response can be sent with a file region even when compression is supported.
+   */
+  private boolean supportsFileRegion(boolean encoded) {
+    return encoded ? super.supportsFileRegion() : supportsFileRegion();
+  }
+
   protected ChannelFuture sendFile(RandomAccessFile file, long offset, long length) throws IOException {
     return super.sendFile(file, offset, length);
   }
 
+  /**
+   * Send a range of a file as the response body, {@code encoded} tells whether the response has a
+   * {@code Content-Encoding} and so can bypass the compressor.
+   */
+  ChannelFuture sendResponseFile(RandomAccessFile file, long offset, long length, boolean encoded) throws IOException {
+    return super.sendFile(file, offset, length, supportsFileRegion(encoded));
+  }
+
+  FileCache fileCache() {
+    return server.fileCache();
+  }
+
+  boolean isCompressionSupported() {
+    return server.options().isCompressionSupported();
+  }
+
+  /**
+   * Send a range of a cached file, the reference of the caller on the entry is given back.
+   */
+  ChannelFuture sendResponseFile(FileCache.Entry entry, long offset, long length, boolean encoded) throws IOException {
+    if (entry.isMapped()) {
+      // Written from memory, this works with SSL and compression
+      entry.release();
+      return writeToChannel(new DefaultHttpContent(entry.slice(offset, length)));
+    } else if (supportsFileRegion(encoded)) {
+      return writeToChannel(entry.region(offset, length));
+    } else {
+      entry.release();
+      return sendResponseFile(new RandomAccessFile(entry.file, "r"), offset, length, encoded);
+    }
+  }
+
   private void processMessage(Object msg) {
 
     if (msg instanceof HttpRequest) {
@@ -398,29 +463,51 @@ class ServerConnection extends ConnectionBase {
         channel.pipeline().fireExceptionCaught(result.cause());
         return;
       }
-      if (server.options().isHandle100ContinueAutomatically()) {
-        if (HttpHeaders.is100ContinueExpected(request)) {
-          write100Continue();
+      if (admission != null) {
+        if (!admission.admit()) {
+          rejectRequest(request);
+        } else {
+          admitted = true;
+        }
+      }
+      if (!rejecting) {
+        if (server.options().isHandle100ContinueAutomatically()) {
+          if (HttpHeaders.is100ContinueExpected(request)) {
+            write100Continue();
+          }
         }
+        HttpServerResponseImpl resp = new HttpServerResponseImpl(vertx, this, request);
+        HttpServerRequestImpl req = new HttpServerRequestImpl(this, request, resp);
+        handleRequest(req, resp);
       }
-      HttpServerResponseImpl resp = new HttpServerResponseImpl(vertx, this, request);
-      HttpServerRequestImpl req = new HttpServerRequestImpl(this, request, resp);
-      handleRequest(req, resp);
     }
     if (msg instanceof HttpContent) {
         HttpContent chunk = (HttpContent) msg;
-      if (chunk.content().isReadable()) {
-        Buffer buff = Buffer.buffer(chunk.content());
-        handleChunk(buff);
-      }
+      boolean pooled = server.options().isUsePooledDirectBuffers();
+      if (rejecting) {
+        // Discard the content of a rejected request
+        if (pooled) {
+          chunk.release();
+        }
+        if (msg instanceof LastHttpContent) {
+          rejecting = false;
+        }
+      } else {
+        if (chunk.content().isReadable()) {
+          Buffer buff = pooled ? new PooledBufferImpl(chunk.content()) : Buffer.buffer(chunk.content());
+          handleChunk(buff);
+        } else if (pooled) {
+          chunk.release();
+        }
 
-      //TODO chunk trailers
-      if (msg instanceof LastHttpContent) {
-        if (!paused) {
-          handleEnd();
-        } else {
-          // Requeue
-          pending.add(LastHttpContent.EMPTY_LAST_CONTENT);
+        //TODO chunk trailers
+        if (msg instanceof LastHttpContent) {
+          if (!paused) {
+            handleEnd();
+          } else {
+            // Requeue
+            pending.add(LastHttpContent.EMPTY_LAST_CONTENT);
+          }
         }
       }
     } else if (msg instanceof WebSocketFrameInternal) {
@@ -431,6 +518,26 @@ class ServerConnection extends ConnectionBase {
     checkNextTick();
   }
 
+  /**
+   * Reply with a {@code 503} status to a request that is not admitted and discard its content.
+   */
+  private void rejectRequest(HttpRequest request) {
+    rejecting = true;
+    boolean keepAlive = HttpHeaders.isKeepAlive(request);
+    FullHttpResponse response = new DefaultFullHttpResponse(request.getProtocolVersion(),
+      HttpResponseStatus.SERVICE_UNAVAILABLE, Unpooled.EMPTY_BUFFER, false);
+    response.headers().set(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH, ZERO_CONTENT_LENGTH);
+    if (!keepAlive) {
+      response.headers().set(io.vertx.core.http.HttpHeaders.CONNECTION, io.vertx.core.http.HttpHeaders.CLOSE);
+    } else if (request.getProtocolVersion() == HttpVersion.HTTP_1_0) {
+      response.headers().set(io.vertx.core.http.HttpHeaders.CONNECTION, io.vertx.core.http.HttpHeaders.KEEP_ALIVE);
+    }
+    ChannelFuture future = writeToChannel(response);
+    if (!keepAlive) {
+      future.addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+
   private void checkNextTick() {
     // Check if there are more pending messages in the queue that can be processed next time around
     if (!pending.isEmpty() && !sentCheck && !paused && (pendingResponse == null || pending.peek() instanceof HttpContent)) {
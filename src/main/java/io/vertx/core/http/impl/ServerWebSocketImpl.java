@@ -253,6 +253,22 @@ public class ServerWebSocketImpl extends WebSocketImplBase implements ServerWebS
     }
   }
 
+  @Override
+  boolean writeSharedFrame(io.netty.handler.codec.http.websocketx.WebSocketFrame frame) {
+    synchronized (conn) {
+      if (connectRunnable != null) {
+        if (rejected) {
+          frame.release();
+          return false;
+        }
+        if (!connected && !closed) {
+          connect();
+        }
+      }
+      return super.writeSharedFrame(frame);
+    }
+  }
+
   private void connect() {
     connectRunnable.run();
     connected = true;
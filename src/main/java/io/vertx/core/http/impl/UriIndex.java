@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * The offsets of the path and the query of a request uri, computed once per request.
+ * <p/>
+ * The path and the query are only copied to a {@code String} on demand and a query parameter is decoded only when
+ * it is looked up, so a request accessing a few parameters doesn't pay for the decoding of all of them like
+ * {@link HttpUtils#params(String)}.
+ */
+final class UriIndex {
+
+  private final String uri;
+  // -1 when an absolute uri has no path, the path is then "/"
+  private final int pathStart;
+  private final int pathEnd;
+  // -1 when the uri has no query
+  private final int queryStart;
+
+  UriIndex(String uri) {
+    this.uri = uri;
+    int query = uri.indexOf('?');
+    queryStart = query == -1 ? -1 : query + 1;
+    int start;
+    if (uri.length() > 0 && uri.charAt(0) == '/') {
+      start = 0;
+    } else {
+      start = uri.indexOf("://");
+      if (start == -1) {
+        start = 0;
+      } else {
+        start = uri.indexOf('/', start + 3);
+      }
+    }
+    pathStart = start;
+    if (start == -1) {
+      pathEnd = -1;
+    } else {
+      int end = uri.indexOf('?', start);
+      pathEnd = end == -1 ? uri.length() : end;
+    }
+  }
+
+  String path() {
+    return pathStart == -1 ? "/" : uri.substring(pathStart, pathEnd);
+  }
+
+  String query() {
+    return queryStart == -1 ? null : uri.substring(queryStart);
+  }
+
+  /**
+   * Lookup a query parameter with the same rules than {@link HttpUtils#params(String)}: the parameters are separated
+   * by {@code &} or {@code ;}, a parameter without {@code =} has an empty value and the names are case insensitive.
+   *
+   * @return the decoded value of the first parameter with this name or {@code null}
+   */
+  String param(String name) {
+    if (queryStart == -1) {
+      return null;
+    }
+    int len = uri.length();
+    int pos = queryStart;
+    while (pos < len) {
+      int end = pos;
+      int eq = -1;
+      while (end < len) {
+        char c = uri.charAt(end);
+        if (c == '&' || c == ';') {
+          break;
+        } else if (c == '=' && eq == -1) {
+          eq = end;
+        }
+        end++;
+      }
+      int nameEnd = eq == -1 ? end : eq;
+      if (nameEnd > pos && nameMatches(name, pos, nameEnd)) {
+        return eq == -1 ? "" : QueryStringDecoder.decodeComponent(uri.substring(eq + 1, end));
+      }
+      pos = end + 1;
+    }
+    return null;
+  }
+
+  private boolean nameMatches(String name, int start, int end) {
+    for (int i = start; i < end; i++) {
+      char c = uri.charAt(i);
+      if (c == '%' || c == '+') {
+        // Encoded name, decode it
+        return name.equalsIgnoreCase(QueryStringDecoder.decodeComponent(uri.substring(start, end)));
+      }
+    }
+    return end - start == name.length() && uri.regionMatches(true, start, name, 0, name.length());
+  }
+}
@@ -236,6 +236,30 @@ class VertxHttp2ConnectionHandler<C extends Http2ConnectionBase> extends Http2Co
     }
   }
 
+  /**
+   * Increment the connection receive window by {@code delta}, this must be called from event loop.
+   */
+  void incrementConnectionWindowSize(int delta) {
+    try {
+      decoder().flowController().incrementWindowSize(connection().connectionStream(), delta);
+      ctx.channel().flush();
+    } catch (Http2Exception e) {
+      onError(ctx, e);
+    }
+  }
+
+  /**
+   * Apply the initial stream receive window {@code windowSize} before the settings carrying it are acknowledged, so
+   * the data the peer sends with it once it reads the settings is accepted, this must be called from event loop.
+   */
+  void initialStreamWindowSize(int windowSize) {
+    try {
+      decoder().flowController().initialWindowSize(windowSize);
+    } catch (Http2Exception e) {
+      onError(ctx, e);
+    }
+  }
+
   void writeFrame(Http2Stream stream, byte type, short flags, ByteBuf payload) {
     EventExecutor executor = ctx.executor();
     if (executor.inEventLoop()) {
@@ -34,6 +34,7 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
 
   private Map<Channel, ? super C> connectionMap;
   private boolean useCompression;
+  private boolean adaptiveWindowSize;
   private io.vertx.core.http.Http2Settings initialSettings;
   private Function<VertxHttp2ConnectionHandler<C>, C> connectionFactory;
 
@@ -59,6 +60,11 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
     return this;
   }
 
+  VertxHttp2ConnectionHandlerBuilder<C> adaptiveWindowSize(boolean adaptiveWindowSize) {
+    this.adaptiveWindowSize = adaptiveWindowSize;
+    return this;
+  }
+
   VertxHttp2ConnectionHandlerBuilder<C> connectionFactory(Function<VertxHttp2ConnectionHandler<C>, C> connectionFactory) {
     this.connectionFactory = connectionFactory;
     return this;
@@ -74,6 +80,14 @@ class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionBase> extends
 
   @Override
   protected VertxHttp2ConnectionHandler<C> build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder, Http2Settings initialSettings) throws Exception {
+    VertxHttp2ConnectionHandler<C> handler = doBuild(decoder, encoder, initialSettings);
+    if (adaptiveWindowSize) {
+      handler.connection.adaptiveWindowSize();
+    }
+    return handler;
+  }
+
+  private VertxHttp2ConnectionHandler<C> doBuild(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder, Http2Settings initialSettings) {
     if (isServer()) {
       if (useCompression) {
         encoder = new CompressorHttp2ConnectionEncoder(encoder);
@@ -45,11 +45,21 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
 
   protected Map<Channel, C> connectionMap;
   protected final Channel ch;
+  protected final boolean pooledBuffers;
   protected C conn;
 
   protected VertxHttpHandler(Map<Channel, C> connectionMap, Channel ch) {
+    this(connectionMap, ch, false);
+  }
+
+  /**
+   * @param pooledBuffers whether the content and the WebSocket data frames keep their pooled buffers instead of
+   *                      heap copies
+   */
+  protected VertxHttpHandler(Map<Channel, C> connectionMap, Channel ch, boolean pooledBuffers) {
     this.connectionMap = connectionMap;
     this.ch = ch;
+    this.pooledBuffers = pooledBuffers;
   }
 
   @Override
@@ -85,7 +95,7 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
     if (msg instanceof HttpContent) {
       HttpContent content = (HttpContent) msg;
       ByteBuf buf = content.content();
-      if (buf != Unpooled.EMPTY_BUFFER && buf.isDirect()) {
+      if (buf != Unpooled.EMPTY_BUFFER && buf.isDirect() && !pooledBuffers) {
         ByteBuf newBuf = safeBuffer(content, allocator);
         if (msg instanceof LastHttpContent) {
           LastHttpContent last = (LastHttpContent) msg;
@@ -95,9 +105,8 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
         }
       }
     } else if (msg instanceof WebSocketFrame) {
-      ByteBuf payload = safeBuffer((WebSocketFrame) msg, allocator);
       boolean isFinal = ((WebSocketFrame) msg).isFinalFragment();
-        FrameType frameType;
+      FrameType frameType;
       if (msg instanceof BinaryWebSocketFrame) {
         frameType = FrameType.BINARY;
       } else if (msg instanceof CloseWebSocketFrame) {
@@ -113,6 +122,13 @@ public abstract class VertxHttpHandler<C extends ConnectionBase> extends VertxHa
       } else {
         throw new IllegalStateException("Unsupported websocket msg " + msg);
       }
+      ByteBuf payload;
+      if (pooledBuffers && (frameType == FrameType.BINARY || frameType == FrameType.TEXT || frameType == FrameType.CONTINUATION)) {
+        // Data frames keep the pooled payload, released once the frame is handled
+        payload = ((WebSocketFrame) msg).content();
+      } else {
+        payload = safeBuffer((WebSocketFrame) msg, allocator);
+      }
       return new WebSocketFrameImpl(frameType, payload, isFinal);
     }
     return msg;
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http2.Http2Headers;
+
+/**
+ * A case insensitive multi-map storing the {@code CharSequence} names and values as they are given, so constants
+ * like {@link io.vertx.core.http.HttpHeaders#createOptimized(String) optimized} names and values are not converted
+ * to {@code String}.
+ * <p/>
+ * The headers are copied by reference to the Netty HTTP/1.x or HTTP/2 headers of the message when it is written,
+ * the lower case {@code AsciiString} name required by HTTP/2 is computed once per entry.
+ */
+public final class VertxHttpHeaders extends CaseInsensitiveMultiMap {
+
+  public VertxHttpHeaders() {
+    super(false);
+  }
+
+  /**
+   * Add the entries to Netty HTTP/1.x headers, the names keep their case.
+   */
+  public void copyTo(HttpHeaders headers) {
+    MapEntry e = head.after;
+    while (e != head) {
+      headers.add(e.key, e.value);
+      e = e.after;
+    }
+  }
+
+  /**
+   * Add the entries to Netty HTTP/2 headers, with lower case names.
+   */
+  public void copyTo(Http2Headers headers) {
+    MapEntry e = head.after;
+    while (e != head) {
+      headers.add(e.http2Name(), e.value);
+      e = e.after;
+    }
+  }
+}
@@ -16,28 +16,113 @@
 package io.vertx.core.http.impl;
 
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.FastThreadLocal;
 import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
 
 import java.util.List;
 
 /**
  * {@link io.netty.handler.codec.http.HttpResponseEncoder} which forces the usage of direct buffers for max performance.
+ * <p/>
+ * The status lines of the well known statuses are written from pre-encoded bytes and the {@code Date} header can
+ * be added, it is formatted at most once per second by each event loop.
  *
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 final class VertxHttpResponseEncoder extends HttpResponseEncoder {
+
+  private static final int MAX_STATUS_CODE = 600;
+  // The statuses returned by HttpResponseStatus#valueOf for the well known codes, indexed by code
+  private static final HttpResponseStatus[] STATUSES = new HttpResponseStatus[MAX_STATUS_CODE];
+  private static final byte[][] HTTP_1_0_STATUS_LINES = new byte[MAX_STATUS_CODE][];
+  private static final byte[][] HTTP_1_1_STATUS_LINES = new byte[MAX_STATUS_CODE][];
+
+  static {
+    for (int code = 100; code < MAX_STATUS_CODE; code++) {
+      HttpResponseStatus status = HttpResponseStatus.valueOf(code);
+      if (status == HttpResponseStatus.valueOf(code)) {
+        STATUSES[code] = status;
+        HTTP_1_0_STATUS_LINES[code] = statusLine(HttpVersion.HTTP_1_0, status);
+        HTTP_1_1_STATUS_LINES[code] = statusLine(HttpVersion.HTTP_1_1, status);
+      }
+    }
+  }
+
+  private static final FastThreadLocal<DateHeader> DATE_HEADER = new FastThreadLocal<DateHeader>() {
+    @Override
+    protected DateHeader initialValue() throws Exception {
+      return new DateHeader();
+    }
+  };
+
+  private final boolean addDateHeader;
   private ChannelHandlerContext context;
 
+  VertxHttpResponseEncoder(boolean addDateHeader) {
+    this.addDateHeader = addDateHeader;
+  }
+
   @Override
   protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws Exception {
     super.encode(context, msg, out);
   }
 
+  @Override
+  protected void encodeInitialLine(ByteBuf buf, HttpResponse response) throws Exception {
+    HttpResponseStatus status = response.getStatus();
+    int code = status.code();
+    byte[] line = null;
+    if (code >= 0 && code < MAX_STATUS_CODE && STATUSES[code] == status) {
+      HttpVersion version = response.getProtocolVersion();
+      if (version == HttpVersion.HTTP_1_1) {
+        line = HTTP_1_1_STATUS_LINES[code];
+      } else if (version == HttpVersion.HTTP_1_0) {
+        line = HTTP_1_0_STATUS_LINES[code];
+      }
+    }
+    if (line != null) {
+      buf.writeBytes(line);
+    } else {
+      super.encodeInitialLine(buf, response);
+    }
+    if (addDateHeader && !response.headers().contains(HttpHeaderNames.DATE)) {
+      buf.writeBytes(DATE_HEADER.get().bytes());
+    }
+  }
+
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
     this.context = PartialPooledByteBufAllocator.forceDirectAllocator(ctx);
     super.handlerAdded(ctx);
   }
+
+  private static byte[] statusLine(HttpVersion version, HttpResponseStatus status) {
+    return (version.text() + " " + status.code() + " " + status.reasonPhrase() + "\r\n").getBytes(CharsetUtil.US_ASCII);
+  }
+
+  /**
+   * The encoded {@code Date} header line of an event loop, formatted again when the second changes.
+   */
+  private static final class DateHeader {
+
+    private long second = -1;
+    private byte[] bytes;
+
+    byte[] bytes() {
+      long now = System.currentTimeMillis();
+      if (now / 1000 != second) {
+        second = now / 1000;
+        bytes = ("Date: " + HttpUtils.formatDate(now) + "\r\n").getBytes(CharsetUtil.US_ASCII);
+      }
+      return bytes;
+    }
+  }
 }
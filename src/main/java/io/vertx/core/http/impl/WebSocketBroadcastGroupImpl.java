@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.WebSocketBroadcastGroup;
+import io.vertx.core.http.WriteQueueFullPolicy;
+import io.vertx.core.net.impl.PartialPooledByteBufAllocator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The sockets are bucketed by event loop, a broadcast retains the pooled direct buffer of the message once per event
+ * loop and each socket writes its own frame wrapping a duplicate of it, so the payload is neither copied per socket
+ * nor copied again by the transport.
+ */
+public class WebSocketBroadcastGroupImpl implements WebSocketBroadcastGroup {
+
+  private final WriteQueueFullPolicy policy;
+  private final ConcurrentMap<EventLoop, Set<WebSocketImplBase>> sockets = new ConcurrentHashMap<>();
+  private final LongAdder writtenFrames = new LongAdder();
+  private final LongAdder skippedFrames = new LongAdder();
+  private final LongAdder closedSockets = new LongAdder();
+
+  public WebSocketBroadcastGroupImpl(WriteQueueFullPolicy policy) {
+    this.policy = Objects.requireNonNull(policy);
+  }
+
+  @Override
+  public WebSocketBroadcastGroup add(ServerWebSocket ws) {
+    WebSocketImplBase impl = (WebSocketImplBase) ws;
+    synchronized (impl.conn) {
+      // The socket leaves the group when it is closed, a closed socket is not added
+      if (!impl.closed) {
+        impl.addBroadcastGroup(this);
+        sockets.computeIfAbsent(impl.conn.nettyChannel().eventLoop(), loop -> ConcurrentHashMap.newKeySet()).add(impl);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public WebSocketBroadcastGroup remove(ServerWebSocket ws) {
+    WebSocketImplBase impl = (WebSocketImplBase) ws;
+    synchronized (impl.conn) {
+      impl.removeBroadcastGroup(this);
+    }
+    removeSocket(impl);
+    return this;
+  }
+
+  void removeSocket(WebSocketImplBase ws) {
+    Set<WebSocketImplBase> set = sockets.get(ws.conn.nettyChannel().eventLoop());
+    if (set != null) {
+      set.remove(ws);
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Set<WebSocketImplBase> set : sockets.values()) {
+      size += set.size();
+    }
+    return size;
+  }
+
+  @Override
+  public WebSocketBroadcastGroup broadcast(Buffer data) {
+    ByteBuf content = PartialPooledByteBufAllocator.INSTANCE.ioBuffer(data.length());
+    content.writeBytes(data.getByteBuf());
+    broadcast(content, false);
+    return this;
+  }
+
+  @Override
+  public WebSocketBroadcastGroup broadcastText(String text) {
+    ByteBuf content = PartialPooledByteBufAllocator.INSTANCE.ioBuffer(text.length());
+    ByteBufUtil.writeUtf8(content, text);
+    broadcast(content, true);
+    return this;
+  }
+
+  @Override
+  public long writtenFrames() {
+    return writtenFrames.sum();
+  }
+
+  @Override
+  public long skippedFrames() {
+    return skippedFrames.sum();
+  }
+
+  @Override
+  public long closedSockets() {
+    return closedSockets.sum();
+  }
+
+  private void broadcast(ByteBuf content, boolean text) {
+    try {
+      for (Map.Entry<EventLoop, Set<WebSocketImplBase>> entry : sockets.entrySet()) {
+        Set<WebSocketImplBase> set = entry.getValue();
+        if (set.isEmpty()) {
+          continue;
+        }
+        EventLoop loop = entry.getKey();
+        content.retain();
+        if (loop.inEventLoop()) {
+          write(set, content, text);
+        } else {
+          try {
+            loop.execute(() -> write(set, content, text));
+          } catch (RejectedExecutionException e) {
+            // The event loop is shutting down and closes its sockets
+            content.release();
+          }
+        }
+      }
+    } finally {
+      content.release();
+    }
+  }
+
+  private void write(Set<WebSocketImplBase> set, ByteBuf content, boolean text) {
+    try {
+      for (Iterator<WebSocketImplBase> it = set.iterator(); it.hasNext(); ) {
+        WebSocketImplBase ws = it.next();
+        synchronized (ws.conn) {
+          if (ws.closed) {
+            it.remove();
+            continue;
+          }
+          if (policy != WriteQueueFullPolicy.WRITE && ws.conn.isNotWritable()) {
+            if (policy == WriteQueueFullPolicy.SKIP) {
+              skippedFrames.increment();
+            } else {
+              // No close frame, the socket cannot write anyway
+              it.remove();
+              ws.conn.close();
+              closedSockets.increment();
+            }
+            continue;
+          }
+          // The duplicate shares the reference count of the content, the encoder releases it once written
+          ByteBuf buf = content.retain().duplicate();
+          WebSocketFrame frame = text ? new TextWebSocketFrame(true, 0, buf) : new BinaryWebSocketFrame(true, 0, buf);
+          if (ws.writeSharedFrame(frame)) {
+            writtenFrames.increment();
+          }
+        }
+      }
+    } finally {
+      content.release();
+    }
+  }
+}
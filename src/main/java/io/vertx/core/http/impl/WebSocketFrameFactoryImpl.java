@@ -17,6 +17,7 @@
 package io.vertx.core.http.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.http.WebSocketFrame;
 import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.spi.WebSocketFrameFactory;
@@ -29,7 +30,7 @@ public class WebSocketFrameFactoryImpl implements WebSocketFrameFactory {
 
   @Override
   public WebSocketFrame binaryFrame(Buffer data, boolean isFinal) {
-    return new WebSocketFrameImpl(FrameType.BINARY, data.getByteBuf(), isFinal);
+    return new WebSocketFrameImpl(FrameType.BINARY, PooledBufferImpl.byteBufForWrite(data), isFinal);
   }
 
   @Override
@@ -39,7 +40,7 @@ public class WebSocketFrameFactoryImpl implements WebSocketFrameFactory {
 
   @Override
   public WebSocketFrame continuationFrame(Buffer data, boolean isFinal) {
-    return new WebSocketFrameImpl(FrameType.CONTINUATION, data.getByteBuf(), isFinal);
+    return new WebSocketFrameImpl(FrameType.CONTINUATION, PooledBufferImpl.byteBufForWrite(data), isFinal);
   }
 
 }
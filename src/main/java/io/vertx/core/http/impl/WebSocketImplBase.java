@@ -19,6 +19,7 @@ package io.vertx.core.http.impl;
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.http.WebSocketBase;
@@ -29,6 +30,8 @@ import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.net.impl.ConnectionBase;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -56,6 +59,7 @@ public abstract class WebSocketImplBase implements WebSocketBase {
   protected Handler<Void> closeHandler;
   protected Handler<Void> endHandler;
   protected boolean closed;
+  private Set<WebSocketBroadcastGroupImpl> broadcastGroups;
 
   protected WebSocketImplBase(VertxInternal vertx, ConnectionBase conn, boolean supportsContinuation,
                               int maxWebSocketFrameSize) {
@@ -134,9 +138,13 @@ public abstract class WebSocketImplBase implements WebSocketBase {
   }
 
   protected void writeBinaryFrameInternal(Buffer data) {
-    ByteBuf buf = data.getByteBuf();
-    WebSocketFrame frame = new WebSocketFrameImpl(FrameType.BINARY, buf);
-    writeFrame(frame);
+    synchronized (conn) {
+      // Checked before retaining a pooled buffer that would not be released otherwise
+      checkClosed();
+      ByteBuf buf = PooledBufferImpl.byteBufForWrite(data);
+      WebSocketFrame frame = new WebSocketFrameImpl(FrameType.BINARY, buf);
+      writeFrame(frame);
+    }
   }
 
   protected void writeTextFrameInternal(String str) {
@@ -152,22 +160,54 @@ public abstract class WebSocketImplBase implements WebSocketBase {
     }
   }
 
+  /**
+   * Write a frame of a {@link WebSocketBroadcastGroupImpl} broadcast, the content of the frame is shared with the
+   * other sockets of the group.
+   *
+   * @return whether the frame is written, otherwise it is released
+   */
+  boolean writeSharedFrame(io.netty.handler.codec.http.websocketx.WebSocketFrame frame) {
+    synchronized (conn) {
+      if (closed) {
+        frame.release();
+        return false;
+      }
+      conn.reportBytesWritten(frame.content().readableBytes());
+      // The frame is released when the channel is closed
+      return conn.writeToChannel(frame) != null;
+    }
+  }
+
   protected void checkClosed() {
     if (closed) {
       throw new IllegalStateException("WebSocket is closed");
     }
   }
 
-  void handleFrame(WebSocketFrameInternal frame) {
+  /**
+   * Handle a data frame, a {@code pooled} frame is released once handled and the data handler gets its own reference.
+   */
+  void handleFrame(WebSocketFrameInternal frame, boolean pooled) {
     synchronized (conn) {
-      conn.reportBytesRead(frame.binaryData().length());
-      if (dataHandler != null) {
-        Buffer buff = Buffer.buffer(frame.getBinaryData());
-        dataHandler.handle(buff);
-      }
+      try {
+        conn.reportBytesRead(frame.binaryData().length());
+        if (dataHandler != null) {
+          Buffer buff;
+          if (pooled) {
+            buff = new PooledBufferImpl(frame.getBinaryData().retain());
+          } else {
+            buff = Buffer.buffer(frame.getBinaryData());
+          }
+          dataHandler.handle(buff);
+        }
 
-      if (frameHandler != null) {
-        frameHandler.handle(frame);
+        if (frameHandler != null) {
+          frameHandler.handle(frame);
+        }
+      } finally {
+        if (pooled) {
+          ((WebSocketFrameImpl) frame).release();
+        }
       }
     }
   }
@@ -205,6 +245,31 @@ public abstract class WebSocketImplBase implements WebSocketBase {
       binaryHandlerRegistration.unregister();
       textHandlerRegistration.unregister();
       closed = true;
+      if (broadcastGroups != null) {
+        for (WebSocketBroadcastGroupImpl group : broadcastGroups) {
+          group.removeSocket(this);
+        }
+        broadcastGroups = null;
+      }
+    }
+  }
+
+  /**
+   * Remember a group this socket joined so it leaves the group once closed, must be called with the connection lock.
+   */
+  void addBroadcastGroup(WebSocketBroadcastGroupImpl group) {
+    if (broadcastGroups == null) {
+      broadcastGroups = new HashSet<>();
+    }
+    broadcastGroups.add(group);
+  }
+
+  /**
+   * Must be called with the connection lock.
+   */
+  void removeBroadcastGroup(WebSocketBroadcastGroupImpl group) {
+    if (broadcastGroups != null) {
+      broadcastGroups.remove(group);
     }
   }
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl.ws;
+
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateClientExtensionHandshaker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client side permessage-deflate negotiation, see {@link PerMessageDeflateServerHandshaker}.
+ */
+public class PerMessageDeflateClientHandshaker implements WebSocketClientExtensionHandshaker {
+
+  private static final String SERVER_NO_CONTEXT = "server_no_context_takeover";
+
+  private final PerMessageDeflateClientExtensionHandshaker delegate;
+  private final boolean requestedServerNoContext;
+  private final int compressionLevel;
+  private final int threshold;
+
+  /**
+   * @param compressionLevel the compression level of the outgoing messages
+   * @param requestedServerWindowBits the max window bits requested to the server
+   * @param allowClientNoContext whether the server can ask the client not to take over the compression context
+   * @param requestedServerNoContext whether the server is asked not to take over the compression context
+   * @param threshold the min size of an outgoing message to be compressed
+   */
+  public PerMessageDeflateClientHandshaker(int compressionLevel, int requestedServerWindowBits,
+                                           boolean allowClientNoContext, boolean requestedServerNoContext,
+                                           int threshold) {
+    // The JDK deflater always uses a 15 bits window so a smaller client window cannot be accepted
+    this.delegate = new PerMessageDeflateClientExtensionHandshaker(compressionLevel, false, requestedServerWindowBits,
+        allowClientNoContext, requestedServerNoContext);
+    this.requestedServerNoContext = requestedServerNoContext;
+    this.compressionLevel = compressionLevel;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public WebSocketExtensionData newRequestData() {
+    // The Netty handshaker offers server_no_context_takeover when a smaller server window is requested instead of
+    // when the no context takeover is requested, then it rejects the response that does not match its request
+    WebSocketExtensionData data = delegate.newRequestData();
+    Map<String, String> parameters = new HashMap<>(data.parameters());
+    if (requestedServerNoContext) {
+      parameters.put(SERVER_NO_CONTEXT, null);
+    } else {
+      parameters.remove(SERVER_NO_CONTEXT);
+    }
+    return new WebSocketExtensionData(data.name(), parameters);
+  }
+
+  @Override
+  public WebSocketClientExtension handshakeExtension(WebSocketExtensionData extensionData) {
+    WebSocketClientExtension extension = delegate.handshakeExtension(extensionData);
+    if (extension == null) {
+      return null;
+    }
+    boolean noContext = extensionData.parameters().containsKey("client_no_context_takeover");
+    return new WebSocketClientExtension() {
+      @Override
+      public int rsv() {
+        return extension.rsv();
+      }
+      @Override
+      public WebSocketExtensionEncoder newExtensionEncoder() {
+        return new PerMessageDeflateEncoder(compressionLevel, noContext, threshold);
+      }
+      @Override
+      public WebSocketExtensionDecoder newExtensionDecoder() {
+        return new PerMessageDeflateDecoder();
+      }
+    };
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl.ws;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompress the incoming WebSocket messages compressed with permessage-deflate (RFC 7692).
+ * <p>
+ * The inflater keeps its context between messages whatever the no context takeover parameters are: a message
+ * compressed with a fresh context decodes the same, while the Netty decoder of this version is created with the
+ * parameter of the wrong direction and resets its context when the peer keeps it.
+ */
+class PerMessageDeflateDecoder extends WebSocketExtensionDecoder {
+
+  // Empty stored block removed by the sender from the end of each message
+  private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xff, (byte) 0xff };
+
+  private Inflater inflater;
+  private boolean decompressing;
+
+  @Override
+  public boolean acceptInboundMessage(Object msg) throws Exception {
+    if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+      return (((WebSocketFrame) msg).rsv() & WebSocketExtension.RSV1) != 0;
+    }
+    // Only the continuations of a compressed message
+    return msg instanceof ContinuationWebSocketFrame && decompressing;
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, WebSocketFrame frame, List<Object> out) throws Exception {
+    boolean fin = frame.isFinalFragment();
+    ByteBuf decompressed = inflate(ctx.alloc(), frame.content(), fin);
+    if (frame instanceof TextWebSocketFrame) {
+      out.add(new TextWebSocketFrame(fin, frame.rsv() & ~WebSocketExtension.RSV1, decompressed));
+    } else if (frame instanceof BinaryWebSocketFrame) {
+      out.add(new BinaryWebSocketFrame(fin, frame.rsv() & ~WebSocketExtension.RSV1, decompressed));
+    } else {
+      out.add(new ContinuationWebSocketFrame(fin, frame.rsv(), decompressed));
+    }
+    decompressing = !fin;
+  }
+
+  private ByteBuf inflate(ByteBufAllocator alloc, ByteBuf content, boolean fin) {
+    if (inflater == null) {
+      inflater = new Inflater(true);
+    }
+    int len = content.readableBytes();
+    ByteBuf buf = alloc.heapBuffer(len * 2 + 16);
+    try {
+      if (content.hasArray()) {
+        inflate(buf, content.array(), content.arrayOffset() + content.readerIndex(), len);
+      } else {
+        byte[] input = new byte[len];
+        content.getBytes(content.readerIndex(), input);
+        inflate(buf, input, 0, len);
+      }
+      if (fin) {
+        inflate(buf, TAIL, 0, TAIL.length);
+        if (inflater.finished()) {
+          // The sender ended the stream with a final block, the next message starts a new one
+          inflater.reset();
+        }
+      }
+    } catch (Throwable t) {
+      buf.release();
+      throw t;
+    }
+    return buf;
+  }
+
+  private void inflate(ByteBuf buf, byte[] input, int offset, int len) {
+    inflater.setInput(input, offset, len);
+    try {
+      while (!inflater.finished()) {
+        if (!buf.isWritable()) {
+          buf.ensureWritable(buf.capacity());
+        }
+        int writable = buf.writableBytes();
+        int n = inflater.inflate(buf.array(), buf.arrayOffset() + buf.writerIndex(), writable);
+        buf.writerIndex(buf.writerIndex() + n);
+        if (n < writable) {
+          if (inflater.needsInput()) {
+            // The output did not fill the buffer, the input is consumed
+            break;
+          }
+          if (n == 0) {
+            throw new DecompressionException("Cannot decompress the message");
+          }
+        }
+      }
+    } catch (DataFormatException e) {
+      throw new DecompressionException(e);
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    if (inflater != null) {
+      inflater.end();
+      inflater = null;
+    }
+    super.handlerRemoved(ctx);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl.ws;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Compress the outgoing WebSocket messages with permessage-deflate (RFC 7692).
+ * <p>
+ * Unlike the Netty encoder, messages smaller than a threshold are sent uncompressed (without {@code RSV1}) and the
+ * input is deflated straight from the frame array when the frame is heap based.
+ */
+class PerMessageDeflateEncoder extends WebSocketExtensionEncoder {
+
+  // Empty stored block appended by a sync flush, removed from the end of each message
+  private static final int TAIL_LENGTH = 4;
+
+  private final int compressionLevel;
+  private final boolean noContext;
+  private final int threshold;
+  private Deflater deflater;
+  private boolean compressing;
+
+  PerMessageDeflateEncoder(int compressionLevel, boolean noContext, int threshold) {
+    this.compressionLevel = compressionLevel;
+    this.noContext = noContext;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public boolean acceptOutboundMessage(Object msg) throws Exception {
+    if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+      return (((WebSocketFrame) msg).rsv() & WebSocketExtension.RSV1) == 0;
+    }
+    // Only the continuations of a compressed message
+    return msg instanceof ContinuationWebSocketFrame && compressing;
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, WebSocketFrame frame, List<Object> out) throws Exception {
+    boolean fin = frame.isFinalFragment();
+    if (!compressing && fin && frame.content().readableBytes() < threshold) {
+      out.add(frame.retain());
+      return;
+    }
+    ByteBuf compressed = deflate(ctx.alloc(), frame.content(), fin);
+    if (frame instanceof TextWebSocketFrame) {
+      out.add(new TextWebSocketFrame(fin, frame.rsv() | WebSocketExtension.RSV1, compressed));
+    } else if (frame instanceof BinaryWebSocketFrame) {
+      out.add(new BinaryWebSocketFrame(fin, frame.rsv() | WebSocketExtension.RSV1, compressed));
+    } else {
+      out.add(new ContinuationWebSocketFrame(fin, frame.rsv(), compressed));
+    }
+    compressing = !fin;
+  }
+
+  private ByteBuf deflate(ByteBufAllocator alloc, ByteBuf content, boolean fin) {
+    if (deflater == null) {
+      deflater = new Deflater(compressionLevel, true);
+    }
+    int len = content.readableBytes();
+    if (content.hasArray()) {
+      deflater.setInput(content.array(), content.arrayOffset() + content.readerIndex(), len);
+    } else {
+      byte[] input = new byte[len];
+      content.getBytes(content.readerIndex(), input);
+      deflater.setInput(input);
+    }
+    ByteBuf buf = alloc.heapBuffer(len / 2 + 16);
+    try {
+      while (true) {
+        int writable = buf.writableBytes();
+        int n = deflater.deflate(buf.array(), buf.arrayOffset() + buf.writerIndex(), writable, Deflater.SYNC_FLUSH);
+        buf.writerIndex(buf.writerIndex() + n);
+        if (n < writable) {
+          // The output did not fill the buffer, the flush is complete
+          break;
+        }
+        buf.ensureWritable(buf.capacity());
+      }
+    } catch (Throwable t) {
+      buf.release();
+      throw t;
+    }
+    if (fin) {
+      // Each message ends with the 00 00 ff ff of the last sync flush which the receiver appends back
+      buf.writerIndex(buf.writerIndex() - TAIL_LENGTH);
+      if (!buf.isReadable()) {
+        buf.writeByte(0);
+      }
+      if (noContext) {
+        deflater.reset();
+      }
+    }
+    return buf;
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    if (deflater != null) {
+      deflater.end();
+      deflater = null;
+    }
+    super.handlerRemoved(ctx);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.http.impl.ws;
+
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionDecoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandshaker;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+
+/**
+ * Server side permessage-deflate negotiation, the Netty handshaker negotiates the parameters, the outgoing messages
+ * are compressed by {@link PerMessageDeflateEncoder} and the incoming messages are decompressed by
+ * {@link PerMessageDeflateDecoder}.
+ */
+public class PerMessageDeflateServerHandshaker implements WebSocketServerExtensionHandshaker {
+
+  private final PerMessageDeflateServerExtensionHandshaker delegate;
+  private final int compressionLevel;
+  private final int threshold;
+
+  /**
+   * @param compressionLevel the compression level of the outgoing messages
+   * @param clientWindowBits the max window bits requested to the client
+   * @param allowServerNoContext whether the client can ask the server not to take over the compression context
+   * @param preferredClientNoContext whether the client is asked not to take over the compression context
+   * @param threshold the min size of an outgoing message to be compressed
+   */
+  public PerMessageDeflateServerHandshaker(int compressionLevel, int clientWindowBits, boolean allowServerNoContext,
+                                           boolean preferredClientNoContext, int threshold) {
+    // The JDK deflater always uses a 15 bits window so a smaller server window cannot be accepted
+    this.delegate = new PerMessageDeflateServerExtensionHandshaker(compressionLevel, false, clientWindowBits,
+        allowServerNoContext, preferredClientNoContext);
+    this.compressionLevel = compressionLevel;
+    this.threshold = threshold;
+  }
+
+  @Override
+  public WebSocketServerExtension handshakeExtension(WebSocketExtensionData extensionData) {
+    WebSocketServerExtension extension = delegate.handshakeExtension(extensionData);
+    if (extension == null) {
+      return null;
+    }
+    WebSocketExtensionData responseData = extension.newReponseData();
+    boolean noContext = responseData.parameters().containsKey("server_no_context_takeover");
+    return new WebSocketServerExtension() {
+      @Override
+      public WebSocketExtensionData newReponseData() {
+        return responseData;
+      }
+      @Override
+      public int rsv() {
+        return extension.rsv();
+      }
+      @Override
+      public WebSocketExtensionEncoder newExtensionEncoder() {
+        return new PerMessageDeflateEncoder(compressionLevel, noContext, threshold);
+      }
+      @Override
+      public WebSocketExtensionDecoder newExtensionDecoder() {
+        return new PerMessageDeflateDecoder();
+      }
+    };
+  }
+}
@@ -16,7 +16,6 @@
 
 package io.vertx.core.impl;
 
-import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.resolver.InetNameResolver;
 import io.netty.resolver.dns.DnsNameResolverBuilder;
 import io.netty.resolver.dns.DnsServerAddresses;
@@ -46,7 +45,7 @@ public class HostnameResolver {
 
   public HostnameResolver(VertxImpl vertx, HostnameResolverOptions options) {
     DnsNameResolverBuilder builder = new DnsNameResolverBuilder(vertx.createEventLoopContext(null, null, new JsonObject(), Thread.currentThread().getContextClassLoader()).nettyEventLoop());
-    builder.channelFactory(NioDatagramChannel::new);
+    builder.channelFactory(() -> vertx.transport().datagramChannel(null));
     if (options != null) {
       List<String> dnsServers = options.getServers();
       if (dnsServers != null && dnsServers.size() > 0) {
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.impl;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hashed timer wheel owned by an event loop.
+ * <p>
+ * Timers are kept in doubly linked buckets so they are added and removed in constant time, the buckets are swept
+ * every tick by a single task scheduled on the event loop while the wheel is not empty. The wheel is only mutated
+ * from its event loop, other threads hand their changes over to it.
+ * <p>
+ * Timer ids carry the index of the wheel in their upper bits so the wheel of a timer is found from its id.
+ */
+class TimerWheel {
+
+  private static final int ID_SHIFT = 48;
+  static final int MAX_WHEELS = 1 << (63 - ID_SHIFT);
+
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final EventLoop eventLoop;
+  private final long idBase;
+  private final AtomicLong sequence = new AtomicLong();
+  // Owns the timers, whoever removes a timer from there either cancels it or expires it
+  private final ConcurrentMap<Long, Timer> timers = new ConcurrentHashMap<>();
+
+  // Only accessed from the event loop
+  private final Timer[] buckets = new Timer[WHEEL_SIZE];
+  private final long startTime = System.nanoTime();
+  private long tick;
+  private int size;
+  private ScheduledFuture<?> ticker;
+
+  TimerWheel(EventLoop eventLoop, int index) {
+    if (index < 0 || index >= MAX_WHEELS) {
+      throw new IllegalArgumentException("Invalid timer wheel index " + index);
+    }
+    this.eventLoop = eventLoop;
+    this.idBase = (long) index << ID_SHIFT;
+  }
+
+  /**
+   * @return the index of the wheel owning the timer {@code id}
+   */
+  static int index(long id) {
+    return (int) (id >>> ID_SHIFT);
+  }
+
+  long nextId() {
+    return idBase | sequence.getAndIncrement();
+  }
+
+  void schedule(Timer timer) {
+    timer.deadline = System.nanoTime() + timer.delay;
+    timers.put(timer.id, timer);
+    if (eventLoop.inEventLoop()) {
+      add(timer);
+    } else {
+      eventLoop.execute(() -> add(timer));
+    }
+  }
+
+  /**
+   * @return the cancelled timer or {@code null} if there is no such timer or it has already expired
+   */
+  Timer cancel(long id) {
+    Timer timer = timers.remove(id);
+    if (timer != null) {
+      if (eventLoop.inEventLoop()) {
+        remove(timer);
+      } else {
+        eventLoop.execute(() -> remove(timer));
+      }
+    }
+    return timer;
+  }
+
+  private void add(Timer timer) {
+    if (timers.get(timer.id) != timer) {
+      // Cancelled before it could be added
+      return;
+    }
+    if (size == 0) {
+      // Nothing to sweep for the ticks elapsed while the wheel was empty
+      tick = currentTick(System.nanoTime()) + 1;
+    }
+    if (ticker == null) {
+      ticker = eventLoop.scheduleAtFixedRate(this::expireTimers, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+    }
+    link(timer);
+  }
+
+  private void link(Timer timer) {
+    // Round up so the timer never fires early
+    long deadlineTick = (timer.deadline - startTime + TICK_NANOS - 1) / TICK_NANOS;
+    int bucket = (int) (Math.max(deadlineTick, tick) & MASK);
+    Timer head = buckets[bucket];
+    if (head != null) {
+      head.prev = timer;
+    }
+    timer.next = head;
+    timer.bucket = bucket;
+    buckets[bucket] = timer;
+    size++;
+  }
+
+  private void remove(Timer timer) {
+    if (timer.bucket == -1) {
+      return;
+    }
+    if (timer.prev != null) {
+      timer.prev.next = timer.next;
+    } else {
+      buckets[timer.bucket] = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.prev = timer.prev;
+    }
+    timer.prev = null;
+    timer.next = null;
+    timer.bucket = -1;
+    size--;
+  }
+
+  private long currentTick(long now) {
+    return (now - startTime) / TICK_NANOS;
+  }
+
+  private void expireTimers() {
+    long now = System.nanoTime();
+    long nowTick = currentTick(now);
+    while (size > 0 && tick <= nowTick) {
+      // Timers re-linked while sweeping go to the following ticks
+      Timer timer = buckets[(int) (tick++ & MASK)];
+      while (timer != null) {
+        Timer next = timer.next;
+        // Timers due in a later round of the wheel stay in the bucket
+        if (timer.deadline <= now) {
+          remove(timer);
+          if (timer.period > 0) {
+            if (timers.get(timer.id) == timer) {
+              timer.deadline += timer.period;
+              link(timer);
+              timer.expire();
+            }
+          } else if (timers.remove(timer.id, timer)) {
+            timer.expire();
+          }
+        }
+        timer = next;
+      }
+    }
+    if (size == 0) {
+      ticker.cancel(false);
+      ticker = null;
+    }
+  }
+
+  /**
+   * A timer scheduled on a wheel, {@link #expire()} is called on the event loop of the wheel.
+   */
+  static abstract class Timer {
+
+    final long id;
+    final long delay;
+    final long period;
+    private long deadline;
+    private int bucket = -1;
+    private Timer prev;
+    private Timer next;
+
+    /**
+     * @param id the id obtained from {@link TimerWheel#nextId()}
+     * @param delay the delay in ms
+     * @param periodic whether the timer fires every {@code delay} ms until it is cancelled
+     */
+    Timer(long id, long delay, boolean periodic) {
+      this.id = id;
+      this.delay = TimeUnit.MILLISECONDS.toNanos(delay);
+      this.period = periodic ? this.delay : 0;
+    }
+
+    abstract void expire();
+  }
+}
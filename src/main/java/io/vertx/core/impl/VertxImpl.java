@@ -18,8 +18,8 @@ package io.vertx.core.impl;
 
 import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.ResourceLeakDetector;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.vertx.core.*;
 import io.vertx.core.Future;
@@ -51,6 +51,7 @@ import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.NetClientImpl;
 import io.vertx.core.net.impl.NetServerImpl;
 import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.shareddata.SharedData;
 import io.vertx.core.shareddata.impl.SharedDataImpl;
 import io.vertx.core.spi.VerticleFactory;
@@ -90,6 +91,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final VertxMetrics metrics;
   private final ConcurrentMap<Long, InternalTimerHandler> timeouts = new ConcurrentHashMap<>();
   private final AtomicLong timeoutCounter = new AtomicLong(0);
+  // Not null when timer wheels are enabled, indexed by the wheel index of the timer ids
+  private final TimerWheel[] timerWheels;
+  private final Map<EventLoop, TimerWheel> timerWheelsByEventLoop;
   private final ClusterManager clusterManager;
   private final DeploymentManager deploymentManager;
   private final FileResolver fileResolver;
@@ -98,8 +102,9 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final WorkerPool workerPool;
   private final WorkerPool internalBlockingPool;
   private final ThreadFactory eventLoopThreadFactory;
-  private final NioEventLoopGroup eventLoopGroup;
-  private final NioEventLoopGroup acceptorEventLoopGroup;
+  private final Transport transport;
+  private final EventLoopGroup eventLoopGroup;
+  private final EventLoopGroup acceptorEventLoopGroup;
   private final BlockedThreadChecker checker;
   private final boolean haEnabled;
   private final HostnameResolver hostnameResolver;
@@ -126,13 +131,25 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     }
     checker = new BlockedThreadChecker(options.getBlockedThreadCheckInterval(), options.getWarningExceptionTime());
     eventLoopThreadFactory = new VertxThreadFactory("vert.x-eventloop-thread-", checker, false, options.getMaxEventLoopExecuteTime());
-    eventLoopGroup = new NioEventLoopGroup(options.getEventLoopPoolSize(), eventLoopThreadFactory);
-    eventLoopGroup.setIoRatio(NETTY_IO_RATIO);
+    transport = Transport.transport(options.isPreferNativeTransport());
+    eventLoopGroup = transport.eventLoopGroup(options.getEventLoopPoolSize(), eventLoopThreadFactory, NETTY_IO_RATIO);
+    if (options.isTimerWheelEnabled()) {
+      List<TimerWheel> wheels = new ArrayList<>();
+      timerWheelsByEventLoop = new IdentityHashMap<>();
+      for (EventExecutor executor : eventLoopGroup) {
+        TimerWheel wheel = new TimerWheel((EventLoop) executor, wheels.size());
+        wheels.add(wheel);
+        timerWheelsByEventLoop.put((EventLoop) executor, wheel);
+      }
+      timerWheels = wheels.toArray(new TimerWheel[wheels.size()]);
+    } else {
+      timerWheels = null;
+      timerWheelsByEventLoop = null;
+    }
     ThreadFactory acceptorEventLoopThreadFactory = new VertxThreadFactory("vert.x-acceptor-thread-", checker, false, options.getMaxEventLoopExecuteTime());
     // The acceptor event loop thread needs to be from a different pool otherwise can get lags in accepted connections
     // under a lot of load
-    acceptorEventLoopGroup = new NioEventLoopGroup(1, acceptorEventLoopThreadFactory);
-    acceptorEventLoopGroup.setIoRatio(100);
+    acceptorEventLoopGroup = transport.eventLoopGroup(1, acceptorEventLoopThreadFactory, 100);
 
     metrics = initialiseMetrics(options);
 
@@ -303,6 +320,11 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return acceptorEventLoopGroup;
   }
 
+  @Override
+  public Transport transport() {
+    return transport;
+  }
+
   public ContextImpl getOrCreateContext() {
     ContextImpl ctx = getContext();
     if (ctx == null) {
@@ -331,6 +353,18 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   }
 
   public boolean cancelTimer(long id) {
+    if (timerWheels != null) {
+      int index = TimerWheel.index(id);
+      if (index < timerWheels.length) {
+        WheelTimerHandler handler = (WheelTimerHandler) timerWheels[index].cancel(id);
+        if (handler != null) {
+          handler.context.removeCloseHook(handler);
+          metrics.timerEnded(id, true);
+          return true;
+        }
+      }
+      return false;
+    }
     InternalTimerHandler handler = timeouts.remove(id);
     if (handler != null) {
       handler.context.removeCloseHook(handler);
@@ -409,6 +443,14 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     if (delay < 1) {
       throw new IllegalArgumentException("Cannot schedule a timer with delay < 1 ms");
     }
+    if (timerWheels != null) {
+      TimerWheel wheel = timerWheelsByEventLoop.get(context.nettyEventLoop());
+      WheelTimerHandler task = new WheelTimerHandler(wheel.nextId(), handler, periodic, delay, context);
+      context.addCloseHook(task);
+      metrics.timerCreated(task.id);
+      wheel.schedule(task);
+      return task.id;
+    }
     long timerId = timeoutCounter.getAndIncrement();
     InternalTimerHandler task = new InternalTimerHandler(timerId, handler, periodic, delay, context);
     timeouts.put(timerId, task);
@@ -784,6 +826,40 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
 
   }
 
+  private class WheelTimerHandler extends TimerWheel.Timer implements Handler<Void>, Closeable {
+    final Handler<Long> handler;
+    final ContextImpl context;
+
+    WheelTimerHandler(long timerID, Handler<Long> handler, boolean periodic, long delay, ContextImpl context) {
+      super(timerID, delay, periodic);
+      this.handler = handler;
+      this.context = context;
+    }
+
+    @Override
+    void expire() {
+      context.runOnContext(this);
+    }
+
+    public void handle(Void v) {
+      try {
+        handler.handle(id);
+      } finally {
+        if (period == 0) {
+          // The wheel already dropped it
+          metrics.timerEnded(id, false);
+          context.removeCloseHook(this);
+        }
+      }
+    }
+
+    // Called via Context close hook when Verticle is undeployed
+    public void close(Handler<AsyncResult<Void>> completionHandler) {
+      cancelTimer(id);
+      completionHandler.handle(Future.succeededFuture());
+    }
+  }
+
   /*
    *
    * This class is optimised for performance when used on the same event loop that is was passed to the handler with.
@@ -106,6 +106,12 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public NetClientOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -124,6 +130,18 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public NetClientOptions setTcpQuickAck(boolean tcpQuickAck) {
+    super.setTcpQuickAck(tcpQuickAck);
+    return this;
+  }
+
   @Override
   public NetClientOptions setSoLinger(int soLinger) {
     super.setSoLinger(soLinger);
@@ -136,6 +154,12 @@ public class NetClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  @Override
+  public NetClientOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    super.setUsePooledDirectBuffers(usePooledDirectBuffers);
+    return this;
+  }
+
   @Override
   public NetClientOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -46,6 +46,11 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final int DEFAULT_ACCEPT_BACKLOG = -1;
 
+  /**
+   * The default value of acceptor per event loop = false
+   */
+  public static final boolean DEFAULT_ACCEPTOR_PER_EVENT_LOOP = false;
+
   /**
    * Default value of whether client auth is required (SSL/TLS) = No
    */
@@ -54,6 +59,7 @@ public class NetServerOptions extends TCPSSLOptions {
   private int port;
   private String host;
   private int acceptBacklog;
+  private boolean acceptorPerEventLoop;
   private ClientAuth clientAuth = DEFAULT_CLIENT_AUTH;
 
   /**
@@ -74,6 +80,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.port = other.getPort();
     this.host = other.getHost();
     this.acceptBacklog = other.getAcceptBacklog();
+    this.acceptorPerEventLoop = other.isAcceptorPerEventLoop();
     this.clientAuth = other.getClientAuth();
   }
 
@@ -106,6 +113,12 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setReusePort(boolean reusePort) {
+    super.setReusePort(reusePort);
+    return this;
+  }
+
   @Override
   public NetServerOptions setTrafficClass(int trafficClass) {
     super.setTrafficClass(trafficClass);
@@ -124,6 +137,18 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setTcpFastOpen(boolean tcpFastOpen) {
+    super.setTcpFastOpen(tcpFastOpen);
+    return this;
+  }
+
+  @Override
+  public NetServerOptions setTcpQuickAck(boolean tcpQuickAck) {
+    super.setTcpQuickAck(tcpQuickAck);
+    return this;
+  }
+
   @Override
   public NetServerOptions setSoLinger(int soLinger) {
     super.setSoLinger(soLinger);
@@ -136,6 +161,12 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  @Override
+  public NetServerOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    super.setUsePooledDirectBuffers(usePooledDirectBuffers);
+    return this;
+  }
+
   @Override
   public NetServerOptions setIdleTimeout(int idleTimeout) {
     super.setIdleTimeout(idleTimeout);
@@ -232,6 +263,30 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return whether each event loop accepts its own connections
+   */
+  public boolean isAcceptorPerEventLoop() {
+    return acceptorPerEventLoop;
+  }
+
+  /**
+   * Set whether each event loop accepts its own connections.
+   * <p>
+   * Instead of a single listening socket shared by the server instances, the event loop of each server instance binds
+   * its own listening socket with {@code SO_REUSEPORT} and the kernel balances the incoming connections across them.
+   * A connection is handled by the server instances of the event loop that accepted it.
+   * <p>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param acceptorPerEventLoop true to accept connections on each event loop
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setAcceptorPerEventLoop(boolean acceptorPerEventLoop) {
+    this.acceptorPerEventLoop = acceptorPerEventLoop;
+    return this;
+  }
+
   /**
    *
    * @return the port
@@ -319,6 +374,7 @@ public class NetServerOptions extends TCPSSLOptions {
     NetServerOptions that = (NetServerOptions) o;
 
     if (acceptBacklog != that.acceptBacklog) return false;
+    if (acceptorPerEventLoop != that.acceptorPerEventLoop) return false;
     if (clientAuth != that.clientAuth) return false;
     if (port != that.port) return false;
     if (host != null ? !host.equals(that.host) : that.host != null) return false;
@@ -332,6 +388,7 @@ public class NetServerOptions extends TCPSSLOptions {
     result = 31 * result + port;
     result = 31 * result + (host != null ? host.hashCode() : 0);
     result = 31 * result + acceptBacklog;
+    result = 31 * result + (acceptorPerEventLoop ? 1 : 0);
     result = 31 * result + clientAuth.hashCode();
     return result;
   }
@@ -340,6 +397,7 @@ public class NetServerOptions extends TCPSSLOptions {
     this.port = DEFAULT_PORT;
     this.host = DEFAULT_HOST;
     this.acceptBacklog = DEFAULT_ACCEPT_BACKLOG;
+    this.acceptorPerEventLoop = DEFAULT_ACCEPTOR_PER_EVENT_LOOP;
     this.clientAuth = DEFAULT_CLIENT_AUTH;
   }
 
@@ -47,10 +47,16 @@ public abstract class NetworkOptions {
    */
   public static final boolean DEFAULT_REUSE_ADDRESS = true;
 
+  /**
+   * The default value of reuse port = false
+   */
+  public static final boolean DEFAULT_REUSE_PORT = false;
+
   private int sendBufferSize;
   private int receiveBufferSize;
   private int trafficClass;
   private boolean reuseAddress;
+  private boolean reusePort;
 
   /**
    * Default constructor
@@ -59,6 +65,7 @@ public abstract class NetworkOptions {
     sendBufferSize = DEFAULT_SEND_BUFFER_SIZE;
     receiveBufferSize = DEFAULT_RECEIVE_BUFFER_SIZE;
     reuseAddress = DEFAULT_REUSE_ADDRESS;
+    reusePort = DEFAULT_REUSE_PORT;
     trafficClass = DEFAULT_TRAFFIC_CLASS;
   }
 
@@ -71,6 +78,7 @@ public abstract class NetworkOptions {
     this.sendBufferSize = other.getSendBufferSize();
     this.receiveBufferSize = other.getReceiveBufferSize();
     this.reuseAddress = other.isReuseAddress();
+    this.reusePort = other.isReusePort();
     this.trafficClass = other.getTrafficClass();
   }
 
@@ -143,6 +151,26 @@ public abstract class NetworkOptions {
     return this;
   }
 
+  /**
+   * @return  the value of reuse port
+   */
+  public boolean isReusePort() {
+    return reusePort;
+  }
+
+  /**
+   * Set the value of reuse port.
+   * <p/>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param reusePort  the value of reuse port
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetworkOptions setReusePort(boolean reusePort) {
+    this.reusePort = reusePort;
+    return this;
+  }
+
   /**
    * @return  the value of traffic class
    */
@@ -171,6 +199,7 @@ public abstract class NetworkOptions {
 
     if (receiveBufferSize != that.receiveBufferSize) return false;
     if (reuseAddress != that.reuseAddress) return false;
+    if (reusePort != that.reusePort) return false;
     if (sendBufferSize != that.sendBufferSize) return false;
     if (trafficClass != that.trafficClass) return false;
 
@@ -183,6 +212,7 @@ public abstract class NetworkOptions {
     result = 31 * result + receiveBufferSize;
     result = 31 * result + trafficClass;
     result = 31 * result + (reuseAddress ? 1 : 0);
+    result = 31 * result + (reusePort ? 1 : 0);
     return result;
   }
 }
@@ -40,6 +40,16 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_TCP_KEEP_ALIVE = false;
 
+  /**
+   * The default value of TCP fast open = false
+   */
+  public static final boolean DEFAULT_TCP_FAST_OPEN = false;
+
+  /**
+   * The default value of TCP quick ack = false
+   */
+  public static final boolean DEFAULT_TCP_QUICKACK = false;
+
   /**
    * The default value of SO_linger = -1
    */
@@ -50,6 +60,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_USE_POOLED_BUFFERS = false;
 
+  /**
+   * The default value of use pooled direct buffers = false
+   */
+  public static final boolean DEFAULT_USE_POOLED_DIRECT_BUFFERS = false;
+
   /**
    * SSL enable by default = false
    */
@@ -73,8 +88,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
 
   private boolean tcpNoDelay;
   private boolean tcpKeepAlive;
+  private boolean tcpFastOpen;
+  private boolean tcpQuickAck;
   private int soLinger;
   private boolean usePooledBuffers;
+  private boolean usePooledDirectBuffers;
   private int idleTimeout;
   private boolean ssl;
   private KeyCertOptions keyCertOptions;
@@ -103,8 +121,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     super(other);
     this.tcpNoDelay = other.isTcpNoDelay();
     this.tcpKeepAlive = other.isTcpKeepAlive();
+    this.tcpFastOpen = other.isTcpFastOpen();
+    this.tcpQuickAck = other.isTcpQuickAck();
     this.soLinger = other.getSoLinger();
     this.usePooledBuffers = other.isUsePooledBuffers();
+    this.usePooledDirectBuffers = other.isUsePooledDirectBuffers();
     this.idleTimeout = other.getIdleTimeout();
     this.ssl = other.isSsl();
     this.keyCertOptions = other.getKeyCertOptions() != null ? other.getKeyCertOptions().clone() : null;
@@ -131,8 +152,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
   private void init() {
     tcpNoDelay = DEFAULT_TCP_NO_DELAY;
     tcpKeepAlive = DEFAULT_TCP_KEEP_ALIVE;
+    tcpFastOpen = DEFAULT_TCP_FAST_OPEN;
+    tcpQuickAck = DEFAULT_TCP_QUICKACK;
     soLinger = DEFAULT_SO_LINGER;
     usePooledBuffers = DEFAULT_USE_POOLED_BUFFERS;
+    usePooledDirectBuffers = DEFAULT_USE_POOLED_DIRECT_BUFFERS;
     idleTimeout = DEFAULT_IDLE_TIMEOUT;
     ssl = DEFAULT_SSL;
     crlPaths = new ArrayList<>();
@@ -177,6 +201,46 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return is TCP fast open enabled?
+   */
+  public boolean isTcpFastOpen() {
+    return tcpFastOpen;
+  }
+
+  /**
+   * Set whether TCP fast open is enabled, servers then accept data in the SYN of connections from returning clients.
+   * <p/>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param tcpFastOpen true if TCP fast open is enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setTcpFastOpen(boolean tcpFastOpen) {
+    this.tcpFastOpen = tcpFastOpen;
+    return this;
+  }
+
+  /**
+   * @return is TCP quick ack enabled?
+   */
+  public boolean isTcpQuickAck() {
+    return tcpQuickAck;
+  }
+
+  /**
+   * Set whether TCP quick ack is enabled, acknowledgments are then sent immediately instead of being delayed.
+   * <p/>
+   * This is only supported by the native transport, it is ignored otherwise.
+   *
+   * @param tcpQuickAck true if TCP quick ack is enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setTcpQuickAck(boolean tcpQuickAck) {
+    this.tcpQuickAck = tcpQuickAck;
+    return this;
+  }
+
   /**
    *
    * @return is SO_linger enabled
@@ -218,6 +282,27 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return is the received data handed out as pooled direct buffers?
+   */
+  public boolean isUsePooledDirectBuffers() {
+    return usePooledDirectBuffers;
+  }
+
+  /**
+   * Set whether the data received by the connections is handed out as pooled direct buffers instead of heap copies.
+   * <p/>
+   * The received buffers are then {@link io.vertx.core.buffer.PooledBuffer} that must be released by their receiver.
+   * This applies to {@code NetSocket} data, HTTP/1.x bodies and WebSocket data frames.
+   *
+   * @param usePooledDirectBuffers true if the received data is handed out as pooled direct buffers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TCPSSLOptions setUsePooledDirectBuffers(boolean usePooledDirectBuffers) {
+    this.usePooledDirectBuffers = usePooledDirectBuffers;
+    return this;
+  }
+
   /**
    * Set the idle timeout, in seconds. zero means don't timeout.
    * This determines if a connection will timeout and be closed if no data is received within the timeout.
@@ -460,8 +545,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     if (soLinger != that.soLinger) return false;
     if (ssl != that.ssl) return false;
     if (tcpKeepAlive != that.tcpKeepAlive) return false;
+    if (tcpFastOpen != that.tcpFastOpen) return false;
+    if (tcpQuickAck != that.tcpQuickAck) return false;
     if (tcpNoDelay != that.tcpNoDelay) return false;
     if (usePooledBuffers != that.usePooledBuffers) return false;
+    if (usePooledDirectBuffers != that.usePooledDirectBuffers) return false;
     if (crlPaths != null ? !crlPaths.equals(that.crlPaths) : that.crlPaths != null) return false;
     if (crlValues != null ? !crlValues.equals(that.crlValues) : that.crlValues != null) return false;
     if (enabledCipherSuites != null ? !enabledCipherSuites.equals(that.enabledCipherSuites) : that.enabledCipherSuites != null)
@@ -480,8 +568,11 @@ public abstract class TCPSSLOptions extends NetworkOptions {
     int result = super.hashCode();
     result = 31 * result + (tcpNoDelay ? 1 : 0);
     result = 31 * result + (tcpKeepAlive ? 1 : 0);
+    result = 31 * result + (tcpFastOpen ? 1 : 0);
+    result = 31 * result + (tcpQuickAck ? 1 : 0);
     result = 31 * result + soLinger;
     result = 31 * result + (usePooledBuffers ? 1 : 0);
+    result = 31 * result + (usePooledDirectBuffers ? 1 : 0);
     result = 31 * result + idleTimeout;
     result = 31 * result + (ssl ? 1 : 0);
     result = 31 * result + (keyCertOptions != null ? keyCertOptions.hashCode() : 0);
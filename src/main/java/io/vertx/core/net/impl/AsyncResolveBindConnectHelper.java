@@ -74,6 +74,23 @@ public class AsyncResolveBindConnectHelper {
     return doBindConnect(vertx, port, host, bootstrap::bind);
   }
 
+  /**
+   * Bind {@code bootstrap} once {@code previous} is bound, on the actual port of the channel of {@code previous}.
+   */
+  public static AsyncResolveBindConnectHelper doBindAfter(VertxInternal vertx, AsyncResolveBindConnectHelper previous,
+                                                          String host, ServerBootstrap bootstrap) {
+    AsyncResolveBindConnectHelper asyncResolveBindConnectHelper = new AsyncResolveBindConnectHelper();
+    previous.addListener(ar -> {
+      if (ar.succeeded()) {
+        int port = ((InetSocketAddress) ar.result().localAddress()).getPort();
+        doBind(vertx, port, host, bootstrap).addListener(res -> asyncResolveBindConnectHelper.handle(null, res));
+      } else {
+        asyncResolveBindConnectHelper.handle(null, Future.failedFuture(ar.cause()));
+      }
+    });
+    return asyncResolveBindConnectHelper;
+  }
+
   public static AsyncResolveBindConnectHelper doConnect(VertxInternal vertx, int port, String host,
                                                                        Bootstrap bootstrap) {
     return doBindConnect(vertx, port, host, bootstrap::connect);
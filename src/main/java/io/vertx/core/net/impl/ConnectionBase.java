@@ -19,6 +19,7 @@ package io.vertx.core.net.impl;
 import io.netty.channel.*;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
+import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.*;
 import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.VertxInternal;
@@ -109,6 +110,10 @@ public abstract class ConnectionBase {
     return channel.write(obj);
   }
 
+  /**
+   * Write {@code obj} to the channel, when the channel is closed {@code obj} is released like Netty does for a failed
+   * write and {@code null} is returned.
+   */
   public synchronized ChannelFuture writeToChannel(Object obj) {
     if (read) {
       return queueForWrite(obj);
@@ -116,6 +121,7 @@ public abstract class ConnectionBase {
     if (channel.isOpen()) {
       return channel.writeAndFlush(obj);
     } else {
+      ReferenceCountUtil.release(obj);
       return null;
     }
   }
@@ -168,6 +174,10 @@ public abstract class ConnectionBase {
     return context;
   }
 
+  public Channel nettyChannel() {
+    return channel;
+  }
+
   protected abstract Object metric();
 
   protected synchronized void handleException(Throwable t) {
@@ -227,9 +237,13 @@ public abstract class ConnectionBase {
   }
 
   protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) throws IOException {
+    return sendFile(raf, offset, length, supportsFileRegion());
+  }
+
+  protected ChannelFuture sendFile(RandomAccessFile raf, long offset, long length, boolean fileRegion) throws IOException {
     // Write the content.
     ChannelFuture writeFuture;
-    if (!supportsFileRegion()) {
+    if (!fileRegion) {
       // Cannot use zero-copy
       writeFuture = writeToChannel(new ChunkedFile(raf, offset, length, 8192));
     } else {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.net.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoop;
+import io.netty.channel.group.ChannelGroup;
+import io.vertx.core.impl.VertxInternal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The listening sockets of a server when each event loop accepts its own connections.
+ * <p>
+ * A socket is bound with {@code SO_REUSEPORT} for each event loop having handlers so the kernel balances the incoming
+ * connections across the event loops, a connection is then handled on the event loop of the socket that accepted it.
+ * The sockets are reference counted by event loop and closed when their event loop has no handlers left.
+ * <p>
+ * This class is thread-safe.
+ */
+public class EventLoopAcceptors {
+
+  private final VertxInternal vertx;
+  private final ServerBootstrap bootstrap;
+  private final int port;
+  private final String host;
+  private final ChannelGroup channelGroup;
+  private final Map<EventLoop, Acceptor> acceptors = new HashMap<>();
+  private AsyncResolveBindConnectHelper first;
+
+  /**
+   * @param bootstrap the bootstrap of the sockets, without event loop group
+   * @param channelGroup the group the bound sockets are added to
+   */
+  public EventLoopAcceptors(VertxInternal vertx, ServerBootstrap bootstrap, int port, String host,
+                            ChannelGroup channelGroup) {
+    this.vertx = vertx;
+    this.bootstrap = bootstrap;
+    this.port = port;
+    this.host = host;
+    this.channelGroup = channelGroup;
+  }
+
+  /**
+   * Add a reference to the socket of {@code eventLoop}, the socket is bound by the first reference.
+   *
+   * @return the bind future of the socket
+   */
+  public synchronized AsyncResolveBindConnectHelper addEventLoop(EventLoop eventLoop) {
+    Acceptor acceptor = acceptors.get(eventLoop);
+    if (acceptor == null) {
+      ServerBootstrap b = bootstrap.clone().group(eventLoop, eventLoop);
+      AsyncResolveBindConnectHelper bindFuture;
+      if (first == null) {
+        bindFuture = AsyncResolveBindConnectHelper.doBind(vertx, port, host, b);
+        first = bindFuture;
+      } else {
+        // Use the actual port of the first socket, a wildcard port is only resolved by the first bind
+        bindFuture = AsyncResolveBindConnectHelper.doBindAfter(vertx, first, host, b);
+      }
+      bindFuture.addListener(res -> {
+        if (res.succeeded()) {
+          channelGroup.add(res.result());
+        }
+      });
+      acceptor = new Acceptor(bindFuture);
+      acceptors.put(eventLoop, acceptor);
+    }
+    acceptor.count++;
+    return acceptor.bindFuture;
+  }
+
+  /**
+   * Remove a reference to the socket of {@code eventLoop}, the socket is closed when there are no references left.
+   */
+  public synchronized void removeEventLoop(EventLoop eventLoop) {
+    Acceptor acceptor = acceptors.get(eventLoop);
+    if (acceptor != null && --acceptor.count == 0) {
+      acceptors.remove(eventLoop);
+      acceptor.bindFuture.addListener(res -> {
+        if (res.succeeded()) {
+          res.result().close();
+        }
+      });
+    }
+  }
+
+  private static class Acceptor {
+    final AsyncResolveBindConnectHelper bindFuture;
+    int count;
+
+    Acceptor(AsyncResolveBindConnectHelper bindFuture) {
+      this.bindFuture = bindFuture;
+    }
+  }
+}
@@ -21,7 +21,6 @@ import io.netty.channel.*;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -73,6 +72,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
   private volatile ServerID id;
   private NetServerImpl actualServer;
   private AsyncResolveBindConnectHelper bindFuture;
+  private EventLoopAcceptors acceptors;
   private volatile int actualPort;
   private ContextImpl listenContext;
   private TCPMetrics metrics;
@@ -148,12 +148,16 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
       this.actualPort = port; // Will be updated on bind for a wildcard port
       id = new ServerID(port, host);
       NetServerImpl shared = vertx.sharedNetServers().get(id);
+      AsyncResolveBindConnectHelper listenFuture;
       if (shared == null || port == 0) { // Wildcard port will imply a new actual server each time
         serverChannelGroup = new DefaultChannelGroup("vertx-acceptor-channels", GlobalEventExecutor.INSTANCE);
 
         ServerBootstrap bootstrap = new ServerBootstrap();
-        bootstrap.group(availableWorkers);
-        bootstrap.channel(NioServerSocketChannel.class);
+        boolean acceptorPerEventLoop = options.isAcceptorPerEventLoop() && vertx.transport().isNative();
+        if (!acceptorPerEventLoop) {
+          bootstrap.group(availableWorkers);
+        }
+        bootstrap.channel(vertx.transport().serverChannelType());
         sslHelper.validate(vertx);
 
         bootstrap.childHandler(new ChannelInitializer<Channel>() {
@@ -186,7 +190,13 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
         }
 
         try {
-          bindFuture = AsyncResolveBindConnectHelper.doBind(vertx, port, host, bootstrap);
+          if (acceptorPerEventLoop) {
+            // Each event loop binds its own socket when it gets handlers
+            acceptors = new EventLoopAcceptors(vertx, bootstrap, port, host, serverChannelGroup);
+            bindFuture = acceptors.addEventLoop(listenContext.nettyEventLoop());
+          } else {
+            bindFuture = AsyncResolveBindConnectHelper.doBind(vertx, port, host, bootstrap);
+          }
           bindFuture.addListener(res -> {
             if (res.succeeded()) {
               Channel ch = res.result();
@@ -217,6 +227,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
           vertx.sharedNetServers().put(id, this);
         }
         actualServer = this;
+        listenFuture = bindFuture;
       } else {
         // Server already exists with that host/port - we will use that
         actualServer = shared;
@@ -225,10 +236,15 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
         if (connectStream.handler() != null) {
           actualServer.handlerManager.addHandler(connectStream.handler(), listenContext);
         }
+        if (actualServer.acceptors != null) {
+          listenFuture = actualServer.acceptors.addEventLoop(listenContext.nettyEventLoop());
+        } else {
+          listenFuture = actualServer.bindFuture;
+        }
       }
 
       // just add it to the future so it gets notified once the bind is complete
-      actualServer.bindFuture.addListener(res -> {
+      listenFuture.addListener(res -> {
         if (listenHandler != null) {
           AsyncResult<NetServer> ares;
           if (res.succeeded()) {
@@ -286,6 +302,9 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
 
       if (actualServer != null) {
         actualServer.handlerManager.removeHandler(connectStream.handler(), listenContext);
+        if (actualServer.acceptors != null) {
+          actualServer.acceptors.removeEventLoop(listenContext.nettyEventLoop());
+        }
 
         if (actualServer.handlerManager.hasHandlers()) {
           // The actual server still has handlers so we don't actually close it
@@ -342,6 +361,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
     if (options.getAcceptBacklog() != -1) {
       bootstrap.option(ChannelOption.SO_BACKLOG, options.getAcceptBacklog());
     }
+    vertx.transport().configure(options, bootstrap);
   }
 
   private void actualClose(ContextImpl closeContext, Handler<AsyncResult<Void>> done) {
@@ -378,7 +398,7 @@ public class NetServerImpl implements NetServer, Closeable, MetricsProvider {
 
   private class ServerHandler extends VertxNetHandler {
     public ServerHandler(Channel ch) {
-      super(ch, socketMap);
+      super(ch, socketMap, options.isUsePooledDirectBuffers());
     }
 
     @Override
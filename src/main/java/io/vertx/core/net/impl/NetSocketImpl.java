@@ -27,6 +27,8 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.impl.ContextImpl;
@@ -97,7 +99,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocket {
 
   @Override
   public NetSocket write(Buffer data) {
-    ByteBuf buf = data.getByteBuf();
+    ByteBuf buf = PooledBufferImpl.byteBufForWrite(data);
     write(buf);
     return this;
   }
@@ -304,14 +306,19 @@ public class NetSocketImpl extends ConnectionBase implements NetSocket {
       } else {
         pendingData.appendBuffer(data);
       }
+      PooledBuffer.release(data);
       return;
     }
     if (pendingData != null) {
-      data = pendingData.appendBuffer(data);
+      Buffer received = data;
+      data = pendingData.appendBuffer(received);
+      PooledBuffer.release(received);
     }
     reportBytesRead(data.length());
     if (dataHandler != null) {
       dataHandler.handle(data);
+    } else {
+      PooledBuffer.release(data);
     }
   }
 
@@ -21,6 +21,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.impl.ContextImpl;
 
 import java.util.Map;
@@ -33,17 +34,27 @@ public class VertxNetHandler extends VertxHandler<NetSocketImpl> {
 
   private final Channel ch;
   private final Map<Channel, NetSocketImpl> connectionMap;
+  private final boolean pooledBuffers;
   protected NetSocketImpl conn;
 
   public VertxNetHandler(Channel ch, Map<Channel, NetSocketImpl> connectionMap) {
+    this(ch, connectionMap, false);
+  }
+
+  /**
+   * @param pooledBuffers whether the received data is handed out as pooled buffers instead of heap copies
+   */
+  public VertxNetHandler(Channel ch, Map<Channel, NetSocketImpl> connectionMap, boolean pooledBuffers) {
     this.ch = ch;
     this.connectionMap = connectionMap;
+    this.pooledBuffers = pooledBuffers;
   }
 
   public VertxNetHandler(Channel ch, NetSocketImpl conn, Map<Channel, NetSocketImpl> connectionMap) {
     this.ch = ch;
     this.connectionMap = connectionMap;
     this.conn = conn;
+    this.pooledBuffers = false;
   }
 
   @Override
@@ -64,15 +75,17 @@ public class VertxNetHandler extends VertxHandler<NetSocketImpl> {
   protected void channelRead(NetSocketImpl sock, ContextImpl context, ChannelHandlerContext chctx, Object msg) throws Exception {
     if (sock != null) {
       ByteBuf buf = (ByteBuf) msg;
-      context.executeFromIO(() -> sock.handleDataReceived(Buffer.buffer(buf)));
-    } else {
+      Buffer data = pooledBuffers ? new PooledBufferImpl(buf) : Buffer.buffer(buf);
+      context.executeFromIO(() -> sock.handleDataReceived(data));
+    } else if (pooledBuffers) {
       // just discard
+      ((ByteBuf) msg).release();
     }
   }
 
   @Override
   protected Object safeObject(Object msg, ByteBufAllocator allocator) throws Exception {
-    if (msg instanceof ByteBuf) {
+    if (msg instanceof ByteBuf && !pooledBuffers) {
       return safeBuffer((ByteBuf) msg, allocator);
     }
     return msg;
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.net.impl.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.NetServerOptions;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The Linux epoll transport, the epoll channels are edge-triggered.
+ */
+class EpollTransport extends Transport {
+
+  // Length of the queue of pending TCP fast open requests of a server
+  private static final int TCP_FASTOPEN_QUEUE_LENGTH = 256;
+
+  EpollTransport() {
+  }
+
+  @Override
+  public boolean isAvailable() {
+    try {
+      return Epoll.isAvailable();
+    } catch (Throwable t) {
+      // The epoll classes are not on the classpath or cannot be initialized
+      return false;
+    }
+  }
+
+  @Override
+  public Throwable unavailabilityCause() {
+    try {
+      return Epoll.unavailabilityCause();
+    } catch (Throwable t) {
+      return t;
+    }
+  }
+
+  @Override
+  public boolean isNative() {
+    return true;
+  }
+
+  @Override
+  public EventLoopGroup eventLoopGroup(int nThreads, ThreadFactory threadFactory, int ioRatio) {
+    EpollEventLoopGroup eventLoopGroup = new EpollEventLoopGroup(nThreads, threadFactory);
+    eventLoopGroup.setIoRatio(ioRatio);
+    return eventLoopGroup;
+  }
+
+  @Override
+  public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+    // Native datagram sockets are dual stack
+    return new EpollDatagramChannel();
+  }
+
+  @Override
+  public Class<? extends DatagramChannel> datagramChannelType() {
+    return EpollDatagramChannel.class;
+  }
+
+  @Override
+  public Class<? extends Channel> channelType() {
+    return EpollSocketChannel.class;
+  }
+
+  @Override
+  public Class<? extends ServerChannel> serverChannelType() {
+    return EpollServerSocketChannel.class;
+  }
+
+  @Override
+  public void configure(NetServerOptions options, ServerBootstrap bootstrap) {
+    bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort() || options.isAcceptorPerEventLoop());
+    if (options.isTcpFastOpen()) {
+      bootstrap.option(EpollChannelOption.TCP_FASTOPEN, TCP_FASTOPEN_QUEUE_LENGTH);
+    }
+    bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, options.isTcpQuickAck());
+  }
+
+  @Override
+  public void configure(ClientOptionsBase options, Bootstrap bootstrap) {
+    bootstrap.option(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+    bootstrap.option(EpollChannelOption.TCP_QUICKACK, options.isTcpQuickAck());
+  }
+
+  @Override
+  public void configure(DatagramChannel channel, DatagramSocketOptions options) {
+    channel.config().setOption(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
+  }
+}
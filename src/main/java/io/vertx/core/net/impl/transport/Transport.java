@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.core.net.impl.transport;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.NetServerOptions;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The Netty transport used by a Vert.x instance: the event loop groups and the channels created for servers,
+ * clients and datagram sockets must all come from the same transport.
+ * <p>
+ * The default transport is the JDK NIO one, the native transport is used when
+ * {@link io.vertx.core.VertxOptions#setPreferNativeTransport(boolean)} is set and it is available.
+ */
+public class Transport {
+
+  private static final Logger log = LoggerFactory.getLogger(Transport.class);
+
+  /**
+   * The JDK NIO transport, always available.
+   */
+  public static final Transport JDK = new Transport();
+
+  /**
+   * @param preferNative whether the native transport should be used when available
+   * @return the transport to use
+   */
+  public static Transport transport(boolean preferNative) {
+    if (preferNative) {
+      Transport nativeTransport = nativeTransport();
+      if (nativeTransport.isAvailable()) {
+        return nativeTransport;
+      }
+      log.warn("Native transport not available, falling back to the JDK transport", nativeTransport.unavailabilityCause());
+    }
+    return JDK;
+  }
+
+  private static Transport nativeTransport() {
+    try {
+      return new EpollTransport();
+    } catch (Throwable ignore) {
+      // The native transport is not on the classpath
+      return new Transport() {
+        @Override
+        public boolean isAvailable() {
+          return false;
+        }
+        @Override
+        public Throwable unavailabilityCause() {
+          return ignore;
+        }
+      };
+    }
+  }
+
+  protected Transport() {
+  }
+
+  /**
+   * @return whether this transport can be used on this platform
+   */
+  public boolean isAvailable() {
+    return true;
+  }
+
+  /**
+   * @return the reason why the transport is not available or {@code null}
+   */
+  public Throwable unavailabilityCause() {
+    return null;
+  }
+
+  /**
+   * @return whether the transport is a native one, native transports support the native socket options
+   */
+  public boolean isNative() {
+    return false;
+  }
+
+  public EventLoopGroup eventLoopGroup(int nThreads, ThreadFactory threadFactory, int ioRatio) {
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(nThreads, threadFactory);
+    eventLoopGroup.setIoRatio(ioRatio);
+    return eventLoopGroup;
+  }
+
+  public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+    return family != null ? new NioDatagramChannel(family) : new NioDatagramChannel();
+  }
+
+  public Class<? extends DatagramChannel> datagramChannelType() {
+    return NioDatagramChannel.class;
+  }
+
+  public Class<? extends Channel> channelType() {
+    return NioSocketChannel.class;
+  }
+
+  public Class<? extends ServerChannel> serverChannelType() {
+    return NioServerSocketChannel.class;
+  }
+
+  /**
+   * Apply the options only supported by this transport to a server bootstrap, the JDK transport ignores them.
+   */
+  public void configure(NetServerOptions options, ServerBootstrap bootstrap) {
+  }
+
+  /**
+   * Apply the options only supported by this transport to a client bootstrap, the JDK transport ignores them.
+   */
+  public void configure(ClientOptionsBase options, Bootstrap bootstrap) {
+  }
+
+  /**
+   * Apply the options only supported by this transport to a datagram channel, the JDK transport ignores them.
+   */
+  public void configure(DatagramChannel channel, DatagramSocketOptions options) {
+  }
+}
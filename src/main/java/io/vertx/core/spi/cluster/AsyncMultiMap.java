@@ -63,4 +63,20 @@ public interface AsyncMultiMap<K, V> {
    * @param completionHandler This will be called when the remove is complete
    */
   void removeAllForValue(V v, Handler<AsyncResult<Void>> completionHandler);
+
+  /**
+   * Set a handler called when the values of a key have changed on any node of the cluster, this allows callers to
+   * cache the result of {@link #get}. The handler is called with the changed key, or with {@code null} when it
+   * cannot be determined (e.g after {@link #removeAllForValue}) meaning any key may have changed. It must be called
+   * before the completion handler of the operation that caused the change, and may be called from any thread.
+   * <p>
+   * The default implementation does not support it and returns false, callers must then fall back to a time based
+   * expiration of their cache.
+   *
+   * @param handler the handler
+   * @return true when the map notifies the changes
+   */
+  default boolean keyChangeHandler(Handler<K> handler) {
+    return false;
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Append and get paths of {@link io.vertx.core.buffer.impl.BufferImpl}.
+ */
+@State(Scope.Thread)
+public class BufferBenchmark extends BenchmarkBase {
+
+  @Param({"16", "1024"})
+  public int size;
+
+  private byte[] bytes;
+  private Buffer source;
+  private Buffer target;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[size];
+    for (int i = 0; i < size; i++) {
+      bytes[i] = (byte) i;
+    }
+    source = Buffer.buffer(bytes);
+    target = Buffer.buffer(size * 4);
+  }
+
+  @Benchmark
+  public Buffer appendBytes() {
+    return Buffer.buffer(size).appendBytes(bytes);
+  }
+
+  @Benchmark
+  public Buffer appendBuffer() {
+    return Buffer.buffer(size).appendBuffer(source);
+  }
+
+  @Benchmark
+  public Buffer appendPrimitives() {
+    return Buffer.buffer(16).appendByte((byte) 1).appendShort((short) 2).appendInt(3).appendLong(4L);
+  }
+
+  @Benchmark
+  public Buffer appendString() {
+    return Buffer.buffer().appendString("some-event-bus-address");
+  }
+
+  @Benchmark
+  public void getPrimitives(Blackhole blackhole) {
+    for (int i = 0; i + 8 <= size; i += 8) {
+      blackhole.consume(source.getLong(i));
+      blackhole.consume(source.getInt(i));
+      blackhole.consume(source.getByte(i));
+    }
+  }
+
+  @Benchmark
+  public byte[] getBytes() {
+    return source.getBytes(0, size);
+  }
+
+  @Benchmark
+  public Buffer setBytes() {
+    return target.setBytes(0, bytes);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.impl.CodecManager;
+import io.vertx.core.eventbus.impl.clustered.ClusteredMessage;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.impl.ServerID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+
+/**
+ * Wire encoding and decoding of {@link ClusteredMessage}, as done for every message sent between nodes.
+ */
+@State(Scope.Thread)
+public class ClusteredMessageBenchmark extends BenchmarkBase {
+
+  @Param({"string", "json"})
+  public String body;
+
+  private CodecManager codecManager;
+  private ClusteredMessage<Object, Object> message;
+  private Buffer wire;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    codecManager = new CodecManager();
+    Object payload;
+    if (body.equals("json")) {
+      JsonObject json = new JsonObject();
+      for (int i = 0; i < 32; i++) {
+        json.put("key" + i, "value" + i);
+      }
+      payload = json;
+    } else {
+      payload = "hello";
+    }
+    MultiMap headers = new CaseInsensitiveHeaders().add("header1", "value1").add("header2", "value2");
+    message = new ClusteredMessage<>(new ServerID(25500, "192.168.0.1"), "some.service.address",
+      UUID.randomUUID().toString(), headers, payload, codecManager.lookupCodec(payload, null), true, null);
+    Buffer encoded = message.encodeToWire();
+    // The overall length is consumed by the record parser before readFromWire is called
+    wire = encoded.getBuffer(4, encoded.length());
+  }
+
+  @Benchmark
+  public Buffer encodeToWire() {
+    return message.encodeToWire();
+  }
+
+  @Benchmark
+  public void readFromWire(Blackhole blackhole) {
+    ClusteredMessage<Object, Object> received = new ClusteredMessage<>();
+    received.readFromWire(wire, codecManager);
+    blackhole.consume(received.headers());
+    blackhole.consume(received.body());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local delivery through {@link io.vertx.core.eventbus.impl.EventBusImpl}: each invocation sends a batch of
+ * messages and waits until all of them have been handled so the event loop queue never grows unbounded.
+ */
+@State(Scope.Benchmark)
+public class EventBusBenchmark extends BenchmarkBase {
+
+  static final int BATCH = 100;
+  static final int CONSUMERS = 4;
+
+  private Vertx vertx;
+  private EventBus eventBus;
+  private volatile CountDownLatch latch;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    eventBus = vertx.eventBus();
+    CountDownLatch registered = new CountDownLatch(CONSUMERS);
+    for (int i = 0; i < CONSUMERS; i++) {
+      MessageConsumer<String> consumer = eventBus.consumer("bench", msg -> latch.countDown());
+      consumer.completionHandler(ar -> registered.countDown());
+    }
+    registered.await(10, TimeUnit.SECONDS);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    CountDownLatch closed = new CountDownLatch(1);
+    vertx.close(ar -> closed.countDown());
+    closed.await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void send() throws Exception {
+    latch = new CountDownLatch(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      eventBus.send("bench", "hello");
+    }
+    latch.await();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void publish() throws Exception {
+    latch = new CountDownLatch(BATCH * CONSUMERS);
+    for (int i = 0; i < BATCH; i++) {
+      eventBus.publish("bench", "hello");
+    }
+    latch.await();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.impl.VertxHttpHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+
+/**
+ * Add and get paths of {@link CaseInsensitiveHeaders} compared to {@link VertxHttpHeaders}, and the copy of the headers
+ * to the HTTP/2 headers of a message.
+ */
+@State(Scope.Thread)
+public class HeadersBenchmark extends BenchmarkBase {
+
+  static final String[] NAMES = {
+    "Content-Type", "Content-Length", "Accept", "Accept-Encoding", "User-Agent", "Host", "Connection", "Cookie"
+  };
+
+  static final String[] VALUES = {
+    "application/json", "1024", "*/*", "gzip, deflate", "vertx-benchmark", "localhost:8080", "keep-alive", "a=b; c=d"
+  };
+
+  static final CharSequence[] OPTIMIZED_NAMES = new CharSequence[NAMES.length];
+
+  static final CharSequence[] OPTIMIZED_VALUES = new CharSequence[VALUES.length];
+
+  static {
+    for (int i = 0; i < NAMES.length; i++) {
+      OPTIMIZED_NAMES[i] = HttpHeaders.createOptimized(NAMES[i]);
+      OPTIMIZED_VALUES[i] = HttpHeaders.createOptimized(VALUES[i]);
+    }
+  }
+
+  @Param({"CaseInsensitiveHeaders", "VertxHttpHeaders"})
+  public String type;
+
+  private MultiMap headers;
+
+  @Setup
+  public void setup() {
+    headers = populate(newHeaders());
+  }
+
+  private MultiMap newHeaders() {
+    return type.equals("VertxHttpHeaders") ? new VertxHttpHeaders() : new CaseInsensitiveHeaders();
+  }
+
+  static MultiMap populate(MultiMap headers) {
+    for (int i = 0; i < NAMES.length; i++) {
+      headers.add(NAMES[i], VALUES[i]);
+    }
+    return headers;
+  }
+
+  @Benchmark
+  public MultiMap add() {
+    return populate(newHeaders());
+  }
+
+  @Benchmark
+  public MultiMap addOptimized() {
+    MultiMap headers = newHeaders();
+    for (int i = 0; i < OPTIMIZED_NAMES.length; i++) {
+      headers.add(OPTIMIZED_NAMES[i], OPTIMIZED_VALUES[i]);
+    }
+    return headers;
+  }
+
+  @Benchmark
+  public Http2Headers toHttp2Headers() {
+    // Other multi-maps need a lower case copy of the names
+    Http2Headers http2Headers = new DefaultHttp2Headers();
+    if (headers instanceof VertxHttpHeaders) {
+      ((VertxHttpHeaders) headers).copyTo(http2Headers);
+    } else {
+      for (Map.Entry<String, String> header : headers) {
+        http2Headers.add(header.getKey().toLowerCase(), header.getValue());
+      }
+    }
+    return http2Headers;
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(headers.get(name));
+    }
+  }
+
+  @Benchmark
+  public void getLowerCase(Blackhole blackhole) {
+    for (String name : NAMES) {
+      blackhole.consume(headers.get(name.toLowerCase()));
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process {@link io.vertx.core.http.impl.HttpServerImpl} to {@link io.vertx.core.http.impl.HttpClientImpl}
+ * loopback over a keep-alive connection, this measures the whole HTTP/1.1 request/response path.
+ */
+@State(Scope.Benchmark)
+public class HttpBenchmark extends BenchmarkBase {
+
+  static final int PORT = 8089;
+  static final Buffer HELLO = Buffer.buffer("Hello World");
+
+  private Vertx vertx;
+  private HttpServer server;
+  private HttpClient client;
+
+  @Setup
+  public void setup() throws Exception {
+    vertx = Vertx.vertx();
+    CompletableFuture<Void> listening = new CompletableFuture<>();
+    server = vertx.createHttpServer()
+      .requestHandler(req -> req.response().putHeader("Content-Type", "text/plain").end(HELLO))
+      .listen(PORT, "localhost", ar -> {
+        if (ar.succeeded()) {
+          listening.complete(null);
+        } else {
+          listening.completeExceptionally(ar.cause());
+        }
+      });
+    listening.get(10, TimeUnit.SECONDS);
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setPipelining(false)
+      .setDefaultHost("localhost").setDefaultPort(PORT));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    client.close();
+    CountDownLatch closed = new CountDownLatch(1);
+    vertx.close(ar -> closed.countDown());
+    closed.await(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Buffer getNow() throws Exception {
+    CompletableFuture<Buffer> result = new CompletableFuture<>();
+    client.getNow("/", resp -> resp.bodyHandler(result::complete));
+    return result.get(10, TimeUnit.SECONDS);
+  }
+}
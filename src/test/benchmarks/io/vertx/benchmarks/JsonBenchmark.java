@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encoding, decoding and copying of a typical {@link JsonObject} message body.
+ */
+@State(Scope.Thread)
+public class JsonBenchmark extends BenchmarkBase {
+
+  private JsonObject json;
+  private String encoded;
+
+  @Setup
+  public void setup() {
+    json = new JsonObject()
+      .put("id", 12345)
+      .put("name", "vert.x")
+      .put("active", true)
+      .put("score", 3.14d)
+      .put("tags", new JsonArray().add("core").add("eventbus").add("http"))
+      .put("nested", new JsonObject().put("host", "localhost").put("port", 8080));
+    encoded = json.encode();
+  }
+
+  @Benchmark
+  public String encode() {
+    return json.encode();
+  }
+
+  @Benchmark
+  public JsonObject decode() {
+    return new JsonObject(encoded);
+  }
+
+  @Benchmark
+  public JsonObject copy() {
+    return json.copy();
+  }
+}
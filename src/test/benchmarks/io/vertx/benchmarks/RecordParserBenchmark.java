@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.parsetools.RecordParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Delimited parsing with {@link io.vertx.core.parsetools.impl.RecordParserImpl}, the chunk contains
+ * {@code records} lines and is fed to the parser in one go.
+ */
+@State(Scope.Thread)
+public class RecordParserBenchmark extends BenchmarkBase {
+
+  @Param({"1", "64"})
+  public int records;
+
+  private Buffer chunk;
+  private RecordParser parser;
+  private Blackhole blackhole;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    this.blackhole = blackhole;
+    chunk = Buffer.buffer();
+    for (int i = 0; i < records; i++) {
+      chunk.appendString("GET /some/resource/" + i + " HTTP/1.1\r\n");
+    }
+    parser = RecordParser.newDelimited("\r\n", record -> this.blackhole.consume(record));
+  }
+
+  @Benchmark
+  public void delimited() {
+    parser.handle(chunk);
+  }
+}
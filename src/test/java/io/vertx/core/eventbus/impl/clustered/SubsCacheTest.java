@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.net.impl.ServerID;
+import io.vertx.core.spi.cluster.AsyncMultiMap;
+import io.vertx.core.spi.cluster.ChoosableIterable;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SubsCacheTest extends VertxTestBase {
+
+  @Test
+  public void testInvalidation() {
+    FakeSubs subs = new FakeSubs(true);
+    SubsCache cache = new SubsCache(vertx, subs, vertx.getOrCreateContext(), 0, SubsCache.DEFAULT_MAX_SIZE);
+    vertx.runOnContext(v -> {
+      cache.get("a", onSuccess(ids -> {}));
+      cache.get("a", onSuccess(ids -> {}));
+      cache.get("b", onSuccess(ids -> {}));
+      assertEquals(2, subs.lookups.get());
+      assertEquals(2, cache.size());
+      subs.keyChangeHandler.handle("a");
+      assertEquals(1, cache.size());
+      cache.get("a", onSuccess(ids -> {}));
+      assertEquals(3, subs.lookups.get());
+      subs.keyChangeHandler.handle(null);
+      assertEquals(0, cache.size());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testExpiration() {
+    FakeSubs subs = new FakeSubs(false);
+    SubsCache cache = new SubsCache(vertx, subs, vertx.getOrCreateContext(), 50, SubsCache.DEFAULT_MAX_SIZE);
+    vertx.runOnContext(v -> {
+      cache.get("a", onSuccess(ids -> {}));
+      cache.get("b", onSuccess(ids -> {}));
+      assertEquals(2, cache.size());
+      testComplete();
+    });
+    await();
+    // Expired entries are purged without looking up the addresses again
+    waitUntil(() -> cache.size() == 0);
+    assertEquals(2, subs.lookups.get());
+    cache.close();
+  }
+
+  @Test
+  public void testMaxSize() {
+    FakeSubs subs = new FakeSubs(true);
+    SubsCache cache = new SubsCache(vertx, subs, vertx.getOrCreateContext(), 0, 3);
+    vertx.runOnContext(v -> {
+      for (int i = 0;i < 10;i++) {
+        cache.get("address-" + i, onSuccess(ids -> {}));
+        assertTrue(cache.size() <= 3);
+      }
+      assertEquals(10, subs.lookups.get());
+      cache.get("address-9", onSuccess(ids -> {}));
+      assertEquals(10, subs.lookups.get());
+      testComplete();
+    });
+    await();
+  }
+
+  private static class FakeSubs implements AsyncMultiMap<String, ServerID> {
+
+    private final boolean notifies;
+    private final AtomicInteger lookups = new AtomicInteger();
+    private Handler<String> keyChangeHandler;
+
+    FakeSubs(boolean notifies) {
+      this.notifies = notifies;
+    }
+
+    @Override
+    public boolean keyChangeHandler(Handler<String> handler) {
+      keyChangeHandler = handler;
+      return notifies;
+    }
+
+    @Override
+    public void get(String k, Handler<AsyncResult<ChoosableIterable<ServerID>>> resultHandler) {
+      lookups.incrementAndGet();
+      resultHandler.handle(Future.succeededFuture(new ChoosableIterable<ServerID>() {
+        @Override
+        public boolean isEmpty() {
+          return true;
+        }
+        @Override
+        public ServerID choose() {
+          return null;
+        }
+        @Override
+        public Iterator<ServerID> iterator() {
+          return Collections.emptyIterator();
+        }
+      }));
+    }
+
+    @Override
+    public void add(String k, ServerID v, Handler<AsyncResult<Void>> completionHandler) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(String k, ServerID v, Handler<AsyncResult<Boolean>> completionHandler) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeAllForValue(ServerID v, Handler<AsyncResult<Void>> completionHandler) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
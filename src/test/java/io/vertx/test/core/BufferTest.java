@@ -17,7 +17,10 @@
 package io.vertx.test.core;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -1037,4 +1040,34 @@ public class BufferTest {
     } catch (DecodeException ignore) {
     }
   }
+
+  @Test
+  public void testPooledBuffer() throws Exception {
+    byte[] bytes = TestUtils.randomByteArray(100);
+    ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(100).writeBytes(bytes);
+    PooledBuffer buff = new PooledBufferImpl(buf);
+    assertEquals(1, buff.refCnt());
+    assertEquals(Buffer.buffer(bytes), buff);
+    Buffer copy = buff.copy();
+    assertFalse(copy instanceof PooledBuffer);
+    assertEquals(Buffer.buffer(bytes), copy);
+    // Reading the ByteBuf does not change the reference count
+    buff.getByteBuf().release();
+    assertEquals(1, buff.refCnt());
+    // A slice shares the reference count
+    Buffer slice = buff.slice(10, 20);
+    assertTrue(slice instanceof PooledBuffer);
+    assertEquals(Buffer.buffer(bytes).slice(10, 20), slice);
+    assertEquals(1, ((PooledBuffer) slice).refCnt());
+    // The buffer written remains valid until written
+    ByteBuf written = PooledBufferImpl.byteBufForWrite(buff);
+    assertEquals(2, buff.refCnt());
+    buff.close();
+    assertEquals(1, buf.refCnt());
+    assertEquals(Buffer.buffer(bytes), Buffer.buffer(written));
+    assertTrue(written.release());
+    assertEquals(0, buf.refCnt());
+    PooledBuffer.release(copy);
+    assertEquals(Buffer.buffer(bytes), copy);
+  }
 }
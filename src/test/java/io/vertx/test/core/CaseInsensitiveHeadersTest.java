@@ -16,11 +16,15 @@ import static org.junit.Assert.*;
 
 public class CaseInsensitiveHeadersTest {
 
+  protected MultiMap newMultiMap() {
+    return new CaseInsensitiveHeaders();
+  }
+
   @Test
   public void testCaseInsensitiveHeaders()
       throws Exception {
 
-    MultiMap result = new CaseInsensitiveHeaders();
+    MultiMap result = newMultiMap();
 
     assertNotNull(result);
     assertTrue(result.isEmpty());
@@ -31,7 +35,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> map = new HashMap<String, String>();
     map.put("a", "b");
 
@@ -46,7 +50,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> map = new HashMap<String, String>();
     map.put("a", "b");
     map.put("c", "d");
@@ -57,7 +61,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> map = new HashMap<String, String>();
     map.put("a", "b");
 
@@ -67,7 +71,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest4()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     Map<String, String> map = new HashMap<String, String>();
 
     assertEquals("", mmap.addAll(map).toString());
@@ -76,8 +80,8 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest5()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
-    MultiMap headers = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
+    MultiMap headers = newMultiMap();
 
     assertEquals("", mmap.addAll(headers).toString());
   }
@@ -85,7 +89,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest7()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = "name";
     CharSequence value = "value";
 
@@ -95,7 +99,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest8()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = "name";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -106,7 +110,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest9()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -117,7 +121,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest10()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "a";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -128,7 +132,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest11()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     String strVal = "";
 
@@ -138,7 +142,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest12()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "a";
     String strVal = "b";
 
@@ -148,7 +152,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest13()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "aaa";
     String strVal = "";
 
@@ -158,7 +162,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddTest14()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     String strVal = "aaa";
 
@@ -168,7 +172,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddIterable()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
     List<String> values = new ArrayList<String>();
     values.add("value1");
@@ -183,9 +187,9 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testAddMultiMap()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
-    MultiMap mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     mm.add("Header1", "value1");
     mm.add("Header2", "value2");
 
@@ -198,7 +202,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testClearTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     MultiMap result = mmap.clear();
 
@@ -211,7 +215,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testContainsTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = String.valueOf(new Object());
 
     assertFalse(mmap.contains(name));
@@ -220,7 +224,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testContainsTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
 
     assertFalse(mmap.contains(name));
@@ -229,7 +233,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testContainsTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "0123456789";
 
     boolean result = mmap.contains(name);
@@ -243,7 +247,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testEntriesTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     List<Map.Entry<String, String>> result = mmap.entries();
 
@@ -254,7 +258,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = String.valueOf(new Object());
 
     assertNull(mmap.get(name));
@@ -263,7 +267,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "1";
 
     assertNull(mmap.get(name));
@@ -272,7 +276,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
 
     String result = mmap.get(name);
@@ -284,13 +288,13 @@ public class CaseInsensitiveHeadersTest {
 
   @Test(expected = NullPointerException.class)
   public void testGetNPE() {
-    new CaseInsensitiveHeaders().get(null);
+    newMultiMap().get(null);
   }
 
   @Test
   public void testGetAllTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = String.valueOf(new Object());
 
     List<String> result = mmap.getAll(name);
@@ -302,7 +306,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetAllTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "1";
 
     List<String> result = mmap.getAll(name);
@@ -314,7 +318,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetAllTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
 
     List<String> result = mmap.getAll(name);
@@ -326,7 +330,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testGetAll()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
     mmap.add(name, "value1");
     mmap.add(name, "value2");
@@ -341,13 +345,13 @@ public class CaseInsensitiveHeadersTest {
   @Test(expected = NullPointerException.class)
   public void testGetAllNPE()
       throws Exception {
-    new CaseInsensitiveHeaders().getAll(null);
+    newMultiMap().getAll(null);
   }
 
   @Test
   public void testIsEmptyTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     assertTrue(mmap.isEmpty());
   }
@@ -355,7 +359,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testIsEmptyTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     mmap.add("a", "b");
 
     assertFalse(mmap.isEmpty());
@@ -364,7 +368,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testIteratorTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     Iterator<Map.Entry<String, String>> result = mmap.iterator();
 
@@ -375,7 +379,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testIteratorTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     mmap.add("a", "b");
 
     Iterator<Map.Entry<String, String>> result = mmap.iterator();
@@ -387,7 +391,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testNamesTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     Set<String> result = mmap.names();
 
@@ -398,7 +402,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testRemoveTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = String.valueOf(new Object());
 
     MultiMap result = mmap.remove(name);
@@ -411,13 +415,13 @@ public class CaseInsensitiveHeadersTest {
   @Test(expected = NullPointerException.class)
   public void testRemoveNPE()
       throws Exception {
-    new CaseInsensitiveHeaders().remove(null);
+    newMultiMap().remove(null);
   }
 
   @Test
   public void testRemoveTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "1";
 
     MultiMap result = mmap.remove(name);
@@ -430,7 +434,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testRemoveTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
 
     MultiMap result = mmap.remove(name);
@@ -443,7 +447,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testRemoveTest4()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "name";
     String value = "value";
     mmap.add(name, value);
@@ -458,7 +462,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest1()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> headers = new HashMap<String, String>();
     headers.put("", "");
 
@@ -473,7 +477,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest2()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> headers = new HashMap<String, String>();
     headers.put("", "");
     headers.put("aaa", "bbb");
@@ -489,7 +493,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest3()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     HashMap<String, String> headers = new HashMap<String, String>();
     headers.put("aaa", "bbb");
 
@@ -504,7 +508,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest4()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     Map<String, String> headers = new HashMap<String, String>();
 
     MultiMap result = mmap.setAll(headers);
@@ -518,8 +522,8 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest5()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
-    MultiMap headers = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
+    MultiMap headers = newMultiMap();
 
     MultiMap result = mmap.setAll(headers);
 
@@ -532,7 +536,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest7()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = "name";
     CharSequence value = "value";
 
@@ -547,7 +551,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest8()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     CharSequence name = "name";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -558,7 +562,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest9()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -569,7 +573,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest10()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "aaa";
     ArrayList<CharSequence> values = new ArrayList<CharSequence>();
     values.add("somevalue");
@@ -580,7 +584,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest11()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     String strVal = "";
 
@@ -595,7 +599,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest12()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "aaa";
     String strVal = "bbb";
 
@@ -610,7 +614,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest13()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "aaa";
     String strVal = "";
 
@@ -625,7 +629,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetTest14()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
     String name = "";
     String strVal = "bbb";
 
@@ -640,13 +644,13 @@ public class CaseInsensitiveHeadersTest {
   @Test(expected = NullPointerException.class)
   public void testSetIterableNPE()
       throws Exception {
-    new CaseInsensitiveHeaders().set("name", (Iterable<String>) null);
+    newMultiMap().set("name", (Iterable<String>) null);
   }
 
   @Test
   public void testSetIterableEmpty()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     String name = "name";
     List<String> values = new ArrayList<String>();
@@ -662,7 +666,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSetIterable()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     String name = "name";
     List<String> values = new ArrayList<String>();
@@ -680,7 +684,7 @@ public class CaseInsensitiveHeadersTest {
   @Test
   public void testSize()
       throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     assertEquals(0, mmap.size());
     mmap.add("header", "value");
@@ -693,7 +697,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testGetHashColl() {
-    MultiMap mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     String name1 = "!~AZ";
     String name2 = "!~\u0080Y";
     mm.add(name1, "value1");
@@ -702,7 +706,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("value1", mm.get(name1));
     assertEquals("value2", mm.get(name2));
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "";
     name2 = "\0";
     mm.add(name1, "value1");
@@ -711,7 +715,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("value1", mm.get(name1));
     assertEquals("value2", mm.get(name2));
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "AZa";
     name2 = "\u0080YA";
     mm.add(name1, "value1");
@@ -720,7 +724,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("value1", mm.get(name1));
     assertEquals("value2", mm.get(name2));
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = " !";
     name2 = "? ";
     assertTrue("hash error", hash(name1) == hash(name2));
@@ -730,7 +734,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("value1", mm.get(name1));
     assertEquals("value2", mm.get(name2));
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "\u0080a";
     name2 = "Ab";
     assertTrue("hash error", hash(name1) == hash(name2));
@@ -741,7 +745,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("value2", mm.get(name2));
 
     // same bucket, different hash
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "A";
     name2 = "R";
     assertTrue("hash error", index(hash(name1)) == index(hash(name2)));
@@ -754,7 +758,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testGetAllHashColl() {
-    MultiMap mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     String name1 = "AZ";
     String name2 = "\u0080Y";
     assertTrue("hash error", hash(name1) == hash(name2));
@@ -764,7 +768,7 @@ public class CaseInsensitiveHeadersTest {
     assertEquals("[value1]", mm.getAll(name1).toString());
     assertEquals("[value2]", mm.getAll(name2).toString());
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "A";
     name2 = "R";
     assertTrue("hash error", index(hash(name1)) == index(hash(name2)));
@@ -777,7 +781,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testRemoveHashColl() {
-    MultiMap mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     String name1 = "AZ";
     String name2 = "\u0080Y";
     String name3 = "RZ";
@@ -793,7 +797,7 @@ public class CaseInsensitiveHeadersTest {
     mm.remove(name2);
     assertEquals(1, mm.size());
 
-    mm = new CaseInsensitiveHeaders();
+    mm = newMultiMap();
     name1 = "A";
     name2 = "R";
     assertTrue("hash error", index(hash(name1)) == index(hash(name2)));
@@ -836,7 +840,7 @@ public class CaseInsensitiveHeadersTest {
   // MIN_VALUE in int representation
   @Test
   public void testHashMININT() {
-    CaseInsensitiveHeaders mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     String name1 = "";
     long value = Integer.MAX_VALUE;
     value++;
@@ -872,7 +876,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testToString() {
-    MultiMap mm = new CaseInsensitiveHeaders();
+    MultiMap mm = newMultiMap();
     assertEquals("", mm.toString());
     mm.add("Header1", "Value1");
     assertEquals("Header1: Value1\n",
@@ -901,7 +905,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testMapEntrySetValue() throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     mmap.add("Header", "oldvalue");
 
@@ -913,7 +917,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test
   public void testMapEntryToString() throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     mmap.add("Header", "value");
 
@@ -922,7 +926,7 @@ public class CaseInsensitiveHeadersTest {
 
   @Test(expected = NullPointerException.class)
   public void testMapEntrySetValueNull() throws Exception {
-    MultiMap mmap = new CaseInsensitiveHeaders();
+    MultiMap mmap = newMultiMap();
 
     mmap.add("Header", "oldvalue");
 
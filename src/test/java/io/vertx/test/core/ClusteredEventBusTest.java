@@ -175,6 +175,36 @@ public class ClusteredEventBusTest extends ClusteredEventBusTestBase {
     await();
   }
 
+  @Test
+  public void testAddressTable() throws Exception {
+    VertxOptions options = new VertxOptions();
+    options.getEventBusOptions().setClusterAddressTableSize(16);
+    startNodes(2, options);
+    int numRequests = 20;
+    AtomicInteger replies = new AtomicInteger();
+    MessageConsumer<String> consumer = vertices[0].eventBus().<String>consumer(ADDRESS1).handler(msg -> {
+      assertEquals("ping", msg.body());
+      assertEquals("bar", msg.headers().get("foo"));
+      msg.reply("pong");
+    });
+    consumer.completionHandler(ar -> {
+      assertTrue(ar.succeeded());
+      for (int i = 0; i < numRequests; i++) {
+        // Spread over time so some of them are sent after the address table is negotiated
+        vertx.setTimer(1 + i * 50, id -> {
+          vertices[1].eventBus().<String>send(ADDRESS1, "ping", new DeliveryOptions().addHeader("foo", "bar"), reply -> {
+            assertTrue(reply.succeeded());
+            assertEquals("pong", reply.result().body());
+            if (replies.incrementAndGet() == numRequests) {
+              testComplete();
+            }
+          });
+        });
+      }
+    });
+    await();
+  }
+
   @Test
   public void testConsumerHandlesCompletionAsynchronously1() {
     startNodes(2);
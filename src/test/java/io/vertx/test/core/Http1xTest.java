@@ -18,6 +18,7 @@ package io.vertx.test.core;
 
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.HttpClientRequestImpl;
 import io.vertx.core.impl.*;
@@ -28,6 +29,9 @@ import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.streams.Pump;
 import org.junit.Test;
 
+import java.io.File;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -104,6 +108,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledDirectBuffers());
+    assertEquals(options, options.setUsePooledDirectBuffers(true));
+    assertTrue(options.isUsePooledDirectBuffers());
+
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(10));
     assertEquals(10, options.getIdleTimeout());
@@ -193,6 +201,68 @@ public class Http1xTest extends HttpTest {
     assertEquals(true, options.isH2cUpgrade());
     assertEquals(options, options.setH2cUpgrade(false));
     assertEquals(false, options.isH2cUpgrade());
+
+    assertEquals(HttpClientOptions.DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE, options.isHttp2AdaptiveWindowSize());
+    assertEquals(options, options.setHttp2AdaptiveWindowSize(true));
+    assertTrue(options.isHttp2AdaptiveWindowSize());
+
+    assertEquals(HttpClientOptions.DEFAULT_TRY_USE_PER_MESSAGE_WEBSOCKET_COMPRESSION, options.isTryUsePerMessageWebsocketCompression());
+    assertEquals(options, options.setTryUsePerMessageWebsocketCompression(true));
+    assertTrue(options.isTryUsePerMessageWebsocketCompression());
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_LEVEL, options.getWebsocketCompressionLevel());
+    assertEquals(options, options.setWebsocketCompressionLevel(9));
+    assertEquals(9, options.getWebsocketCompressionLevel());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(-1));
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(10));
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS, options.getWebsocketCompressionWindowBits());
+    assertEquals(options, options.setWebsocketCompressionWindowBits(10));
+    assertEquals(10, options.getWebsocketCompressionWindowBits());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionWindowBits(7));
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionWindowBits(16));
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT, options.isWebsocketCompressionAllowNoContext());
+    assertEquals(options, options.setWebsocketCompressionAllowNoContext(true));
+    assertTrue(options.isWebsocketCompressionAllowNoContext());
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT, options.isWebsocketCompressionRequestNoContext());
+    assertEquals(options, options.setWebsocketCompressionRequestNoContext(true));
+    assertTrue(options.isWebsocketCompressionRequestNoContext());
+
+    assertEquals(HttpClientOptions.DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD, options.getWebsocketCompressionThreshold());
+    assertEquals(options, options.setWebsocketCompressionThreshold(1024));
+    assertEquals(1024, options.getWebsocketCompressionThreshold());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionThreshold(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_POOL_PER_EVENT_LOOP, options.isPoolPerEventLoop());
+    assertEquals(options, options.setPoolPerEventLoop(true));
+    assertTrue(options.isPoolPerEventLoop());
+
+    assertEquals(HttpClientOptions.DEFAULT_HTTP2_MAX_POOL_SIZE, options.getHttp2MaxPoolSize());
+    assertEquals(options, options.setHttp2MaxPoolSize(4));
+    assertEquals(4, options.getHttp2MaxPoolSize());
+    assertIllegalArgumentException(() -> options.setHttp2MaxPoolSize(0));
+
+    assertEquals(HttpClientOptions.DEFAULT_MIN_POOL_SIZE, options.getMinPoolSize());
+    assertEquals(options, options.setMinPoolSize(2));
+    assertEquals(2, options.getMinPoolSize());
+    assertIllegalArgumentException(() -> options.setMinPoolSize(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_MAX_CONNECTION_LIFETIME, options.getMaxConnectionLifetime());
+    assertEquals(options, options.setMaxConnectionLifetime(60));
+    assertEquals(60, options.getMaxConnectionLifetime());
+    assertIllegalArgumentException(() -> options.setMaxConnectionLifetime(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_POOL_IDLE_TIMEOUT, options.getPoolIdleTimeout());
+    assertEquals(options, options.setPoolIdleTimeout(30));
+    assertEquals(30, options.getPoolIdleTimeout());
+    assertIllegalArgumentException(() -> options.setPoolIdleTimeout(-1));
+
+    assertEquals(HttpClientOptions.DEFAULT_POOL_CLEANER_PERIOD, options.getPoolCleanerPeriod());
+    assertEquals(options, options.setPoolCleanerPeriod(500));
+    assertEquals(500, options.getPoolCleanerPeriod());
+    assertIllegalArgumentException(() -> options.setPoolCleanerPeriod(0));
   }
 
 
@@ -245,6 +315,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledDirectBuffers());
+    assertEquals(options, options.setUsePooledDirectBuffers(true));
+    assertTrue(options.isUsePooledDirectBuffers());
+
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(10));
     assertEquals(10, options.getIdleTimeout());
@@ -269,6 +343,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(options, options.setAcceptBacklog(rand));
     assertEquals(rand, options.getAcceptBacklog());
 
+    assertFalse(options.isAcceptorPerEventLoop());
+    assertEquals(options, options.setAcceptorPerEventLoop(true));
+    assertTrue(options.isAcceptorPerEventLoop());
+
     assertFalse(options.isCompressionSupported());
     assertEquals(options, options.setCompressionSupported(true));
     assertTrue(options.isCompressionSupported());
@@ -324,6 +402,73 @@ public class Http1xTest extends HttpTest {
     assertEquals(HttpServerOptions.DEFAULT_ALPN_VERSIONS, options.getAlpnVersions());
     assertEquals(options, options.setAlpnVersions(alpnVersions));
     assertEquals(alpnVersions, options.getAlpnVersions());
+
+    assertEquals(0, options.getFileCacheSize());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setFileCacheSize(rand));
+    assertEquals(rand, options.getFileCacheSize());
+    assertIllegalArgumentException(() -> options.setFileCacheSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_MAX_MAPPED_FILE_SIZE, options.getFileCacheMaxMappedFileSize());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setFileCacheMaxMappedFileSize(rand));
+    assertEquals(rand, options.getFileCacheMaxMappedFileSize());
+    assertIllegalArgumentException(() -> options.setFileCacheMaxMappedFileSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_FILE_CACHE_VALIDITY_PERIOD, options.getFileCacheValidityPeriod());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setFileCacheValidityPeriod(rand));
+    assertEquals(rand, options.getFileCacheValidityPeriod());
+    assertIllegalArgumentException(() -> options.setFileCacheValidityPeriod(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_ADD_DATE_HEADER, options.isAddDateHeader());
+    assertEquals(options, options.setAddDateHeader(true));
+    assertTrue(options.isAddDateHeader());
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_INFLIGHT_REQUESTS, options.getMaxInflightRequests());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setMaxInflightRequests(rand));
+    assertEquals(rand, options.getMaxInflightRequests());
+    assertIllegalArgumentException(() -> options.setMaxInflightRequests(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_MAX_EVENT_LOOP_DELAY, options.getMaxEventLoopDelay());
+    long delay = TestUtils.randomPositiveLong();
+    assertEquals(options, options.setMaxEventLoopDelay(delay));
+    assertEquals(delay, options.getMaxEventLoopDelay());
+    assertIllegalArgumentException(() -> options.setMaxEventLoopDelay(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_HTTP2_ADAPTIVE_WINDOW_SIZE, options.isHttp2AdaptiveWindowSize());
+    assertEquals(options, options.setHttp2AdaptiveWindowSize(true));
+    assertTrue(options.isHttp2AdaptiveWindowSize());
+
+    assertEquals(HttpServerOptions.DEFAULT_PER_MESSAGE_WEBSOCKET_COMPRESSION_SUPPORTED, options.isPerMessageWebsocketCompressionSupported());
+    assertEquals(options, options.setPerMessageWebsocketCompressionSupported(true));
+    assertTrue(options.isPerMessageWebsocketCompressionSupported());
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_LEVEL, options.getWebsocketCompressionLevel());
+    assertEquals(options, options.setWebsocketCompressionLevel(9));
+    assertEquals(9, options.getWebsocketCompressionLevel());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(-1));
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionLevel(10));
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_WINDOW_BITS, options.getWebsocketCompressionWindowBits());
+    assertEquals(options, options.setWebsocketCompressionWindowBits(10));
+    assertEquals(10, options.getWebsocketCompressionWindowBits());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionWindowBits(7));
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionWindowBits(16));
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_ALLOW_NO_CONTEXT, options.isWebsocketCompressionAllowNoContext());
+    assertEquals(options, options.setWebsocketCompressionAllowNoContext(true));
+    assertTrue(options.isWebsocketCompressionAllowNoContext());
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_REQUEST_NO_CONTEXT, options.isWebsocketCompressionRequestNoContext());
+    assertEquals(options, options.setWebsocketCompressionRequestNoContext(true));
+    assertTrue(options.isWebsocketCompressionRequestNoContext());
+
+    assertEquals(HttpServerOptions.DEFAULT_WEBSOCKET_COMPRESSION_THRESHOLD, options.getWebsocketCompressionThreshold());
+    assertEquals(options, options.setWebsocketCompressionThreshold(1024));
+    assertEquals(1024, options.getWebsocketCompressionThreshold());
+    assertIllegalArgumentException(() -> options.setWebsocketCompressionThreshold(-1));
   }
 
   @Test
@@ -338,6 +483,7 @@ public class Http1xTest extends HttpTest {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -364,6 +510,7 @@ public class Http1xTest extends HttpTest {
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
     List<HttpVersion> alpnVersions = Collections.singletonList(HttpVersion.values()[TestUtils.randomPositiveInt() % 3]);
     boolean h2cUpgrade = TestUtils.randomBoolean();
+    boolean http2AdaptiveWindowSize = TestUtils.randomBoolean();
 
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
@@ -374,6 +521,7 @@ public class Http1xTest extends HttpTest {
     options.setTcpKeepAlive(tcpKeepAlive);
     options.setSoLinger(soLinger);
     options.setUsePooledBuffers(usePooledBuffers);
+    options.setUsePooledDirectBuffers(usePooledDirectBuffers);
     options.setIdleTimeout(idleTimeout);
     options.setKeyStoreOptions(keyStoreOptions);
     options.setTrustStoreOptions(trustStoreOptions);
@@ -394,6 +542,7 @@ public class Http1xTest extends HttpTest {
     options.setSslEngine(sslEngine);
     options.setAlpnVersions(alpnVersions);
     options.setH2cUpgrade(h2cUpgrade);
+    options.setHttp2AdaptiveWindowSize(http2AdaptiveWindowSize);
     HttpClientOptions copy = new HttpClientOptions(options);
     assertEquals(sendBufferSize, copy.getSendBufferSize());
     assertEquals(receiverBufferSize, copy.getReceiveBufferSize());
@@ -403,6 +552,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(tcpKeepAlive, copy.isTcpKeepAlive());
     assertEquals(soLinger, copy.getSoLinger());
     assertEquals(usePooledBuffers, copy.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, copy.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, copy.getIdleTimeout());
     assertEquals(ssl, copy.isSsl());
     assertNotSame(keyStoreOptions, copy.getKeyCertOptions());
@@ -429,6 +579,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(sslEngine, copy.getSslEngine());
     assertEquals(alpnVersions, copy.getAlpnVersions());
     assertEquals(h2cUpgrade, copy.isH2cUpgrade());
+    assertEquals(http2AdaptiveWindowSize, copy.isHttp2AdaptiveWindowSize());
   }
 
   @Test
@@ -448,6 +599,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isTcpKeepAlive(), json.isTcpKeepAlive());
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isUsePooledBuffers(), json.isUsePooledBuffers());
+    assertEquals(def.isUsePooledDirectBuffers(), json.isUsePooledDirectBuffers());
     assertEquals(def.isSsl(), json.isSsl());
     assertEquals(def.getProtocolVersion(), json.getProtocolVersion());
     assertEquals(def.getMaxWaitQueueSize(), json.getMaxWaitQueueSize());
@@ -456,6 +608,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.getSslEngine(), json.getSslEngine());
     assertEquals(def.getAlpnVersions(), json.getAlpnVersions());
     assertEquals(def.isH2cUpgrade(), json.isH2cUpgrade());
+    assertEquals(def.isHttp2AdaptiveWindowSize(), json.isHttp2AdaptiveWindowSize());
   }
 
   @Test
@@ -469,6 +622,7 @@ public class Http1xTest extends HttpTest {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -497,6 +651,7 @@ public class Http1xTest extends HttpTest {
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
     List<HttpVersion> alpnVersions = Collections.singletonList(HttpVersion.values()[TestUtils.randomPositiveInt() % 3]);
     boolean h2cUpgrade = rand.nextBoolean();
+    boolean http2AdaptiveWindowSize = rand.nextBoolean();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -507,6 +662,7 @@ public class Http1xTest extends HttpTest {
       .put("tcpKeepAlive", tcpKeepAlive)
       .put("soLinger", soLinger)
       .put("usePooledBuffers", usePooledBuffers)
+      .put("usePooledDirectBuffers", usePooledDirectBuffers)
       .put("idleTimeout", idleTimeout)
       .put("ssl", ssl)
       .put("enabledCipherSuites", new JsonArray().add(enabledCipher))
@@ -532,7 +688,8 @@ public class Http1xTest extends HttpTest {
       .put("useAlpn", useAlpn)
       .put("sslEngine", sslEngine.name())
       .put("alpnVersions", new JsonArray().add(alpnVersions.get(0).name()))
-      .put("h2cUpgrade", h2cUpgrade);
+      .put("h2cUpgrade", h2cUpgrade)
+      .put("http2AdaptiveWindowSize", http2AdaptiveWindowSize);
 
     HttpClientOptions options = new HttpClientOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -543,6 +700,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(tcpNoDelay, options.isTcpNoDelay());
     assertEquals(soLinger, options.getSoLinger());
     assertEquals(usePooledBuffers, options.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, options.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, options.getIdleTimeout());
     assertEquals(ssl, options.isSsl());
     assertNotSame(keyStoreOptions, options.getKeyCertOptions());
@@ -569,6 +727,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(sslEngine, options.getSslEngine());
     assertEquals(alpnVersions, options.getAlpnVersions());
     assertEquals(h2cUpgrade, options.isH2cUpgrade());
+    assertEquals(http2AdaptiveWindowSize, options.isHttp2AdaptiveWindowSize());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -604,6 +763,7 @@ public class Http1xTest extends HttpTest {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -618,6 +778,7 @@ public class Http1xTest extends HttpTest {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    boolean acceptorPerEventLoop = rand.nextBoolean();
     boolean compressionSupported = rand.nextBoolean();
     int maxWebsocketFrameSize = TestUtils.randomPositiveInt();
     String wsSubProtocol = TestUtils.randomAlphaString(10);
@@ -627,6 +788,13 @@ public class Http1xTest extends HttpTest {
     boolean useAlpn = TestUtils.randomBoolean();
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
     List<HttpVersion> alpnVersions = Collections.singletonList(HttpVersion.values()[TestUtils.randomPositiveInt() % 3]);
+    int fileCacheSize = TestUtils.randomPositiveInt();
+    int fileCacheMaxMappedFileSize = TestUtils.randomPositiveInt();
+    int fileCacheValidityPeriod = TestUtils.randomPositiveInt();
+    boolean addDateHeader = rand.nextBoolean();
+    int maxInflightRequests = TestUtils.randomPositiveInt();
+    long maxEventLoopDelay = TestUtils.randomPositiveLong();
+    boolean http2AdaptiveWindowSize = rand.nextBoolean();
     options.setSendBufferSize(sendBufferSize);
     options.setReceiveBufferSize(receiverBufferSize);
     options.setReuseAddress(reuseAddress);
@@ -635,6 +803,7 @@ public class Http1xTest extends HttpTest {
     options.setTcpKeepAlive(tcpKeepAlive);
     options.setSoLinger(soLinger);
     options.setUsePooledBuffers(usePooledBuffers);
+    options.setUsePooledDirectBuffers(usePooledDirectBuffers);
     options.setIdleTimeout(idleTimeout);
     options.setSsl(ssl);
     options.setKeyStoreOptions(keyStoreOptions);
@@ -645,6 +814,7 @@ public class Http1xTest extends HttpTest {
     options.setPort(port);
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
+    options.setAcceptorPerEventLoop(acceptorPerEventLoop);
     options.setCompressionSupported(compressionSupported);
     options.setMaxWebsocketFrameSize(maxWebsocketFrameSize);
     options.setWebsocketSubProtocols(wsSubProtocol);
@@ -654,6 +824,13 @@ public class Http1xTest extends HttpTest {
     options.setSslEngine(sslEngine);
     options.setInitialSettings(initialSettings);
     options.setAlpnVersions(alpnVersions);
+    options.setFileCacheSize(fileCacheSize);
+    options.setFileCacheMaxMappedFileSize(fileCacheMaxMappedFileSize);
+    options.setFileCacheValidityPeriod(fileCacheValidityPeriod);
+    options.setAddDateHeader(addDateHeader);
+    options.setMaxInflightRequests(maxInflightRequests);
+    options.setMaxEventLoopDelay(maxEventLoopDelay);
+    options.setHttp2AdaptiveWindowSize(http2AdaptiveWindowSize);
     HttpServerOptions copy = new HttpServerOptions(options);
     assertEquals(sendBufferSize, copy.getSendBufferSize());
     assertEquals(receiverBufferSize, copy.getReceiveBufferSize());
@@ -663,6 +840,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(tcpKeepAlive, copy.isTcpKeepAlive());
     assertEquals(soLinger, copy.getSoLinger());
     assertEquals(usePooledBuffers, copy.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, copy.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, copy.getIdleTimeout());
     assertEquals(ssl, copy.isSsl());
     assertNotSame(keyStoreOptions, copy.getKeyCertOptions());
@@ -678,6 +856,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(port, copy.getPort());
     assertEquals(host, copy.getHost());
     assertEquals(acceptBacklog, copy.getAcceptBacklog());
+    assertEquals(acceptorPerEventLoop, copy.isAcceptorPerEventLoop());
     assertEquals(compressionSupported, copy.isCompressionSupported());
     assertEquals(maxWebsocketFrameSize, copy.getMaxWebsocketFrameSize());
     assertEquals(wsSubProtocol, copy.getWebsocketSubProtocols());
@@ -687,6 +866,13 @@ public class Http1xTest extends HttpTest {
     assertEquals(useAlpn, copy.isUseAlpn());
     assertEquals(sslEngine, copy.getSslEngine());
     assertEquals(alpnVersions, copy.getAlpnVersions());
+    assertEquals(fileCacheSize, copy.getFileCacheSize());
+    assertEquals(fileCacheMaxMappedFileSize, copy.getFileCacheMaxMappedFileSize());
+    assertEquals(fileCacheValidityPeriod, copy.getFileCacheValidityPeriod());
+    assertEquals(addDateHeader, copy.isAddDateHeader());
+    assertEquals(maxInflightRequests, copy.getMaxInflightRequests());
+    assertEquals(maxEventLoopDelay, copy.getMaxEventLoopDelay());
+    assertEquals(http2AdaptiveWindowSize, copy.isHttp2AdaptiveWindowSize());
   }
 
   @Test
@@ -706,6 +892,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isTcpKeepAlive(), json.isTcpKeepAlive());
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isUsePooledBuffers(), json.isUsePooledBuffers());
+    assertEquals(def.isUsePooledDirectBuffers(), json.isUsePooledDirectBuffers());
     assertEquals(def.isSsl(), json.isSsl());
     assertEquals(def.isHandle100ContinueAutomatically(), json.isHandle100ContinueAutomatically());
     assertEquals(def.getMaxChunkSize(), json.getMaxChunkSize());
@@ -715,6 +902,13 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isUseAlpn(), json.isUseAlpn());
     assertEquals(def.getSslEngine(), json.getSslEngine());
     assertEquals(def.getAlpnVersions(), json.getAlpnVersions());
+    assertEquals(def.getFileCacheSize(), json.getFileCacheSize());
+    assertEquals(def.getFileCacheMaxMappedFileSize(), json.getFileCacheMaxMappedFileSize());
+    assertEquals(def.getFileCacheValidityPeriod(), json.getFileCacheValidityPeriod());
+    assertEquals(def.isAddDateHeader(), json.isAddDateHeader());
+    assertEquals(def.getMaxInflightRequests(), json.getMaxInflightRequests());
+    assertEquals(def.getMaxEventLoopDelay(), json.getMaxEventLoopDelay());
+    assertEquals(def.isHttp2AdaptiveWindowSize(), json.isHttp2AdaptiveWindowSize());
   }
 
   @Test
@@ -728,6 +922,7 @@ public class Http1xTest extends HttpTest {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -745,6 +940,7 @@ public class Http1xTest extends HttpTest {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    boolean acceptorPerEventLoop = rand.nextBoolean();
     boolean compressionSupported = rand.nextBoolean();
     int maxWebsocketFrameSize = TestUtils.randomPositiveInt();
     String wsSubProtocol = TestUtils.randomAlphaString(10);
@@ -757,6 +953,13 @@ public class Http1xTest extends HttpTest {
     boolean useAlpn = TestUtils.randomBoolean();
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
     List<HttpVersion> alpnVersions = Collections.singletonList(HttpVersion.values()[TestUtils.randomPositiveInt() % 3]);
+    int fileCacheSize = TestUtils.randomPositiveInt();
+    int fileCacheMaxMappedFileSize = TestUtils.randomPositiveInt();
+    int fileCacheValidityPeriod = TestUtils.randomPositiveInt();
+    boolean addDateHeader = rand.nextBoolean();
+    int maxInflightRequests = TestUtils.randomPositiveInt();
+    long maxEventLoopDelay = TestUtils.randomPositiveLong();
+    boolean http2AdaptiveWindowSize = rand.nextBoolean();
 
     JsonObject json = new JsonObject();
     json.put("sendBufferSize", sendBufferSize)
@@ -767,6 +970,7 @@ public class Http1xTest extends HttpTest {
       .put("tcpKeepAlive", tcpKeepAlive)
       .put("soLinger", soLinger)
       .put("usePooledBuffers", usePooledBuffers)
+      .put("usePooledDirectBuffers", usePooledDirectBuffers)
       .put("idleTimeout", idleTimeout)
       .put("ssl", ssl)
       .put("enabledCipherSuites", new JsonArray().add(enabledCipher))
@@ -776,6 +980,7 @@ public class Http1xTest extends HttpTest {
       .put("port", port)
       .put("host", host)
       .put("acceptBacklog", acceptBacklog)
+      .put("acceptorPerEventLoop", acceptorPerEventLoop)
       .put("compressionSupported", compressionSupported)
       .put("maxWebsocketFrameSize", maxWebsocketFrameSize)
       .put("websocketSubProtocols", wsSubProtocol)
@@ -793,7 +998,14 @@ public class Http1xTest extends HttpTest {
           .put("maxFrameSize", initialSettings.getMaxFrameSize()))
       .put("useAlpn", useAlpn)
       .put("sslEngine", sslEngine.name())
-      .put("alpnVersions", new JsonArray().add(alpnVersions.get(0).name()));
+      .put("alpnVersions", new JsonArray().add(alpnVersions.get(0).name()))
+      .put("fileCacheSize", fileCacheSize)
+      .put("fileCacheMaxMappedFileSize", fileCacheMaxMappedFileSize)
+      .put("fileCacheValidityPeriod", fileCacheValidityPeriod)
+      .put("addDateHeader", addDateHeader)
+      .put("maxInflightRequests", maxInflightRequests)
+      .put("maxEventLoopDelay", maxEventLoopDelay)
+      .put("http2AdaptiveWindowSize", http2AdaptiveWindowSize);
 
     HttpServerOptions options = new HttpServerOptions(json);
     assertEquals(sendBufferSize, options.getSendBufferSize());
@@ -804,6 +1016,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(tcpNoDelay, options.isTcpNoDelay());
     assertEquals(soLinger, options.getSoLinger());
     assertEquals(usePooledBuffers, options.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, options.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, options.getIdleTimeout());
     assertEquals(ssl, options.isSsl());
     assertNotSame(keyStoreOptions, options.getKeyCertOptions());
@@ -819,6 +1032,7 @@ public class Http1xTest extends HttpTest {
     assertEquals(port, options.getPort());
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
+    assertEquals(acceptorPerEventLoop, options.isAcceptorPerEventLoop());
     assertEquals(compressionSupported, options.isCompressionSupported());
     assertEquals(maxWebsocketFrameSize, options.getMaxWebsocketFrameSize());
     assertEquals(wsSubProtocol, options.getWebsocketSubProtocols());
@@ -830,6 +1044,13 @@ public class Http1xTest extends HttpTest {
     assertEquals(useAlpn, options.isUseAlpn());
     assertEquals(sslEngine, options.getSslEngine());
     assertEquals(alpnVersions, options.getAlpnVersions());
+    assertEquals(fileCacheSize, options.getFileCacheSize());
+    assertEquals(fileCacheMaxMappedFileSize, options.getFileCacheMaxMappedFileSize());
+    assertEquals(fileCacheValidityPeriod, options.getFileCacheValidityPeriod());
+    assertEquals(addDateHeader, options.isAddDateHeader());
+    assertEquals(maxInflightRequests, options.getMaxInflightRequests());
+    assertEquals(maxEventLoopDelay, options.getMaxEventLoopDelay());
+    assertEquals(http2AdaptiveWindowSize, options.isHttp2AdaptiveWindowSize());
 
     // Test other keystore/truststore types
     json.remove("keyStoreOptions");
@@ -1016,6 +1237,115 @@ public class Http1xTest extends HttpTest {
     awaitLatch(serverCloseLatch);
   }
 
+  @Test
+  public void testPoolPerEventLoop() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(1).setPoolPerEventLoop(true));
+    server.requestHandler(req -> req.response().end("" + req.remoteAddress().port()));
+    startServer();
+    ContextImpl ctx1 = ((VertxInternal) vertx).createEventLoopContext(null, null, new JsonObject(), null);
+    ContextImpl ctx2;
+    do {
+      ctx2 = ((VertxInternal) vertx).createEventLoopContext(null, null, new JsonObject(), null);
+    } while (ctx2.nettyEventLoop() == ctx1.nettyEventLoop());
+    ContextImpl other = ctx2;
+    List<String> ports = Collections.synchronizedList(new ArrayList<>());
+    Runnable[] requests = new Runnable[3];
+    for (int i = 0; i < requests.length; i++) {
+      // The second request runs on another event loop
+      ContextImpl ctx = i == 1 ? other : ctx1;
+      int next = i + 1;
+      requests[i] = () -> ctx.runOnContext(v -> {
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+          assertSame(ctx, Vertx.currentContext());
+          resp.bodyHandler(body -> {
+            ports.add(body.toString());
+            if (next < requests.length) {
+              requests[next].run();
+            } else {
+              assertEquals(ports.get(0), ports.get(2));
+              assertFalse(ports.get(0).equals(ports.get(1)));
+              testComplete();
+            }
+          });
+        });
+      });
+    }
+    requests[0].run();
+    await();
+  }
+
+  @Test
+  public void testMinPoolSize() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(5).setMinPoolSize(3));
+    AtomicInteger connections = new AtomicInteger();
+    NetServer backend = vertx.createNetServer().connectHandler(so -> {
+      if (connections.incrementAndGet() == 3) {
+        vertx.setTimer(200, id -> {
+          // No connection is opened beyond the min pool size
+          assertEquals(3, connections.get());
+          testComplete();
+        });
+      }
+      so.handler(buff -> so.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n"));
+    });
+    CountDownLatch latch = new CountDownLatch(1);
+    backend.listen(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, onSuccess(s -> latch.countDown()));
+    awaitLatch(latch);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+    });
+    await();
+  }
+
+  @Test
+  public void testMaxConnectionLifetime() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setMaxPoolSize(1).setMaxConnectionLifetime(1));
+    server.requestHandler(req -> req.response().end("" + req.remoteAddress().port()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      resp1.bodyHandler(body1 -> {
+        vertx.setTimer(1100, id -> {
+          client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+            resp2.bodyHandler(body2 -> {
+              // The expired connection has been rotated
+              assertFalse(body1.toString().equals(body2.toString()));
+              testComplete();
+            });
+          });
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testPoolIdleTimeout() throws Exception {
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setKeepAlive(true).setPoolIdleTimeout(1).setPoolCleanerPeriod(100));
+    AtomicBoolean responded = new AtomicBoolean();
+    NetServer backend = vertx.createNetServer().connectHandler(so -> {
+      so.handler(buff -> {
+        so.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+        responded.set(true);
+      });
+      so.closeHandler(v -> {
+        // Evicted by the pool cleaner
+        assertTrue(responded.get());
+        testComplete();
+      });
+    });
+    CountDownLatch latch = new CountDownLatch(1);
+    backend.listen(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, onSuccess(s -> latch.countDown()));
+    awaitLatch(latch);
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+    });
+    await();
+  }
+
   @Test
   public void testPoolingKeepAliveAndPipelining() {
     testPooling(true, true);
@@ -2189,6 +2519,281 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPooledDirectBuffers() {
+    Buffer body = TestUtils.randomBuffer(100000);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setUsePooledDirectBuffers(true));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response().setChunked(true);
+      req.handler(buff -> {
+        assertTrue(buff instanceof PooledBuffer);
+        // The buffer can be released as soon as written
+        try (PooledBuffer pooled = (PooledBuffer) buff) {
+          resp.write(pooled);
+        }
+      });
+      req.endHandler(v -> resp.end());
+    });
+    server.listen(onSuccess(s -> {
+      client.close();
+      client = vertx.createHttpClient(new HttpClientOptions().setUsePooledDirectBuffers(true));
+      client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+        resp.bodyHandler(received -> {
+          assertFalse(received instanceof PooledBuffer);
+          assertEquals(body, received);
+          testComplete();
+        });
+      }).end(body);
+    }));
+    await();
+  }
+
+  @Test
+  public void testSendFileCache() throws Exception {
+    testSendFileCache(TestUtils.randomAlphaString(1000));
+  }
+
+  @Test
+  public void testSendFileCacheUnmapped() throws Exception {
+    testSendFileCache(TestUtils.randomAlphaString(100000));
+  }
+
+  private void testSendFileCache(String content) throws Exception {
+    File file = setupFile("test-send-file.html", content);
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setFileCacheSize(10)
+      .setFileCacheMaxMappedFileSize(10000));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      assertEquals("text/html", resp1.getHeader("Content-Type"));
+      assertEquals(String.valueOf(content.length()), resp1.getHeader("Content-Length"));
+      String etag = resp1.getHeader("ETag");
+      String lastModified = resp1.getHeader("Last-Modified");
+      assertNotNull(etag);
+      assertNotNull(lastModified);
+      resp1.bodyHandler(body1 -> {
+        assertEquals(content, body1.toString());
+        client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          assertEquals(304, resp2.statusCode());
+          assertEquals(etag, resp2.getHeader("ETag"));
+          resp2.bodyHandler(body2 -> {
+            assertEquals(0, body2.length());
+            client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp3 -> {
+              assertEquals(304, resp3.statusCode());
+              resp3.bodyHandler(body3 -> {
+                client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp4 -> {
+                  assertEquals(200, resp4.statusCode());
+                  resp4.bodyHandler(body4 -> {
+                    assertEquals(content, body4.toString());
+                    testComplete();
+                  });
+                }).putHeader("If-None-Match", "\"foo\"").end();
+              });
+            }).putHeader("If-Modified-Since", lastModified).end();
+          });
+        }).putHeader("If-None-Match", etag).end();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSendFileCacheModified() throws Exception {
+    File file = setupFile("test-send-file.html", "foo");
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setFileCacheSize(10)
+      .setFileCacheValidityPeriod(0));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      resp1.bodyHandler(body1 -> {
+        assertEquals("foo", body1.toString());
+        try {
+          setupFile("test-send-file.html", "foobar");
+        } catch (Exception e) {
+          fail(e);
+        }
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          resp2.bodyHandler(body2 -> {
+            assertEquals("foobar", body2.toString());
+            testComplete();
+          });
+        });
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testSendFileCacheConcurrent() throws Exception {
+    int numFiles = 5;
+    String[] contents = new String[numFiles];
+    File[] files = new File[numFiles];
+    for (int i = 0; i < numFiles; i++) {
+      contents[i] = TestUtils.randomAlphaString(1000 + i);
+      files[i] = setupFile("test-send-file-" + i + ".html", contents[i]);
+    }
+    server.close();
+    // The shared servers serve the files on distinct event loops and evict each other's entries
+    int numServers = 4;
+    HttpServerOptions options = new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setFileCacheSize(2);
+    CountDownLatch latch = new CountDownLatch(numServers);
+    for (int i = 0; i < numServers; i++) {
+      vertx.createHttpServer(options).requestHandler(req -> {
+        int index = Integer.parseInt(req.path().substring(1));
+        req.response().sendFile(files[index].getAbsolutePath());
+      }).listen(onSuccess(s -> latch.countDown()));
+    }
+    awaitLatch(latch);
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(16));
+    int numRequests = 200;
+    AtomicInteger count = new AtomicInteger();
+    for (int i = 0; i < numRequests; i++) {
+      int index = i % numFiles;
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/" + index, resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.bodyHandler(body -> {
+          assertEquals(contents[index], body.toString());
+          if (count.incrementAndGet() == numRequests) {
+            testComplete();
+          }
+        });
+      });
+    }
+    await();
+  }
+
+  @Test
+  public void testSendFilePrecompressed() throws Exception {
+    testSendFilePrecompressed(0);
+  }
+
+  @Test
+  public void testSendFilePrecompressedCache() throws Exception {
+    testSendFilePrecompressed(10);
+  }
+
+  private void testSendFilePrecompressed(int fileCacheSize) throws Exception {
+    File file = setupFile("test-send-file.js", "foo");
+    setupFile("test-send-file.js.gz", "gzipped-foo");
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions()
+      .setPort(DEFAULT_HTTP_PORT)
+      .setCompressionSupported(true)
+      .setFileCacheSize(fileCacheSize));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      assertEquals("gzip", resp1.headers().get("Content-Encoding"));
+      assertTrue("accept-encoding".equalsIgnoreCase(resp1.headers().get("Vary")));
+      assertEquals("application/javascript", resp1.headers().get("Content-Type"));
+      resp1.bodyHandler(body1 -> {
+        assertEquals("gzipped-foo", body1.toString());
+        client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          assertEquals(200, resp2.statusCode());
+          assertNull(resp2.headers().get("Content-Encoding"));
+          resp2.bodyHandler(body2 -> {
+            assertEquals("foo", body2.toString());
+            testComplete();
+          });
+        }).putHeader("Accept-Encoding", "br, gzip;q=0").end();
+      });
+    }).putHeader("Accept-Encoding", "deflate, gzip").end();
+    await();
+  }
+
+  @Test
+  public void testAddDateHeader() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setAddDateHeader(true));
+    server.requestHandler(req -> {
+      if (req.path().equals("/custom")) {
+        req.response().putHeader("Date", "Thu, 01 Jan 1970 00:00:00 GMT");
+      }
+      req.response().setStatusCode(201).end();
+    });
+    startServer();
+    long before = System.currentTimeMillis() / 1000 * 1000;
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/", resp1 -> {
+      assertEquals(201, resp1.statusCode());
+      assertEquals("Created", resp1.statusMessage());
+      assertEquals(1, resp1.headers().getAll("Date").size());
+      long date = Instant.from(DateTimeFormatter.RFC_1123_DATE_TIME.parse(resp1.headers().get("Date"))).toEpochMilli();
+      assertTrue(date >= before && date <= System.currentTimeMillis());
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/custom", resp2 -> {
+        assertEquals(Collections.singletonList("Thu, 01 Jan 1970 00:00:00 GMT"), resp2.headers().getAll("Date"));
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testMaxInflightRequests() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setMaxInflightRequests(1));
+    server.requestHandler(req -> {
+      if (req.path().equals("/held")) {
+        HttpServerResponse held = req.response();
+        // The held request is in flight, the next one is rejected
+        client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/rejected", resp -> {
+          assertEquals(503, resp.statusCode());
+          held.end();
+        });
+      } else {
+        req.response().end();
+      }
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/held", resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/admitted", resp2 -> {
+        assertEquals(200, resp2.statusCode());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testMaxEventLoopDelay() throws Exception {
+    server.close();
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT).setMaxEventLoopDelay(100));
+    server.requestHandler(req -> {
+      if (req.path().equals("/block")) {
+        try {
+          Thread.sleep(500);
+        } catch (InterruptedException e) {
+          fail(e);
+        }
+      }
+      req.response().end();
+    });
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/block", resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/rejected", resp2 -> {
+        assertEquals(503, resp2.statusCode());
+        vertx.setTimer(300, id -> {
+          client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/admitted", resp3 -> {
+            assertEquals(200, resp3.statusCode());
+            testComplete();
+          });
+        });
+      });
+    });
+    await();
+  }
+
   @Test
   public void testRecyclePipelinedConnection() throws Exception {
     CountDownLatch listenLatch = new CountDownLatch(1);
@@ -55,6 +55,7 @@ import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.StreamResetException;
@@ -581,6 +582,70 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testMultipleConnectionsPerHost() throws Exception {
+    waitFor(2);
+    server.close();
+    server = vertx.createHttpServer(serverOptions.setInitialSettings(new io.vertx.core.http.Http2Settings().setMaxConcurrentStreams(1L)));
+    List<HttpServerRequest> requests = new ArrayList<>();
+    server.requestHandler(req -> {
+      if (req.path().equals("/first")) {
+        req.response().end();
+        return;
+      }
+      requests.add(req);
+      if (requests.size() == 2) {
+        // The second stream exceeds the limit of the first connection and must use another one
+        assertFalse(requests.get(0).remoteAddress().equals(requests.get(1).remoteAddress()));
+        requests.forEach(r -> r.response().end());
+      }
+    });
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(clientOptions.setHttp2MaxPoolSize(2));
+    CountDownLatch latch = new CountDownLatch(2);
+    client.get(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, "/first", resp -> {
+      resp.endHandler(v -> latch.countDown());
+    }).connectionHandler(conn -> {
+      conn.remoteSettingsHandler(settings -> latch.countDown());
+    }).exceptionHandler(err -> {
+      fail();
+    }).end();
+    awaitLatch(latch);
+    for (int i = 0;i < 2;i++) {
+      client.get(DEFAULT_HTTPS_PORT, DEFAULT_HTTPS_HOST, "/somepath", resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.endHandler(v -> complete());
+      }).exceptionHandler(err -> {
+        fail();
+      }).end();
+    }
+    await();
+  }
+
+  @Test
+  public void testConcurrentRequestsOnColdPool() throws Exception {
+    int numRequests = 5;
+    waitFor(numRequests);
+    server.close();
+    server = vertx.createHttpServer(serverOptions.setUseAlpn(false).setSsl(false).setHost(DEFAULT_HTTP_HOST).setPort(DEFAULT_HTTP_PORT));
+    AtomicInteger connCount = new AtomicInteger();
+    server.connectionHandler(conn -> connCount.incrementAndGet());
+    server.requestHandler(req -> req.response().end());
+    startServer();
+    client.close();
+    client = vertx.createHttpClient(clientOptions.setUseAlpn(false).setH2cUpgrade(false).setHttp2MaxPoolSize(3));
+    // The requests wait for the connection being established instead of opening other connections
+    for (int i = 0; i < numRequests; i++) {
+      client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+        assertEquals(200, resp.statusCode());
+        resp.endHandler(v -> complete());
+      }).exceptionHandler(this::fail).end();
+    }
+    await();
+    assertEquals(1, connCount.get());
+  }
+
   @Test
   public void testReuseConnection() throws Exception {
     List<SocketAddress> ports = new ArrayList<>();
@@ -1657,4 +1722,57 @@ public class Http2ClientTest extends Http2TestBase {
     req.end();
     await();
   }
+
+  @Test
+  public void testAdaptiveWindowSize() throws Exception {
+    waitFor(2);
+    Buffer expected = TestUtils.randomBuffer(4 * 1024 * 1024);
+    Buffer ping = TestUtils.randomBuffer(8);
+    AtomicInteger streamWindowSize = new AtomicInteger();
+    ServerBootstrap bootstrap = createH2CServer((dec, enc) -> new Http2EventAdapter() {
+      @Override
+      public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency, short weight, boolean exclusive, int padding, boolean endStream) throws Http2Exception {
+        enc.writeHeaders(ctx, streamId, new DefaultHttp2Headers().status("200"), 0, false, ctx.newPromise());
+        enc.writeData(ctx, streamId, expected.copy().getByteBuf(), 0, true, ctx.newPromise());
+        ctx.flush();
+      }
+      @Override
+      public void onSettingsRead(ChannelHandlerContext ctx, Http2Settings settings) throws Http2Exception {
+        Integer initialWindowSize = settings.initialWindowSize();
+        if (initialWindowSize != null) {
+          streamWindowSize.accumulateAndGet(initialWindowSize, Math::max);
+        }
+      }
+    }, false);
+    ChannelFuture s = bootstrap.bind(DEFAULT_HTTP_HOST, DEFAULT_HTTP_PORT).sync();
+    try {
+      client.close();
+      client = vertx.createHttpClient(clientOptions.setUseAlpn(false).setH2cUpgrade(false).setHttp2AdaptiveWindowSize(true));
+      HttpClientRequest req = client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/somepath", resp -> {
+        Buffer received = Buffer.buffer();
+        // The window must not reopen while the response is paused
+        resp.pause();
+        vertx.setTimer(100, id -> resp.resume());
+        resp.handler(received::appendBuffer);
+        resp.endHandler(v -> {
+          assertEquals(expected, received);
+          // The stream window announced by the client grew beyond the default size of 65535 bytes
+          assertTrue("Stream window size " + streamWindowSize, streamWindowSize.get() > 65535);
+          complete();
+        });
+      });
+      req.connectionHandler(conn -> {
+        // The acks of the user pings are not confused with the pings of the window sizing
+        conn.ping(ping, ar -> {
+          assertTrue(ar.succeeded());
+          assertEquals(ping, ar.result());
+          complete();
+        });
+      });
+      req.exceptionHandler(this::fail).end();
+      await();
+    } finally {
+      s.channel().close().sync();
+    }
+  }
 }
@@ -716,6 +716,33 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testGetParam() {
+    String query = "foo=bar&empty&a%20b=c+d;Encoded=%26%3D&foo=baz";
+    server.requestHandler(req -> {
+      // Looked up before the params are decoded
+      assertEquals("bar", req.getParam("foo"));
+      assertEquals("bar", req.getParam("FOO"));
+      assertEquals("", req.getParam("empty"));
+      assertEquals("c d", req.getParam("a b"));
+      assertEquals("&=", req.getParam("encoded"));
+      assertNull(req.getParam("missing"));
+      assertEquals("/some-uri/", req.path());
+      assertEquals(query, req.query());
+      MultiMap params = req.params();
+      for (String name : params.names()) {
+        assertEquals(params.get(name), req.getParam(name));
+      }
+      req.response().end();
+    });
+
+    server.listen(onSuccess(server -> {
+      client.request(HttpMethod.GET, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/some-uri/?" + query, resp -> testComplete()).end();
+    }));
+
+    await();
+  }
+
   @Test
   public void testDefaultRequestHeaders() {
     server.requestHandler(req -> {
@@ -1690,6 +1717,25 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendFileInvalidRange() throws Exception {
+    File file = setupFile("test-send-file.html", TestUtils.randomAlphaString(100));
+    server.requestHandler(req -> {
+      assertIllegalArgumentException(() -> req.response().sendFile(file.getAbsolutePath(), -1, 10));
+      assertIllegalArgumentException(() -> req.response().sendFile(file.getAbsolutePath(), 0, -1));
+      req.response().end();
+    });
+
+    server.listen(onSuccess(s -> {
+      client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      });
+    }));
+
+    await();
+  }
+
   @Test
   public void testSendFileNotFoundWithHandler() throws Exception {
 
@@ -1710,6 +1756,69 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testClientSendFile() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(1024 * 1024);
+    File file = testFolder.newFile();
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), expected);
+    server.requestHandler(req -> {
+      assertEquals(String.valueOf(expected.length()), req.headers().get("content-length"));
+      req.bodyHandler(body -> {
+        assertEquals(expected, body);
+        req.response().end();
+      });
+    });
+    startServer();
+    waitFor(2);
+    client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+      complete();
+    }).sendFile(file.getAbsolutePath(), onSuccess(v -> complete()));
+    await();
+  }
+
+  @Test
+  public void testClientSendFileRange() throws Exception {
+    Buffer content = TestUtils.randomBuffer(10000);
+    File file = testFolder.newFile();
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), content);
+    server.requestHandler(req -> {
+      req.bodyHandler(body -> {
+        assertEquals(content.getBuffer(1000, 3000), body);
+        req.response().end();
+      });
+    });
+    startServer();
+    client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(200, resp.statusCode());
+      testComplete();
+    }).sendFile(file.getAbsolutePath(), 1000, 2000);
+    await();
+  }
+
+  @Test
+  public void testClientSendFileInvalidRange() throws Exception {
+    File file = testFolder.newFile();
+    HttpClientRequest req = client.request(HttpMethod.PUT, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      fail("Should not receive response");
+    });
+    assertIllegalArgumentException(() -> req.sendFile(file.getAbsolutePath(), -1, 10));
+    assertIllegalArgumentException(() -> req.sendFile(file.getAbsolutePath(), 0, -1));
+  }
+
+  @Test
+  public void testClientSendFileNotFoundWithHandler() throws Exception {
+    server.requestHandler(req -> fail("Should not receive request"));
+    startServer();
+    client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      fail("Should not receive response");
+    }).sendFile("nosuchfile.dat", onFailure(t -> {
+      assertTrue(t instanceof FileNotFoundException);
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testSendFileDirectoryWithHandler() throws Exception {
 
@@ -1732,6 +1841,108 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testSendFileSingleRange() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    testSendFileRange(content, "bytes=100-199", "bytes 100-199/1000", content.substring(100, 200));
+  }
+
+  @Test
+  public void testSendFileSuffixRange() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    testSendFileRange(content, "bytes=-100", "bytes 900-999/1000", content.substring(900));
+  }
+
+  @Test
+  public void testSendFileOpenRange() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    testSendFileRange(content, "bytes=990-", "bytes 990-999/1000", content.substring(990));
+  }
+
+  private void testSendFileRange(String content, String range, String expectedContentRange, String expectedBody) throws Exception {
+    File file = setupFile("test-send-file.html", content);
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(206, resp.statusCode());
+      assertEquals(expectedContentRange, resp.getHeader("Content-Range"));
+      assertEquals("text/html", resp.getHeader("Content-Type"));
+      assertEquals(String.valueOf(expectedBody.length()), resp.getHeader("Content-Length"));
+      resp.bodyHandler(body -> {
+        assertEquals(expectedBody, body.toString());
+        testComplete();
+      });
+    }).putHeader("Range", range).end();
+    await();
+  }
+
+  @Test
+  public void testSendFileMultipleRanges() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    File file = setupFile("test-send-file.html", content);
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(206, resp.statusCode());
+      String contentType = resp.getHeader("Content-Type");
+      assertTrue(contentType.startsWith("multipart/byteranges; boundary="));
+      String boundary = contentType.substring(contentType.indexOf('=') + 1);
+      String expected =
+        "\r\n--" + boundary + "\r\nContent-Type: text/html\r\nContent-Range: bytes 0-9/1000\r\n\r\n" + content.substring(0, 10) +
+        "\r\n--" + boundary + "\r\nContent-Type: text/html\r\nContent-Range: bytes 500-999/1000\r\n\r\n" + content.substring(500) +
+        "\r\n--" + boundary + "--\r\n";
+      assertEquals(String.valueOf(expected.length()), resp.getHeader("Content-Length"));
+      resp.bodyHandler(body -> {
+        assertEquals(expected, body.toString());
+        testComplete();
+      });
+    }).putHeader("Range", "bytes=0-9, 500-").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileUnsatisfiableRange() throws Exception {
+    File file = setupFile("test-send-file.html", TestUtils.randomAlphaString(1000));
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp -> {
+      assertEquals(416, resp.statusCode());
+      assertEquals("bytes */1000", resp.getHeader("Content-Range"));
+      testComplete();
+    }).putHeader("Range", "bytes=1000-").end();
+    await();
+  }
+
+  @Test
+  public void testSendFileIfRange() throws Exception {
+    String content = TestUtils.randomAlphaString(1000);
+    File file = setupFile("test-send-file.html", content);
+    server.requestHandler(req -> req.response().sendFile(file.getAbsolutePath()));
+    startServer();
+    client.getNow(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp1 -> {
+      assertEquals(200, resp1.statusCode());
+      assertEquals("bytes", resp1.getHeader("Accept-Ranges"));
+      String etag = resp1.getHeader("ETag");
+      resp1.bodyHandler(body1 -> {
+        client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp2 -> {
+          assertEquals(206, resp2.statusCode());
+          resp2.bodyHandler(body2 -> {
+            assertEquals(content.substring(0, 10), body2.toString());
+            // The file changed, the whole file is sent
+            client.get(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, DEFAULT_TEST_URI, resp3 -> {
+              assertEquals(200, resp3.statusCode());
+              resp3.bodyHandler(body3 -> {
+                assertEquals(content, body3.toString());
+                testComplete();
+              });
+            }).putHeader("Range", "bytes=0-9").putHeader("If-Range", "\"foo\"").end();
+          });
+        }).putHeader("Range", "bytes=0-9").putHeader("If-Range", etag).end();
+      });
+    });
+    await();
+  }
+
   @Test
   public void testSendOpenRangeFileFromClasspath() {
     vertx.createHttpServer(new HttpServerOptions().setPort(8080)).requestHandler(res -> {
@@ -2378,6 +2589,65 @@ public abstract class HttpTest extends HttpTestBase {
     await();
   }
 
+  @Test
+  public void testFormUploadFilePaused() throws Exception {
+    String contentStr = TestUtils.randomAlphaString(256 * 1024);
+    AtomicBoolean paused = new AtomicBoolean();
+    AtomicBoolean uploadEnded = new AtomicBoolean();
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      req.uploadHandler(upload -> {
+        Buffer tot = Buffer.buffer();
+        upload.pause();
+        paused.set(true);
+        upload.handler(buffer -> {
+          assertFalse(paused.get());
+          tot.appendBuffer(buffer);
+        });
+        upload.endHandler(v -> {
+          assertEquals(contentStr, tot.toString());
+          uploadEnded.set(true);
+        });
+        vertx.setTimer(100, id -> {
+          paused.set(false);
+          upload.resume();
+        });
+      });
+      req.endHandler(v -> {
+        // The attribute following the paused upload is parsed once it is resumed
+        assertTrue(uploadEnded.get());
+        assertEquals("bar", req.getFormAttribute("foo"));
+        req.response().end();
+      });
+    });
+
+    server.listen(onSuccess(s -> {
+      HttpClientRequest req = client.request(HttpMethod.POST, DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/form", resp -> {
+        assertEquals(200, resp.statusCode());
+        testComplete();
+      });
+      String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+      String body =
+          "--" + boundary + "\r\n" +
+              "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+              "\r\n" +
+              contentStr + "\r\n" +
+              "--" + boundary + "\r\n" +
+              "Content-Disposition: form-data; name=\"foo\"\r\n" +
+              "\r\n" +
+              "bar\r\n" +
+              "--" + boundary + "--\r\n";
+      req.headers().set("content-type", "multipart/form-data; boundary=" + boundary);
+      req.setChunked(true);
+      for (int i = 0; i < body.length(); i += 8192) {
+        req.write(body.substring(i, Math.min(body.length(), i + 8192)));
+      }
+      req.end();
+    }));
+
+    await();
+  }
+
   @Test
   public void testFormUploadAttributes() throws Exception {
     AtomicInteger attributeCount = new AtomicInteger();
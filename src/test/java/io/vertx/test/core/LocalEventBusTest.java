@@ -26,8 +26,10 @@ import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -206,6 +208,34 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testSendRoundRobinAfterUnregister() {
+    int numHandlers = 4;
+    int numMessages = 30;
+    Map<Integer, Integer> countMap = new ConcurrentHashMap<>();
+    AtomicInteger totalCount = new AtomicInteger();
+    MessageConsumer<String>[] consumers = new MessageConsumer[numHandlers];
+    for (int i = 0; i < numHandlers; i++) {
+      int index = i;
+      consumers[i] = eb.<String>consumer(ADDRESS1).handler(msg -> {
+        assertTrue(index != 1);
+        countMap.merge(index, 1, Integer::sum);
+        if (totalCount.incrementAndGet() == numMessages) {
+          assertEquals(numHandlers - 1, countMap.size());
+          for (Integer cnt: countMap.values()) {
+            assertEquals(numMessages / (numHandlers - 1), cnt.intValue());
+          }
+          testComplete();
+        }
+      });
+    }
+    consumers[1].unregister();
+    for (int i = 0; i < numMessages; i++) {
+      eb.send(ADDRESS1, "foo");
+    }
+    await();
+  }
+
   @Test
   public void testSendRegisterSomeUnregisterOne() {
     String str = TestUtils.randomUnicodeString(100);
@@ -603,6 +633,29 @@ public class LocalEventBusTest extends EventBusTestBase {
     await();
   }
 
+  @Test
+  public void testPublishOrderAfterUnregister() {
+    int numHandlers = 4;
+    List<Integer> received = new ArrayList<>();
+    // All the handlers are registered on the same context so the deliveries are run in order
+    vertx.runOnContext(v -> {
+      MessageConsumer<String>[] consumers = new MessageConsumer[numHandlers];
+      for (int i = 0; i < numHandlers; i++) {
+        int index = i;
+        consumers[i] = eb.<String>consumer(ADDRESS1).handler(msg -> {
+          received.add(index);
+          if (received.size() == numHandlers - 1) {
+            assertEquals(Arrays.asList(0, 2, 3), received);
+            testComplete();
+          }
+        });
+      }
+      consumers[1].unregister();
+      eb.publish(ADDRESS1, "foo");
+    });
+    await();
+  }
+
   @Test
   public void testPublishMultipleHandlersDifferentAddresses() {
     String str = TestUtils.randomUnicodeString(1000);
@@ -18,6 +18,7 @@ package io.vertx.test.core;
 
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.http.ClientAuth;
@@ -26,6 +27,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
 import io.vertx.core.net.impl.SocketAddressImpl;
+import io.vertx.core.net.impl.transport.Transport;
 import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,8 +36,11 @@ import org.junit.rules.TemporaryFolder;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.security.cert.X509Certificate;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -106,6 +111,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setReuseAddress(false));
     assertFalse(options.isReuseAddress());
 
+    assertFalse(options.isReusePort());
+    assertEquals(options, options.setReusePort(true));
+    assertTrue(options.isReusePort());
+
     assertEquals(NetworkOptions.DEFAULT_TRAFFIC_CLASS, options.getTrafficClass());
     rand = 23;
     assertEquals(options, options.setTrafficClass(rand));
@@ -122,6 +131,14 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setTcpKeepAlive(!tcpKeepAlive));
     assertEquals(!tcpKeepAlive, options.isTcpKeepAlive());
 
+    assertFalse(options.isTcpFastOpen());
+    assertEquals(options, options.setTcpFastOpen(true));
+    assertTrue(options.isTcpFastOpen());
+
+    assertFalse(options.isTcpQuickAck());
+    assertEquals(options, options.setTcpQuickAck(true));
+    assertTrue(options.isTcpQuickAck());
+
     int soLinger = -1;
     assertEquals(soLinger, options.getSoLinger());
     rand = TestUtils.randomPositiveInt();
@@ -133,6 +150,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledDirectBuffers());
+    assertEquals(options, options.setUsePooledDirectBuffers(true));
+    assertTrue(options.isUsePooledDirectBuffers());
+
     rand = TestUtils.randomPositiveInt();
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(rand));
@@ -213,6 +234,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setReuseAddress(false));
     assertFalse(options.isReuseAddress());
 
+    assertFalse(options.isReusePort());
+    assertEquals(options, options.setReusePort(true));
+    assertTrue(options.isReusePort());
+
     assertEquals(NetworkOptions.DEFAULT_TRAFFIC_CLASS, options.getTrafficClass());
     rand = 23;
     assertEquals(options, options.setTrafficClass(rand));
@@ -229,6 +254,14 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setTcpKeepAlive(!tcpKeepAlive));
     assertEquals(!tcpKeepAlive, options.isTcpKeepAlive());
 
+    assertFalse(options.isTcpFastOpen());
+    assertEquals(options, options.setTcpFastOpen(true));
+    assertTrue(options.isTcpFastOpen());
+
+    assertFalse(options.isTcpQuickAck());
+    assertEquals(options, options.setTcpQuickAck(true));
+    assertTrue(options.isTcpQuickAck());
+
     int soLinger = -1;
     assertEquals(soLinger, options.getSoLinger());
     rand = TestUtils.randomPositiveInt();
@@ -240,6 +273,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setUsePooledBuffers(true));
     assertTrue(options.isUsePooledBuffers());
 
+    assertFalse(options.isUsePooledDirectBuffers());
+    assertEquals(options, options.setUsePooledDirectBuffers(true));
+    assertTrue(options.isUsePooledDirectBuffers());
+
     rand = TestUtils.randomPositiveInt();
     assertEquals(0, options.getIdleTimeout());
     assertEquals(options, options.setIdleTimeout(rand));
@@ -265,6 +302,10 @@ public class NetTest extends VertxTestBase {
     assertEquals(options, options.setAcceptBacklog(rand));
     assertEquals(rand, options.getAcceptBacklog());
 
+    assertFalse(options.isAcceptorPerEventLoop());
+    assertEquals(options, options.setAcceptorPerEventLoop(true));
+    assertTrue(options.isAcceptorPerEventLoop());
+
     assertEquals(0, options.getPort());
     assertEquals(options, options.setPort(1234));
     assertEquals(1234, options.getPort());
@@ -306,6 +347,7 @@ public class NetTest extends VertxTestBase {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     String hostnameVerificationAlgorithm = TestUtils.randomAlphaString(10);
@@ -333,6 +375,7 @@ public class NetTest extends VertxTestBase {
     options.setTcpKeepAlive(tcpKeepAlive);
     options.setSoLinger(soLinger);
     options.setUsePooledBuffers(usePooledBuffers);
+    options.setUsePooledDirectBuffers(usePooledDirectBuffers);
     options.setIdleTimeout(idleTimeout);
     options.setKeyStoreOptions(keyStoreOptions);
     options.setTrustStoreOptions(trustStoreOptions);
@@ -355,6 +398,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(tcpKeepAlive, copy.isTcpKeepAlive());
     assertEquals(soLinger, copy.getSoLinger());
     assertEquals(usePooledBuffers, copy.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, copy.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, copy.getIdleTimeout());
     assertEquals(ssl, copy.isSsl());
     assertNotSame(keyStoreOptions, copy.getKeyCertOptions());
@@ -390,6 +434,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.isTcpKeepAlive(), json.isTcpKeepAlive());
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isUsePooledBuffers(), json.isUsePooledBuffers());
+    assertEquals(def.isUsePooledDirectBuffers(), json.isUsePooledDirectBuffers());
     assertEquals(def.isSsl(), json.isSsl());
     assertEquals(def.isUseAlpn(), json.isUseAlpn());
     assertEquals(def.getSslEngine(), json.getSslEngine());
@@ -407,6 +452,7 @@ public class NetTest extends VertxTestBase {
     boolean tcpKeepAlive = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -438,6 +484,7 @@ public class NetTest extends VertxTestBase {
         .put("tcpKeepAlive", tcpKeepAlive)
         .put("soLinger", soLinger)
         .put("usePooledBuffers", usePooledBuffers)
+        .put("usePooledDirectBuffers", usePooledDirectBuffers)
         .put("idleTimeout", idleTimeout)
         .put("ssl", ssl)
         .put("enabledCipherSuites", new JsonArray().add(enabledCipher))
@@ -461,6 +508,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(tcpNoDelay, options.isTcpNoDelay());
     assertEquals(soLinger, options.getSoLinger());
     assertEquals(usePooledBuffers, options.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, options.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, options.getIdleTimeout());
     assertEquals(ssl, options.isSsl());
     assertNotSame(keyStoreOptions, options.getKeyCertOptions());
@@ -509,8 +557,12 @@ public class NetTest extends VertxTestBase {
     int trafficClass = TestUtils.randomByte() + 128;
     boolean tcpNoDelay = rand.nextBoolean();
     boolean tcpKeepAlive = rand.nextBoolean();
+    boolean reusePort = rand.nextBoolean();
+    boolean tcpFastOpen = rand.nextBoolean();
+    boolean tcpQuickAck = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -525,6 +577,7 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    boolean acceptorPerEventLoop = rand.nextBoolean();
     boolean useAlpn = TestUtils.randomBoolean();
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
     options.setSendBufferSize(sendBufferSize);
@@ -533,8 +586,12 @@ public class NetTest extends VertxTestBase {
     options.setTrafficClass(trafficClass);
     options.setTcpNoDelay(tcpNoDelay);
     options.setTcpKeepAlive(tcpKeepAlive);
+    options.setReusePort(reusePort);
+    options.setTcpFastOpen(tcpFastOpen);
+    options.setTcpQuickAck(tcpQuickAck);
     options.setSoLinger(soLinger);
     options.setUsePooledBuffers(usePooledBuffers);
+    options.setUsePooledDirectBuffers(usePooledDirectBuffers);
     options.setIdleTimeout(idleTimeout);
     options.setSsl(ssl);
     options.setKeyStoreOptions(keyStoreOptions);
@@ -545,6 +602,7 @@ public class NetTest extends VertxTestBase {
     options.setPort(port);
     options.setHost(host);
     options.setAcceptBacklog(acceptBacklog);
+    options.setAcceptorPerEventLoop(acceptorPerEventLoop);
     options.setUseAlpn(useAlpn);
     options.setSslEngine(sslEngine);
     NetServerOptions copy = new NetServerOptions(options);
@@ -554,8 +612,12 @@ public class NetTest extends VertxTestBase {
     assertEquals(trafficClass, copy.getTrafficClass());
     assertEquals(tcpNoDelay, copy.isTcpNoDelay());
     assertEquals(tcpKeepAlive, copy.isTcpKeepAlive());
+    assertEquals(reusePort, copy.isReusePort());
+    assertEquals(tcpFastOpen, copy.isTcpFastOpen());
+    assertEquals(tcpQuickAck, copy.isTcpQuickAck());
     assertEquals(soLinger, copy.getSoLinger());
     assertEquals(usePooledBuffers, copy.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, copy.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, copy.getIdleTimeout());
     assertEquals(ssl, copy.isSsl());
     assertNotSame(keyStoreOptions, copy.getKeyCertOptions());
@@ -571,6 +633,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, copy.getPort());
     assertEquals(host, copy.getHost());
     assertEquals(acceptBacklog, copy.getAcceptBacklog());
+    assertEquals(acceptorPerEventLoop, copy.isAcceptorPerEventLoop());
     assertEquals(useAlpn, copy.isUseAlpn());
     assertEquals(sslEngine, copy.getSslEngine());
   }
@@ -595,6 +658,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(def.isTcpKeepAlive(), json.isTcpKeepAlive());
     assertEquals(def.getSoLinger(), json.getSoLinger());
     assertEquals(def.isUsePooledBuffers(), json.isUsePooledBuffers());
+    assertEquals(def.isUsePooledDirectBuffers(), json.isUsePooledDirectBuffers());
     assertEquals(def.isSsl(), json.isSsl());
     assertEquals(def.isUseAlpn(), json.isUseAlpn());
     assertEquals(def.getSslEngine(), json.getSslEngine());
@@ -609,8 +673,12 @@ public class NetTest extends VertxTestBase {
     int trafficClass = TestUtils.randomByte() + 128;
     boolean tcpNoDelay = rand.nextBoolean();
     boolean tcpKeepAlive = rand.nextBoolean();
+    boolean reusePort = rand.nextBoolean();
+    boolean tcpFastOpen = rand.nextBoolean();
+    boolean tcpQuickAck = rand.nextBoolean();
     int soLinger = TestUtils.randomPositiveInt();
     boolean usePooledBuffers = rand.nextBoolean();
+    boolean usePooledDirectBuffers = rand.nextBoolean();
     int idleTimeout = TestUtils.randomPositiveInt();
     boolean ssl = rand.nextBoolean();
     JksOptions keyStoreOptions = new JksOptions();
@@ -628,6 +696,7 @@ public class NetTest extends VertxTestBase {
     int port = 1234;
     String host = TestUtils.randomAlphaString(100);
     int acceptBacklog = TestUtils.randomPortInt();
+    boolean acceptorPerEventLoop = rand.nextBoolean();
     boolean useAlpn = TestUtils.randomBoolean();
     SSLEngine sslEngine = TestUtils.randomBoolean() ? SSLEngine.JDK : SSLEngine.OPENSSL;
 
@@ -638,8 +707,12 @@ public class NetTest extends VertxTestBase {
       .put("trafficClass", trafficClass)
       .put("tcpNoDelay", tcpNoDelay)
       .put("tcpKeepAlive", tcpKeepAlive)
+      .put("reusePort", reusePort)
+      .put("tcpFastOpen", tcpFastOpen)
+      .put("tcpQuickAck", tcpQuickAck)
       .put("soLinger", soLinger)
       .put("usePooledBuffers", usePooledBuffers)
+      .put("usePooledDirectBuffers", usePooledDirectBuffers)
       .put("idleTimeout", idleTimeout)
       .put("ssl", ssl)
       .put("enabledCipherSuites", new JsonArray().add(enabledCipher))
@@ -649,6 +722,7 @@ public class NetTest extends VertxTestBase {
       .put("port", port)
       .put("host", host)
       .put("acceptBacklog", acceptBacklog)
+      .put("acceptorPerEventLoop", acceptorPerEventLoop)
       .put("useAlpn", useAlpn)
       .put("sslEngine", sslEngine.name());
 
@@ -658,9 +732,13 @@ public class NetTest extends VertxTestBase {
     assertEquals(reuseAddress, options.isReuseAddress());
     assertEquals(trafficClass, options.getTrafficClass());
     assertEquals(tcpKeepAlive, options.isTcpKeepAlive());
+    assertEquals(reusePort, options.isReusePort());
+    assertEquals(tcpFastOpen, options.isTcpFastOpen());
+    assertEquals(tcpQuickAck, options.isTcpQuickAck());
     assertEquals(tcpNoDelay, options.isTcpNoDelay());
     assertEquals(soLinger, options.getSoLinger());
     assertEquals(usePooledBuffers, options.isUsePooledBuffers());
+    assertEquals(usePooledDirectBuffers, options.isUsePooledDirectBuffers());
     assertEquals(idleTimeout, options.getIdleTimeout());
     assertEquals(ssl, options.isSsl());
     assertNotSame(keyStoreOptions, options.getKeyCertOptions());
@@ -676,6 +754,7 @@ public class NetTest extends VertxTestBase {
     assertEquals(port, options.getPort());
     assertEquals(host, options.getHost());
     assertEquals(acceptBacklog, options.getAcceptBacklog());
+    assertEquals(acceptorPerEventLoop, options.isAcceptorPerEventLoop());
     assertEquals(useAlpn, options.isUseAlpn());
     assertEquals(sslEngine, options.getSslEngine());
 
@@ -1596,6 +1675,146 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testPreferNativeTransport() {
+    // Falls back to the JDK transport when the native transport is not available
+    Vertx vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    try {
+      NetServer server = vertx.createNetServer(new NetServerOptions().setReusePort(true).setTcpQuickAck(true));
+      server.connectHandler(sock -> sock.handler(sock::write));
+      server.listen(1234, "localhost", onSuccess(s -> {
+        NetClient client = vertx.createNetClient(new NetClientOptions().setTcpQuickAck(true));
+        client.connect(1234, "localhost", onSuccess(sock -> {
+          sock.handler(buff -> {
+            assertEquals("ping", buff.toString());
+            testComplete();
+          });
+          sock.write("ping");
+        }));
+      }));
+      await();
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void testPreferNativeTransportWithoutNativeClasses() throws Exception {
+    // Load the transport classes with a class loader that cannot see the epoll classes
+    ClassLoader parent = getClass().getClassLoader();
+    ClassLoader loader = new ClassLoader(parent) {
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (name.startsWith("io.netty.channel.epoll.")) {
+          throw new ClassNotFoundException(name);
+        }
+        if (!name.startsWith(Transport.class.getPackage().getName() + ".")) {
+          return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> clazz = findLoadedClass(name);
+          if (clazz == null) {
+            try (InputStream in = parent.getResourceAsStream(name.replace('.', '/') + ".class")) {
+              ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+              byte[] chunk = new byte[4096];
+              int n;
+              while ((n = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, n);
+              }
+              clazz = defineClass(name, bytes.toByteArray(), 0, bytes.size());
+            } catch (IOException e) {
+              throw new ClassNotFoundException(name, e);
+            }
+          }
+          return clazz;
+        }
+      }
+    };
+    Class<?> transportClass = loader.loadClass(Transport.class.getName());
+    assertNotSame(Transport.class, transportClass);
+    Object transport = transportClass.getMethod("transport", boolean.class).invoke(null, true);
+    assertSame(transportClass.getField("JDK").get(null), transport);
+  }
+
+  @Test
+  public void testAcceptorPerEventLoop() throws Exception {
+    // Falls back to a single acceptor when the native transport is not available
+    Vertx vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+    try {
+      int numServers = 4;
+      int numConnections = numServers * 10;
+      CountDownLatch latchListen = new CountDownLatch(numServers);
+      CountDownLatch latchConns = new CountDownLatch(numConnections);
+      List<NetServer> servers = new ArrayList<>();
+      for (int i = 0; i < numServers; i++) {
+        // Each server is started on its own event loop
+        Context ctx = ((VertxInternal) vertx).createEventLoopContext(null, null, new JsonObject(), null);
+        ctx.runOnContext(v -> {
+          NetServer theServer = vertx.createNetServer(new NetServerOptions().setAcceptorPerEventLoop(true));
+          synchronized (servers) {
+            servers.add(theServer);
+          }
+          theServer.connectHandler(sock -> {
+            assertSame(ctx, Vertx.currentContext());
+            latchConns.countDown();
+          }).listen(1234, "localhost", onSuccess(s -> latchListen.countDown()));
+        });
+      }
+      awaitLatch(latchListen);
+      NetClient client = vertx.createNetClient(new NetClientOptions());
+      for (int i = 0; i < numConnections; i++) {
+        client.connect(1234, "localhost", onSuccess(sock -> {}));
+      }
+      awaitLatch(latchConns);
+      CountDownLatch closeLatch = new CountDownLatch(numServers);
+      for (NetServer server : servers) {
+        server.close(onSuccess(v -> closeLatch.countDown()));
+      }
+      awaitLatch(closeLatch);
+      // All the sockets are closed
+      vertx.createNetServer().connectHandler(sock -> {}).listen(1234, "localhost", onSuccess(s -> testComplete()));
+      await();
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void testPooledDirectBuffers() {
+    Buffer expected = TestUtils.randomBuffer(10000);
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setUsePooledDirectBuffers(true));
+    server.connectHandler(sock -> {
+      sock.handler(buff -> {
+        assertTrue(buff instanceof PooledBuffer);
+        // The buffer can be released as soon as written
+        try (PooledBuffer pooled = (PooledBuffer) buff) {
+          sock.write(pooled);
+        }
+      });
+    });
+    server.listen(1234, "localhost", onSuccess(s -> {
+      client.close();
+      client = vertx.createNetClient(new NetClientOptions().setUsePooledDirectBuffers(true));
+      client.connect(1234, "localhost", onSuccess(sock -> {
+        Buffer received = Buffer.buffer();
+        sock.handler(buff -> {
+          assertTrue(buff instanceof PooledBuffer);
+          PooledBuffer pooled = (PooledBuffer) buff;
+          assertEquals(1, pooled.refCnt());
+          received.appendBuffer(pooled);
+          assertTrue(pooled.release());
+          if (received.length() == expected.length()) {
+            assertEquals(expected, received);
+            testComplete();
+          }
+        });
+        sock.write(expected);
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void testServerOptionsCopiedBeforeUse() {
     server.close();
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+
+package io.vertx.test.core;
+
+import io.vertx.core.VertxOptions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the timer tests with timer wheels enabled.
+ */
+public class TimerWheelTest extends TimerTest {
+
+  @Override
+  protected VertxOptions getOptions() {
+    return super.getOptions().setTimerWheelEnabled(true);
+  }
+
+  @Test
+  public void testCancelManyTimers() throws Exception {
+    AtomicInteger fired = new AtomicInteger();
+    List<Long> ids = new ArrayList<>();
+    // Long enough for all the timers to be cancelled before any can fire, spread over several slots
+    for (int i = 0; i < 10000; i++) {
+      ids.add(vertx.setTimer(10_000 + i % 100, id -> fired.incrementAndGet()));
+    }
+    for (long id : ids) {
+      assertTrue(vertx.cancelTimer(id));
+      assertFalse(vertx.cancelTimer(id));
+    }
+    vertx.setTimer(200, id -> {
+      assertEquals(0, fired.get());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testTimerLongerThanWheel() throws Exception {
+    long start = System.nanoTime();
+    vertx.setTimer(1500, id -> {
+      assertTrue(System.nanoTime() - start >= 1500_000_000L);
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelUnknownTimer() {
+    assertFalse(vertx.cancelTimer(-1));
+    assertFalse(vertx.cancelTimer(Long.MAX_VALUE));
+    assertFalse(vertx.cancelTimer(12345));
+  }
+}
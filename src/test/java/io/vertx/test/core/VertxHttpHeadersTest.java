@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2016 The original author or authors
+ * ------------------------------------------------------
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *     The Eclipse Public License is available at
+ *     http://www.eclipse.org/legal/epl-v10.html
+ *
+ *     The Apache License v2.0 is available at
+ *     http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+
+package io.vertx.test.core;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.impl.VertxHttpHeaders;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class VertxHttpHeadersTest extends CaseInsensitiveHeadersTest {
+
+  @Override
+  protected MultiMap newMultiMap() {
+    return new VertxHttpHeaders();
+  }
+
+  @Test
+  public void testKeepCharSequence() {
+    CharSequence value = HttpHeaders.createOptimized("text/plain");
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add(HttpHeaders.CONTENT_TYPE, value);
+    assertSame(value, headers.getCharSequence("content-type"));
+    assertEquals("text/plain", headers.get("Content-Type"));
+  }
+
+  @Test
+  public void testCopyToHttp2Headers() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("Content-Type", "text/plain");
+    headers.add(new AsciiString("x-foo"), "foo_value");
+    headers.add("X-Bar", Collections.<String>singletonList("bar_value"));
+    DefaultHttp2Headers http2Headers = new DefaultHttp2Headers();
+    headers.copyTo(http2Headers);
+    assertEquals(3, http2Headers.size());
+    assertEquals("text/plain", http2Headers.get("content-type").toString());
+    assertEquals("foo_value", http2Headers.get("x-foo").toString());
+    assertEquals("bar_value", http2Headers.get("x-bar").toString());
+  }
+
+  @Test
+  public void testCopyToHttpHeaders() {
+    VertxHttpHeaders headers = new VertxHttpHeaders();
+    headers.add("Content-Type", "text/plain");
+    headers.add("X-Foo", "foo_value1");
+    headers.add("x-foo", "foo_value2");
+    DefaultHttpHeaders httpHeaders = new DefaultHttpHeaders();
+    headers.copyTo(httpHeaders);
+    assertEquals("Content-Type", httpHeaders.names().iterator().next());
+    assertEquals("text/plain", httpHeaders.get("content-type"));
+    assertEquals(2, httpHeaders.getAll("X-FOO").size());
+  }
+}
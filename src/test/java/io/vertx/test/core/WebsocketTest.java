@@ -23,6 +23,7 @@ import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.ConcurrentHashSet;
 import io.vertx.core.net.NetSocket;
@@ -547,6 +548,39 @@ public class WebsocketTest extends VertxTestBase {
     return sock;
   }
 
+  @Test
+  public void testPooledDirectBuffers() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(1000);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT).setUsePooledDirectBuffers(true)).websocketHandler(ws -> {
+      ws.handler(data -> {
+        assertTrue(data instanceof PooledBuffer);
+        // The buffer can be released as soon as written
+        try (PooledBuffer pooled = (PooledBuffer) data) {
+          ws.write(pooled);
+        }
+      });
+    });
+    server.listen(onSuccess(s -> {
+      client.close();
+      client = vertx.createHttpClient(new HttpClientOptions().setUsePooledDirectBuffers(true));
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        Buffer received = Buffer.buffer();
+        ws.handler(data -> {
+          assertTrue(data instanceof PooledBuffer);
+          received.appendBuffer(data);
+          PooledBuffer.release(data);
+          if (received.length() == expected.length()) {
+            assertEquals(expected, received);
+            ws.close();
+            testComplete();
+          }
+        });
+        ws.write(expected);
+      });
+    }));
+    await();
+  }
+
   private void testWSWriteStream(WebsocketVersion version) throws Exception {
 
     String path = "/some/path";
@@ -747,6 +781,133 @@ public class WebsocketTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testPerMessageDeflate() throws Exception {
+    testPerMessageDeflate(true, false);
+  }
+
+  @Test
+  public void testPerMessageDeflateNoContext() throws Exception {
+    testPerMessageDeflate(true, true);
+  }
+
+  @Test
+  public void testPerMessageDeflateNotSupportedByServer() throws Exception {
+    testPerMessageDeflate(false, false);
+  }
+
+  private void testPerMessageDeflate(boolean supported, boolean noContext) throws Exception {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 200; i++) {
+      json.append("{\"id\":").append(i).append(",\"name\":\"item\",\"value\":").append(i * 31).append("},");
+    }
+    json.append("{}]");
+    String large = json.toString();
+    String small = "ping";
+    String fragmented = randomAlphaString(100) + randomAlphaString(100);
+    List<String> expected = new ArrayList<>();
+    expected.add(large);
+    expected.add(small);
+    expected.add(fragmented);
+    expected.add(large);
+
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT)
+      .setPerMessageWebsocketCompressionSupported(supported)
+      .setWebsocketCompressionAllowNoContext(true)
+      .setWebsocketCompressionThreshold(64)).websocketHandler(ws -> {
+      assertTrue(ws.headers().get("Sec-WebSocket-Extensions").contains("permessage-deflate"));
+      ws.frameHandler(ws::writeFrame);
+    });
+    client.close();
+    client = vertx.createHttpClient(new HttpClientOptions()
+      .setTryUsePerMessageWebsocketCompression(true)
+      .setWebsocketCompressionRequestNoContext(noContext)
+      .setWebsocketCompressionThreshold(64));
+
+    server.listen(onSuccess(s ->
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+        StringBuilder message = new StringBuilder();
+        ws.frameHandler(frame -> {
+          message.append(frame.textData());
+          if (frame.isFinal()) {
+            assertEquals(expected.remove(0), message.toString());
+            message.setLength(0);
+            if (expected.isEmpty()) {
+              testComplete();
+            }
+          }
+        });
+        ws.writeFinalTextFrame(large);
+        ws.writeFinalTextFrame(small);
+        ws.writeFrame(WebSocketFrame.textFrame(fragmented.substring(0, 100), false));
+        ws.writeFrame(WebSocketFrame.continuationFrame(Buffer.buffer(fragmented.substring(100)), true));
+        ws.writeFinalTextFrame(large);
+      })
+    ));
+
+    await();
+  }
+
+  @Test
+  public void testBroadcast() throws Exception {
+    int numSockets = 5;
+    WebSocketBroadcastGroup group = WebSocketBroadcastGroup.create();
+    String text = randomUnicodeString(100);
+    Buffer data = randomBuffer(100);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT)).websocketHandler(ws -> {
+      group.add(ws);
+      if (group.size() == numSockets) {
+        group.broadcastText(text);
+        group.broadcast(data);
+      }
+    });
+    AtomicInteger received = new AtomicInteger();
+    server.listen(onSuccess(s -> {
+      for (int i = 0; i < numSockets; i++) {
+        client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", ws -> {
+          AtomicInteger count = new AtomicInteger();
+          ws.frameHandler(frame -> {
+            assertTrue(frame.isFinal());
+            if (count.getAndIncrement() == 0) {
+              assertTrue(frame.isText());
+              assertEquals(text, frame.textData());
+            } else {
+              assertTrue(frame.isBinary());
+              assertEquals(data, frame.binaryData());
+            }
+            if (received.incrementAndGet() == numSockets * 2) {
+              assertEquals(numSockets * 2, group.writtenFrames());
+              testComplete();
+            }
+          });
+        });
+      }
+    }));
+    await();
+  }
+
+  @Test
+  public void testBroadcastRemovesClosedSockets() throws Exception {
+    WebSocketBroadcastGroup group = WebSocketBroadcastGroup.create(WriteQueueFullPolicy.SKIP);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(HttpTestBase.DEFAULT_HTTP_PORT)).websocketHandler(ws -> {
+      group.add(ws);
+      assertEquals(1, group.size());
+      ws.closeHandler(v -> {
+        // Removed when closed, before any broadcast
+        assertEquals(0, group.size());
+        group.broadcastText("closed");
+        assertEquals(0, group.size());
+        assertEquals(0, group.writtenFrames());
+        assertEquals(0, group.skippedFrames());
+        testComplete();
+      });
+    });
+    server.listen(onSuccess(s ->
+      client.websocket(HttpTestBase.DEFAULT_HTTP_PORT, HttpTestBase.DEFAULT_HTTP_HOST, "/", WebSocketBase::close)
+    ));
+    await();
+  }
+
   private void testContinuationWriteFromConnectHandler(WebsocketVersion version) throws Exception {
     String path = "/some/path";
     String firstFrame = "AAA";
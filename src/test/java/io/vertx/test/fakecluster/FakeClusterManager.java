@@ -41,6 +41,7 @@ public class FakeClusterManager implements ClusterManager {
   private static List<NodeListener> nodeListeners = new CopyOnWriteArrayList<>();
   private static ConcurrentMap<String, ConcurrentMap> asyncMaps = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, ConcurrentMap> asyncMultiMaps = new ConcurrentHashMap<>();
+  private static ConcurrentMap<String, List<Handler>> asyncMultiMapListeners = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, Map> syncMaps = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, AsynchronousLock> locks = new ConcurrentHashMap<>();
   private static ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
@@ -96,7 +97,7 @@ public class FakeClusterManager implements ClusterManager {
       }
     }
     ConcurrentMap<K, ChoosableSet<V>> theMap = map;
-    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(theMap))));
+    vertx.runOnContext(v -> resultHandler.handle(Future.succeededFuture(new FakeAsyncMultiMap<>(name, theMap))));
   }
 
   @Override
@@ -199,6 +200,7 @@ public class FakeClusterManager implements ClusterManager {
     nodeListeners.clear();
     asyncMaps.clear();
     asyncMultiMaps.clear();
+    asyncMultiMapListeners.clear();
     locks.clear();
     counters.clear();
     syncMaps.clear();
@@ -297,13 +299,30 @@ public class FakeClusterManager implements ClusterManager {
 
   private class FakeAsyncMultiMap<K, V> implements AsyncMultiMap<K, V> {
 
-
+    private final String name;
     private final ConcurrentMap<K, ChoosableSet<V>> map;
 
-    public FakeAsyncMultiMap(ConcurrentMap<K, ChoosableSet<V>> map) {
+    public FakeAsyncMultiMap(String name, ConcurrentMap<K, ChoosableSet<V>> map) {
+      this.name = name;
       this.map = map;
     }
 
+    @Override
+    public boolean keyChangeHandler(Handler<K> handler) {
+      asyncMultiMapListeners.computeIfAbsent(name, n -> new CopyOnWriteArrayList<>()).add(handler);
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void keyChanged(K k) {
+      List<Handler> listeners = asyncMultiMapListeners.get(name);
+      if (listeners != null) {
+        for (Handler listener: listeners) {
+          listener.handle(k);
+        }
+      }
+    }
+
     @Override
     public void add(final K k, final V v, Handler<AsyncResult<Void>> completionHandler) {
       vertx.executeBlocking(fut -> {
@@ -316,6 +335,7 @@ public class FakeClusterManager implements ClusterManager {
           }
         }
         vals.add(v);
+        keyChanged(k);
         fut.complete();
       }, completionHandler);
     }
@@ -345,6 +365,9 @@ public class FakeClusterManager implements ClusterManager {
               found = true;
             }
           }
+          if (found) {
+            keyChanged(k);
+          }
           fut.complete(found);
         }, completionHandler);
     }
@@ -367,6 +390,7 @@ public class FakeClusterManager implements ClusterManager {
             mapIter.remove();
           }
         }
+        keyChanged(null);
         fut.complete();
       }, completionHandler);
     }